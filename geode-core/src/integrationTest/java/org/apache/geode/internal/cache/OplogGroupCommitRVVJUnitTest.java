@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.geode.CancelCriterion;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.cache.DiskStoreFactory;
+import org.apache.geode.internal.cache.DiskInitFile.DiskRegionFlag;
+import org.apache.geode.internal.cache.persistence.DiskStoreID;
+import org.apache.geode.internal.cache.versions.DiskRegionVersionVector;
+
+/**
+ * Verifies that records which are not group committed by their caller are still on disk when the
+ * write returns while group commit is enabled.
+ */
+public class OplogGroupCommitRVVJUnitTest {
+  private File testDirectory;
+  private Oplog oplog;
+  private DiskRegion diskRegion;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Before
+  public void setUp() throws Exception {
+    testDirectory = temporaryFolder.newFolder("_" + getClass().getSimpleName());
+    DiskStoreImpl.SET_IGNORE_PREALLOCATE = true;
+
+    final DiskInitFile df = mock(DiskInitFile.class);
+    final GemFireCacheImpl cache = mock(GemFireCacheImpl.class);
+    final DiskStoreImpl parent = mock(DiskStoreImpl.class);
+    final StatisticsFactory sf = mock(StatisticsFactory.class);
+    final DiskStoreID ownerId = DiskStoreID.random();
+    final DiskStoreID member = DiskStoreID.random();
+    when(parent.getWriteBufferSize()).thenReturn(DiskStoreFactory.DEFAULT_WRITE_BUFFER_SIZE);
+    when(df.getOrCreateCanonicalId(member)).thenReturn(1);
+    when(df.getOrCreateCanonicalId(ownerId)).thenReturn(2);
+    when(sf.createStatistics(any(), anyString())).thenReturn(mock(Statistics.class));
+    when(sf.createAtomicStatistics(any(), anyString())).thenReturn(mock(Statistics.class));
+
+    DirectoryHolder dirHolder = new DirectoryHolder(sf, testDirectory, 0, 0);
+    when(cache.cacheTimeMillis()).thenReturn(System.currentTimeMillis());
+    when(parent.getCache()).thenReturn(cache);
+    when(parent.getMaxOplogSizeInBytes()).thenReturn(10000L);
+    when(parent.getName()).thenReturn("test");
+    when(parent.getStats()).thenReturn(new DiskStoreStats(sf, "stats"));
+    when(parent.getDiskInitFile()).thenReturn(df);
+    when(parent.getDiskStoreID()).thenReturn(ownerId);
+    when(parent.getBackupLock()).thenReturn(mock(ReentrantLock.class));
+    when(parent.getCancelCriterion()).thenReturn(mock(CancelCriterion.class));
+    when(parent.isGroupCommitEnabled()).thenReturn(true);
+    when(parent.getGroupCommitWindowNanos()).thenReturn(TimeUnit.SECONDS.toNanos(60));
+
+    final DiskRegionVersionVector rvv = new DiskRegionVersionVector(ownerId);
+    rvv.recordVersion(member, 1);
+    rvv.recordVersion(member, 2);
+    rvv.recordGCVersion(member, 1);
+
+    diskRegion = mock(DiskRegion.class);
+    when(diskRegion.getId()).thenReturn(5L);
+    when(diskRegion.getRegionVersionVector()).thenReturn(rvv);
+    when(diskRegion.getRVVTrusted()).thenReturn(true);
+    when(diskRegion.getFlags()).thenReturn(EnumSet.of(DiskRegionFlag.IS_WITH_VERSIONING));
+    when(diskRegion.getCancelCriterion()).thenReturn(mock(CancelCriterion.class));
+    final Map<Long, AbstractDiskRegion> map = new HashMap<>();
+    map.put(5L, diskRegion);
+    when(parent.getAllDiskRegions()).thenReturn(map);
+
+    final PersistentOplogSet oplogSet = mock(PersistentOplogSet.class);
+    when(oplogSet.getParent()).thenReturn(parent);
+    oplog = new Oplog(1, oplogSet, dirHolder);
+    when(oplogSet.getChild()).thenReturn(oplog);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    if (oplog != null) {
+      oplog.close();
+    }
+    DiskStoreImpl.SET_IGNORE_PREALLOCATE = false;
+  }
+
+  @Test
+  public void writeGCRVVIsOnDiskWhenItReturns() {
+    File drfFile = getOplogFile("drf");
+    long sizeBefore = drfFile.length();
+
+    oplog.writeGCRVV(diskRegion);
+
+    assertThat(drfFile.length()).isGreaterThan(sizeBefore);
+  }
+
+  @Test
+  public void writeRVVForClearIsOnDiskWhenItReturns() {
+    File crfFile = getOplogFile("crf");
+    long sizeBefore = crfFile.length();
+
+    oplog.writeRVV(diskRegion, diskRegion.getRegionVersionVector(), null);
+
+    assertThat(oplog.getWriteBuf().position()).isZero();
+    assertThat(crfFile.length()).isGreaterThan(sizeBefore);
+  }
+
+  private File getOplogFile(String extension) {
+    Collection<File> files = FileUtils.listFiles(testDirectory, new String[] {extension}, true);
+    assertThat(files).hasSize(1);
+    return files.iterator().next();
+  }
+}
@@ -44,6 +44,9 @@ public class EvictionMultiThreadedPerformanceBenchmark {
   @Param({"true", "false"})
   public String useAsync;
 
+  @Param({"false", "true"})
+  public String useClock;
+
   Cache cache;
   Region<String, String> region;
   AtomicInteger nextKey = new AtomicInteger(MAX_ENTRIES + 1);
@@ -51,6 +54,7 @@ public class EvictionMultiThreadedPerformanceBenchmark {
   @Setup(Level.Trial)
   public void setup() {
     System.setProperty("geode." + SystemPropertyHelper.EVICTION_SCAN_ASYNC, useAsync);
+    System.setProperty("geode." + SystemPropertyHelper.EVICTION_CLOCK, useClock);
     cache = new CacheFactory().set(LOG_LEVEL, "warn").create();
     region = createRegion(cache, MAX_ENTRIES);
   }
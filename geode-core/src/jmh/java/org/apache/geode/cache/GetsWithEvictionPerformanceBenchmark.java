@@ -48,12 +48,16 @@ public class GetsWithEvictionPerformanceBenchmark {
   @Param({"true", "false"})
   public String useAsync;
 
+  @Param({"false", "true"})
+  public String useClock;
+
   Cache cache;
   Region<String, String> region;
 
   @Setup(Level.Trial)
   public void setup() {
     System.setProperty("geode." + SystemPropertyHelper.EVICTION_SCAN_ASYNC, useAsync);
+    System.setProperty("geode." + SystemPropertyHelper.EVICTION_CLOCK, useClock);
     cache = new CacheFactory().set(LOG_LEVEL, "warn").create();
     region = createRegion(cache, MAX_ENTRIES);
   }
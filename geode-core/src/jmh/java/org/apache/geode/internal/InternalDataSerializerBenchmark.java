@@ -36,10 +36,12 @@ import org.apache.geode.DataSerializer;
 import org.apache.geode.internal.serialization.ByteArrayDataInput;
 import org.apache.geode.internal.serialization.DSCODE;
 import org.apache.geode.internal.serialization.KnownVersion;
+import org.apache.geode.internal.util.BlobHelper;
 
 
 /**
- * Test throughput of InternalDataSerializer.readString
+ * Test throughput of InternalDataSerializer.readString and of serializing primitives and strings
+ * into blobs. Run with "-prof gc" to see the bytes allocated for each blob.
  */
 
 @State(Scope.Thread)
@@ -48,6 +50,8 @@ public class InternalDataSerializerBenchmark {
 
   private final ByteArrayDataInput dataInput = new ByteArrayDataInput();
   private byte[] serializedBytes;
+  private final String string = "12345678901234567890123456789012345";
+  private final Long number = 1234567890L;
 
   @Setup(Level.Trial)
   public void setup() throws IOException {
@@ -72,4 +76,22 @@ public class InternalDataSerializerBenchmark {
     return result;
   }
 
+  @Benchmark
+  @Measurement(iterations = 10)
+  @Warmup(iterations = 3)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public byte[] serializeStringToBlobBenchmark() throws IOException {
+    return BlobHelper.serializeToBlob(string);
+  }
+
+  @Benchmark
+  @Measurement(iterations = 10)
+  @Warmup(iterations = 3)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public byte[] serializeLongToBlobBenchmark() throws IOException {
+    return BlobHelper.serializeToBlob(number);
+  }
+
 }
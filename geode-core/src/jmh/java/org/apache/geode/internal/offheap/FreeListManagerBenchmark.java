@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.offheap;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.util.internal.GeodeGlossary;
+
+/**
+ * Measures the throughput of concurrent off-heap allocations and frees of tiny chunks with and
+ * without striped free lists. Every thread allocates a small batch of chunks and then frees them,
+ * which is what a server does with the off-heap values of concurrent puts.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FreeListManagerBenchmark {
+  private static final int SLAB_SIZE = 256 * 1024 * 1024;
+  private static final int BATCH_SIZE = 16;
+
+  @Param({"1", "16"})
+  public int stripes;
+
+  @Param({"64", "1024"})
+  public int maxSize;
+
+  private MemoryAllocatorImpl allocator;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    System.setProperty(GeodeGlossary.GEMFIRE_PREFIX + "OFF_HEAP_FREE_LIST_STRIPES",
+        Integer.toString(stripes));
+    allocator = MemoryAllocatorImpl.createForUnitTest(new NullOutOfOffHeapMemoryListener(),
+        new NullOffHeapMemoryStats(), new Slab[] {new SlabImpl(SLAB_SIZE)});
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    MemoryAllocatorImpl.freeOffHeapMemory();
+    System.clearProperty(GeodeGlossary.GEMFIRE_PREFIX + "OFF_HEAP_FREE_LIST_STRIPES");
+  }
+
+  @State(Scope.Thread)
+  public static class Batch {
+    final StoredObject[] objects = new StoredObject[BATCH_SIZE];
+  }
+
+  @Benchmark
+  @Threads(16)
+  public StoredObject[] allocateAndFree(Batch batch) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    StoredObject[] objects = batch.objects;
+    for (int i = 0; i < objects.length; i++) {
+      objects[i] = allocator.allocate(1 + random.nextInt(maxSize));
+    }
+    for (StoredObject object : objects) {
+      object.release();
+    }
+    return objects;
+  }
+}
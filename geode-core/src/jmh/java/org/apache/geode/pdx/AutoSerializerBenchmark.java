@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.pdx;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.internal.util.BlobHelper;
+import org.apache.geode.pdx.internal.AutoSerializableManager;
+import org.apache.geode.util.internal.GeodeGlossary;
+
+/**
+ * Measures serializing and deserializing an object with the {@link ReflectionBasedAutoSerializer}
+ * for each of the ways it can access fields: through the serializer generated for the class (the
+ * default), or one field at a time through Unsafe or reflection. The access mode is fixed when the
+ * serializer is first loaded, so each mode runs in its own fork.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AutoSerializerBenchmark {
+
+  @Param({"generated", "unsafe", "reflection"})
+  public String fieldAccess;
+
+  private Cache cache;
+  private Position position;
+  private byte[] serializedPosition;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    if (!fieldAccess.equals("generated")) {
+      System.setProperty(GeodeGlossary.GEMFIRE_PREFIX + "AutoSerializer.GENERATE_SERIALIZERS",
+          "false");
+    }
+    if (fieldAccess.equals("reflection")) {
+      System.setProperty(GeodeGlossary.GEMFIRE_PREFIX + "AutoSerializer.SAFE", "true");
+    }
+    System.setProperty(AutoSerializableManager.NO_HARDCODED_EXCLUDES_PARAM, "true");
+    cache = new CacheFactory().set("mcast-port", "0").set("locators", "")
+        .setPdxSerializer(new ReflectionBasedAutoSerializer(Position.class.getName()))
+        .create();
+    position = new Position(37, "GEODE", 1000L, 12.5d, new int[] {1, 2, 3});
+    serializedPosition = BlobHelper.serializeToBlob(position);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    cache.close();
+  }
+
+  @Benchmark
+  public byte[] serialize() throws IOException {
+    return BlobHelper.serializeToBlob(position);
+  }
+
+  @Benchmark
+  public Object deserialize() throws IOException, ClassNotFoundException {
+    return BlobHelper.deserializeBlob(serializedPosition);
+  }
+
+  @SuppressWarnings("unused")
+  public static class Position {
+    private int id;
+    private String symbol;
+    private long quantity;
+    private double price;
+    private int[] lots;
+
+    public Position() {}
+
+    Position(int id, String symbol, long quantity, double price, int[] lots) {
+      this.id = id;
+      this.symbol = symbol;
+      this.quantity = quantity;
+      this.price = price;
+      this.lots = lots;
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.geode.annotations.Experimental;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.UnsupportedOperationInTransactionException;
+import org.apache.geode.cache.client.internal.AsyncRegionImpl;
+
+/**
+ * Operations on the server side of a client region that do not block the calling thread. Each
+ * operation sends its request and returns a {@link CompletableFuture} that is completed once the
+ * server responds. Requests share the connections of the region's {@link Pool}, so many requests
+ * can be in flight without a thread waiting for each of them.
+ *
+ * <p>
+ * The operations go directly to the server. They neither read nor update the entries the client
+ * region may keep locally, and they do not invoke the client region's cache listeners or writers.
+ * A future is completed on a thread of the pool, so dependent actions that block should be run on
+ * an executor of their own.
+ *
+ * <p>
+ * Asynchronous operations cannot be used in a transaction or with a pool that has
+ * {@link PoolFactory#setMultiuserAuthentication(boolean) multiuser authentication} enabled.
+ *
+ * <pre>
+ * AsyncRegion&lt;String, Customer&gt; customers = AsyncRegion.of(clientCache.getRegion("customers"));
+ * customers.get("alice").thenAccept(customer -&gt; ...);
+ * </pre>
+ *
+ * @param <K> the type of the keys of the region
+ * @param <V> the type of the values of the region
+ *
+ * @since Geode 1.15
+ */
+@Experimental("Asynchronous client operations are new and the API may change")
+public interface AsyncRegion<K, V> {
+
+  /**
+   * Returns the asynchronous operations of the given client region.
+   *
+   * @param region a region of a {@link ClientCache} that has a pool
+   * @throws IllegalArgumentException if the region does not have a pool
+   */
+  static <K, V> AsyncRegion<K, V> of(Region<K, V> region) {
+    return new AsyncRegionImpl<>(region);
+  }
+
+  /**
+   * Returns the region these operations are performed on.
+   */
+  Region<K, V> getRegion();
+
+  /**
+   * Gets the value of the given key from the server, which may invoke a cache loader on the server.
+   *
+   * @param key the key of the entry
+   * @return the value of the entry, or null if the server has no value for the key
+   * @throws NullPointerException if the key is null
+   * @throws UnsupportedOperationInTransactionException if a transaction is in progress
+   */
+  CompletableFuture<V> get(K key);
+
+  /**
+   * Puts the given value on the server.
+   *
+   * @param key the key of the entry
+   * @param value the value of the entry
+   * @return a future completed once the server has put the value
+   * @throws NullPointerException if the key is null
+   * @throws UnsupportedOperationInTransactionException if a transaction is in progress
+   */
+  CompletableFuture<Void> put(K key, V value);
+
+  /**
+   * Destroys the entry of the given key on the server. The future is completed exceptionally with
+   * an {@link EntryNotFoundException} if the server has no such entry.
+   *
+   * @param key the key of the entry
+   * @return a future completed once the server has destroyed the entry
+   * @throws NullPointerException if the key is null
+   * @throws UnsupportedOperationInTransactionException if a transaction is in progress
+   */
+  CompletableFuture<Void> destroy(K key);
+
+  /**
+   * Checks whether the server has an entry for the given key.
+   *
+   * @param key the key of the entry
+   * @return true if the server has an entry for the key
+   * @throws NullPointerException if the key is null
+   * @throws UnsupportedOperationInTransactionException if a transaction is in progress
+   */
+  CompletableFuture<Boolean> containsKeyOnServer(K key);
+}
@@ -19,6 +19,9 @@ import static org.apache.geode.logging.internal.spi.LoggingProvider.SECURITY_LOG
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
@@ -222,6 +225,30 @@ public abstract class AbstractOp implements Op {
     }
   }
 
+  /**
+   * Reads the whole response to this operation from the given connection without processing it.
+   * Only used for operations whose response is not chunked.
+   *
+   * @param cnx the connection to read the response from
+   * @param commBuffer the buffer to read with, which must not be the one used for sending
+   * @return the response message
+   * @throws Exception if the response could not be read
+   */
+  @NotNull
+  Message receiveResponse(final @NotNull Connection cnx, final @NotNull ByteBuffer commBuffer)
+      throws Exception {
+    final Message msg = createResponseMessage();
+    msg.setComms(cnx.getSocket(), cnx.getInputStream(), cnx.getOutputStream(), commBuffer,
+        cnx.getStats());
+    try {
+      msg.receive();
+    } finally {
+      msg.unsetComms();
+      processSecureBytes(cnx, msg);
+    }
+    return msg;
+  }
+
   /**
    * By default just create a normal one part msg. Subclasses can override this.
    */
@@ -337,14 +364,21 @@ public abstract class AbstractOp implements Op {
    */
   void processChunkedResponse(ChunkedMessage msg, String opName, ChunkHandler callback)
       throws Exception {
+    readChunkedResponseHeader(msg, opName);
+    do {
+      msg.receiveChunk();
+      callback.handle(msg);
+    } while (!msg.isLastChunk());
+  }
+
+  /**
+   * Reads the header of a chunked response, throwing the error the server sent if the response is
+   * not a {@link MessageType#RESPONSE}.
+   */
+  void readChunkedResponseHeader(ChunkedMessage msg, String opName) throws Exception {
     msg.readHeader();
     final int msgType = msg.getMessageType();
-    if (msgType == MessageType.RESPONSE) {
-      do {
-        msg.receiveChunk();
-        callback.handle(msg);
-      } while (!msg.isLastChunk());
-    } else {
+    if (msgType != MessageType.RESPONSE) {
       if (msgType == MessageType.EXCEPTION) {
         msg.receiveChunk();
         Part part = msg.getPart(0);
@@ -404,6 +438,100 @@ public abstract class AbstractOp implements Op {
     }
   }
 
+  /**
+   * Attempts this operation on a connection that other operations send on while this one waits for
+   * its response.
+   *
+   * @see PipelinedConnection
+   */
+  Object attempt(PipelinedConnection connection) throws Exception {
+    failed = true;
+    timedOut = false;
+    final ConnectionStats stats = connection.getConnection().getStats();
+    long start = startAttempt(stats);
+    try {
+      final long sequence;
+      try {
+        sequence = connection.send(this);
+        failed = false;
+      } finally {
+        endSendAttempt(stats, start);
+      }
+      failed = true;
+      try {
+        Message response = connection.receive(sequence, this);
+        Object result = processResponse(response, connection.getWrappedConnection());
+        failed = false;
+        return result;
+      } catch (SocketTimeoutException ste) {
+        failed = false;
+        timedOut = true;
+        throw ste;
+      }
+    } finally {
+      endAttempt(stats, start);
+    }
+  }
+
+  /**
+   * Sends this operation on a connection that other operations share and returns without waiting
+   * for its response. The response is processed on the thread that reads it.
+   *
+   * @see PipelinedConnection#sendAsync(AbstractOp, Executor)
+   */
+  CompletableFuture<Object> attemptAsync(PipelinedConnection connection, Executor executor)
+      throws Exception {
+    failed = true;
+    timedOut = false;
+    final ConnectionStats stats = connection.getConnection().getStats();
+    final long start = startAttempt(stats);
+    final CompletableFuture<Message> response;
+    try {
+      try {
+        response = connection.sendAsync(this, executor);
+        failed = false;
+      } finally {
+        endSendAttempt(stats, start);
+      }
+    } catch (Exception e) {
+      endAttempt(stats, start);
+      throw e;
+    }
+    failed = true;
+    final CompletableFuture<Object> result = new CompletableFuture<>();
+    response.whenComplete((msg, failure) -> {
+      try {
+        if (failure != null) {
+          if (failure instanceof SocketTimeoutException) {
+            failed = false;
+            timedOut = true;
+          }
+          result.completeExceptionally(failure);
+        } else {
+          Object value = processResponse(msg, connection.getWrappedConnection());
+          failed = false;
+          result.complete(value);
+        }
+      } catch (Exception e) {
+        result.completeExceptionally(e);
+      } finally {
+        endAttempt(stats, start);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Operations that return true may share a connection with other operations in flight. They must
+   * get a response that is not chunked and must not send anything else on the connection while
+   * processing it.
+   *
+   * @return true if this operation can be pipelined
+   */
+  protected boolean isPipelinable() {
+    return false;
+  }
+
   protected boolean hasFailed() {
     return failed;
   }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static org.apache.geode.util.internal.UncheckedUtils.uncheckedCast;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.UnsupportedOperationInTransactionException;
+import org.apache.geode.cache.client.AsyncRegion;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.cache.Token;
+
+/**
+ * Sends the operations of an {@link AsyncRegion} with the {@link ServerRegionProxy} of its region.
+ *
+ * @since Geode 1.15
+ */
+public class AsyncRegionImpl<K, V> implements AsyncRegion<K, V> {
+
+  private final LocalRegion region;
+
+  private final ServerRegionProxy serverProxy;
+
+  public AsyncRegionImpl(Region<K, V> region) {
+    if (!(region instanceof LocalRegion) || ((LocalRegion) region).getServerProxy() == null) {
+      throw new IllegalArgumentException(
+          "The region " + region.getFullPath() + " did not have a client pool configured.");
+    }
+    this.region = (LocalRegion) region;
+    serverProxy = this.region.getServerProxy();
+  }
+
+  @Override
+  public Region<K, V> getRegion() {
+    return uncheckedCast(region);
+  }
+
+  @Override
+  public CompletableFuture<V> get(K key) {
+    checkOperation(key, null);
+    return serverProxy.getAsync(key, null)
+        .thenApply(value -> Token.isInvalidOrRemoved(value) ? null : uncheckedCast(value));
+  }
+
+  @Override
+  public CompletableFuture<Void> put(K key, V value) {
+    checkOperation(key, value);
+    return serverProxy.putAsync(key, value, null).thenApply(result -> null);
+  }
+
+  @Override
+  public CompletableFuture<Void> destroy(K key) {
+    checkOperation(key, null);
+    return serverProxy.destroyAsync(key, null).thenApply(result -> {
+      // the server answers with the exception rather than failing the operation
+      if (result instanceof EntryNotFoundException) {
+        throw new CompletionException((EntryNotFoundException) result);
+      }
+      return null;
+    });
+  }
+
+  @Override
+  public CompletableFuture<Boolean> containsKeyOnServer(K key) {
+    checkOperation(key, null);
+    return serverProxy.containsKeyAsync(key).thenApply(result -> (Boolean) result);
+  }
+
+  private void checkOperation(Object key, Object value) {
+    if (key == null) {
+      throw new NullPointerException("key cannot be null");
+    }
+    Class<?> keyConstraint = region.getAttributes().getKeyConstraint();
+    if (keyConstraint != null && !keyConstraint.isInstance(key)) {
+      throw new ClassCastException(String.format("key ( %s ) does not satisfy keyConstraint ( %s )",
+          key.getClass().getName(), keyConstraint.getName()));
+    }
+    Class<?> valueConstraint = region.getAttributes().getValueConstraint();
+    if (value != null && valueConstraint != null && !valueConstraint.isInstance(value)) {
+      throw new ClassCastException(
+          String.format("value ( %s ) does not satisfy valueConstraint ( %s )",
+              value.getClass().getName(), valueConstraint.getName()));
+    }
+    if (region.getTXState() != null) {
+      throw new UnsupportedOperationInTransactionException(
+          "Asynchronous operations are not supported in a transaction");
+    }
+    region.checkReadiness();
+  }
+}
@@ -214,9 +214,8 @@ public class ClientMetadataService {
     Map<Integer, Set> bucketToKeysMap =
         groupByBucketOnClientSide(region, prAdvisor, routingKeys, bucketsAsFilter);
 
-    Map<ServerLocation, Set> serverToKeysMap = new HashMap<>();
-    Map<ServerLocation, Set<Integer>> serverToBuckets =
-        groupByServerToBuckets(prAdvisor, bucketToKeysMap.keySet(), primaryMembersNeeded, region);
+    Map<ServerLocation, Set<Integer>> serverToBuckets = groupByServerToBuckets(prAdvisor,
+        bucketToKeysMap.keySet(), primaryMembersNeeded, region, null);
 
     if (serverToBuckets == null) {
       if (logger.isDebugEnabled()) {
@@ -227,6 +226,70 @@ public class ClientMetadataService {
       return null;
     }
 
+    Map<ServerLocation, Set> serverToKeysMap =
+        groupByServerToKeys(serverToBuckets, bucketToKeysMap);
+    if (logger.isDebugEnabled()) {
+      logger.debug("Returning server to keys map : {}", serverToKeysMap);
+    }
+
+    return serverToKeysMap;
+  }
+
+  /**
+   * Groups the keys of a getAll, putAll or removeAll by the server hosting the primary of their
+   * bucket. Unlike {@link #getServerToFilterMap(Collection, Region, boolean)}, a bucket whose
+   * primary is not known does not send all of the keys through a single server: its keys are added
+   * to those of the server with the fewest keys, which forwards them, while the metadata is
+   * refreshed.
+   *
+   * @return the keys by server, or null if the location of no bucket of the keys is known
+   */
+  public Map<ServerLocation, Set> getServerToKeysMapForBulkOp(final Collection keys,
+      final Region region) {
+    ClientPartitionAdvisor prAdvisor = getClientPartitionAdvisor(region.getFullPath());
+    if (prAdvisor == null || prAdvisor.adviseRandomServerLocation() == null) {
+      scheduleGetPRMetaData((InternalRegion) region, false);
+      return null;
+    }
+    Map<Integer, Set> bucketToKeysMap = groupByBucketOnClientSide(region, prAdvisor, keys, false);
+
+    Set<Integer> unknownBuckets = new HashSet<>();
+    Map<ServerLocation, Set<Integer>> serverToBuckets = groupByServerToBuckets(prAdvisor,
+        bucketToKeysMap.keySet(), true, region, unknownBuckets);
+    if (!unknownBuckets.isEmpty()) {
+      if (logger.isDebugEnabled()) {
+        logger.debug("Primary locations of buckets {} are unknown "
+            + "- scheduling metadata refresh for region {}", unknownBuckets, region.getFullPath());
+      }
+      scheduleGetPRMetaData((InternalRegion) region, false);
+    }
+    if (serverToBuckets.isEmpty()) {
+      return null;
+    }
+
+    Map<ServerLocation, Set> serverToKeysMap =
+        groupByServerToKeys(serverToBuckets, bucketToKeysMap);
+    if (!unknownBuckets.isEmpty()) {
+      Set forwardingServerKeys = null;
+      for (Set serverKeys : serverToKeysMap.values()) {
+        if (forwardingServerKeys == null || serverKeys.size() < forwardingServerKeys.size()) {
+          forwardingServerKeys = serverKeys;
+        }
+      }
+      for (Integer bucket : unknownBuckets) {
+        forwardingServerKeys.addAll(bucketToKeysMap.get(bucket));
+      }
+    }
+    if (logger.isDebugEnabled()) {
+      logger.debug("Returning server to keys map : {}", serverToKeysMap);
+    }
+
+    return serverToKeysMap;
+  }
+
+  private Map<ServerLocation, Set> groupByServerToKeys(
+      Map<ServerLocation, Set<Integer>> serverToBuckets, Map<Integer, Set> bucketToKeysMap) {
+    Map<ServerLocation, Set> serverToKeysMap = new HashMap<>();
     for (Map.Entry entry : serverToBuckets.entrySet()) {
       ServerLocation server = (ServerLocation) entry.getKey();
       Set<Integer> buckets = uncheckedCast(entry.getValue());
@@ -241,10 +304,6 @@ public class ClientMetadataService {
         serverToKeysMap.put(server, keys);
       }
     }
-    if (logger.isDebugEnabled()) {
-      logger.debug("Returning server to keys map : {}", serverToKeysMap);
-    }
-
     return serverToKeysMap;
   }
 
@@ -261,20 +320,27 @@ public class ClientMetadataService {
     for (int i = 0; i < totalNumberOfBuckets; i++) {
       allBucketIds.add(i);
     }
-    return groupByServerToBuckets(prAdvisor, allBucketIds, primaryOnly, region);
+    return groupByServerToBuckets(prAdvisor, allBucketIds, primaryOnly, region, null);
   }
 
   /**
    * This function should make a map of server to buckets it is hosting. If for some bucket servers
    * are not available due to mismatch in metadata it should fill up a random server for it.
+   *
+   * @param unknownBuckets if not null, collects the buckets whose primary is not known rather than
+   *        returning null for them
    */
   private Map<ServerLocation, Set<Integer>> groupByServerToBuckets(
       ClientPartitionAdvisor prAdvisor, Set<Integer> bucketSet, boolean primaryOnly,
-      Region region) {
+      Region region, Set<Integer> unknownBuckets) {
     if (primaryOnly) {
       Map<ServerLocation, Set<Integer>> serverToBucketsMap = new HashMap<>();
       for (Integer bucketId : bucketSet) {
         ServerLocation server = prAdvisor.advisePrimaryServerLocation(bucketId);
+        if (server == null && unknownBuckets != null) {
+          unknownBuckets.add(bucketId);
+          continue;
+        }
         if (server == null) {
           // If we don't have the metadata for some buckets, return
           // null, indicating that we don't have any metadata. This
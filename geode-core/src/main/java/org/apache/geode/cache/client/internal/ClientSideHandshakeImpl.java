@@ -68,6 +68,7 @@ import org.apache.geode.internal.serialization.VersioningIO;
 import org.apache.geode.security.AuthenticationFailedException;
 import org.apache.geode.security.AuthenticationRequiredException;
 import org.apache.geode.security.GemFireSecurityException;
+import org.apache.geode.util.internal.GeodeGlossary;
 
 public class ClientSideHandshakeImpl extends Handshake implements ClientSideHandshake {
   /**
@@ -82,6 +83,13 @@ public class ClientSideHandshakeImpl extends Handshake implements ClientSideHand
   @MutableForTesting
   private static short overrideClientVersion = -1;
 
+  /**
+   * Clients tell servers that they can read compressed message parts unless this system property
+   * is true.
+   */
+  private static final boolean DISABLE_COMPRESSION = Boolean
+      .getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "ClientSideHandshakeImpl.DISABLE_COMPRESSION");
+
   private final byte replyCode;
 
   @Override
@@ -124,7 +132,9 @@ public class ClientSideHandshakeImpl extends Handshake implements ClientSideHand
 
   private void setOverrides() {
     clientConflation = determineClientConflation();
-    overrides = new byte[] {clientConflation};
+    acceptsCompression = !DISABLE_COMPRESSION;
+    overrides =
+        new byte[] {(byte) (clientConflation | (acceptsCompression ? ACCEPTS_COMPRESSION : 0))};
   }
 
   // used by the client side
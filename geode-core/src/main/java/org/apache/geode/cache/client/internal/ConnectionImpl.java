@@ -62,7 +62,7 @@ public class ConnectionImpl implements Connection {
 
   private Socket theSocket;
   private ByteBuffer commBuffer;
-  private ByteBuffer commBufferForAsyncRead;
+  private volatile ByteBuffer commBufferForAsyncRead;
   private ServerQueueStatus status;
   private volatile boolean connectFinished;
   private final AtomicBoolean destroyed = new AtomicBoolean();
@@ -336,6 +336,10 @@ public class ConnectionImpl implements Connection {
     TEST_DURABLE_CLIENT_CRASH = v;
   }
 
+  /**
+   * Returns the buffer used to read responses while another thread sends on this connection. It is
+   * allocated up front for gateway senders and on first use for pipelined operations.
+   */
   public ByteBuffer getCommBufferForAsyncRead() throws SocketException {
     if (isDestroyed()) {
       // see bug 52193. Since the code used to see this
@@ -343,7 +347,17 @@ public class ConnectionImpl implements Connection {
       // a SocketException.
       throw new SocketException("socket was closed");
     }
-    return commBufferForAsyncRead;
+    ByteBuffer result = commBufferForAsyncRead;
+    if (result == null) {
+      synchronized (this) {
+        result = commBufferForAsyncRead;
+        if (result == null) {
+          result = ServerConnection.allocateCommBuffer(getCommBuffer().capacity(), theSocket);
+          commBufferForAsyncRead = result;
+        }
+      }
+    }
+    return result;
   }
 
   private void verifySocketBufferSize(int requestedBufferSize, int actualBufferSize, String type) {
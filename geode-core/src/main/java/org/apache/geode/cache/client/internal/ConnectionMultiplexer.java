@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.cache.client.AllConnectionsInUseException;
+import org.apache.geode.cache.client.internal.pooling.ConnectionManager;
+import org.apache.geode.distributed.internal.ServerLocation;
+import org.apache.geode.logging.internal.log4j.api.LogService;
+import org.apache.geode.util.internal.GeodeGlossary;
+
+/**
+ * Lets many operations share the connections of a pool. Connections are borrowed from the
+ * {@link ConnectionManager} as usual, but while one is borrowed up to
+ * {@link #MULTIPLEXED_OPS_PER_CONNECTION} operations are pipelined on it. A connection is returned
+ * to the pool once no operation is using it any more, so idle expiration, connection lifetime and
+ * load conditioning work as they do for connections that are not shared.
+ *
+ * <p>
+ * Only operations that {@link AbstractOp#isPipelinable() can be pipelined} are multiplexed, and
+ * only on servers that do not require credentials, since the security part of a request depends
+ * on the response to the previous one.
+ *
+ * @since Geode 1.15
+ */
+class ConnectionMultiplexer {
+  private static final Logger logger = LogService.getLogger();
+
+  /**
+   * The maximum number of operations in flight on one connection. The default of 1 keeps every
+   * connection for one operation at a time.
+   */
+  static final int MULTIPLEXED_OPS_PER_CONNECTION = Integer
+      .getInteger(GeodeGlossary.GEMFIRE_PREFIX + "PoolImpl.MULTIPLEXED_OPS_PER_CONNECTION", 1);
+
+  /**
+   * The maximum number of asynchronous operations in flight on one connection when synchronous
+   * operations are not multiplexed.
+   */
+  static final int ASYNC_OPS_PER_CONNECTION =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "PoolImpl.ASYNC_OPS_PER_CONNECTION", 16);
+
+  private final ConnectionManager connectionManager;
+
+  private final int maxOpsPerConnection;
+
+  /** The connections that are in use. Guarded by this. */
+  private final List<PipelinedConnection> connections = new ArrayList<>();
+
+  private volatile boolean enabled = true;
+
+  ConnectionMultiplexer(ConnectionManager connectionManager, int maxOpsPerConnection) {
+    this.connectionManager = connectionManager;
+    this.maxOpsPerConnection = maxOpsPerConnection;
+  }
+
+  /**
+   * Returns true if the given operation should share a connection with others.
+   */
+  boolean canMultiplex(Op op) {
+    return enabled && op instanceof AbstractOp && ((AbstractOp) op).isPipelinable();
+  }
+
+  /**
+   * Stops multiplexing because a server requires credentials.
+   */
+  void disable() {
+    if (enabled) {
+      enabled = false;
+      logger.info("Not multiplexing connections because a server requires credentials");
+    }
+  }
+
+  /**
+   * Returns the least busy connection to the given server, or to any server if server is null,
+   * that has room for another operation. Borrows a new connection if there is none.
+   *
+   * @return the connection, or null if its server requires credentials, in which case
+   *         multiplexing is disabled
+   * @throws AllConnectionsInUseException if there is no connection with room for another operation
+   *         and none can be borrowed
+   */
+  PipelinedConnection acquire(ServerLocation server, long acquireTimeout) {
+    PipelinedConnection connection = acquireConnection(server, acquireTimeout);
+    if (connection.getServer().getRequiresCredentials()) {
+      disable();
+      release(connection);
+      return null;
+    }
+    return connection;
+  }
+
+  private PipelinedConnection acquireConnection(ServerLocation server, long acquireTimeout) {
+    synchronized (this) {
+      PipelinedConnection connection = findLeastBusy(server, maxOpsPerConnection);
+      if (connection != null) {
+        connection.inFlight++;
+        return connection;
+      }
+    }
+
+    Connection borrowed;
+    try {
+      borrowed = server == null ? connectionManager.borrowConnection(acquireTimeout)
+          : connectionManager.borrowConnection(server, acquireTimeout, false);
+    } catch (AllConnectionsInUseException e) {
+      // rather than failing, overload one of the connections the pool already has
+      synchronized (this) {
+        PipelinedConnection connection = findLeastBusy(server, Integer.MAX_VALUE);
+        if (connection == null) {
+          throw e;
+        }
+        connection.inFlight++;
+        return connection;
+      }
+    }
+
+    PipelinedConnection connection = new PipelinedConnection(borrowed);
+    synchronized (this) {
+      connection.inFlight = 1;
+      connections.add(connection);
+    }
+    return connection;
+  }
+
+  private PipelinedConnection findLeastBusy(ServerLocation server, int maxInFlight) {
+    PipelinedConnection leastBusy = null;
+    for (PipelinedConnection connection : connections) {
+      if (connection.inFlight < maxInFlight && connection.isUsable()
+          && (server == null || server.equals(connection.getServer()))
+          && (leastBusy == null || connection.inFlight < leastBusy.inFlight)) {
+        leastBusy = connection;
+      }
+    }
+    return leastBusy;
+  }
+
+  /**
+   * Releases a connection acquired for an operation, returning it to the pool if no other
+   * operation is using it.
+   */
+  void release(PipelinedConnection connection) {
+    synchronized (this) {
+      if (--connection.inFlight > 0) {
+        return;
+      }
+      connections.remove(connection);
+    }
+    connectionManager.returnConnection(connection.getConnection());
+  }
+
+  synchronized int getConnectionCount() {
+    return connections.size();
+  }
+}
@@ -44,7 +44,7 @@ public class ContainsKeyOp {
     // no instances allowed
   }
 
-  private static class ContainsKeyOpImpl extends AbstractOp {
+  static class ContainsKeyOpImpl extends AbstractOp {
 
     private final String region;
     private final Object key;
@@ -73,6 +73,11 @@ public class ContainsKeyOp {
       return msgType == MessageType.CONTAINS_KEY_DATA_ERROR;
     }
 
+    @Override
+    protected boolean isPipelinable() {
+      return true;
+    }
+
     @Override
     protected long startAttempt(ConnectionStats stats) {
       return stats.startContainsKey();
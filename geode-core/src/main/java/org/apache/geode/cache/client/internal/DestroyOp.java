@@ -113,7 +113,7 @@ public class DestroyOp {
     // no instances allowed
   }
 
-  private static class DestroyOpImpl extends AbstractOp {
+  static class DestroyOpImpl extends AbstractOp {
 
     Object key = null;
 
@@ -239,6 +239,11 @@ public class DestroyOp {
       return msgType == MessageType.DESTROY_DATA_ERROR;
     }
 
+    @Override
+    protected boolean isPipelinable() {
+      return true;
+    }
+
     @Override
     protected long startAttempt(ConnectionStats stats) {
       return stats.startDestroy();
@@ -67,7 +67,7 @@ public class GetAllOp {
     AbstractOp op = new GetAllOpImpl(region.getFullPath(), keys, callback);
     ClientMetadataService cms = ((InternalRegion) region).getCache().getClientMetadataService();
 
-    Map<ServerLocation, Set> serverToFilterMap = cms.getServerToFilterMap(keys, region, true);
+    Map<ServerLocation, Set> serverToFilterMap = cms.getServerToKeysMapForBulkOp(keys, region);
 
     if (serverToFilterMap == null || serverToFilterMap.isEmpty()) {
       op.initMessagePart();
@@ -94,6 +94,38 @@ public class GetOp {
   }
 
 
+  /**
+   * Does a region get for a client near cache on the server that holds the client's primary
+   * subscription queue. That server sends the client invalidations of the key from then on. If
+   * the primary cannot be reached the get is done as usual, without invalidations.
+   *
+   * @param pool the pool to use to communicate with the server.
+   * @param region the region to do the get on
+   * @param key the entry key to do the get on
+   * @param callbackArg an optional callback arg to pass to any cache callbacks
+   * @param clientEvent holder for returning version information
+   * @return the entry value found by the get if any
+   */
+  public static Object executeForNearCache(ExecutablePool pool, LocalRegion region, Object key,
+      Object callbackArg, EntryEventImpl clientEvent) {
+    GetOpImpl op = new GetOpImpl(region, key, callbackArg, false, clientEvent);
+    op.getMessage().setIsNearCacheRead();
+    try {
+      ServerLocation primary = ((PoolImpl) pool).getPrimary();
+      if (primary != null) {
+        return pool.executeOn(primary, op, true, false);
+      }
+    } catch (ServerOperationException e) {
+      throw e;
+    } catch (ServerConnectivityException e) {
+      if (logger.isDebugEnabled()) {
+        logger.debug("Unable to get key {} from the primary server for the near cache", key, e);
+      }
+    }
+    return execute(pool, region, key, callbackArg, ((PoolImpl) pool).getPRSingleHopEnabled(),
+        clientEvent);
+  }
+
   private GetOp() {
     // no instances allowed
   }
@@ -219,6 +251,11 @@ public class GetOp {
       return msgType == MessageType.REQUESTDATAERROR;
     }
 
+    @Override
+    protected boolean isPipelinable() {
+      return true;
+    }
+
     @Override
     protected long startAttempt(ConnectionStats stats) {
       return stats.startGet();
@@ -25,6 +25,9 @@ import java.nio.BufferUnderflowException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
@@ -61,6 +64,7 @@ import org.apache.geode.internal.cache.tier.BatchException;
 import org.apache.geode.internal.cache.tier.sockets.MessageTooLargeException;
 import org.apache.geode.internal.cache.wan.BatchException70;
 import org.apache.geode.internal.logging.log4j.LogMarker;
+import org.apache.geode.logging.internal.executors.LoggingExecutors;
 import org.apache.geode.logging.internal.log4j.api.LogService;
 import org.apache.geode.security.AuthenticationExpiredException;
 import org.apache.geode.security.AuthenticationRequiredException;
@@ -97,6 +101,19 @@ public class OpExecutorImpl implements ExecutablePool {
 
   private final ThreadLocal<Integer> affinityRetryCount = ThreadLocal.withInitial(() -> 0);
 
+  private final ConnectionMultiplexer multiplexer;
+
+  private final ConnectionMultiplexer asyncMultiplexer;
+
+  /** Reads the responses to asynchronous operations. Threads are only started when needed. */
+  private final ExecutorService asyncResponseReader;
+
+  /**
+   * Completes asynchronous operations and retries their failed attempts, which may block, so that
+   * the threads reading responses never do.
+   */
+  private final ExecutorService asyncOpCompleter;
+
   public OpExecutorImpl(final @NotNull ConnectionManager connectionManager,
       final @Nullable QueueManager queueManager,
       final @NotNull EndpointManager endpointManager,
@@ -113,6 +130,20 @@ public class OpExecutorImpl implements ExecutablePool {
     this.singleServerTimeout = singleServerTimeout;
     this.cancelCriterion = cancelCriterion;
     this.pool = pool;
+    if (ConnectionMultiplexer.MULTIPLEXED_OPS_PER_CONNECTION > 1) {
+      multiplexer = new ConnectionMultiplexer(connectionManager,
+          ConnectionMultiplexer.MULTIPLEXED_OPS_PER_CONNECTION);
+    } else {
+      multiplexer = null;
+    }
+    if (multiplexer != null) {
+      asyncMultiplexer = multiplexer;
+    } else {
+      asyncMultiplexer = new ConnectionMultiplexer(connectionManager,
+          ConnectionMultiplexer.ASYNC_OPS_PER_CONNECTION);
+    }
+    asyncResponseReader = LoggingExecutors.newCachedThreadPool("AsyncResponseReader", true);
+    asyncOpCompleter = LoggingExecutors.newCachedThreadPool("AsyncOpCompleter", true);
   }
 
   @Override
@@ -134,6 +165,13 @@ public class OpExecutorImpl implements ExecutablePool {
       return executeWithServerAffinity(loc, op);
     }
 
+    if (multiplexer != null && multiplexer.canMultiplex(op)) {
+      PipelinedConnection connection = multiplexer.acquire(null, serverTimeout);
+      if (connection != null) {
+        return executeMultiplexed(connection, (AbstractOp) op, retries);
+      }
+    }
+
     Connection conn = connectionManager.borrowConnection(serverTimeout);
     try {
       Set<ServerLocation> attemptedServers = null;
@@ -181,6 +219,132 @@ public class OpExecutorImpl implements ExecutablePool {
     }
   }
 
+  /**
+   * Executes an op on a connection it shares with other ops, retrying on another connection if it
+   * fails.
+   */
+  private Object executeMultiplexed(PipelinedConnection connection, final AbstractOp op,
+      final int retries) {
+    for (int attempt = 0; true; attempt++) {
+      // when an op is retried we may need to try to recover the previous
+      // attempt's version stamp
+      if (attempt == 1) {
+        op.getMessage().setIsRetry();
+      }
+      try {
+        return connection.execute(op);
+      } catch (MessageTooLargeException e) {
+        throw new GemFireIOException("unable to transmit message to server", e);
+      } catch (Exception e) {
+        handleException(e, connection.getConnection(), attempt,
+            attempt >= retries && retries != -1);
+      } finally {
+        multiplexer.release(connection);
+      }
+      connection = multiplexer.acquire(null, serverTimeout);
+      if (connection == null) {
+        // multiplexing was disabled because a server requires credentials
+        return execute(op, retries);
+      }
+    }
+  }
+
+  /**
+   * Executes the given op without waiting for its response. The op shares a connection with other
+   * ops and the response is read and processed by a thread that reads the responses of all the
+   * asynchronous ops on that connection. Failed attempts are retried like those of
+   * {@link #execute(Op)}.
+   *
+   * @param op the op to execute, which must be {@link AbstractOp#isPipelinable() pipelinable}
+   * @param server the server to execute the op on first, or null for any server
+   * @return a future completed with the result of the op, or exceptionally if it failed
+   */
+  CompletableFuture<Object> executeAsync(AbstractOp op, ServerLocation server) {
+    if (!op.isPipelinable()) {
+      throw new IllegalArgumentException("Cannot execute " + op + " asynchronously");
+    }
+    CompletableFuture<Object> result = new CompletableFuture<>();
+    executeAsync(op, server, 0, result);
+    return result;
+  }
+
+  private void executeAsync(AbstractOp op, ServerLocation server, int attempt,
+      CompletableFuture<Object> result) {
+    PipelinedConnection connection;
+    try {
+      connection =
+          asyncMultiplexer.acquire(server, server == null ? serverTimeout : singleServerTimeout);
+      if (connection == null) {
+        // a server requires credentials, so the op needs a connection of its own
+        asyncOpCompleter.execute(() -> executeExclusive(op, server, result));
+        return;
+      }
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+      return;
+    }
+
+    // when an op is retried we may need to try to recover the previous
+    // attempt's version stamp
+    if (attempt == 1) {
+      op.getMessage().setIsRetry();
+    }
+    CompletableFuture<Object> attemptResult;
+    try {
+      attemptResult = connection.executeAsync(op, asyncResponseReader);
+    } catch (Exception e) {
+      attemptResult = new CompletableFuture<>();
+      attemptResult.completeExceptionally(e);
+    }
+    attemptResult.whenCompleteAsync((value, completionFailure) -> {
+      asyncMultiplexer.release(connection);
+      if (completionFailure == null) {
+        result.complete(value);
+        return;
+      }
+      Throwable failure = completionFailure;
+      if (failure instanceof CompletionException && failure.getCause() != null) {
+        failure = failure.getCause();
+      }
+      try {
+        if (failure instanceof MessageTooLargeException) {
+          throw new GemFireIOException("unable to transmit message to server", failure);
+        }
+        handleException(failure, connection.getConnection(), attempt,
+            attempt >= retryAttempts && retryAttempts != -1);
+      } catch (RuntimeException e) {
+        result.completeExceptionally(e);
+        return;
+      }
+      // retry on any server, as the synchronous single hop ops do
+      executeAsync(op, null, attempt + 1, result);
+    }, asyncOpCompleter).exceptionally(failure -> {
+      // the completer was shut down
+      result.completeExceptionally(failure);
+      return null;
+    });
+  }
+
+  /**
+   * Executes the given op synchronously on a connection of its own and completes the given result.
+   */
+  private void executeExclusive(AbstractOp op, ServerLocation server,
+      CompletableFuture<Object> result) {
+    try {
+      result.complete(server == null ? execute(op) : executeOn(server, op));
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+  }
+
+  /**
+   * Stops the threads that read the responses to asynchronous operations and complete them.
+   */
+  void close() {
+    asyncResponseReader.shutdownNow();
+    asyncOpCompleter.shutdownNow();
+  }
+
   /**
    * execute the given op on the given server. If the server cannot be reached, sends a
    * TXFailoverOp, then retries the given op
@@ -314,6 +478,21 @@ public class OpExecutorImpl implements ExecutablePool {
 
   protected Object executeOnServer(ServerLocation server, Op op, boolean accessed,
       boolean onlyUseExistingConnection) {
+    if (multiplexer != null && accessed && !onlyUseExistingConnection && !serverAffinity.get()
+        && multiplexer.canMultiplex(op)) {
+      PipelinedConnection connection = multiplexer.acquire(server, singleServerTimeout);
+      if (connection != null) {
+        try {
+          return connection.execute((AbstractOp) op);
+        } catch (final Exception e) {
+          handleException(e, connection.getConnection(), 0, true);
+          // this shouldn't actually be reached, handle exception will throw something
+          throw new ServerConnectivityException("Received error connecting to server", e);
+        } finally {
+          multiplexer.release(connection);
+        }
+      }
+    }
     boolean returnConnection = true;
     Connection connection = null;
     if (op instanceof PingOp.PingOpImpl) {
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.jetbrains.annotations.NotNull;
+
+import org.apache.geode.cache.client.internal.pooling.ConnectionDestroyedException;
+import org.apache.geode.distributed.internal.ServerLocation;
+import org.apache.geode.internal.cache.tier.sockets.Message;
+
+/**
+ * A pooled connection that several operations use at the same time. Each operation sends its
+ * request as soon as no other request is being written and then waits for its response.
+ *
+ * <p>
+ * A server handles the requests of one connection one at a time and answers them in the order
+ * they were sent, so the responses are matched to the requests by the order in which they were
+ * sent. Each operation reads its own response, on its own thread, once the responses to all the
+ * requests sent before it have been read. Responses are read with a buffer of their own so that
+ * reading does not interfere with sending.
+ *
+ * <p>
+ * Operations sent {@link #sendAsync(AbstractOp, Executor) asynchronously} do not wait for their
+ * response. Their responses are read in turn by a task that runs on the given executor while there
+ * are any to read, so at most one thread per connection waits for asynchronous responses.
+ *
+ * <p>
+ * If sending or reading fails the connection can no longer tell which response belongs to which
+ * request, so every operation still waiting on it fails with a
+ * {@link ConnectionDestroyedException} and is retried like any other operation whose connection
+ * was destroyed.
+ *
+ * @since Geode 1.15
+ */
+class PipelinedConnection {
+
+  private final Connection connection;
+
+  private final Object sendLock = new Object();
+
+  private final Object receiveLock = new Object();
+
+  /** The sequence number of the next request sent. Guarded by sendLock. */
+  private long sendSequence;
+
+  /** The sequence number of the next response to read. Guarded by receiveLock. */
+  private long receiveSequence;
+
+  /** Asynchronously sent requests whose response has not been read. Guarded by receiveLock. */
+  private final Deque<PendingResponse> pendingResponses = new ArrayDeque<>();
+
+  /** True while a task reads the pending responses. Guarded by receiveLock. */
+  private boolean readingPendingResponses;
+
+  private volatile Exception failure;
+
+  /** The number of operations using this connection. Guarded by the ConnectionMultiplexer. */
+  int inFlight;
+
+  PipelinedConnection(Connection connection) {
+    this.connection = connection;
+  }
+
+  /**
+   * Returns the pooled connection that operations are pipelined on.
+   */
+  Connection getConnection() {
+    return connection;
+  }
+
+  Connection getWrappedConnection() {
+    return connection.getWrappedConnection();
+  }
+
+  ServerLocation getServer() {
+    return connection.getServer();
+  }
+
+  /**
+   * Returns true if operations can still be sent on this connection.
+   */
+  boolean isUsable() {
+    return failure == null && !connection.isDestroyed();
+  }
+
+  Object execute(AbstractOp op) throws Exception {
+    Object result = op.attempt(this);
+    connection.getEndpoint().updateLastExecute();
+    return result;
+  }
+
+  CompletableFuture<Object> executeAsync(AbstractOp op, Executor executor) throws Exception {
+    return op.attemptAsync(this, executor)
+        .whenComplete((result, failure) -> connection.getEndpoint().updateLastExecute());
+  }
+
+  /**
+   * Sends the request of the given operation.
+   *
+   * @return the sequence number to pass to {@link #receive(long, AbstractOp)}
+   */
+  long send(AbstractOp op) throws Exception {
+    synchronized (sendLock) {
+      checkUsable();
+      try {
+        op.attemptSend(getWrappedConnection());
+      } catch (Exception e) {
+        fail(e);
+        throw e;
+      }
+      return sendSequence++;
+    }
+  }
+
+  /**
+   * Sends the request of the given operation and returns without waiting for its response. The
+   * response is read by a task run on the given executor.
+   *
+   * @return the response, which is completed exceptionally if it could not be read
+   */
+  CompletableFuture<Message> sendAsync(AbstractOp op, Executor executor) throws Exception {
+    CompletableFuture<Message> response = new CompletableFuture<>();
+    boolean startReading;
+    synchronized (sendLock) {
+      long sequence = send(op);
+      // queued while holding the send lock so the queue is in the order the requests were sent
+      synchronized (receiveLock) {
+        pendingResponses.add(new PendingResponse(sequence, op, response));
+        startReading = !readingPendingResponses;
+        readingPendingResponses = true;
+      }
+    }
+    if (startReading) {
+      try {
+        executor.execute(this::readPendingResponses);
+      } catch (RejectedExecutionException e) {
+        // the pool is closing; fail the pending responses here so none is left waiting
+        fail(e);
+        readPendingResponses();
+      }
+    }
+    return response;
+  }
+
+  private void readPendingResponses() {
+    while (true) {
+      PendingResponse pending;
+      synchronized (receiveLock) {
+        pending = pendingResponses.poll();
+        if (pending == null) {
+          readingPendingResponses = false;
+          return;
+        }
+      }
+      try {
+        pending.response.complete(receive(pending.sequence, pending.op));
+      } catch (Exception e) {
+        pending.response.completeExceptionally(e);
+      }
+    }
+  }
+
+  /**
+   * Waits until the responses to all requests sent before the given one have been read and then
+   * reads the response to the given request.
+   */
+  @NotNull
+  Message receive(long sequence, AbstractOp op) throws Exception {
+    awaitTurn(sequence);
+    try {
+      checkUsable();
+      Connection wrappedConnection = getWrappedConnection();
+      return op.receiveResponse(wrappedConnection, getReceiveBuffer(wrappedConnection));
+    } catch (Exception e) {
+      fail(e);
+      throw e;
+    } finally {
+      synchronized (receiveLock) {
+        receiveSequence++;
+        receiveLock.notifyAll();
+      }
+    }
+  }
+
+  private void awaitTurn(long sequence) {
+    // the response has to be read even if this thread is interrupted, or the responses that follow
+    // it would be read by the wrong operations
+    boolean interrupted = false;
+    synchronized (receiveLock) {
+      while (receiveSequence != sequence) {
+        try {
+          receiveLock.wait();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static ByteBuffer getReceiveBuffer(Connection wrappedConnection) throws Exception {
+    if (!(wrappedConnection instanceof ConnectionImpl)) {
+      throw new IllegalStateException("Cannot pipeline operations on " + wrappedConnection);
+    }
+    return ((ConnectionImpl) wrappedConnection).getCommBufferForAsyncRead();
+  }
+
+  private void checkUsable() {
+    if (failure != null) {
+      throw new ConnectionDestroyedException();
+    }
+  }
+
+  private void fail(Exception e) {
+    if (failure == null) {
+      failure = e;
+    }
+    connection.destroy();
+  }
+
+  @Override
+  public String toString() {
+    return "PipelinedConnection[" + connection + "]";
+  }
+
+  private static class PendingResponse {
+    private final long sequence;
+
+    private final AbstractOp op;
+
+    private final CompletableFuture<Message> response;
+
+    private PendingResponse(long sequence, AbstractOp op, CompletableFuture<Message> response) {
+      this.sequence = sequence;
+      this.op = op;
+      this.response = response;
+    }
+  }
+}
@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -645,6 +646,8 @@ public class PoolImpl implements InternalPool {
         logger.error("Error encountered while stopping connection manager.", e);
       }
 
+      executor.close();
+
       try {
         endpointManager.close();
       } catch (RuntimeException e) {
@@ -848,6 +851,24 @@ public class PoolImpl implements InternalPool {
     return executor.executeOn(server, op, accessed, onlyUseExistingCnx);
   }
 
+  /**
+   * Execute the given op without waiting for its response. The op is sent on a connection that it
+   * shares with other ops and its response is read by a thread that reads the responses of all the
+   * asynchronous ops on that connection.
+   *
+   * @param op the operation to execute, which must be pipelinable
+   * @param server the server to execute the op on first, or null for any server
+   * @return a future completed with the result of execution, or null if there is none, or
+   *         completed exceptionally if the op failed on every server it was tried on
+   */
+  public CompletableFuture<Object> executeAsync(AbstractOp op, ServerLocation server) {
+    if (multiuserSecureModeEnabled) {
+      throw new UnsupportedOperationException(
+          "Asynchronous operations are not supported with multiuser authentication");
+    }
+    return executor.executeAsync(op, server);
+  }
+
   /**
    * Execute the given op on the given connection.
    *
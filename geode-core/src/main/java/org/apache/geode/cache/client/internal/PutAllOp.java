@@ -94,7 +94,7 @@ public class PutAllOp {
         ((RegionMapOwner) region).getCache().getClientMetadataService();
 
     Map<ServerLocation, Set> serverToFilterMap =
-        clientMetadataService.getServerToFilterMap(map.keySet(), region, true);
+        clientMetadataService.getServerToKeysMapForBulkOp(map.keySet(), region);
 
     if (serverToFilterMap == null || serverToFilterMap.isEmpty()) {
       AbstractOp op = new PutAllOpImpl(region, map, eventId,
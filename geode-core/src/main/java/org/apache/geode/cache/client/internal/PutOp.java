@@ -386,6 +386,15 @@ public class PutOp {
       return msgType == MessageType.PUT_DATA_ERROR;
     }
 
+    /**
+     * A delta that fails on the server is followed by a put of the full value on the same
+     * connection, so only puts that send the full value are pipelined.
+     */
+    @Override
+    protected boolean isPipelinable() {
+      return !deltaSent;
+    }
+
     @Override
     protected long startAttempt(ConnectionStats stats) {
       return stats.startPut();
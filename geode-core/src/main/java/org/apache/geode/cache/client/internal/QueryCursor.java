@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.geode.cache.client.ServerConnectivityException;
+import org.apache.geode.cache.query.QueryResultsCursor;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.internal.cache.tier.sockets.ChunkedMessage;
+
+/**
+ * Iterates over the results of a query executed on a server, reading each chunk of the response
+ * from the server only when the results of the previous one have been consumed. The client never
+ * holds more than one chunk of results, and a client that stops reading also stops the server from
+ * sending, because the server blocks once the socket buffers are full.
+ *
+ * <p>
+ * The cursor holds a connection from the pool until it is closed or all results have been read. A
+ * cursor closed before its last result destroys the connection, since the rest of the response is
+ * still on it, and the server stops sending the results when its next write fails. The server also
+ * closes the connection if a write of the response stays blocked for longer than its query response
+ * write timeout, so a cursor that is abandoned without being closed does not keep the server's
+ * thread and results.
+ *
+ * <p>
+ * Not thread safe.
+ *
+ * @since Geode 1.15
+ */
+public class QueryCursor implements QueryResultsCursor<Object> {
+
+  private final PoolImpl pool;
+
+  private final Connection connection;
+
+  private final QueryOp.StreamingQueryOpImpl op;
+
+  private final ChunkedMessage response;
+
+  private Iterator<?> results = Collections.emptyIterator();
+
+  private boolean closed;
+
+  private QueryCursor(PoolImpl pool, Connection connection, QueryOp.StreamingQueryOpImpl op) {
+    this.pool = pool;
+    this.connection = connection;
+    this.op = op;
+    response = op.getResponse();
+  }
+
+  /**
+   * Executes the given query on a connection from the pool and returns a cursor over its results.
+   */
+  static QueryCursor open(PoolImpl pool, QueryOp.StreamingQueryOpImpl op) {
+    Connection connection = pool.acquireConnection();
+    try {
+      pool.executeOn(connection, op);
+    } catch (RuntimeException e) {
+      pool.returnConnection(connection);
+      throw e;
+    }
+    QueryCursor cursor = new QueryCursor(pool, connection, op);
+    cursor.readResults();
+    return cursor;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!results.hasNext()) {
+      if (closed || response.isLastChunk()) {
+        close();
+        return false;
+      }
+      receiveChunk();
+      readResults();
+    }
+    return true;
+  }
+
+  @Override
+  public Object next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return results.next();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed;
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    results = Collections.emptyIterator();
+    if (!response.isLastChunk()) {
+      connection.destroy();
+    }
+    pool.returnConnection(connection);
+  }
+
+  private void receiveChunk() {
+    try {
+      response.setComms(connection.getSocket(), connection.getInputStream(),
+          connection.getOutputStream(), connection.getCommBuffer(), connection.getStats());
+      try {
+        response.receiveChunk();
+      } finally {
+        response.unsetComms();
+      }
+      if (response.isLastChunk()) {
+        op.processSecureBytes(connection, response);
+      }
+    } catch (Exception e) {
+      close();
+      throw new ServerConnectivityException("While reading query results from " + connection, e);
+    }
+  }
+
+  private void readResults() {
+    SelectResults<?> chunkResults;
+    try {
+      chunkResults = op.addChunkResults(response, null);
+    } catch (RuntimeException e) {
+      close();
+      throw e;
+    } catch (Exception e) {
+      close();
+      throw new ServerConnectivityException("While reading query results from " + connection, e);
+    }
+    results = chunkResults == null ? Collections.emptyIterator() : chunkResults.iterator();
+  }
+}
@@ -66,6 +66,28 @@ public class QueryOp {
     return (SelectResults) pool.execute(op);
   }
 
+  /**
+   * Does a region query on a server and returns a cursor that reads the results from the server as
+   * they are iterated, rather than all at once. The cursor holds one of the pool's connections
+   * until it is closed or all of the results have been read.
+   *
+   * @param pool the pool to use to communicate with the server.
+   * @param queryPredicate A query language boolean query predicate
+   * @return a <code>QueryCursor</code> over the values that match the <code>queryPredicate</code>.
+   * @since Geode 1.15
+   */
+  public static QueryCursor executeStreaming(PoolImpl pool, String queryPredicate,
+      Object[] queryParams) {
+    StreamingQueryOpImpl op;
+
+    if (queryParams != null && queryParams.length > 0) {
+      op = new StreamingQueryOpImpl(queryPredicate, queryParams);
+    } else {
+      op = new StreamingQueryOpImpl(queryPredicate);
+    }
+    return QueryCursor.open(pool, op);
+  }
+
   private QueryOp() {
     // no instances allowed
   }
@@ -113,87 +135,10 @@ public class QueryOp {
       final SelectResults[] resultRef = new SelectResults[1];
       final Exception[] exceptionRef = new Exception[1];
       ChunkHandler ch = cm -> {
-        Part collectionTypePart = cm.getPart(0);
-        Object o = collectionTypePart.getObject();
-        if (o instanceof Throwable) {
-          String s = "While performing a remote " + getOpName();
-          exceptionRef[0] = new ServerOperationException(s, (Throwable) o);
-          return;
-        }
-        CollectionType collectionType = (CollectionType) o;
-        Part resultPart = cm.getPart(1);
-        Object queryResult;
         try {
-          queryResult = resultPart.getObject();
+          resultRef[0] = addChunkResults(cm, resultRef[0]);
         } catch (Exception e) {
-          String s = "While deserializing " + getOpName() + " result";
-
-          // Enable the workaround to convert PdxSerializationException into IOException to retry.
-          // It only worked when the client is configured to connect to more than one cache server
-          // AND the pool's "retry-attempts" is -1 (the default which means try each server) or > 0.
-          // It is possible that if application closed the current connection and got a new
-          // connection to the same server and retried the query to it, that it would also
-          // workaround this issue and it would not have the limitations of needing multiple servers
-          // and would not depend on the retry-attempts configuration.
-          boolean enableQueryRetryOnPdxSerializationException = SystemProperty
-              .getProductBooleanProperty(
-                  SystemPropertyHelper.ENABLE_QUERY_RETRY_ON_PDX_SERIALIZATION_EXCEPTION)
-              .orElse(false);
-          if (e instanceof PdxSerializationException
-              && enableQueryRetryOnPdxSerializationException) {
-            // IOException will allow the client to retry next server in the connection pool until
-            // exhausted all the servers (so it will not retry forever). Why retry:
-            // The byte array of the pdxInstance is always the same at the server. Other clients can
-            // get a correct one from query response message. Even this client can get it correctly
-            // before and after the PdxSerializationException.
-            exceptionRef[0] = new IOException(s, e);
-            LogService.getLogger().warn(
-                "Encountered unexpected PdxSerializationException, retrying on another server");
-          } else {
-            exceptionRef[0] = new SerializationException(s, e);
-          }
-          return;
-        }
-        if (queryResult instanceof Throwable) {
-          String s = "While performing a remote " + getOpName();
-          exceptionRef[0] = new ServerOperationException(s, (Throwable) queryResult);
-        } else if (queryResult instanceof Integer) {
-          // Create the appropriate SelectResults instance if necessary
-          if (resultRef[0] == null) {
-            resultRef[0] = QueryUtils.getEmptySelectResults(TypeUtils.OBJECT_TYPE, null);
-          }
-          resultRef[0].add(queryResult);
-        } else { // typical query result
-          // Create the appropriate SelectResults instance if necessary
-          if (resultRef[0] == null) {
-            resultRef[0] = QueryUtils.getEmptySelectResults(collectionType, null);
-          }
-          SelectResults selectResults = resultRef[0];
-          ObjectType objectType = collectionType.getElementType();
-          Object[] resultArray;
-          // for select * queries, the serialized object byte arrays are
-          // returned as part of ObjectPartList
-          boolean isObjectPartList = false;
-          if (queryResult instanceof ObjectPartList) {
-            isObjectPartList = true;
-            resultArray = ((ObjectPartList) queryResult).getObjects().toArray();
-          } else {
-            // Add the results to the SelectResults
-            resultArray = (Object[]) queryResult;
-          }
-          if (objectType.isStructType()) {
-            for (Object value : resultArray) {
-              if (isObjectPartList) {
-                selectResults.add(new StructImpl((StructTypeImpl) objectType,
-                    ((ObjectPartList) value).getObjects().toArray()));
-              } else {
-                selectResults
-                    .add(new StructImpl((StructTypeImpl) objectType, (Object[]) value));
-              }
-            }
-          } else {
-            selectResults.addAll(Arrays.asList(resultArray));
-          }
+          exceptionRef[0] = e;
         }
       };
       processChunkedResponse((ChunkedMessage) msg, getOpName(), ch);
@@ -204,6 +149,96 @@ public class QueryOp {
       }
     }
 
+    /**
+     * Adds the query results in the given chunk of the response to the given results.
+     *
+     * @param cm the chunk to read the results from
+     * @param results the results read from earlier chunks, or null to create them
+     * @return the results with the ones in the chunk added, or null if there were none
+     * @throws Exception the error the server sent in the chunk, or a failure to deserialize it
+     */
+    SelectResults addChunkResults(ChunkedMessage cm, SelectResults results) throws Exception {
+      Part collectionTypePart = cm.getPart(0);
+      Object o = collectionTypePart.getObject();
+      if (o instanceof Throwable) {
+        String s = "While performing a remote " + getOpName();
+        throw new ServerOperationException(s, (Throwable) o);
+      }
+      CollectionType collectionType = (CollectionType) o;
+      Part resultPart = cm.getPart(1);
+      Object queryResult;
+      try {
+        queryResult = resultPart.getObject();
+      } catch (Exception e) {
+        String s = "While deserializing " + getOpName() + " result";
+
+        // Enable the workaround to convert PdxSerializationException into IOException to retry.
+        // It only worked when the client is configured to connect to more than one cache server
+        // AND the pool's "retry-attempts" is -1 (the default which means try each server) or > 0.
+        // It is possible that if application closed the current connection and got a new
+        // connection to the same server and retried the query to it, that it would also
+        // workaround this issue and it would not have the limitations of needing multiple servers
+        // and would not depend on the retry-attempts configuration.
+        boolean enableQueryRetryOnPdxSerializationException = SystemProperty
+            .getProductBooleanProperty(
+                SystemPropertyHelper.ENABLE_QUERY_RETRY_ON_PDX_SERIALIZATION_EXCEPTION)
+            .orElse(false);
+        if (e instanceof PdxSerializationException
+            && enableQueryRetryOnPdxSerializationException) {
+          // IOException will allow the client to retry next server in the connection pool until
+          // exhausted all the servers (so it will not retry forever). Why retry:
+          // The byte array of the pdxInstance is always the same at the server. Other clients can
+          // get a correct one from query response message. Even this client can get it correctly
+          // before and after the PdxSerializationException.
+          LogService.getLogger().warn(
+              "Encountered unexpected PdxSerializationException, retrying on another server");
+          throw new IOException(s, e);
+        } else {
+          throw new SerializationException(s, e);
+        }
+      }
+      if (queryResult instanceof Throwable) {
+        String s = "While performing a remote " + getOpName();
+        throw new ServerOperationException(s, (Throwable) queryResult);
+      } else if (queryResult instanceof Integer) {
+        // Create the appropriate SelectResults instance if necessary
+        if (results == null) {
+          results = QueryUtils.getEmptySelectResults(TypeUtils.OBJECT_TYPE, null);
+        }
+        results.add(queryResult);
+      } else { // typical query result
+        // Create the appropriate SelectResults instance if necessary
+        if (results == null) {
+          results = QueryUtils.getEmptySelectResults(collectionType, null);
+        }
+        ObjectType objectType = collectionType.getElementType();
+        Object[] resultArray;
+        // for select * queries, the serialized object byte arrays are
+        // returned as part of ObjectPartList
+        boolean isObjectPartList = false;
+        if (queryResult instanceof ObjectPartList) {
+          isObjectPartList = true;
+          resultArray = ((ObjectPartList) queryResult).getObjects().toArray();
+        } else {
+          // Add the results to the SelectResults
+          resultArray = (Object[]) queryResult;
+        }
+        if (objectType.isStructType()) {
+          for (Object value : resultArray) {
+            if (isObjectPartList) {
+              results.add(new StructImpl((StructTypeImpl) objectType,
+                  ((ObjectPartList) value).getObjects().toArray()));
+            } else {
+              results.add(new StructImpl((StructTypeImpl) objectType, (Object[]) value));
+            }
+          }
+        } else {
+          results.addAll(Arrays.asList(resultArray));
+        }
+      }
+      return results;
+    }
+
     protected String getOpName() {
       return "query";
     }
@@ -229,4 +264,40 @@ public class QueryOp {
       stats.endQuery(start, hasTimedOut(), hasFailed());
     }
   }
+
+  /**
+   * A query whose response is read one chunk at a time by a {@link QueryCursor}. Executing it only
+   * reads the first chunk.
+   */
+  static class StreamingQueryOpImpl extends QueryOpImpl {
+    private ChunkedMessage response;
+
+    StreamingQueryOpImpl(String queryPredicate) {
+      super(queryPredicate);
+    }
+
+    StreamingQueryOpImpl(String queryPredicate, Object[] queryParams) {
+      super(queryPredicate, queryParams);
+    }
+
+    @Override
+    protected @NotNull Message createResponseMessage() {
+      response = (ChunkedMessage) super.createResponseMessage();
+      return response;
+    }
+
+    @Override
+    protected Object processResponse(final @NotNull Message msg) throws Exception {
+      readChunkedResponseHeader((ChunkedMessage) msg, getOpName());
+      ((ChunkedMessage) msg).receiveChunk();
+      return null;
+    }
+
+    /**
+     * Returns the response whose first chunk was read when this operation was executed.
+     */
+    ChunkedMessage getResponse() {
+      return response;
+    }
+  }
 }
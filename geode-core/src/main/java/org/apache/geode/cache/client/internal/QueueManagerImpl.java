@@ -44,6 +44,8 @@ import org.apache.geode.annotations.Immutable;
 import org.apache.geode.annotations.VisibleForTesting;
 import org.apache.geode.cache.InterestResultPolicy;
 import org.apache.geode.cache.NoSubscriptionServersAvailableException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionDestroyedException;
 import org.apache.geode.cache.client.ServerConnectivityException;
 import org.apache.geode.cache.client.ServerRefusedConnectionException;
 import org.apache.geode.cache.client.internal.PoolImpl.PoolTask;
@@ -593,6 +595,37 @@ public class QueueManagerImpl implements QueueManager {
     return GemFireCacheImpl.getInstance();
   }
 
+  /**
+   * Clears the regions of this pool that are near caches. Their keys were tracked by the previous
+   * primary, so the new primary would not send invalidations for them.
+   */
+  private void clearNearCaches() {
+    InternalCache cache = getInternalCache();
+    if (cache == null) {
+      return;
+    }
+    for (Region<?, ?> rootRegion : cache.rootRegions()) {
+      List<Region<?, ?>> regions = new ArrayList<>();
+      regions.add(rootRegion);
+      try {
+        regions.addAll(rootRegion.subregions(true));
+      } catch (RegionDestroyedException e) {
+        continue;
+      }
+      for (Region<?, ?> region : regions) {
+        ServerRegionProxy proxy = ((LocalRegion) region).getServerProxy();
+        if (proxy != null && proxy.isNearCache() && proxy.getPool() == pool) {
+          try {
+            ((LocalRegion) region).clearKeysOfInterest(new ArrayList<>(region.keySet()),
+                InterestType.KEY, InterestResultPolicy.NONE);
+          } catch (RegionDestroyedException ignored) {
+            // nothing left to clear
+          }
+        }
+      }
+    }
+  }
+
   private void cqsConnected() {
     InternalCache cache = getInternalCache();
     if (cache != null) {
@@ -902,6 +935,7 @@ public class QueueManagerImpl implements QueueManager {
       }
 
       // new primary from back up server was found, alert affected cqs if necessary
+      clearNearCaches();
       cqsConnected();
       printPrimaryNotFoundError = true;
       printRecoveringPrimary = true;
@@ -931,6 +965,7 @@ public class QueueManagerImpl implements QueueManager {
           newPrimary = null;
         }
         // New primary queue was found from a non backup, alert the affected cqs
+        clearNearCaches();
         cqsConnected();
       }
 
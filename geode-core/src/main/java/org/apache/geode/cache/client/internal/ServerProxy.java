@@ -59,4 +59,15 @@ public class ServerProxy {
     return QueryOp.execute(pool, queryPredicate, queryParams);
   }
 
+  /**
+   * Does a query on a server, reading the results from the server as they are iterated.
+   *
+   * @param queryPredicate A query language boolean query predicate
+   * @return A <code>QueryCursor</code> over the values that match the <code>queryPredicate</code>.
+   * @since Geode 1.15
+   */
+  public QueryCursor queryStreaming(String queryPredicate, Object[] queryParams) {
+    return QueryOp.executeStreaming((PoolImpl) pool, queryPredicate, queryParams);
+  }
+
 }
@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import org.apache.logging.log4j.Logger;
@@ -53,6 +54,7 @@ import org.apache.geode.internal.cache.tier.sockets.VersionedObjectList.Iterator
 import org.apache.geode.internal.cache.tx.ClientTXStateStub;
 import org.apache.geode.internal.cache.tx.TransactionalOperation.ServerRegionOperation;
 import org.apache.geode.logging.internal.log4j.api.LogService;
+import org.apache.geode.util.internal.GeodeGlossary;
 
 /**
  * Used to send region operations from a client to a server
@@ -62,8 +64,18 @@ import org.apache.geode.logging.internal.log4j.api.LogService;
 public class ServerRegionProxy extends ServerProxy implements ServerRegionDataAccess {
   private static final Logger logger = LogService.getLogger();
 
+  /**
+   * When true, client regions that keep entries locally and whose pool has subscriptions enabled
+   * are near caches: their gets are sent to the server holding the primary subscription queue,
+   * which from then on sends the client invalidations, but not values, of the keys read. Bound
+   * the memory of such a region with LRU eviction.
+   */
+  static final boolean NEAR_CACHE_INVALIDATION = Boolean
+      .getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "ServerRegionProxy.NEAR_CACHE_INVALIDATION");
+
   private final LocalRegion region;
   private final String regionName;
+  private final boolean nearCache;
 
 
   /**
@@ -77,6 +89,8 @@ public class ServerRegionProxy extends ServerProxy implements ServerRegionDataAc
     assert r instanceof LocalRegion;
     region = (LocalRegion) r;
     regionName = r.getFullPath();
+    nearCache = NEAR_CACHE_INVALIDATION && r.getAttributes().getDataPolicy().withStorage()
+        && pool.getSubscriptionEnabled();
   }
 
   /**
@@ -87,6 +101,7 @@ public class ServerRegionProxy extends ServerProxy implements ServerRegionDataAc
     super(pool);
     region = null;
     this.regionName = regionName;
+    nearCache = false;
   }
 
   private static InternalPool calcPool(Region<?, ?> r) {
@@ -112,10 +127,20 @@ public class ServerRegionProxy extends ServerProxy implements ServerRegionDataAc
   @Override
   public Object get(Object key, Object callbackArg, EntryEventImpl clientEvent) {
     recordTXOperation(ServerRegionOperation.GET, key, callbackArg);
+    if (nearCache && TXManagerImpl.getCurrentTXState() == null) {
+      return GetOp.executeForNearCache(pool, region, key, callbackArg, clientEvent);
+    }
     return GetOp.execute(pool, region, key, callbackArg,
         pool.getPRSingleHopEnabled(), clientEvent);
   }
 
+  /**
+   * Returns true if the servers send this region invalidations of the keys it reads.
+   */
+  public boolean isNearCache() {
+    return nearCache;
+  }
+
 
 
   @Override
@@ -285,6 +310,68 @@ public class ServerRegionProxy extends ServerProxy implements ServerRegionDataAc
     return ContainsKeyOp.execute(pool, regionName, key, MODE.KEY);
   }
 
+  /**
+   * Does a region get on the server without waiting for the response.
+   *
+   * @param key the entry key to do the get on
+   * @param callbackArg an optional callback arg to pass to any cache callbacks
+   * @return the entry value found by the get if any
+   */
+  public CompletableFuture<Object> getAsync(Object key, Object callbackArg) {
+    AbstractOp op =
+        new GetOp.GetOpImpl(region, key, callbackArg, pool.getPRSingleHopEnabled(), null);
+    return executeAsync(op, Operation.GET, key, null, callbackArg);
+  }
+
+  /**
+   * Does a region put on the server without waiting for the response.
+   *
+   * @param key the entry key to do the put on
+   * @param value the entry value to put
+   * @param callbackArg an optional callback arg to pass to any cache callbacks
+   */
+  public CompletableFuture<Object> putAsync(Object key, Object value, Object callbackArg) {
+    EventIDHolder event = new EventIDHolder(new EventID(region.getSystem()));
+    AbstractOp op = new PutOp.PutOpImpl(region, key, value, null, event, Operation.UPDATE, false,
+        null, callbackArg, false, pool.getPRSingleHopEnabled());
+    return executeAsync(op, Operation.UPDATE, key, value, callbackArg);
+  }
+
+  /**
+   * Does a region entry destroy on the server without waiting for the response.
+   *
+   * @param key the entry key to do the destroy on
+   * @param callbackArg an optional callback arg to pass to any cache callbacks
+   * @return an {@link org.apache.geode.cache.EntryNotFoundException} if the entry was not found
+   */
+  public CompletableFuture<Object> destroyAsync(Object key, Object callbackArg) {
+    EventIDHolder event = new EventIDHolder(new EventID(region.getSystem()));
+    AbstractOp op = new DestroyOp.DestroyOpImpl(region, key, null, Operation.DESTROY, event,
+        callbackArg, pool.getPRSingleHopEnabled());
+    return executeAsync(op, Operation.DESTROY, key, null, callbackArg);
+  }
+
+  /**
+   * Checks whether the server has the given key without waiting for the response.
+   */
+  public CompletableFuture<Object> containsKeyAsync(Object key) {
+    return executeAsync(new ContainsKeyOp.ContainsKeyOpImpl(regionName, key, MODE.KEY), null, key,
+        null, null);
+  }
+
+  private CompletableFuture<Object> executeAsync(AbstractOp op, Operation operation, Object key,
+      Object value, Object callbackArg) {
+    ServerLocation server = null;
+    if (operation != null && pool.getPRSingleHopEnabled()) {
+      ServerLocation bucketServer = region.getCache().getClientMetadataService()
+          .getBucketServerLocation(region, operation, key, value, callbackArg);
+      if (bucketServer != null) {
+        server = new ServerLocation(bucketServer.getHostName(), bucketServer.getPort());
+      }
+    }
+    return ((PoolImpl) pool).executeAsync(op, server);
+  }
+
   /*
    * (non-Javadoc)
    *
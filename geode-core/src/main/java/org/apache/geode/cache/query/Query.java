@@ -272,4 +272,28 @@ public interface Query {
    * Get statistics information for this query.
    */
   QueryStatistics getStatistics();
+
+  /**
+   * Executes this query on a server and returns a cursor that reads the results from the server as
+   * they are iterated, so that the client does not need to hold all of them at once. Only queries
+   * obtained from the query service of a client pool can be executed this way. The server still
+   * evaluates the whole query before it sends the first result.
+   *
+   * <p>
+   * The cursor holds a connection to the server and must be closed if it is not iterated to the
+   * end.
+   *
+   * @param params the values of the bound parameters of the query, which may be empty but not null
+   * @return a cursor over the results of the query
+   * @throws UnsupportedOperationException if this query is not executed on a server
+   * @throws IllegalArgumentException if params is null
+   * @throws org.apache.geode.cache.client.ServerOperationException if the query fails on the
+   *         server
+   * @see QueryResultsCursor
+   * @since Geode 1.15
+   */
+  default QueryResultsCursor<Object> executeStreaming(Object... params) {
+    throw new UnsupportedOperationException(
+        "Only queries executed on a server can stream their results");
+  }
 }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query;
+
+import java.util.Iterator;
+
+/**
+ * Iterates over the results of a query executed on a server, reading them from the server as they
+ * are iterated instead of all at once. Returned by {@link Query#executeStreaming(Object...)}.
+ *
+ * <pre>
+ * ClientCache cache = ...
+ * Query query = cache.getQueryService().newQuery("SELECT * FROM /exports");
+ *
+ * try (QueryResultsCursor&lt;Object&gt; cursor = query.executeStreaming()) {
+ *   while (cursor.hasNext()) {
+ *     write(cursor.next());
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>
+ * A cursor holds a connection to the server until all of its results have been read or it is
+ * closed, so a cursor that is not iterated to the end must be closed. The server closes the
+ * connection if the client stops reading the results for longer than the server's query response
+ * write timeout, after which iterating the cursor throws a
+ * {@link org.apache.geode.cache.client.ServerConnectivityException}.
+ *
+ * <p>
+ * A cursor is not thread safe.
+ *
+ * @param <E> the type of the results
+ * @since Geode 1.15
+ */
+public interface QueryResultsCursor<E> extends Iterator<E>, AutoCloseable {
+
+  /**
+   * Returns true if the cursor has been closed, either explicitly or because all of its results
+   * have been read.
+   */
+  boolean isClosed();
+
+  /**
+   * Releases the connection this cursor reads from. Results that have not been read are discarded.
+   * Closing a cursor that is already closed has no effect.
+   */
+  @Override
+  void close();
+}
@@ -40,6 +40,7 @@ import org.apache.geode.internal.lang.utils.JavaWorkarounds;
 import org.apache.geode.pdx.JSONFormatter;
 import org.apache.geode.pdx.PdxSerializationException;
 import org.apache.geode.pdx.internal.InternalPdxInstance;
+import org.apache.geode.pdx.internal.PdxField;
 import org.apache.geode.pdx.internal.PdxType;
 import org.apache.geode.pdx.internal.TypeRegistry;
 import org.apache.geode.security.NotAuthorizedException;
@@ -227,9 +228,14 @@ public class AttributeDescriptor {
    */
   private Object readPdx(InternalPdxInstance pdxInstance, ExecutionContext executionContext)
       throws NameNotFoundException, QueryInvocationTargetException {
-    // if the field is present in the pdxinstance
-    if (pdxInstance.hasField(_name)) {
+    // look the field up once and read it through its PdxField, which knows where the field is in
+    // the serialized bytes, rather than by name
+    PdxType instanceType = pdxInstance.getPdxType();
+    PdxField field = instanceType == null ? null : instanceType.getPdxField(_name);
+    if (field != null) {
       // return PdxString if field is a String otherwise invoke readField
+      return pdxInstance.getRawField(field);
+    } else if (instanceType == null && pdxInstance.hasField(_name)) {
       return pdxInstance.getRawField(_name);
     } else {
       // field not found in the pdx instance, look for the field in any of the
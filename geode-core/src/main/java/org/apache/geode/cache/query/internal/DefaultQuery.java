@@ -32,6 +32,7 @@ import org.apache.geode.annotations.internal.MakeNotStatic;
 import org.apache.geode.annotations.internal.MutableForTesting;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.client.internal.ProxyCache;
+import org.apache.geode.cache.client.internal.QueryCursor;
 import org.apache.geode.cache.client.internal.ServerProxy;
 import org.apache.geode.cache.client.internal.UserAttributes;
 import org.apache.geode.cache.execute.Function;
@@ -333,6 +334,40 @@ public class DefaultQuery implements Query {
     return result;
   }
 
+  /**
+   * Executes this query on a server of its pool and returns a cursor that reads the results from
+   * the server as they are iterated, so that large results do not have to fit in the client's heap
+   * at once. The cursor must be closed if it is not iterated to the end.
+   *
+   * @param parameters the parameters of the query, which may be empty but not null
+   * @throws UnsupportedOperationException if this query is not executed on a server
+   * @since Geode 1.15
+   */
+  @Override
+  public QueryCursor executeStreaming(Object... parameters) {
+    if (parameters == null) {
+      throw new IllegalArgumentException("'parameters' cannot be null");
+    }
+    if (serverProxy == null) {
+      throw new UnsupportedOperationException(
+          "Only queries executed on a server can stream their results");
+    }
+    long startTime = statisticsClock.getTime();
+    try {
+      if (proxyCache != null) {
+        if (proxyCache.isClosed()) {
+          throw proxyCache.getCacheClosedException("Cache is closed for this user.");
+        }
+        UserAttributes.userAttributes.set(proxyCache.getUserAttributes());
+      }
+      return serverProxy.queryStreaming(queryString, parameters);
+    } finally {
+      UserAttributes.userAttributes.set(null);
+      long endTime = statisticsClock.getTime();
+      updateStatistics(endTime - startTime);
+    }
+  }
+
   public Object executeUsingContext(ExecutionContext context) throws FunctionDomainException,
       TypeMismatchException, NameResolutionException, QueryInvocationTargetException {
     QueryObserver observer = QueryObserverHolder.getInstance();
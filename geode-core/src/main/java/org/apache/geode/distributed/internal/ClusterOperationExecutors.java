@@ -33,6 +33,7 @@ import org.apache.geode.InternalGemFireError;
 import org.apache.geode.SystemFailure;
 import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
 import org.apache.geode.distributed.internal.membership.gms.messages.ViewAckMessage;
+import org.apache.geode.internal.lang.SystemPropertyHelper;
 import org.apache.geode.internal.logging.CoreLoggingExecutors;
 import org.apache.geode.internal.logging.log4j.LogMarker;
 import org.apache.geode.internal.monitoring.ThreadsMonitoring;
@@ -217,18 +218,21 @@ public class ClusterOperationExecutors implements OperationExecutors {
 
     }
 
+    // the serial executors keep platform threads, their order matters more than their number
+    boolean virtualThreads = SystemPropertyHelper.useVirtualThreads();
+
     threadPool =
         CoreLoggingExecutors.newThreadPoolWithFeedStatistics(MAX_THREADS,
             INCOMING_QUEUE_LIMIT, stats.getOverflowQueueHelper(), "Pooled Message Processor ",
             thread -> stats.incProcessingThreadStarts(), this::doProcessingThread,
             stats.getNormalPoolHelper(),
-            threadMonitor);
+            threadMonitor, virtualThreads);
 
     highPriorityPool = CoreLoggingExecutors.newThreadPoolWithFeedStatistics(
         MAX_THREADS, INCOMING_QUEUE_LIMIT, stats.getHighPriorityQueueHelper(),
         "Pooled High Priority Message Processor ", thread -> stats.incHighPriorityThreadStarts(),
         this::doHighPriorityThread, stats.getHighPriorityPoolHelper(),
-        threadMonitor);
+        threadMonitor, virtualThreads);
 
     {
       BlockingQueue<Runnable> poolQueue;
@@ -241,7 +245,7 @@ public class ClusterOperationExecutors implements OperationExecutors {
       waitingPool = CoreLoggingExecutors.newThreadPool(MAX_WAITING_THREADS, poolQueue,
           "Pooled Waiting Message Processor ",
           thread -> stats.incWaitingThreadStarts(), this::doWaitingThread,
-          stats.getWaitingPoolHelper(), threadMonitor);
+          stats.getWaitingPoolHelper(), threadMonitor, virtualThreads);
     }
 
     // should this pool using the waiting pool stats?
@@ -259,7 +263,7 @@ public class ClusterOperationExecutors implements OperationExecutors {
               "PartitionedRegion Message Processor",
               thread -> stats.incPartitionedRegionThreadStarts(), this::doPartitionRegionThread,
               stats.getPartitionedRegionPoolHelper(),
-              threadMonitor);
+              threadMonitor, virtualThreads);
     } else {
       partitionedRegionThread = CoreLoggingExecutors.newSerialThreadPoolWithFeedStatistics(
           INCOMING_QUEUE_LIMIT, stats.getPartitionedRegionQueueHelper(),
@@ -274,7 +278,7 @@ public class ClusterOperationExecutors implements OperationExecutors {
               FUNCTION_EXECUTION_PROCESSOR_THREAD_PREFIX,
               thread -> stats.incFunctionExecutionThreadStarts(), this::doFunctionExecutionThread,
               stats.getFunctionExecutionPoolHelper(),
-              threadMonitor);
+              threadMonitor, virtualThreads);
     } else {
       functionExecutionThread =
           CoreLoggingExecutors.newSerialThreadPoolWithFeedStatistics(
@@ -93,6 +93,33 @@ public class HeapDataOutputStream extends
     super(bytes);
   }
 
+  /**
+   * Resets this stream so that it can be written again, by a writer of the given version, into the
+   * buffer it already has.
+   */
+  public void reset(KnownVersion version) {
+    reset();
+    this.version = version;
+  }
+
+  /**
+   * Returns the capacity of the buffer this stream is currently writing to.
+   */
+  int capacity() {
+    return buffer.capacity();
+  }
+
+  /**
+   * Gets a copy of the contents of this stream as a byte[]. Unlike {@link #toByteArray()}, the
+   * result never shares memory with this stream, so the stream can be reset and written again.
+   */
+  public byte[] toByteArrayCopy() {
+    ByteBuffer bb = toByteBuffer().duplicate();
+    byte[] result = new byte[bb.remaining()];
+    bb.get(result);
+    return result;
+  }
+
   /**
    * Free up any unused memory
    */
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal;
+
+import java.lang.ref.SoftReference;
+
+import org.apache.geode.internal.serialization.KnownVersion;
+
+/**
+ * Provides a simple thread local cache of a single {@link HeapDataOutputStream}, so that a thread
+ * that serializes many objects into byte arrays keeps writing into the same buffer instead of
+ * allocating a new stream and buffer for each one.
+ *
+ * @since Geode 1.15
+ */
+public class ThreadLocalHeapDataOutputStreamCache {
+  private final ThreadLocal<CachedStream> cache = ThreadLocal.withInitial(CachedStream::new);
+  private final int maximumCapacity;
+
+  /**
+   * @param maximumCapacity streams whose buffer has grown larger than this will not be cached
+   */
+  public ThreadLocalHeapDataOutputStreamCache(int maximumCapacity) {
+    this.maximumCapacity = maximumCapacity;
+  }
+
+  /**
+   * Returns an empty stream for the given version, owned by this thread until it is passed to
+   * {@link #release}. A thread that acquires a stream while it still holds the cached one, for
+   * example when serializing an object serializes another one into a blob, gets a new stream
+   * that is not cached.
+   *
+   * @param version the version of the member the stream is written for, or null for the current
+   *        version
+   */
+  public HeapDataOutputStream acquire(KnownVersion version) {
+    CachedStream cachedStream = cache.get();
+    HeapDataOutputStream stream = cachedStream.get();
+    if (stream == null) {
+      return new HeapDataOutputStream(version);
+    }
+    cachedStream.inUse = true;
+    stream.reset(version);
+    return stream;
+  }
+
+  /**
+   * Gives a stream returned by {@link #acquire} back to this cache. The stream must not be used
+   * after this.
+   */
+  public void release(HeapDataOutputStream stream) {
+    CachedStream cachedStream = cache.get();
+    if (cachedStream.inUse && cachedStream.stream.get() == stream) {
+      cachedStream.inUse = false;
+      if (stream.capacity() > maximumCapacity) {
+        cachedStream.stream = new SoftReference<>(null);
+      }
+    } else if (!cachedStream.inUse && cachedStream.stream.get() == null
+        && stream.capacity() <= maximumCapacity) {
+      cachedStream.stream = new SoftReference<>(stream);
+    }
+  }
+
+  /**
+   * Gets the contents of a stream returned by {@link #acquire} as a byte[] that the caller owns,
+   * and gives the stream back to this cache like {@link #release}. The contents are copied out of a
+   * stream that stays cached. A stream whose contents outgrew the maximum capacity is not cached,
+   * and its contents were already copied into an array of their own when its chunks were
+   * consolidated, so that array is returned without copying it again.
+   */
+  public byte[] toByteArrayAndRelease(HeapDataOutputStream stream) {
+    // consolidates the chunks, if any, into a buffer of exactly the size of the contents
+    stream.toByteBuffer();
+    if (stream.capacity() <= maximumCapacity) {
+      byte[] result = stream.toByteArrayCopy();
+      release(stream);
+      return result;
+    }
+    byte[] result = stream.toByteArray();
+    CachedStream cachedStream = cache.get();
+    if (cachedStream.inUse && cachedStream.stream.get() == stream) {
+      cachedStream.inUse = false;
+      cachedStream.stream = new SoftReference<>(null);
+    }
+    return result;
+  }
+
+  private static class CachedStream {
+    private SoftReference<HeapDataOutputStream> stream = new SoftReference<>(null);
+    private boolean inUse;
+
+    /**
+     * Returns the cached stream, or null if it is in use or has been collected.
+     */
+    HeapDataOutputStream get() {
+      return inUse ? null : stream.get();
+    }
+  }
+}
@@ -1127,6 +1127,11 @@ public abstract class AbstractDiskRegion implements DiskRegionView {
     entries.incRecentlyUsed();
   }
 
+  @Override
+  public void recordAccess(RegionEntry regionEntry) {
+    entries.recordAccess(regionEntry);
+  }
+
   @Override
   public StatisticsFactory getStatisticsFactory() {
     return ds.getStatisticsFactory();
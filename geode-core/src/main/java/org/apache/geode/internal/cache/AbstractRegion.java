@@ -1884,6 +1884,11 @@ public abstract class AbstractRegion implements InternalRegion, AttributesMutato
     // nothing
   }
 
+  @Override
+  public void recordAccess(RegionEntry regionEntry) {
+    // nothing
+  }
+
   /**
    * Only subclasses of {@code AbstractRegion} should use this supplier to acquire the
    * {@code StatisticsClock}.
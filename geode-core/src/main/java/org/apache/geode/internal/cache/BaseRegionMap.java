@@ -37,6 +37,11 @@ abstract class BaseRegionMap implements RegionMap {
     // nothing
   }
 
+  @Override
+  public void recordAccess(RegionEntry regionEntry) {
+    // nothing
+  }
+
   @Override
   public long getEvictions() {
     return 0;
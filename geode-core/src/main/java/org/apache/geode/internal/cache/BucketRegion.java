@@ -98,6 +98,7 @@ import org.apache.geode.internal.offheap.annotations.Unretained;
 import org.apache.geode.internal.serialization.KnownVersion;
 import org.apache.geode.internal.statistics.StatisticsClock;
 import org.apache.geode.logging.internal.log4j.api.LogService;
+import org.apache.geode.pdx.internal.PdxDelta;
 import org.apache.geode.util.internal.GeodeGlossary;
 
 
@@ -1877,11 +1878,16 @@ public class BucketRegion extends DistributedRegion implements Bucket {
       }
       Object instance = cd.getValue();
 
-      if (instance instanceof org.apache.geode.Delta
+      boolean pdxDelta = PdxDelta.hasDelta(instance);
+      if (pdxDelta || instance instanceof org.apache.geode.Delta
           && ((org.apache.geode.Delta) instance).hasDelta()) {
         try (HeapDataOutputStream hdos = new HeapDataOutputStream(KnownVersion.CURRENT)) {
           long start = DistributionStats.getStatTime();
-          ((org.apache.geode.Delta) instance).toDelta(hdos);
+          if (pdxDelta) {
+            PdxDelta.toDelta(instance, hdos);
+          } else {
+            ((org.apache.geode.Delta) instance).toDelta(hdos);
+          }
           event.setDeltaBytes(hdos.toByteArray());
           partitionedRegion.getCachePerfStats().endDeltaPrepared(start);
         } catch (RuntimeException re) {
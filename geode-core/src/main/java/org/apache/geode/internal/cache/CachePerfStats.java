@@ -114,6 +114,8 @@ public class CachePerfStats {
   static final int evictorQueueSizeId;
 
   static final int evictWorkTimeId;
+  static final int evictionCyclesId;
+  static final int evictionCycleBytesEvictedId;
 
   static final int indexUpdateInProgressId;
   static final int indexUpdateCompletedId;
@@ -486,6 +488,10 @@ public class CachePerfStats {
                 "Number of jobs waiting to be picked up by evictor threads", "jobs"),
             f.createLongCounter("evictWorkTime",
                 "Total time spent doing eviction work in background threads", "nanoseconds", false),
+            f.createLongCounter("evictionCycles",
+                "Number of planned eviction cycles run by the heap evictor", "operations"),
+            f.createLongCounter("evictionCycleBytesEvicted",
+                "Total number of bytes evicted by planned eviction cycles", "bytes"),
             f.createLongCounter("metaDataRefreshCount", metaDataRefreshCountDesc,
                 "refreshes", false),
             f.createLongCounter("deltaUpdates", deltaUpdatesDesc, "operations"),
@@ -621,6 +627,8 @@ public class CachePerfStats {
     evictorJobsCompletedId = type.nameToId("evictorJobsCompleted");
     evictorQueueSizeId = type.nameToId("evictorQueueSize");
     evictWorkTimeId = type.nameToId("evictWorkTime");
+    evictionCyclesId = type.nameToId("evictionCycles");
+    evictionCycleBytesEvictedId = type.nameToId("evictionCycleBytesEvicted");
 
     metaDataRefreshCountId = type.nameToId("metaDataRefreshCount");
 
@@ -1384,6 +1392,22 @@ public class CachePerfStats {
     stats.incLong(evictWorkTimeId, delta);
   }
 
+  /**
+   * Records a planned eviction cycle and the number of bytes it evicted.
+   */
+  public void endEvictionCycle(long bytesEvicted) {
+    stats.incLong(evictionCyclesId, 1);
+    stats.incLong(evictionCycleBytesEvictedId, bytesEvicted);
+  }
+
+  long getEvictionCycles() {
+    return stats.getLong(evictionCyclesId);
+  }
+
+  long getEvictionCycleBytesEvicted() {
+    return stats.getLong(evictionCycleBytesEvictedId);
+  }
+
   /**
    * Returns a helper object so that the event pool can record its stats to the proper cache perf
    * stats.
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+import org.apache.geode.annotations.VisibleForTesting;
+
+/**
+ * Limits the rate at which oplog compaction copies bytes forward so that compaction of a disk store
+ * never uses more than its share of the disk bandwidth that foreground writes need. One limiter is
+ * shared by every thread compacting the same disk store.
+ *
+ * <p>
+ * Each copy reserves the time it takes to transfer its bytes at the configured rate and waits
+ * until the previous reservations have elapsed, so the long term rate never exceeds the budget
+ * while a single large value is never refused.
+ *
+ * <p>
+ * The compactor holds locks that closing or clearing a region waits for, so the wait stops as soon
+ * as the caller says someone is waiting for those locks. The bytes copied then still count against
+ * the budget, and the compactor pays for them once nobody is waiting.
+ *
+ * @since Geode 1.15
+ */
+class CompactionRateLimiter {
+
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  /** The longest the limiter sleeps before it checks again whether it should stop waiting */
+  private static final long MAX_SLEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private final long bytesPerSecond;
+
+  private final LongSupplier clock;
+
+  /** The time at which the next copy may start. Guarded by this. */
+  private long nextFreeNanos;
+
+  CompactionRateLimiter(long bytesPerSecond) {
+    this(bytesPerSecond, System::nanoTime);
+  }
+
+  @VisibleForTesting
+  CompactionRateLimiter(long bytesPerSecond, LongSupplier clock) {
+    this.bytesPerSecond = bytesPerSecond;
+    this.clock = clock;
+    nextFreeNanos = clock.getAsLong();
+  }
+
+  /**
+   * Waits until the given number of bytes may be copied.
+   *
+   * @return the number of nanoseconds spent waiting
+   */
+  long acquire(long bytes) {
+    return acquire(bytes, () -> false);
+  }
+
+  /**
+   * Waits until the given number of bytes may be copied, or until the given condition is true.
+   *
+   * @param stopWaiting checked before each sleep; true if the caller must not wait any longer
+   * @return the number of nanoseconds spent waiting
+   */
+  long acquire(long bytes, BooleanSupplier stopWaiting) {
+    long waitNanos = reserve(bytes);
+    long waited = 0;
+    while (waited < waitNanos && !stopWaiting.getAsBoolean()) {
+      long sleepNanos = Math.min(waitNanos - waited, MAX_SLEEP_NANOS);
+      try {
+        TimeUnit.NANOSECONDS.sleep(sleepNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      waited += sleepNanos;
+    }
+    return waited;
+  }
+
+  /**
+   * Reserves the time needed to copy the given number of bytes.
+   *
+   * @return how long the caller has to wait before it may copy them
+   */
+  @VisibleForTesting
+  synchronized long reserve(long bytes) {
+    long now = clock.getAsLong();
+    long start = Math.max(nextFreeNanos, now);
+    nextFreeNanos = start + costNanos(bytes);
+    return start - now;
+  }
+
+  private long costNanos(long bytes) {
+    if (bytes <= 0) {
+      return 0;
+    }
+    // avoid overflow for very large copies
+    if (bytes > Long.MAX_VALUE / NANOS_PER_SECOND) {
+      return (bytes / bytesPerSecond) * NANOS_PER_SECOND;
+    }
+    return bytes * NANOS_PER_SECOND / bytesPerSecond;
+  }
+}
@@ -46,10 +46,12 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
@@ -61,6 +63,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.util.function.BooleanSupplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -113,6 +116,8 @@ import org.apache.geode.internal.cache.versions.RegionVersionVector;
 import org.apache.geode.internal.cache.versions.VersionSource;
 import org.apache.geode.internal.cache.versions.VersionStamp;
 import org.apache.geode.internal.cache.versions.VersionTag;
+import org.apache.geode.internal.offheap.OffHeapLongHashSet;
+import org.apache.geode.internal.offheap.Releasable;
 import org.apache.geode.internal.serialization.KnownVersion;
 import org.apache.geode.internal.util.BlobHelper;
 import org.apache.geode.logging.internal.executors.LoggingExecutors;
@@ -197,6 +202,88 @@ public class DiskStoreImpl implements DiskStore {
   final boolean RECOVER_LRU_VALUES =
       getBoolean(DiskStoreImpl.RECOVER_LRU_VALUES_PROPERTY_NAME, false);
 
+  /**
+   * Enables group commit of synchronous oplog writes. Instead of every synchronous writer flushing
+   * (and, with syncWrites, forcing) the oplog while holding the oplog lock, concurrent writers
+   * append their records and share a single flush per batch.
+   */
+  public static final String GROUP_COMMIT_PROPERTY_NAME =
+      GeodeGlossary.GEMFIRE_PREFIX + "disk.groupCommit";
+
+  /**
+   * How long, in microseconds, the group commit leader waits for other writers to join its batch
+   * before flushing. Zero (the default) flushes immediately; writers that arrive while a flush is
+   * in progress still join the next batch.
+   */
+  public static final String GROUP_COMMIT_WINDOW_PROPERTY_NAME =
+      GeodeGlossary.GEMFIRE_PREFIX + "disk.groupCommitWindowMicros";
+
+  /**
+   * The number of threads used to read oplog files ahead of recovery. Zero (the default) disables
+   * read ahead so that recovery reads each file itself.
+   */
+  public static final String RECOVERY_READ_AHEAD_THREADS_PROPERTY_NAME =
+      GeodeGlossary.GEMFIRE_PREFIX + "disk.recoveryReadAheadThreads";
+
+  /**
+   * The maximum number of oplog files read ahead of the file recovery is processing. Defaults to
+   * twice the number of read ahead threads.
+   */
+  public static final String RECOVERY_READ_AHEAD_DEPTH_PROPERTY_NAME =
+      GeodeGlossary.GEMFIRE_PREFIX + "disk.recoveryReadAheadDepth";
+
+  /**
+   * The number of threads that apply the entries recovered from krfs to their regions, each of
+   * them applying the entries of a share of the regions and buckets. Zero (the default) applies
+   * them on the recovery thread.
+   */
+  public static final String RECOVERY_APPLY_THREADS_PROPERTY_NAME =
+      GeodeGlossary.GEMFIRE_PREFIX + "disk.recoveryApplyThreads";
+
+  /**
+   * The number of bytes per second that compaction may copy forward. Shared by every oplog being
+   * compacted in the disk store. Zero (the default) does not limit compaction.
+   */
+  public static final String COMPACTION_BYTES_PER_SECOND_PROPERTY_NAME =
+      GeodeGlossary.GEMFIRE_PREFIX + "disk.compactionBytesPerSecond";
+
+  /**
+   * The number of threads a single compaction uses to compact its oplogs in parallel. Only matters
+   * when a compaction has more than one oplog, as with a forced compaction or when
+   * MAX_OPLOGS_PER_COMPACTION is greater than one. Defaults to 1, which compacts them one at a time.
+   */
+  public static final String COMPACTION_THREADS_PROPERTY_NAME =
+      GeodeGlossary.GEMFIRE_PREFIX + "disk.compactionThreads";
+
+  /**
+   * Keeps the ids of the entries destroyed in the disk store off-heap while it is recovered. This
+   * set holds an id for every destroy record in the drfs so with a very large number of destroys
+   * it can need more heap than the recovered regions themselves. Only this temporary set is moved
+   * off-heap; the keys and {@link DiskId}s of the recovered entries stay on the heap in their
+   * region entries.
+   */
+  public static final String OFF_HEAP_RECOVERY_INDEX_PROPERTY_NAME =
+      GeodeGlossary.GEMFIRE_PREFIX + "disk.offHeapRecoveryIndex";
+
+  final boolean GROUP_COMMIT = getBoolean(GROUP_COMMIT_PROPERTY_NAME, false);
+
+  final boolean OFF_HEAP_RECOVERY_INDEX = getBoolean(OFF_HEAP_RECOVERY_INDEX_PROPERTY_NAME, false);
+
+  final long COMPACTION_BYTES_PER_SECOND =
+      Long.getLong(COMPACTION_BYTES_PER_SECOND_PROPERTY_NAME, 0L);
+
+  final int COMPACTION_THREADS = Integer.getInteger(COMPACTION_THREADS_PROPERTY_NAME, 1);
+
+  final int RECOVERY_READ_AHEAD_THREADS =
+      Integer.getInteger(RECOVERY_READ_AHEAD_THREADS_PROPERTY_NAME, 0);
+
+  final int RECOVERY_READ_AHEAD_DEPTH =
+      Integer.getInteger(RECOVERY_READ_AHEAD_DEPTH_PROPERTY_NAME, 2 * RECOVERY_READ_AHEAD_THREADS);
+
+  final int RECOVERY_APPLY_THREADS = Integer.getInteger(RECOVERY_APPLY_THREADS_PROPERTY_NAME, 0);
+
+  final long GROUP_COMMIT_WINDOW_MICROS = Long.getLong(GROUP_COMMIT_WINDOW_PROPERTY_NAME, 0L);
+
   public static boolean getBoolean(String sysProp, boolean def) {
     return Boolean.parseBoolean(System.getProperty(sysProp, Boolean.valueOf(def).toString()));
   }
@@ -365,6 +452,12 @@ public class DiskStoreImpl implements DiskStore {
 
   private final ExecutorService diskStoreTaskPool;
 
+  /** Compacts the oplogs of a single compaction in parallel; null if compactionThreads is 1 */
+  private final ExecutorService compactionWorkerPool;
+
+  /** Limits the rate compaction copies bytes forward; null if not limited */
+  private final CompactionRateLimiter compactionRateLimiter;
+
   private final ExecutorService delayedWritePool;
 
   private volatile Future<?> lastDelayedWrite;
@@ -504,6 +597,12 @@ public class DiskStoreImpl implements DiskStore {
 
     diskStoreTaskPool = LoggingExecutors.newFixedThreadPoolWithFeedSize(
         MAX_CONCURRENT_COMPACTIONS, Integer.MAX_VALUE, "Idle OplogCompactor");
+    compactionWorkerPool = COMPACTION_THREADS > 1
+        ? LoggingExecutors.newFixedThreadPool(COMPACTION_THREADS, "Oplog Compaction Worker", true)
+        : null;
+    compactionRateLimiter = COMPACTION_BYTES_PER_SECOND > 0
+        ? new CompactionRateLimiter(COMPACTION_BYTES_PER_SECOND)
+        : null;
     delayedWritePool =
         LoggingExecutors.newFixedThreadPoolWithFeedSize(1, MAX_PENDING_TASKS, "Oplog Delete Task");
   }
@@ -576,6 +675,49 @@ public class DiskStoreImpl implements DiskStore {
         && Arrays.equals(getDiskDirSizes(), props.getDiskDirSizes());
   }
 
+  int getRecoveryReadAheadThreads() {
+    return RECOVERY_READ_AHEAD_THREADS;
+  }
+
+  int getRecoveryReadAheadDepth() {
+    return RECOVERY_READ_AHEAD_DEPTH;
+  }
+
+  int getRecoveryApplyThreads() {
+    return RECOVERY_APPLY_THREADS;
+  }
+
+  boolean isOffHeapRecoveryIndexEnabled() {
+    return OFF_HEAP_RECOVERY_INDEX;
+  }
+
+  boolean isGroupCommitEnabled() {
+    return GROUP_COMMIT;
+  }
+
+  long getGroupCommitWindowNanos() {
+    return TimeUnit.MICROSECONDS.toNanos(GROUP_COMMIT_WINDOW_MICROS);
+  }
+
+  /**
+   * Called by compaction after it has copied a value forward. Records the bytes copied and waits,
+   * if compaction is rate limited, until the disk store's compaction budget allows more. The
+   * compactor holds the compactor read lock, so it does not wait while a thread is waiting for the
+   * write lock, or while the given condition is true.
+   *
+   * @param lockWanted true if a thread is waiting for another lock the compactor holds
+   */
+  void compactedBytes(long bytes, BooleanSupplier lockWanted) {
+    stats.incCompactedBytes(bytes);
+    if (compactionRateLimiter != null) {
+      long throttled = compactionRateLimiter.acquire(bytes,
+          () -> compactorLock.hasQueuedThreads() || lockWanted.getAsBoolean());
+      if (throttled > 0) {
+        stats.incCompactThrottleTime(throttled);
+      }
+    }
+  }
+
   /**
    * Returns the {@code DiskStoreStats} for this store
    */
@@ -2341,6 +2483,9 @@ public class DiskStoreImpl implements DiskStore {
       }
 
       diskStoreTaskPool.shutdown();
+      if (compactionWorkerPool != null) {
+        compactionWorkerPool.shutdown();
+      }
       delayedWritePool.shutdown();
 
       final int secToWait = 60;
@@ -2873,10 +3018,13 @@ public class DiskStoreImpl implements DiskStore {
       long compactionStart = getStats().startCompaction();
       long start = System.nanoTime();
       try {
-        for (int i = 0; i < oplogs.length && keepCompactorRunning(); i++) {
-          totalCount += oplogs[i].compact(this);
+        if (compactionWorkerPool != null && oplogs.length > 1) {
+          totalCount = compactInParallel(oplogs);
+        } else {
+          for (int i = 0; i < oplogs.length && keepCompactorRunning(); i++) {
+            totalCount += oplogs[i].compact(this);
+          }
         }
-
       } finally {
         getStats().endCompaction(compactionStart);
       }
@@ -2886,6 +3034,50 @@ public class DiskStoreImpl implements DiskStore {
       return true;
     }
 
+    /**
+     * Compacts each oplog on its own compaction worker. The oplogs hold disjoint sets of live
+     * entries and all copy forward into the child oplog under its lock, so they can be compacted
+     * concurrently. Waits for every oplog and then rethrows the first failure, if any.
+     */
+    private int compactInParallel(CompactableOplog[] oplogs) {
+      List<Future<Integer>> results = new ArrayList<>(oplogs.length);
+      for (CompactableOplog oplog : oplogs) {
+        results.add(compactionWorkerPool
+            .submit(() -> keepCompactorRunning() ? oplog.compact(this) : 0));
+      }
+      int totalCount = 0;
+      Throwable failure = null;
+      boolean interrupted = false;
+      for (Future<Integer> result : results) {
+        while (true) {
+          try {
+            totalCount += result.get();
+            break;
+          } catch (InterruptedException e) {
+            // the workers are still writing to the oplogs so we must wait for them
+            interrupted = true;
+          } catch (ExecutionException e) {
+            if (failure == null) {
+              failure = e.getCause();
+            }
+            break;
+          } catch (CancellationException e) {
+            break;
+          }
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+      if (failure instanceof RuntimeException) {
+        throw (RuntimeException) failure;
+      }
+      if (failure instanceof Error) {
+        throw (Error) failure;
+      }
+      return totalCount;
+    }
+
     private boolean isClosing() {
       if (getCache().isClosed()) {
         return true;
@@ -3490,12 +3682,16 @@ public class DiskStoreImpl implements DiskStore {
    * By default we can't have more than 805306401 ids for a load factor of 0.75, the internal lists
    * are used to overcome this limit, allowing the disk-store to recover successfully (the internal
    * class is **only** used during recovery to read all deleted entries).
+   * When created with offHeap the ids are kept in {@link OffHeapLongHashSet}s instead so that
+   * recovering a disk store with a very large number of deleted entries does not need the heap to
+   * hold them; {@link #release()} must then be called once recovery is done with the set.
    */
-  static class OplogEntryIdSet {
+  static class OplogEntryIdSet implements Releasable {
     private final List<IntOpenHashSet> allInts;
     private final List<LongOpenHashSet> allLongs;
     private final AtomicReference<IntOpenHashSet> currentInts;
     private final AtomicReference<LongOpenHashSet> currentLongs;
+    private final List<OffHeapLongHashSet> allOffHeap;
 
     // For testing purposes only.
     @VisibleForTesting
@@ -3505,9 +3701,24 @@ public class DiskStoreImpl implements DiskStore {
 
       this.allLongs = allLongs;
       currentLongs = new AtomicReference<>(this.allLongs.get(0));
+      allOffHeap = null;
     }
 
     public OplogEntryIdSet() {
+      this(false);
+    }
+
+    OplogEntryIdSet(boolean offHeap) {
+      if (offHeap) {
+        allInts = null;
+        currentInts = null;
+        allLongs = null;
+        currentLongs = null;
+        allOffHeap = new ArrayList<>();
+        allOffHeap.add(new OffHeapLongHashSet());
+        return;
+      }
+      allOffHeap = null;
       IntOpenHashSet intHashSet = new IntOpenHashSet((int) INVALID_ID);
       allInts = new ArrayList<>();
       allInts.add(intHashSet);
@@ -3523,6 +3734,10 @@ public class DiskStoreImpl implements DiskStore {
       if (id == 0) {
         throw new IllegalArgumentException();
       }
+      if (allOffHeap != null) {
+        addOffHeap(id);
+        return;
+      }
 
       try {
         if (id > 0 && id <= 0x00000000FFFFFFFFL) {
@@ -3553,7 +3768,23 @@ public class DiskStoreImpl implements DiskStore {
       }
     }
 
+    private void addOffHeap(long id) {
+      OffHeapLongHashSet current = allOffHeap.get(allOffHeap.size() - 1);
+      try {
+        current.add(id);
+      } catch (IllegalArgumentException illegalArgumentException) {
+        logger.warn(
+            "There is a large number of deleted entries within the disk-store, please execute an offline compaction.");
+        OffHeapLongHashSet overflownHashSet = new OffHeapLongHashSet();
+        allOffHeap.add(overflownHashSet);
+        overflownHashSet.add(id);
+      }
+    }
+
     public boolean contains(long id) {
+      if (allOffHeap != null) {
+        return allOffHeap.stream().anyMatch(ids -> ids.contains(id));
+      }
       if (id >= 0 && id <= 0x00000000FFFFFFFFL) {
         return allInts.stream().anyMatch(ints -> ints.contains((int) id));
       } else {
@@ -3562,9 +3793,23 @@ public class DiskStoreImpl implements DiskStore {
     }
 
     public long size() {
+      if (allOffHeap != null) {
+        return allOffHeap.stream().mapToLong(OffHeapLongHashSet::size).sum();
+      }
       return allInts.stream().mapToInt(IntOpenHashSet::size).sum()
           + allLongs.stream().mapToInt(LongOpenHashSet::size).sum();
     }
+
+    /**
+     * Frees the off-heap memory of this set, if it has any.
+     */
+    @Override
+    public void release() {
+      if (allOffHeap != null) {
+        allOffHeap.forEach(OffHeapLongHashSet::release);
+        allOffHeap.clear();
+      }
+    }
   }
 
   /**
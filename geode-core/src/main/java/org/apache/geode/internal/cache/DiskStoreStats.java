@@ -86,6 +86,16 @@ public class DiskStoreStats {
   private static final int backupsInProgress;
   private static final int backupsCompleted;
 
+  private static final int groupCommitsId;
+  private static final int groupCommitWritesId;
+  private static final int groupCommitTimeId;
+
+  private static final int oplogsPendingRecoveryId;
+  private static final int recoveryReadAheadBytesId;
+
+  private static final int compactedBytesId;
+  private static final int compactThrottleTimeId;
+
   static {
     String statName = "DiskStoreStatistics";
     String statDescription = "Statistics about a Region's use of the disk";
@@ -194,7 +204,27 @@ public class DiskStoreStats {
                 "The current number of regions that have been recovered but have not yet been created.",
                 "regions"),
             f.createIntGauge("backupsInProgress", backupsInProgressDesc, "backups"),
-            f.createIntCounter("backupsCompleted", backupsCompletedDesc, "backups"),});
+            f.createIntCounter("backupsCompleted", backupsCompletedDesc, "backups"),
+            f.createLongCounter("groupCommits",
+                "Total number of group commits that flushed synchronous oplog writes", "commits"),
+            f.createLongCounter("groupCommitWrites",
+                "Total number of synchronous oplog writes made durable by group commits. Divide by groupCommits for the average batch size.",
+                "ops"),
+            f.createLongCounter("groupCommitTime",
+                "Total amount of time, in nanoseconds, spent flushing and forcing oplogs for group commits",
+                "nanoseconds"),
+            f.createIntGauge("oplogsPendingRecovery",
+                "The current number of oplogs that the recovery in progress still has to read.",
+                "oplogs"),
+            f.createLongCounter("recoveryReadAheadBytes",
+                "The total number of bytes of oplog files read ahead of recovery by the recovery read ahead threads.",
+                "bytes"),
+            f.createLongCounter("compactedBytes",
+                "Total number of value bytes copied forward by oplog compaction. Divide by compactTime for the compaction throughput.",
+                "bytes"),
+            f.createLongCounter("compactThrottleTime",
+                "Total amount of time, in nanoseconds, compaction stalled its writes to stay within the disk store's compaction bytes per second budget.",
+                "nanoseconds"),});
 
     // Initialize id fields
     writesId = type.nameToId("writes");
@@ -242,6 +272,13 @@ public class DiskStoreStats {
     uncreatedRecoveredRegionsId = type.nameToId("uncreatedRecoveredRegions");
     backupsInProgress = type.nameToId("backupsInProgress");
     backupsCompleted = type.nameToId("backupsCompleted");
+    groupCommitsId = type.nameToId("groupCommits");
+    groupCommitWritesId = type.nameToId("groupCommitWrites");
+    groupCommitTimeId = type.nameToId("groupCommitTime");
+    oplogsPendingRecoveryId = type.nameToId("oplogsPendingRecovery");
+    recoveryReadAheadBytesId = type.nameToId("recoveryReadAheadBytes");
+    compactedBytesId = type.nameToId("compactedBytes");
+    compactThrottleTimeId = type.nameToId("compactThrottleTime");
   }
 
   ////////////////////// Instance Fields //////////////////////
@@ -468,6 +505,26 @@ public class DiskStoreStats {
     stats.incLong(oplogRecoveredBytesId, bytesRead);
   }
 
+  public void setOplogsPendingRecovery(int value) {
+    stats.setInt(oplogsPendingRecoveryId, value);
+  }
+
+  public void incOplogsPendingRecovery(int delta) {
+    stats.incInt(oplogsPendingRecoveryId, delta);
+  }
+
+  public int getOplogsPendingRecovery() {
+    return stats.getInt(oplogsPendingRecoveryId);
+  }
+
+  public void incRecoveryReadAheadBytes(long bytes) {
+    stats.incLong(recoveryReadAheadBytesId, bytes);
+  }
+
+  public long getRecoveryReadAheadBytes() {
+    return stats.getLong(recoveryReadAheadBytesId);
+  }
+
   public void incRecoveredEntryCreates() {
     stats.incLong(recoveredEntryCreatesId, 1);
   }
@@ -542,6 +599,22 @@ public class DiskStoreStats {
     stats.incLong(compactUpdateTimeId, getStatTime() - start);
   }
 
+  public void incCompactedBytes(long bytes) {
+    stats.incLong(compactedBytesId, bytes);
+  }
+
+  public long getCompactedBytes() {
+    return stats.getLong(compactedBytesId);
+  }
+
+  public void incCompactThrottleTime(long nanos) {
+    stats.incLong(compactThrottleTimeId, nanos);
+  }
+
+  public long getCompactThrottleTime() {
+    return stats.getLong(compactThrottleTimeId);
+  }
+
   public long getStatTime() {
     return getTime();
   }
@@ -563,6 +636,39 @@ public class DiskStoreStats {
     stats.incInt(backupsCompleted, 1);
   }
 
+  /**
+   * Invoked before a group commit flushes and forces an oplog.
+   *
+   * @return The timestamp that marks the start of the operation
+   */
+  public long startGroupCommit() {
+    return getTime();
+  }
+
+  /**
+   * Invoked after a group commit has completed
+   *
+   * @param start The time at which the group commit started
+   * @param writes The number of synchronous writes made durable by the commit
+   */
+  public void endGroupCommit(long start, long writes) {
+    stats.incLong(groupCommitsId, 1);
+    stats.incLong(groupCommitWritesId, writes);
+    stats.incLong(groupCommitTimeId, getTime() - start);
+  }
+
+  public long getGroupCommits() {
+    return stats.getLong(groupCommitsId);
+  }
+
+  public long getGroupCommitWrites() {
+    return stats.getLong(groupCommitWritesId);
+  }
+
+  public long getGroupCommitTime() {
+    return stats.getLong(groupCommitTimeId);
+  }
+
   public Statistics getStats() {
     return stats;
   }
@@ -84,6 +84,9 @@ import org.apache.geode.internal.size.Sizeable;
 import org.apache.geode.internal.util.ArrayUtils;
 import org.apache.geode.internal.util.BlobHelper;
 import org.apache.geode.logging.internal.log4j.api.LogService;
+import org.apache.geode.pdx.internal.PdxDelta;
+import org.apache.geode.pdx.internal.PdxInstanceImpl;
+import org.apache.geode.pdx.internal.PdxWriterImpl;
 import org.apache.geode.pdx.internal.PeerTypeRegistration;
 import org.apache.geode.util.internal.GeodeGlossary;
 
@@ -1809,12 +1812,19 @@ public class EntryEventImpl implements InternalEntryEvent, InternalCacheEvent,
     newValueBucketSize = lr.calculateValueSize(v);
   }
 
-  private void processDeltaBytes(Object oldValueInVM) {
+  @VisibleForTesting
+  void processDeltaBytes(Object oldValueInVM) {
     if (!getRegion().hasSeenEvent(this)) {
       if (oldValueInVM == null || Token.isInvalidOrRemoved(oldValueInVM)) {
         getRegion().getCachePerfStats().incDeltaFailedUpdates();
         throw new InvalidDeltaException("Old value not found for key " + keyInfo.getKey());
       }
+      byte[] oldPdxBytes = getSerializedPdx(oldValueInVM);
+      if (oldPdxBytes != null
+          && PdxDelta.appliesTo(oldPdxBytes, getRegion().getCache().getPdxRegistry())) {
+        processPdxDeltaBytes(oldPdxBytes);
+        return;
+      }
       FilterProfile fp = getRegion().getFilterProfile();
       // If compression is enabled then we've already gotten a new copy due to the
       // serializaion and deserialization that occurs.
@@ -1834,6 +1844,11 @@ public class EntryEventImpl implements InternalEntryEvent, InternalCacheEvent,
           value = CopyHelper.copy(value);
         }
       }
+      if (!(value instanceof Delta)) {
+        getRegion().getCachePerfStats().incDeltaFailedUpdates();
+        throw new InvalidDeltaException(
+            "Old value for key " + keyInfo.getKey() + " is neither a Delta nor a pdx");
+      }
       boolean deltaBytesApplied = false;
       try (ByteArrayDataInput in = new ByteArrayDataInput(getDeltaBytes())) {
         long start = getRegion().getCachePerfStats().getTime();
@@ -1880,6 +1895,60 @@ public class EntryEventImpl implements InternalEntryEvent, InternalCacheEvent,
     }
   }
 
+  /**
+   * Returns the serialized bytes of the given old value if it is held as a serialized pdx, or null.
+   * The old value is not deserialized.
+   */
+  private static byte[] getSerializedPdx(Object oldValueInVM) {
+    if (!PdxDelta.ENABLED) {
+      return null;
+    }
+    if (oldValueInVM instanceof StoredObject) {
+      StoredObject storedObject = (StoredObject) oldValueInVM;
+      return storedObject.isSerializedPdxInstance() ? storedObject.getSerializedValue() : null;
+    }
+    if (!(oldValueInVM instanceof CachedDeserializable)
+        || !((CachedDeserializable) oldValueInVM).isSerialized()) {
+      return null;
+    }
+    Object value = ((CachedDeserializable) oldValueInVM).getValue();
+    if (value instanceof byte[] && PdxWriterImpl.isPdx((byte[]) value)) {
+      return (byte[]) value;
+    }
+    if (value instanceof PdxInstanceImpl) {
+      // already deserialized by a read of the entry
+      return ((PdxInstanceImpl) value).toBytes();
+    }
+    return null;
+  }
+
+  /**
+   * Applies delta bytes written by {@link PdxDelta} to the serialized form of the old value, which
+   * is not deserialized.
+   */
+  private void processPdxDeltaBytes(byte[] oldBytes) {
+    byte[] newBytes = null;
+    try (ByteArrayDataInput in = new ByteArrayDataInput(getDeltaBytes())) {
+      long start = getRegion().getCachePerfStats().getTime();
+      newBytes = PdxDelta.applyDelta(oldBytes, in, getRegion().getCache().getPdxRegistry());
+      getRegion().getCachePerfStats().endDeltaUpdate(start);
+    } catch (IOException e) {
+      throw new DeltaSerializationException("Exception while deserializing delta bytes.", e);
+    } finally {
+      if (newBytes == null) {
+        getRegion().getCachePerfStats().incDeltaFailedUpdates();
+      }
+    }
+    if (logger.isDebugEnabled()) {
+      logger.debug("Pdx delta has been applied for key {}", getKey());
+    }
+    Object value = CachedDeserializableFactory.create(newBytes, getRegion().getCache());
+    setNewValue(value);
+    if (causedByMessage != null && causedByMessage instanceof PutMessage) {
+      ((PutMessage) causedByMessage).setDeltaValObj(value);
+    }
+  }
+
   @VisibleForTesting
   protected static boolean shouldRecalculateSize(Delta value) {
     return GemFireCacheImpl.DELTAS_RECALCULATE_SIZE
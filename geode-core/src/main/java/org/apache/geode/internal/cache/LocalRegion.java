@@ -223,6 +223,7 @@ import org.apache.geode.internal.util.concurrent.StoppableCountDownLatch;
 import org.apache.geode.logging.internal.log4j.api.LogService;
 import org.apache.geode.pdx.JSONFormatter;
 import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.internal.PdxDelta;
 import org.apache.geode.util.internal.GeodeGlossary;
 
 /**
@@ -1713,7 +1714,8 @@ public class LocalRegion extends AbstractRegion implements LoaderHelperFactory,
     // 11. Wrap any checked exception in InternalGemFireException before throwing it.
     try {
       // How costly is this if check?
-      if (getSystem().getConfig().getDeltaPropagation() && value instanceof Delta) {
+      if (getSystem().getConfig().getDeltaPropagation()
+          && (value instanceof Delta || PdxDelta.hasDelta(value))) {
         boolean extractDelta = false;
         if (!hasServerProxy()) {
           if (this instanceof PartitionedRegion) {
@@ -1742,10 +1744,16 @@ public class LocalRegion extends AbstractRegion implements LoaderHelperFactory,
           // This is a client region
           extractDelta = true;
         }
-        if (extractDelta && ((Delta) value).hasDelta()) {
+        // a value that is not a Delta is a pdx instance with fields set on it
+        boolean pdxDelta = !(value instanceof Delta);
+        if (extractDelta && (pdxDelta || ((Delta) value).hasDelta())) {
           try (HeapDataOutputStream hdos = new HeapDataOutputStream(KnownVersion.CURRENT)) {
             try {
-              ((Delta) value).toDelta(hdos);
+              if (pdxDelta) {
+                PdxDelta.toDelta(value, hdos);
+              } else {
+                ((Delta) value).toDelta(hdos);
+              }
             } catch (RuntimeException re) {
               throw re;
             } catch (Exception e) {
@@ -8273,6 +8281,11 @@ public class LocalRegion extends AbstractRegion implements LoaderHelperFactory,
     entries.incRecentlyUsed();
   }
 
+  @Override
+  public void recordAccess(RegionEntry regionEntry) {
+    entries.recordAccess(regionEntry);
+  }
+
   private static void dispatchEvent(LocalRegion region, InternalCacheEvent event,
       EnumListenerEvent operation) {
 
@@ -45,7 +45,6 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
@@ -182,6 +181,12 @@ public class Oplog implements CompactableOplog, Flushable {
   private static final boolean SYNC_WRITES =
       Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "syncWrites");
 
+  /**
+   * Shares flushes between concurrent synchronous writers. Null unless group commit is enabled on
+   * the disk store.
+   */
+  private final OplogGroupCommitter groupCommitter;
+
   /**
    * The HighWaterMark of recentValues.
    */
@@ -578,6 +583,7 @@ public class Oplog implements CompactableOplog, Flushable {
     setMaxCrfDrfSize();
     stats = getParent().getStats();
     compactOplogs = getParent().getAutoCompact();
+    groupCommitter = createGroupCommitter();
 
     closed = false;
     String n = getParent().getName();
@@ -639,6 +645,7 @@ public class Oplog implements CompactableOplog, Flushable {
     setMaxCrfDrfSize();
     stats = prevOplog.stats;
     compactOplogs = prevOplog.compactOplogs;
+    groupCommitter = createGroupCommitter();
     // copy over the previous Oplog's data version since data is not being
     // transformed at this point
     dataVersion = prevOplog.getDataVersionIfOld();
@@ -666,6 +673,14 @@ public class Oplog implements CompactableOplog, Flushable {
     }
   }
 
+  private OplogGroupCommitter createGroupCommitter() {
+    if (!getParent().isGroupCommitEnabled()) {
+      return null;
+    }
+    return new OplogGroupCommitter(new GroupCommitFlusher(), stats,
+        getParent().getGroupCommitWindowNanos());
+  }
+
   public Object getLock() {
     return lock;
   }
@@ -836,6 +851,7 @@ public class Oplog implements CompactableOplog, Flushable {
     setMaxCrfDrfSize();
     stats = getParent().getStats();
     compactOplogs = getParent().getAutoCompact();
+    groupCommitter = null;
     closed = true;
     crf.RAFClosed = true;
     deleted.set(true);
@@ -1173,6 +1189,23 @@ public class Oplog implements CompactableOplog, Flushable {
     return drf.f;
   }
 
+  /**
+   * Returns the file {@link #recoverCrf} will read to recover the entries of this oplog; the krf
+   * if there is one and values are not recovered synchronously, otherwise the crf.
+   */
+  File getRecoveryFile(boolean recoverValuesSync) {
+    if (crf.f == null) {
+      return null;
+    }
+    if (!recoverValuesSync) {
+      File krfFile = new File(getKRFFilenameFromCRFFilename(crf.f.getPath()));
+      if (krfFile.exists()) {
+        return krfFile;
+      }
+    }
+    return crf.f;
+  }
+
   /**
    * Given a set of Oplog file names return a Set of the oplog files that match those names that are
    * managed by this Oplog.
@@ -1603,8 +1636,44 @@ public class Oplog implements CompactableOplog, Flushable {
    */
   private OplogEntryIdMap skippedKeyBytes;
 
+  /**
+   * Adds an entry read from the krf to its region, unless the region already has the entry from a
+   * more recent oplog. Called by the recovery thread or, if there is one, the
+   * {@link RecoveredEntryApplier} thread of the region.
+   *
+   * @return true if the entry was added
+   */
+  private boolean initRecoveredKrfEntry(DiskRecoveryStore drs, long drId, Object key,
+      DiskEntry.RecoveredEntry re) {
+    DiskEntry de = drs.getDiskEntry(key);
+    if (de != null) {
+      DiskId curdid = de.getDiskId();
+      // assert curdid.getOplogId() != getOplogId();
+      if (logger.isTraceEnabled(LogMarker.PERSIST_RECOVERY_VERBOSE)) {
+        logger.trace(LogMarker.PERSIST_RECOVERY_VERBOSE,
+            "ignore readNewEntry because getOplogId()={} != curdid.getOplogId()={} for drId={} key={}",
+            getOplogId(), curdid.getOplogId(), drId, key);
+      }
+      return false;
+    }
+    if (logger.isTraceEnabled(LogMarker.PERSIST_RECOVERY_VERBOSE)) {
+      logger.trace(LogMarker.PERSIST_RECOVERY_VERBOSE,
+          "readNewEntry oplogKeyId=<{}> drId={} userBits={} oplogOffset={} valueLen={}",
+          re.getRecoveredKeyId(), drId, re.getUserBits(), re.getOffsetInOplog(),
+          re.getValueLength());
+    }
+    initRecoveredEntry(drs.getDiskRegionView(), drs.initializeRecoveredEntry(key, re));
+    drs.getDiskRegionView().incRecoveredEntryCount();
+    stats.incRecoveredEntryCreates();
+    return true;
+  }
+
+  /**
+   * @param applier applies the entries read to their regions, or null to apply them on this thread
+   */
   private boolean readKrf(OplogEntryIdSet deletedIds, boolean recoverValues,
-      boolean recoverValuesSync, Set<Oplog> oplogsNeedingValueRecovery, boolean latestOplog) {
+      boolean recoverValuesSync, Set<Oplog> oplogsNeedingValueRecovery, boolean latestOplog,
+      RecoveredEntryApplier applier) {
     File f = new File(diskFile.getPath() + KRF_FILE_EXT);
     if (!f.exists()) {
       return false;
@@ -1641,6 +1710,7 @@ public class Oplog implements CompactableOplog, Flushable {
       recoverModEntryIdHWM = DiskStoreImpl.INVALID_ID;
       long oplogKeyIdHWM = DiskStoreImpl.INVALID_ID;
       int krfEntryCount = 0;
+      AtomicInteger appliedKrfEntryCount = new AtomicInteger();
       DataInputStream dis = new DataInputStream(new BufferedInputStream(fis, 1024 * 1024));
       final KnownVersion version = getProductVersionIfOld();
       final ByteArrayDataInput in = new ByteArrayDataInput();
@@ -1733,36 +1803,31 @@ public class Oplog implements CompactableOplog, Flushable {
               }
             }
             if (drs != null) {
-              DiskEntry de = drs.getDiskEntry(key);
-              if (de == null) {
-                if (logger.isTraceEnabled(LogMarker.PERSIST_RECOVERY_VERBOSE)) {
-                  logger.trace(LogMarker.PERSIST_RECOVERY_VERBOSE,
-                      "readNewEntry oplogKeyId=<{}> drId={} userBits={} oplogOffset={} valueLen={}",
-                      oplogKeyId, drId, userBits, oplogOffset, valueLength);
-                }
-                DiskEntry.RecoveredEntry re =
-                    createRecoveredEntry(valueBytes, valueLength, userBits,
-                        getOplogId(), oplogOffset, oplogKeyId, false, version, in);
-                if (tag != null) {
-                  re.setVersionTag(tag);
+              DiskEntry.RecoveredEntry re =
+                  createRecoveredEntry(valueBytes, valueLength, userBits,
+                      getOplogId(), oplogOffset, oplogKeyId, false, version, in);
+              if (tag != null) {
+                re.setVersionTag(tag);
+              }
+              if (applier == null) {
+                if (initRecoveredKrfEntry(drs, drId, key, re)) {
+                  krfEntryCount++;
                 }
-                initRecoveredEntry(drs.getDiskRegionView(), drs.initializeRecoveredEntry(key, re));
-                drs.getDiskRegionView().incRecoveredEntryCount();
-                stats.incRecoveredEntryCreates();
-                krfEntryCount++;
               } else {
-                DiskId curdid = de.getDiskId();
-                // assert curdid.getOplogId() != getOplogId();
-                if (logger.isTraceEnabled(LogMarker.PERSIST_RECOVERY_VERBOSE)) {
-                  logger.trace(LogMarker.PERSIST_RECOVERY_VERBOSE,
-                      "ignore readNewEntry because getOplogId()={} != curdid.getOplogId()={} for drId={} key={}",
-                      getOplogId(), curdid.getOplogId(), drId, key);
-                }
+                applier.apply(drId, () -> {
+                  if (initRecoveredKrfEntry(drs, drId, key, re)) {
+                    appliedKrfEntryCount.incrementAndGet();
+                  }
+                });
               }
             }
           }
           keyBytes = DataSerializer.readByteArray(dis);
         } // while
+        if (applier != null) {
+          applier.awaitApplied();
+          krfEntryCount += appliedKrfEntryCount.get();
+        }
         setRecoverNewEntryId(oplogKeyIdHWM);
         long tlc = totalLiveCount.get();
         if (totalCount.get() == 0 && tlc > 0) {
@@ -2165,6 +2230,17 @@ public class Oplog implements CompactableOplog, Flushable {
    */
   long recoverCrf(OplogEntryIdSet deletedIds, boolean recoverValues, boolean recoverValuesSync,
       boolean alreadyRecoveredOnce, Set<Oplog> oplogsNeedingValueRecovery, boolean latestOplog) {
+    return recoverCrf(deletedIds, recoverValues, recoverValuesSync, alreadyRecoveredOnce,
+        oplogsNeedingValueRecovery, latestOplog, null);
+  }
+
+  /**
+   * @param applier applies the entries read from the krf to their regions, or null to apply them
+   *        on this thread
+   */
+  long recoverCrf(OplogEntryIdSet deletedIds, boolean recoverValues, boolean recoverValuesSync,
+      boolean alreadyRecoveredOnce, Set<Oplog> oplogsNeedingValueRecovery, boolean latestOplog,
+      RecoveredEntryApplier applier) {
     // crf might not exist; but drf always will
     diskFile = new File(drf.f.getParentFile(),
         oplogSet.getPrefix() + getParent().getName() + "_" + oplogId);
@@ -2190,7 +2266,7 @@ public class Oplog implements CompactableOplog, Flushable {
       // if we have a KRF then read it and delay reading the CRF.
       // Unless we are in synchronous recovery mode
       if (!readKrf(deletedIds, recoverValues, recoverValuesSync, oplogsNeedingValueRecovery,
-          latestOplog)) {
+          latestOplog, applier)) {
         logger.info("Recovering {} {} for disk store {}.",
             new Object[] {toString(), crfFile.getAbsolutePath(), getParent().getName()});
         byteCount = readCrf(deletedIds, recoverValues, latestOplog);
@@ -3456,6 +3532,7 @@ public class Oplog implements CompactableOplog, Flushable {
     DiskId id = entry.getDiskId();
     boolean useNextOplog = false;
     long startPosForSynchOp = -1;
+    long commitSeq = 0;
     if (DiskStoreImpl.KRF_DEBUG) {
       // wait for cache close to create krf
       System.out.println("basicCreate KRF_DEBUG");
@@ -3524,7 +3601,8 @@ public class Oplog implements CompactableOplog, Flushable {
           id.setOplogId(getOplogId());
           // do the io while holding lock so that switch can set doneAppending
           // Write the data to the opLog for the synch mode
-          startPosForSynchOp = writeOpLogBytes(crf, async, true);
+          startPosForSynchOp = writeOpLogBytes(crf, async, true, true);
+          commitSeq = getGroupCommitSequence(async);
           crf.currSize = temp;
           if (EntryBits.isNeedsValue(userBits)) {
             id.setValueLength(value.getLength());
@@ -3584,6 +3662,7 @@ public class Oplog implements CompactableOplog, Flushable {
       Assert.assertTrue(this != getOplogSet().getChild());
       getOplogSet().getChild().basicCreate(dr, entry, value, userBits, async);
     } else {
+      awaitGroupCommit(commitSeq);
       if (LocalRegion.ISSUE_CALLBACKS_TO_CACHE_OBSERVER) {
         CacheObserverHolder.getInstance().afterSettingOplogOffSet(startPosForSynchOp);
       }
@@ -4420,6 +4499,7 @@ public class Oplog implements CompactableOplog, Flushable {
     DiskId id = entry.getDiskId();
     boolean useNextOplog = false;
     long startPosForSynchOp = -1L;
+    long commitSeq = 0;
     Oplog emptyOplog = null;
     if (DiskStoreImpl.KRF_DEBUG) {
       // wait for cache close to create krf
@@ -4452,7 +4532,8 @@ public class Oplog implements CompactableOplog, Flushable {
             long oldOplogId;
             // do the io while holding lock so that switch can set doneAppending
             // Write the data to the opLog for the synch mode
-            startPosForSynchOp = writeOpLogBytes(crf, async, true);
+            startPosForSynchOp = writeOpLogBytes(crf, async, true, true);
+            commitSeq = getGroupCommitSequence(async);
             crf.currSize = temp;
             startPosForSynchOp += getOpStateValueOffset();
             if (logger.isTraceEnabled(LogMarker.PERSIST_WRITES_VERBOSE)) {
@@ -4530,6 +4611,7 @@ public class Oplog implements CompactableOplog, Flushable {
       Assert.assertTrue(getOplogSet().getChild() != this);
       getOplogSet().getChild().basicModify(dr, entry, value, userBits, async, calledByCompactor);
     } else {
+      awaitGroupCommit(commitSeq);
       if (LocalRegion.ISSUE_CALLBACKS_TO_CACHE_OBSERVER) {
         CacheObserverHolder.getInstance().afterSettingOplogOffSet(startPosForSynchOp);
       }
@@ -4554,6 +4636,7 @@ public class Oplog implements CompactableOplog, Flushable {
   private void basicSaveConflictVersionTag(DiskRegionView dr, VersionTag tag, boolean async)
       throws IOException, InterruptedException {
     boolean useNextOplog = false;
+    long commitSeq = 0;
     getParent().getBackupLock().lock();
     try {
       synchronized (lock) {
@@ -4576,7 +4659,8 @@ public class Oplog implements CompactableOplog, Flushable {
               throw cce;
             }
             firstRecord = false;
-            writeOpLogBytes(crf, async, true);
+            writeOpLogBytes(crf, async, true, true);
+            commitSeq = getGroupCommitSequence(async);
             crf.currSize = temp;
             if (logger.isTraceEnabled(LogMarker.PERSIST_WRITES_VERBOSE)) {
               logger.trace(LogMarker.PERSIST_WRITES_VERBOSE,
@@ -4604,6 +4688,8 @@ public class Oplog implements CompactableOplog, Flushable {
       }
       Assert.assertTrue(getOplogSet().getChild() != this);
       getOplogSet().getChild().basicSaveConflictVersionTag(dr, tag, async);
+    } else {
+      awaitGroupCommit(commitSeq);
     }
   }
 
@@ -4872,6 +4958,7 @@ public class Oplog implements CompactableOplog, Flushable {
 
     boolean useNextOplog = false;
     long startPosForSynchOp = -1;
+    long commitSeq = 0;
     Oplog emptyOplog = null;
     if (DiskStoreImpl.KRF_DEBUG) {
       // wait for cache close to create krf
@@ -4921,7 +5008,8 @@ public class Oplog implements CompactableOplog, Flushable {
             // before we flush the crf.
             // However we can't have removes by async if we are doing a sync write
             // because we might be killed right after we do this write.
-            startPosForSynchOp = writeOpLogBytes(drf, async, true);
+            startPosForSynchOp = writeOpLogBytes(drf, async, true, true);
+            commitSeq = getGroupCommitSequence(async);
             setHasDeletes(true);
             if (logger.isDebugEnabled(LogMarker.PERSIST_WRITES_VERBOSE)) {
               logger.debug("basicRemove: id=<{}> key=<{}> drId={} oplog#{}", abs(id.getKeyId()),
@@ -4960,6 +5048,7 @@ public class Oplog implements CompactableOplog, Flushable {
       Assert.assertTrue(getOplogSet().getChild() != this);
       getOplogSet().getChild().basicRemove(dr, entry, async, isClear);
     } else {
+      awaitGroupCommit(commitSeq);
       if (LocalRegion.ISSUE_CALLBACKS_TO_CACHE_OBSERVER) {
         CacheObserverHolder.getInstance().afterSettingOplogOffSet(startPosForSynchOp);
       }
@@ -5091,6 +5180,68 @@ public class Oplog implements CompactableOplog, Flushable {
     }
   }
 
+  /**
+   * Returns the group commit sequence of the last record written by this thread, or zero if the
+   * write does not need to be group committed. Must be called while holding {@link #lock}
+   * immediately after {@link #writeOpLogBytes}.
+   */
+  private long getGroupCommitSequence(boolean async) {
+    if (async || groupCommitter == null) {
+      return 0;
+    }
+    return groupCommitter.getAppended();
+  }
+
+  /**
+   * Waits until the synchronous write with the given group commit sequence has been flushed.
+   */
+  private void awaitGroupCommit(long commitSeq) throws IOException {
+    if (commitSeq == 0) {
+      return;
+    }
+    if (Thread.holdsLock(lock)) {
+      // the commit leader needs this lock so we can not wait for it
+      flushAndSync();
+      return;
+    }
+    groupCommitter.awaitCommit(commitSeq);
+  }
+
+  private void forceForGroupCommit(OplogFile olf) throws IOException {
+    if (olf.RAFClosed) {
+      return;
+    }
+    try {
+      olf.channel.force(true);
+    } catch (ClosedChannelException ignore) {
+      // closing an oplog flushes and syncs it so our records are already on disk
+    }
+  }
+
+  /**
+   * Flushes this oplog on behalf of a group commit. The flush happens under {@link #lock} but the
+   * force does not, so writers can keep appending to the next batch while the device syncs.
+   */
+  private class GroupCommitFlusher implements OplogGroupCommitter.Flusher {
+    @Override
+    public long flush() throws IOException {
+      synchronized (lock) {
+        long appended = groupCommitter.getAppended();
+        Oplog.this.flush(drf, false);
+        Oplog.this.flush(crf, false);
+        return appended;
+      }
+    }
+
+    @Override
+    public void force() throws IOException {
+      if (SYNC_WRITES) {
+        forceForGroupCommit(drf);
+        forceForGroupCommit(crf);
+      }
+    }
+  }
+
   public void flushAll() {
     flushAll(false);
   }
@@ -5132,6 +5283,18 @@ public class Oplog implements CompactableOplog, Flushable {
    */
   private long writeOpLogBytes(OplogFile olf, boolean async, boolean doFlushIfSync)
       throws IOException {
+    return writeOpLogBytes(olf, async, doFlushIfSync, false);
+  }
+
+  /**
+   * Writes the current op state to the given oplog file.
+   *
+   * @param groupCommit true if the caller will wait for the record with
+   *        {@link #awaitGroupCommit} instead of having it flushed here
+   * @return The long offset at which the data present in the ByteBuffer gets written to
+   */
+  private long writeOpLogBytes(OplogFile olf, boolean async, boolean doFlushIfSync,
+      boolean groupCommit) throws IOException {
     final long startPos;
     getParent().getBackupLock().lock();
     try {
@@ -5153,7 +5316,12 @@ public class Oplog implements CompactableOplog, Flushable {
         startPos = olf.channel.position() + olf.writeBuf.position();
         long bytesWritten = opState.write(olf);
         if (!async && doFlushIfSync) {
-          flushAndSync();
+          if (groupCommit && groupCommitter != null) {
+            // the caller flushes via awaitGroupCommit once it has released the lock
+            groupCommitter.append();
+          } else {
+            flushAndSync();
+          }
         }
         getStats().incWrittenBytes(bytesWritten, async);
       }
@@ -5821,7 +5989,7 @@ public class Oplog implements CompactableOplog, Flushable {
     compacting = true;
   }
 
-  private final Lock compactorLock = new ReentrantLock();
+  private final ReentrantLock compactorLock = new ReentrantLock();
 
   private void lockCompactor() {
     compactorLock.lock();
@@ -5873,6 +6041,7 @@ public class Oplog implements CompactableOplog, Flushable {
             continue;
           }
           boolean didCompact;
+          int compactedBytes = 0;
           while ((de = dri.getNextLiveEntry()) != null) {
             if (/*
                  * getParent().getOwner().isDestroyed ||
@@ -5911,12 +6080,15 @@ public class Oplog implements CompactableOplog, Flushable {
                   getOplogSet().getChild().copyForwardModifyForCompact(dr, de, wrapper);
                   // the did's oplogId will now be set to the current active oplog
                   didCompact = true;
+                  compactedBytes = did.getValueLength();
                 }
               } // did
             } // de
             if (didCompact) {
               totalCount++;
               getStats().endCompactionUpdate(opStart);
+              // throttle outside the entry locks so writers of this entry are not stalled
+              getParent().compactedBytes(compactedBytes, compactorLock::hasQueuedThreads);
               opStart = getStats().getStatTime();
               // Check if the value byte array happens to be any of the
               // constant
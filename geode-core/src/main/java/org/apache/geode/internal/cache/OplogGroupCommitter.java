@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Group commit for synchronous oplog writes. Each synchronous writer appends its record to the
+ * oplog write buffer while holding the oplog lock and is given a sequence number by
+ * {@link #append()}. After releasing the oplog lock the writer calls {@link #awaitCommit(long)}.
+ * The first writer to arrive becomes the leader and flushes (and forces) everything appended so
+ * far; writers that arrive while a commit is in progress wait for it and are usually covered by
+ * the next one. This turns one flush per operation into one flush per batch of concurrent
+ * operations without weakening the guarantee that a synchronous write is on disk when it returns.
+ *
+ * @since Geode 1.15
+ */
+class OplogGroupCommitter {
+
+  /**
+   * The oplog operations used by the commit leader.
+   */
+  interface Flusher {
+    /**
+     * Writes every buffered record to the oplog channels. Must be done while holding the oplog lock
+     * so that the returned sequence number exactly describes what was written.
+     *
+     * @return the sequence number of the last record appended before the flush
+     */
+    long flush() throws IOException;
+
+    /**
+     * Forces the flushed records to the storage device. Called without holding the oplog lock so
+     * that other writers can keep appending while the device syncs.
+     */
+    void force() throws IOException;
+  }
+
+  private final Flusher flusher;
+
+  private final DiskStoreStats stats;
+
+  private final long windowNanos;
+
+  private final AtomicLong appended = new AtomicLong();
+
+  /** The sequence number of the last record known to be committed. Guarded by this. */
+  private long committed;
+
+  /** True while a leader is flushing. Guarded by this. */
+  private boolean committing;
+
+  OplogGroupCommitter(Flusher flusher, DiskStoreStats stats, long windowNanos) {
+    this.flusher = flusher;
+    this.stats = stats;
+    this.windowNanos = windowNanos;
+  }
+
+  /**
+   * Records that a synchronous write has been appended to the oplog write buffer. Must be called
+   * while holding the oplog lock.
+   *
+   * @return the sequence number to pass to {@link #awaitCommit(long)}
+   */
+  long append() {
+    return appended.incrementAndGet();
+  }
+
+  long getAppended() {
+    return appended.get();
+  }
+
+  synchronized long getCommitted() {
+    return committed;
+  }
+
+  /**
+   * Blocks until the record with the given sequence number has been committed, leading a commit if
+   * no other thread is doing one. Must not be called while holding the oplog lock.
+   */
+  void awaitCommit(long sequence) throws IOException {
+    boolean interrupted = false;
+    try {
+      synchronized (this) {
+        while (committed < sequence) {
+          if (!committing) {
+            committing = true;
+            break;
+          }
+          try {
+            wait();
+          } catch (InterruptedException e) {
+            // the record is already in the write buffer so we must see it to disk
+            interrupted = true;
+          }
+        }
+        if (committed >= sequence) {
+          return;
+        }
+      }
+      lead();
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void lead() throws IOException {
+    long start = stats.startGroupCommit();
+    long target = -1;
+    try {
+      if (windowNanos > 0) {
+        // give concurrent writers a chance to join this batch
+        LockSupport.parkNanos(windowNanos);
+      }
+      long flushed = flusher.flush();
+      flusher.force();
+      target = flushed;
+    } finally {
+      long batchSize = 0;
+      synchronized (this) {
+        committing = false;
+        if (target > committed) {
+          batchSize = target - committed;
+          committed = target;
+        }
+        notifyAll();
+      }
+      stats.endGroupCommit(start, batchSize);
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.annotations.VisibleForTesting;
+import org.apache.geode.logging.internal.executors.LoggingExecutors;
+import org.apache.geode.logging.internal.log4j.api.LogService;
+
+/**
+ * Reads the oplog files that recovery is about to process on a pool of worker threads so that they
+ * are in the operating system's page cache by the time the recovery thread parses them. Recovery
+ * has to apply oplogs one at a time and in order, but the reads of the upcoming files are
+ * independent and can be done in parallel, which matters most when the disk store has several
+ * directories on different devices.
+ *
+ * <p>
+ * At most {@code depth} files are read ahead of the file recovery is currently processing so that
+ * a very large disk store does not evict its own read ahead from the page cache.
+ */
+class OplogRecoveryReadAhead implements AutoCloseable {
+  private static final Logger logger = LogService.getLogger();
+
+  private static final int READ_BUFFER_SIZE = 1024 * 1024;
+
+  private final Deque<File> pending;
+
+  private final ExecutorService executor;
+
+  private final DiskStoreStats stats;
+
+  private final ThreadLocal<ByteBuffer> readBuffer =
+      ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(READ_BUFFER_SIZE));
+
+  private volatile boolean closed;
+
+  /**
+   * @param files the files in the order recovery will read them
+   * @param threads the number of reader threads
+   * @param depth the maximum number of files to read ahead of recovery
+   */
+  OplogRecoveryReadAhead(List<File> files, int threads, int depth, DiskStoreStats stats) {
+    this(files, LoggingExecutors.newFixedThreadPool(threads, "Oplog Recovery Read Ahead", true),
+        depth, stats);
+  }
+
+  @VisibleForTesting
+  OplogRecoveryReadAhead(List<File> files, ExecutorService executor, int depth,
+      DiskStoreStats stats) {
+    pending = new ArrayDeque<>(files);
+    this.executor = executor;
+    this.stats = stats;
+    for (int i = 0; i < depth; i++) {
+      scheduleNext();
+    }
+  }
+
+  /**
+   * Called by recovery each time it has finished with one of the files so that the next file can
+   * be read ahead.
+   */
+  void fileRecovered() {
+    scheduleNext();
+  }
+
+  private void scheduleNext() {
+    File file;
+    synchronized (pending) {
+      file = pending.poll();
+    }
+    if (file == null || closed) {
+      return;
+    }
+    try {
+      executor.execute(() -> readAhead(file));
+    } catch (RejectedExecutionException ignore) {
+      // closed while scheduling
+    }
+  }
+
+  private void readAhead(File file) {
+    if (closed) {
+      return;
+    }
+    ByteBuffer buffer = readBuffer.get();
+    long bytesRead = 0;
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      int read;
+      do {
+        buffer.clear();
+        read = channel.read(buffer);
+        if (read > 0) {
+          bytesRead += read;
+        }
+      } while (read >= 0 && !closed);
+    } catch (IOException e) {
+      // the recovery thread will report any real problem with the file when it reads it
+      if (logger.isDebugEnabled()) {
+        logger.debug("Could not read ahead oplog file {}", file, e);
+      }
+    }
+    stats.incRecoveryReadAheadBytes(bytesRead);
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    executor.shutdownNow();
+  }
+}
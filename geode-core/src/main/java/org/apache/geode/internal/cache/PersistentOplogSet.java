@@ -26,6 +26,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -440,7 +441,6 @@ public class PersistentOplogSet implements OplogSet {
   }
 
   private long recoverOplogs(long byteCount) {
-    OplogEntryIdSet deletedIds = new OplogEntryIdSet();
     TreeSet<Oplog> oplogSet = getSortedOplogs();
 
     if (!getAlreadyRecoveredOnce().get()) {
@@ -456,37 +456,58 @@ public class PersistentOplogSet implements OplogSet {
 
     if (!oplogSet.isEmpty()) {
       long startOpLogRecovery = System.currentTimeMillis();
-
-      // first figure out all entries that have been destroyed
-      boolean latestOplog = true;
-      for (Oplog oplog : oplogSet) {
-        byteCount += oplog.recoverDrf(deletedIds, getAlreadyRecoveredOnce().get(), latestOplog);
-        latestOplog = false;
-        if (!getAlreadyRecoveredOnce().get()) {
-          updateOplogEntryId(oplog.getMaxRecoveredOplogEntryId());
+      parent.getStats().setOplogsPendingRecovery(oplogSet.size());
+      OplogEntryIdSet deletedIds = new OplogEntryIdSet(parent.isOffHeapRecoveryIndexEnabled());
+      OplogRecoveryReadAhead readAhead = startRecoveryReadAhead(oplogSet);
+      RecoveredEntryApplier applier = startRecoveredEntryApplier();
+      try {
+        // first figure out all entries that have been destroyed
+        boolean latestOplog = true;
+        for (Oplog oplog : oplogSet) {
+          byteCount += oplog.recoverDrf(deletedIds, getAlreadyRecoveredOnce().get(), latestOplog);
+          latestOplog = false;
+          if (!getAlreadyRecoveredOnce().get()) {
+            updateOplogEntryId(oplog.getMaxRecoveredOplogEntryId());
+          }
+          if (readAhead != null) {
+            readAhead.fileRecovered();
+          }
         }
-      }
 
-      parent.incDeadRecordCount(deletedIds.size());
+        parent.incDeadRecordCount(deletedIds.size());
 
-      // now figure out live entries
-      latestOplog = true;
-      for (Oplog oplog : oplogSet) {
-        long startOpLogRead = parent.getStats().startOplogRead();
-        long bytesRead = oplog.recoverCrf(deletedIds, recoverValues(), recoverValuesSync(),
-            getAlreadyRecoveredOnce().get(), oplogsNeedingValueRecovery, latestOplog);
-        latestOplog = false;
-        if (!getAlreadyRecoveredOnce().get()) {
-          updateOplogEntryId(oplog.getMaxRecoveredOplogEntryId());
-        }
-        byteCount += bytesRead;
-        parent.getStats().endOplogRead(startOpLogRead, bytesRead);
+        // now figure out live entries
+        latestOplog = true;
+        for (Oplog oplog : oplogSet) {
+          long startOpLogRead = parent.getStats().startOplogRead();
+          long bytesRead = oplog.recoverCrf(deletedIds, recoverValues(), recoverValuesSync(),
+              getAlreadyRecoveredOnce().get(), oplogsNeedingValueRecovery, latestOplog, applier);
+          latestOplog = false;
+          if (!getAlreadyRecoveredOnce().get()) {
+            updateOplogEntryId(oplog.getMaxRecoveredOplogEntryId());
+          }
+          byteCount += bytesRead;
+          parent.getStats().endOplogRead(startOpLogRead, bytesRead);
+          parent.getStats().incOplogsPendingRecovery(-1);
+          if (readAhead != null) {
+            readAhead.fileRecovered();
+          }
 
-        // Callback to the disk regions to indicate the oplog is recovered
-        // Used for offline export
-        for (DiskRecoveryStore drs : currentRecoveryMap.values()) {
-          drs.getDiskRegionView().oplogRecovered(oplog.oplogId);
+          // Callback to the disk regions to indicate the oplog is recovered
+          // Used for offline export
+          for (DiskRecoveryStore drs : currentRecoveryMap.values()) {
+            drs.getDiskRegionView().oplogRecovered(oplog.oplogId);
+          }
+        }
+      } finally {
+        if (readAhead != null) {
+          readAhead.close();
         }
+        if (applier != null) {
+          applier.close();
+        }
+        deletedIds.release();
+        parent.getStats().setOplogsPendingRecovery(0);
       }
 
       long endOpLogRecovery = System.currentTimeMillis();
@@ -538,6 +559,42 @@ public class PersistentOplogSet implements OplogSet {
     return byteCount;
   }
 
+  /**
+   * Starts reading the files of the given oplogs ahead of recovery, in the order recovery will
+   * process them: every drf first and then the krf or crf of each oplog.
+   *
+   * @return the read ahead, or null if it is disabled
+   */
+  private OplogRecoveryReadAhead startRecoveryReadAhead(Collection<Oplog> oplogs) {
+    int threads = parent.getRecoveryReadAheadThreads();
+    if (threads <= 0) {
+      return null;
+    }
+    List<File> files = new ArrayList<>(oplogs.size() * 2);
+    for (Oplog oplog : oplogs) {
+      files.add(oplog.getDrfFile());
+    }
+    for (Oplog oplog : oplogs) {
+      files.add(oplog.getRecoveryFile(recoverValuesSync()));
+    }
+    files.removeIf(Objects::isNull);
+    return new OplogRecoveryReadAhead(files, threads,
+        Math.max(1, parent.getRecoveryReadAheadDepth()), parent.getStats());
+  }
+
+  /**
+   * Starts the threads that apply the entries recovered from krfs to their regions.
+   *
+   * @return the applier, or null if entries are applied by the recovery thread
+   */
+  private RecoveredEntryApplier startRecoveredEntryApplier() {
+    int threads = parent.getRecoveryApplyThreads();
+    if (threads <= 0 || parent.isOffline()) {
+      return null;
+    }
+    return new RecoveredEntryApplier(threads);
+  }
+
   private boolean recoverValuesSync() {
     return parent.RECOVER_VALUES_SYNC;
   }
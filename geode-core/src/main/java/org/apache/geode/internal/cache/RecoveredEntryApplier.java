@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.geode.InternalGemFireException;
+import org.apache.geode.annotations.VisibleForTesting;
+import org.apache.geode.logging.internal.executors.LoggingExecutors;
+
+/**
+ * Applies the entries that recovery reads from a krf to their regions on several worker threads.
+ * Every disk region, and so every bucket of a partitioned region, is assigned to one worker, which
+ * applies its entries in the order they were read; different regions and buckets are applied in
+ * parallel. Parsing the krf stays on the recovery thread because its records depend on the ones
+ * before them.
+ *
+ * <p>
+ * Recovery calls {@link #awaitApplied()} once it has read all the entries of an oplog, so the
+ * entries of an oplog are all applied before those of the next one are read.
+ *
+ * <p>
+ * Only the recovery thread may call {@link #apply(long, Runnable)} and {@link #awaitApplied()}.
+ */
+class RecoveredEntryApplier implements AutoCloseable {
+
+  private static final int BATCH_SIZE = 256;
+
+  private final ExecutorService[] workers;
+
+  private final List<List<Runnable>> batches;
+
+  private final List<Future<?>> submitted = new ArrayList<>();
+
+  /**
+   * @param threads the number of worker threads
+   */
+  RecoveredEntryApplier(int threads) {
+    this(createWorkers(threads));
+  }
+
+  @VisibleForTesting
+  RecoveredEntryApplier(ExecutorService[] workers) {
+    this.workers = workers;
+    batches = new ArrayList<>(workers.length);
+    for (int i = 0; i < workers.length; i++) {
+      batches.add(new ArrayList<>(BATCH_SIZE));
+    }
+  }
+
+  private static ExecutorService[] createWorkers(int threads) {
+    ExecutorService[] workers = new ExecutorService[threads];
+    for (int i = 0; i < threads; i++) {
+      workers[i] = LoggingExecutors.newSingleThreadExecutor("Recovered Entry Applier " + i, true);
+    }
+    return workers;
+  }
+
+  /**
+   * Applies an entry of the disk region with the given id on the worker of that region.
+   */
+  void apply(long diskRegionId, Runnable entry) {
+    int worker = Math.floorMod(Long.hashCode(diskRegionId), workers.length);
+    List<Runnable> batch = batches.get(worker);
+    batch.add(entry);
+    if (batch.size() >= BATCH_SIZE) {
+      submit(worker);
+    }
+  }
+
+  private void submit(int worker) {
+    List<Runnable> batch = batches.get(worker);
+    if (batch.isEmpty()) {
+      return;
+    }
+    batches.set(worker, new ArrayList<>(BATCH_SIZE));
+    submitted.add(workers[worker].submit(() -> batch.forEach(Runnable::run)));
+  }
+
+  /**
+   * Waits until every entry given to {@link #apply(long, Runnable)} has been applied.
+   *
+   * @throws RuntimeException the first exception an entry failed with
+   */
+  void awaitApplied() {
+    for (int i = 0; i < workers.length; i++) {
+      submit(i);
+    }
+    Throwable failure = null;
+    boolean interrupted = false;
+    try {
+      // wait for all of them, even after a failure, so that no entry is applied after this returns
+      for (Future<?> future : submitted) {
+        while (true) {
+          try {
+            future.get();
+            break;
+          } catch (InterruptedException e) {
+            interrupted = true;
+          } catch (ExecutionException e) {
+            if (failure == null) {
+              failure = e.getCause();
+            }
+            break;
+          }
+        }
+      }
+    } finally {
+      submitted.clear();
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    }
+    if (failure instanceof Error) {
+      throw (Error) failure;
+    }
+    if (failure != null) {
+      throw new InternalGemFireException("Failed to apply a recovered entry", failure);
+    }
+  }
+
+  @Override
+  public void close() {
+    for (ExecutorService worker : workers) {
+      worker.shutdownNow();
+    }
+  }
+}
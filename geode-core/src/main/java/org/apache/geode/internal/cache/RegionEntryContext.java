@@ -40,5 +40,10 @@ public interface RegionEntryContext extends HasCachePerfStats {
 
   void incRecentlyUsed();
 
+  /**
+   * Called every time the value of one of this context's entries is read.
+   */
+  void recordAccess(RegionEntry regionEntry);
+
   InternalCache getCache();
 }
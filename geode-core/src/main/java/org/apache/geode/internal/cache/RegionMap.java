@@ -364,6 +364,11 @@ public interface RegionMap extends EvictableMap {
 
   void incRecentlyUsed();
 
+  /**
+   * Called every time the value of one of the entries in this map is read.
+   */
+  void recordAccess(RegionEntry regionEntry);
+
   /**
    * Returns the memory overhead of entries in this map
    */
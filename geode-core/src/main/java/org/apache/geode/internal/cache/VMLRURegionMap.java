@@ -62,7 +62,8 @@ public class VMLRURegionMap extends AbstractRegionMap {
     initialize(owner, attr, internalRegionArgs);
     this.evictionController = evictionController;
     getEvictionController().setPerEntryOverhead(getEntryOverhead());
-    lruList = new EvictionListBuilder(getEvictionController()).create();
+    lruList =
+        new EvictionListBuilder(getEvictionController(), () -> getEntryMap().values()).create();
   }
 
   private final EvictionController evictionController;
@@ -801,4 +802,9 @@ public class VMLRURegionMap extends AbstractRegionMap {
   public void incRecentlyUsed() {
     getEvictionList().incrementRecentlyUsed();
   }
+
+  @Override
+  public void recordAccess(RegionEntry regionEntry) {
+    getEvictionList().recordAccess((EvictableEntry) regionEntry);
+  }
 }
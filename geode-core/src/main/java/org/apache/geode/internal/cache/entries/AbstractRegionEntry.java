@@ -441,6 +441,7 @@ public abstract class AbstractRegionEntry implements HashRegionEntry<Object, Obj
       result = OffHeapHelper.copyAndReleaseIfNeeded(result, context.getCache());
       ReferenceCountHelper.setReferenceCountOwner(null);
       setRecentlyUsed(context);
+      context.recordAccess(this);
       return result;
     }
   }
@@ -454,6 +455,7 @@ public abstract class AbstractRegionEntry implements HashRegionEntry<Object, Obj
       return null;
     } else {
       setRecentlyUsed(context);
+      context.recordAccess(this);
       return result;
     }
   }
@@ -124,7 +124,8 @@ abstract class AbstractEvictionList implements EvictionList {
 
   }
 
-  protected synchronized boolean removeEntry(EvictionNode evictionNode) {
+  @Override
+  public synchronized boolean removeEntry(EvictionNode evictionNode) {
     if (evictionNode.next() == null) {
       // not in the list anymore.
       return false;
@@ -167,6 +168,11 @@ abstract class AbstractEvictionList implements EvictionList {
     return evictionNode;
   }
 
+  @Override
+  public void recordAccess(EvictionNode evictionNode) {
+    // nothing needed
+  }
+
   protected boolean isEvictable(EvictionNode evictionNode) {
     if (evictionNode.isEvicted()) {
       if (logger.isTraceEnabled(LogMarker.LRU_CLOCK_VERBOSE)) {
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.cache.RegionDestroyedException;
+import org.apache.geode.internal.cache.CachePerfStats;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.cache.eviction.EvictionPlanner.RegionQuota;
+import org.apache.geode.internal.statistics.StatisticsClock;
+import org.apache.geode.logging.internal.log4j.api.LogService;
+
+/**
+ * Evicts from each region of a batch planned by {@link EvictionPlanner} until the quota of the
+ * region is met or the region has nothing left to evict, and returns the number of bytes evicted.
+ *
+ * @since Geode 1.15
+ */
+class BatchEvictorTask implements Callable<Long> {
+
+  private static final Logger logger = LogService.getLogger();
+
+  private final CachePerfStats stats;
+
+  private final List<RegionQuota> quotas;
+
+  private final HeapEvictor evictor;
+
+  private final StatisticsClock statisticsClock;
+
+  BatchEvictorTask(final CachePerfStats stats, final List<RegionQuota> quotas,
+      final HeapEvictor evictor, StatisticsClock statisticsClock) {
+    this.stats = stats;
+    this.quotas = quotas;
+    this.evictor = evictor;
+    this.statisticsClock = statisticsClock;
+  }
+
+  List<RegionQuota> getQuotas() {
+    return quotas;
+  }
+
+  @Override
+  public Long call() {
+    stats.incEvictorJobsStarted();
+    long totalBytesEvicted = 0;
+    try {
+      for (RegionQuota quota : quotas) {
+        if (!evictor.mustEvict()) {
+          break;
+        }
+        totalBytesEvicted += evict(quota);
+      }
+    } finally {
+      stats.incEvictorJobsCompleted();
+    }
+    return totalBytesEvicted;
+  }
+
+  private long evict(RegionQuota quota) {
+    LocalRegion region = quota.getRegion();
+    long bytesEvicted = 0;
+    final long start = statisticsClock.getTime();
+    try {
+      while (bytesEvicted < quota.getBytesToEvict() && evictor.mustEvict()) {
+        long evicted = region.getRegionMap().centralizedLruUpdateCallback();
+        if (evicted == 0) {
+          break;
+        }
+        bytesEvicted += evicted;
+      }
+    } catch (RegionDestroyedException e) {
+      region.getCache().getCancelCriterion().checkCancelInProgress(e);
+    } catch (RuntimeException e) {
+      region.getCache().getCancelCriterion().checkCancelInProgress(e);
+      logger.warn(String.format("Exception: %s occurred during eviction ", e.getMessage()), e);
+    } finally {
+      stats.incEvictWorkTime(statisticsClock.getTime() - start);
+    }
+    return bytesEvicted;
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.annotations.Immutable;
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.versions.RegionVersionVector;
+import org.apache.geode.internal.logging.log4j.LogMarker;
+import org.apache.geode.logging.internal.log4j.api.LogService;
+
+/**
+ * An approximate LRU that keeps no list of its own. Instead a clock hand sweeps over the entries of
+ * the region map, giving every recently used entry a second chance by clearing its recently used
+ * bit, and returns the first entry it finds that has not been used since the hand last passed it.
+ *
+ * <p>
+ * Adding and removing an entry only flip its membership mark and update a counter, and marking an
+ * entry recently used only sets its bit, so neither the read path nor creates and destroys
+ * synchronize on a shared list. Only the eviction threads synchronize on the hand.
+ *
+ * @since Geode 1.15
+ */
+public class ClockEvictionList implements EvictionList {
+  private static final Logger logger = LogService.getLogger();
+
+  /**
+   * Marks a node that is in this list. Nodes that are not in the list, such as entries whose value
+   * was overflowed to disk, have no next node.
+   */
+  @Immutable
+  static final EvictionNode IN_LIST = new GuardNode();
+
+  private static final int DEFAULT_MAX_EVICTION_ATTEMPTS = 10;
+
+  private final EvictionController controller;
+
+  private final Supplier<? extends Iterable<?>> entries;
+
+  private final int maxEvictionAttempts;
+
+  private final AtomicInteger size = new AtomicInteger();
+
+  /** The clock hand. Guarded by this. */
+  private Iterator<?> hand = Collections.emptyIterator();
+
+  ClockEvictionList(EvictionController controller, Supplier<? extends Iterable<?>> entries) {
+    this(controller, entries, DEFAULT_MAX_EVICTION_ATTEMPTS);
+  }
+
+  ClockEvictionList(EvictionController controller, Supplier<? extends Iterable<?>> entries,
+      int maxEvictionAttempts) {
+    this.controller = controller;
+    this.entries = entries;
+    this.maxEvictionAttempts = maxEvictionAttempts;
+  }
+
+  @Override
+  public void closeStats() {
+    getStatistics().close();
+  }
+
+  @Override
+  public EvictionCounters getStatistics() {
+    return controller.getCounters();
+  }
+
+  @Override
+  public int size() {
+    return size.get();
+  }
+
+  @Override
+  public void appendEntry(EvictionNode evictionNode) {
+    synchronized (evictionNode) {
+      if (evictionNode.next() != null) {
+        // already in the list
+        return;
+      }
+      if (logger.isTraceEnabled(LogMarker.LRU_CLOCK_VERBOSE)) {
+        logger.trace(LogMarker.LRU_CLOCK_VERBOSE, "adding a Node to lru clock: {}", evictionNode);
+      }
+      evictionNode.setNext(IN_LIST);
+    }
+    size.incrementAndGet();
+  }
+
+  @Override
+  public void destroyEntry(EvictionNode evictionNode) {
+    if (logger.isTraceEnabled(LogMarker.LRU_CLOCK_VERBOSE)) {
+      logger.trace(LogMarker.LRU_CLOCK_VERBOSE, "destroyEntry called for {}", evictionNode);
+    }
+    if (removeEntry(evictionNode)) {
+      getStatistics().incDestroys();
+    }
+  }
+
+  @Override
+  public boolean removeEntry(EvictionNode evictionNode) {
+    synchronized (evictionNode) {
+      if (evictionNode.next() == null) {
+        // not in the list anymore.
+        return false;
+      }
+      evictionNode.setNext(null);
+    }
+    // Size could go negative if there is a concurrent clear and cache updates are in progress.
+    size.decrementAndGet();
+    return true;
+  }
+
+  @Override
+  public void clear(RegionVersionVector regionVersionVector, BucketRegion bucketRegion) {
+    if (regionVersionVector != null) {
+      return; // when concurrency checks are enabled the clear operation removes entries iteratively
+    }
+
+    synchronized (this) {
+      if (bucketRegion != null) {
+        getStatistics().decrementCounter(bucketRegion.getCounter());
+        bucketRegion.resetCounter();
+      } else {
+        getStatistics().resetCounter();
+      }
+      size.set(0);
+      hand = Collections.emptyIterator();
+    }
+  }
+
+  /**
+   * Moves the hand until it finds an entry that has not been used since the hand last passed it.
+   * Once the hand has passed the maximum number of recently used entries the next entry in the list
+   * is returned even if it was recently used. Returns null if a full sweep found nothing.
+   */
+  @Override
+  public synchronized EvictableEntry getEvictableEntry() {
+    long numEvals = 0;
+    int evictionAttempts = 0;
+    boolean wrapped = false;
+    for (;;) {
+      if (!hand.hasNext()) {
+        if (wrapped || size() <= 0) {
+          getStatistics().incEvaluations(numEvals);
+          return null;
+        }
+        wrapped = true;
+        hand = entries.get().iterator();
+        continue;
+      }
+      Object candidate = hand.next();
+      if (!(candidate instanceof EvictionNode)) {
+        continue;
+      }
+      EvictionNode evictionNode = (EvictionNode) candidate;
+      if (evictionNode.next() == null) {
+        continue;
+      }
+      numEvals++;
+
+      if (logger.isTraceEnabled(LogMarker.LRU_CLOCK_VERBOSE)) {
+        logger.trace(LogMarker.LRU_CLOCK_VERBOSE, "lru clock considering {}", evictionNode);
+      }
+
+      if (!isEvictable(evictionNode)) {
+        continue;
+      }
+
+      if (evictionNode.isRecentlyUsed()) {
+        if (evictionAttempts < maxEvictionAttempts) {
+          evictionAttempts++;
+          evictionNode.unsetRecentlyUsed();
+          continue;
+        }
+        getStatistics().incGreedyReturns(1);
+      }
+
+      if (!removeEntry(evictionNode)) {
+        // concurrently destroyed
+        continue;
+      }
+      if (logger.isTraceEnabled(LogMarker.LRU_CLOCK_VERBOSE)) {
+        logger.trace(LogMarker.LRU_CLOCK_VERBOSE, "returning unused entry: {}", evictionNode);
+      }
+      getStatistics().incEvaluations(numEvals);
+      return (EvictableEntry) evictionNode;
+    }
+  }
+
+  private boolean isEvictable(EvictionNode evictionNode) {
+    if (evictionNode.isEvicted()) {
+      return false;
+    }
+    // If this Entry is part of a transaction, skip it since
+    // eviction should not cause commit conflicts
+    synchronized (evictionNode) {
+      return !evictionNode.isInUseByTransaction();
+    }
+  }
+
+  /**
+   * The recently used bit of the entry is all the clock needs.
+   */
+  @Override
+  public void incrementRecentlyUsed() {
+    // nothing needed
+  }
+
+  @Override
+  public void recordAccess(EvictionNode evictionNode) {
+    // nothing needed
+  }
+}
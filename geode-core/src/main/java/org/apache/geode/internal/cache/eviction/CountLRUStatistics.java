@@ -31,6 +31,7 @@ public class CountLRUStatistics implements EvictionStats {
   private static final int destroysId;
   private static final int evaluationsId;
   private static final int greedyReturnsId;
+  private static final int admissionRejectionsId;
 
   static {
     StatisticsTypeFactory f = StatisticsTypeFactoryImpl.singleton();
@@ -42,6 +43,8 @@ public class CountLRUStatistics implements EvictionStats {
         "Number of entries destroyed in the region through both destroy cache operations and eviction.";
     final String lruEvaluationsDesc = "Number of entries evaluated during LRU operations.";
     final String lruGreedyReturnsDesc = "Number of non-LRU entries evicted during LRU operations";
+    final String lruAdmissionRejectionsDesc =
+        "Number of new entries evicted instead of the LRU entry because they were used less often.";
 
     statType = f.createType("LRUStatistics", "Statistics relates to entry cout based eviction",
         new StatisticDescriptor[] {
@@ -50,7 +53,9 @@ public class CountLRUStatistics implements EvictionStats {
             f.createLongCounter("lruEvictions", lruEvictionsDesc, "entries"),
             f.createLongCounter("lruDestroys", lruDestroysDesc, "entries"),
             f.createLongCounter("lruEvaluations", lruEvaluationsDesc, "entries"),
-            f.createLongCounter("lruGreedyReturns", lruGreedyReturnsDesc, "entries")});
+            f.createLongCounter("lruGreedyReturns", lruGreedyReturnsDesc, "entries"),
+            f.createLongCounter("lruAdmissionRejections", lruAdmissionRejectionsDesc,
+                "entries")});
 
     limitId = statType.nameToId("entriesAllowed");
     counterId = statType.nameToId("entryCount");
@@ -58,6 +63,7 @@ public class CountLRUStatistics implements EvictionStats {
     destroysId = statType.nameToId("lruDestroys");
     evaluationsId = statType.nameToId("lruEvaluations");
     greedyReturnsId = statType.nameToId("lruGreedyReturns");
+    admissionRejectionsId = statType.nameToId("lruAdmissionRejections");
   }
 
   private final Statistics stats;
@@ -111,4 +117,9 @@ public class CountLRUStatistics implements EvictionStats {
     stats.incLong(greedyReturnsId, delta);
   }
 
+  @Override
+  public void incAdmissionRejections(long delta) {
+    stats.incLong(admissionRejectionsId, delta);
+  }
+
 }
@@ -53,6 +53,11 @@ class DisabledEvictionCounters implements EvictionCounters {
     // nothing
   }
 
+  @Override
+  public void incAdmissionRejections(long admissionRejections) {
+    // nothing
+  }
+
   @Override
   public void incEvictions() {
     // nothing
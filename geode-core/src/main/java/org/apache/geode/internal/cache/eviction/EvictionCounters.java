@@ -42,6 +42,8 @@ public interface EvictionCounters {
 
   void incGreedyReturns(long greedyReturns);
 
+  void incAdmissionRejections(long admissionRejections);
+
   Statistics getStatistics();
 
   void close();
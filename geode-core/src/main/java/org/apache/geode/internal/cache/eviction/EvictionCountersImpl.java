@@ -121,4 +121,9 @@ class EvictionCountersImpl implements EvictionCounters {
   public void incGreedyReturns(long greedyReturns) {
     stats.incGreedyReturns(greedyReturns);
   }
+
+  @Override
+  public void incAdmissionRejections(long admissionRejections) {
+    stats.incAdmissionRejections(admissionRejections);
+  }
 }
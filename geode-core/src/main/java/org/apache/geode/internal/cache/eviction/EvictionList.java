@@ -37,6 +37,13 @@ public interface EvictionList {
    */
   void destroyEntry(EvictionNode evictionNode);
 
+  /**
+   * Removes an entry from the list without counting it as destroyed.
+   *
+   * @return false if the entry was not in the list
+   */
+  boolean removeEntry(EvictionNode evictionNode);
+
   /**
    * Returns the eviction counters for this list.
    */
@@ -53,4 +60,9 @@ public interface EvictionList {
   int size();
 
   void incrementRecentlyUsed();
+
+  /**
+   * Called every time the value of an entry in the list is read.
+   */
+  void recordAccess(EvictionNode evictionNode);
 }
@@ -15,6 +15,7 @@
 package org.apache.geode.internal.cache.eviction;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.apache.geode.internal.lang.SystemProperty;
 import org.apache.geode.internal.lang.SystemPropertyHelper;
@@ -23,24 +24,54 @@ public class EvictionListBuilder {
 
   private final boolean evictionScanAsync;
 
+  private final boolean evictionClock;
+
+  private final boolean frequencyAdmission;
+
   private final EvictionController controller;
 
+  private final Supplier<? extends Iterable<?>> entries;
+
   public EvictionListBuilder(EvictionController evictionController) {
+    this(evictionController, null);
+  }
+
+  /**
+   * @param entries supplies the current entries of the region map, needed for the clock eviction
+   *        list which walks them instead of keeping a list of its own
+   */
+  public EvictionListBuilder(EvictionController evictionController,
+      Supplier<? extends Iterable<?>> entries) {
     controller = evictionController;
+    this.entries = entries;
     Optional<Boolean> asyncScan =
         SystemProperty.getProductBooleanProperty(SystemPropertyHelper.EVICTION_SCAN_ASYNC);
     evictionScanAsync = asyncScan.orElse(true);
+    evictionClock = SystemProperty
+        .getProductBooleanProperty(SystemPropertyHelper.EVICTION_CLOCK).orElse(false);
+    frequencyAdmission = SystemProperty
+        .getProductBooleanProperty(SystemPropertyHelper.EVICTION_FREQUENCY_ADMISSION)
+        .orElse(false);
   }
 
   public EvictionList create() {
     if (controller.getEvictionAlgorithm().isLIFO()) {
       return new LIFOList(controller);
+    }
+    EvictionList list = createLRUList();
+    if (frequencyAdmission) {
+      return new TinyLfuEvictionList(list);
+    }
+    return list;
+  }
+
+  private EvictionList createLRUList() {
+    if (evictionClock && entries != null) {
+      return new ClockEvictionList(controller, entries);
+    } else if (evictionScanAsync) {
+      return new LRUListWithAsyncSorting(controller);
     } else {
-      if (evictionScanAsync) {
-        return new LRUListWithAsyncSorting(controller);
-      } else {
-        return new LRUListWithSyncSorting(controller);
-      }
+      return new LRUListWithSyncSorting(controller);
     }
   }
 
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import static org.apache.geode.util.internal.GeodeGlossary.GEMFIRE_PREFIX;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.apache.geode.cache.RegionDestroyedException;
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.LocalRegion;
+
+/**
+ * Splits the bytes that one eviction cycle should free among all the regions that take part in
+ * heap eviction and groups the regions into batches of about the same amount of work, so that the
+ * batches can be evicted in parallel.
+ *
+ * <p>
+ * The quota of a region is proportional to the number of entries it holds in memory, weighted by
+ * how long ago it was last accessed: a region that has been idle for the whole recency window gives
+ * up twice as much as a region that was just used. Regions that do not keep statistics are treated
+ * as if they had been idle for half of the window.
+ *
+ * @since Geode 1.15
+ */
+class EvictionPlanner {
+
+  static final long RECENCY_WINDOW_MILLIS =
+      Long.getLong(GEMFIRE_PREFIX + "HeapLRUCapacityController.recencyWindowMillis", 60_000L);
+
+  private final int maxBatches;
+
+  private final long recencyWindowMillis;
+
+  EvictionPlanner(int maxBatches) {
+    this(maxBatches, RECENCY_WINDOW_MILLIS);
+  }
+
+  EvictionPlanner(int maxBatches, long recencyWindowMillis) {
+    this.maxBatches = Math.max(1, maxBatches);
+    this.recencyWindowMillis = Math.max(1, recencyWindowMillis);
+  }
+
+  /**
+   * Returns the batches to evict from in order to free the given number of bytes. Regions with
+   * nothing in memory get no quota and are left out.
+   */
+  List<List<RegionQuota>> plan(List<LocalRegion> regions, long bytesToEvict, long now) {
+    List<RegionQuota> quotas = new ArrayList<>(regions.size());
+    double totalWeight = 0;
+    for (LocalRegion region : regions) {
+      double weight = getWeight(region, now);
+      if (weight > 0) {
+        quotas.add(new RegionQuota(region, weight));
+        totalWeight += weight;
+      }
+    }
+    if (quotas.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    for (RegionQuota quota : quotas) {
+      quota.bytesToEvict = Math.max(1, (long) (bytesToEvict * quota.weight / totalWeight));
+    }
+
+    // Hand out the largest quotas first, each to the batch with the least work so far
+    quotas.sort(Comparator.comparingLong((RegionQuota quota) -> quota.bytesToEvict).reversed());
+    int numBatches = Math.min(maxBatches, quotas.size());
+    PriorityQueue<Batch> batches =
+        new PriorityQueue<>(numBatches, Comparator.comparingLong(batch -> batch.bytesToEvict));
+    for (int i = 0; i < numBatches; i++) {
+      batches.add(new Batch());
+    }
+    for (RegionQuota quota : quotas) {
+      Batch batch = batches.poll();
+      batch.quotas.add(quota);
+      batch.bytesToEvict += quota.bytesToEvict;
+      batches.add(batch);
+    }
+
+    List<List<RegionQuota>> plan = new ArrayList<>(numBatches);
+    for (Batch batch : batches) {
+      plan.add(batch.quotas);
+    }
+    return plan;
+  }
+
+  private double getWeight(LocalRegion region, long now) {
+    long entries;
+    if (region instanceof BucketRegion) {
+      entries = ((BucketRegion) region).getSizeForEviction();
+    } else {
+      entries = region.getRegionMap().sizeInVM();
+    }
+    if (entries <= 0) {
+      return 0;
+    }
+    return entries * (1 + getIdleFraction(region, now));
+  }
+
+  /**
+   * Returns how much of the recency window has passed since the region was last accessed, from 0
+   * to 1.
+   */
+  private double getIdleFraction(LocalRegion region, long now) {
+    if (!region.getStatisticsEnabled()) {
+      return 0.5;
+    }
+    long idleMillis;
+    try {
+      idleMillis = now - region.getLastAccessedTime();
+    } catch (RegionDestroyedException e) {
+      return 0.5;
+    }
+    if (idleMillis <= 0) {
+      return 0;
+    }
+    return Math.min(idleMillis, recencyWindowMillis) / (double) recencyWindowMillis;
+  }
+
+  /**
+   * The number of bytes to evict from one region.
+   */
+  static class RegionQuota {
+    private final LocalRegion region;
+
+    private final double weight;
+
+    private long bytesToEvict;
+
+    private RegionQuota(LocalRegion region, double weight) {
+      this.region = region;
+      this.weight = weight;
+    }
+
+    LocalRegion getRegion() {
+      return region;
+    }
+
+    long getBytesToEvict() {
+      return bytesToEvict;
+    }
+  }
+
+  private static class Batch {
+    private final List<RegionQuota> quotas = new ArrayList<>();
+
+    private long bytesToEvict;
+  }
+}
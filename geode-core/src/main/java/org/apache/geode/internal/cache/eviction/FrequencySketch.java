@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+/**
+ * A count-min sketch that estimates how often each key was used recently, using four 4-bit
+ * counters per key so that it takes about 8 bytes for every entry the region can hold. Once
+ * enough uses have been recorded every counter is halved, so old popularity fades away.
+ *
+ * <p>
+ * Increments are not synchronized. Concurrent increments may be lost, which only makes the
+ * estimates a little lower; the estimates are never higher than 15.
+ */
+class FrequencySketch {
+
+  private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L,
+      0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+  private static final long RESET_MASK = 0x7777777777777777L;
+
+  private static final int MAX_WIDTH = 1 << 30;
+
+  private volatile long[] table;
+
+  private int sampleSize;
+
+  private int size;
+
+  FrequencySketch(long expectedEntries) {
+    ensureCapacity(expectedEntries);
+  }
+
+  /**
+   * Grows the sketch so that it can hold the given number of entries. Growing forgets every
+   * recorded use.
+   */
+  synchronized void ensureCapacity(long expectedEntries) {
+    int width = tableWidth(expectedEntries);
+    if (table != null && table.length >= width) {
+      return;
+    }
+    sampleSize = (int) Math.min(10L * width, Integer.MAX_VALUE);
+    size = 0;
+    table = new long[width];
+  }
+
+  /**
+   * Returns the number of entries the sketch was sized for.
+   */
+  int getCapacity() {
+    return table.length;
+  }
+
+  /**
+   * Returns the estimated number of recent uses of the key with the given hash, from 0 to 15.
+   */
+  int frequency(int hashCode) {
+    long[] t = table;
+    int hash = spread(hashCode);
+    int start = (hash & 3) << 2;
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < 4; i++) {
+      int index = indexOf(t, hash, i);
+      int count = (int) ((t[index] >>> ((start + i) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  /**
+   * Records a use of the key with the given hash.
+   */
+  void increment(int hashCode) {
+    long[] t = table;
+    int hash = spread(hashCode);
+    int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      added |= incrementAt(t, indexOf(t, hash, i), start + i);
+    }
+    if (added && ++size >= sampleSize) {
+      reset(t);
+    }
+  }
+
+  private static boolean incrementAt(long[] t, int index, int counter) {
+    int offset = counter << 2;
+    long mask = 0xfL << offset;
+    long value = t[index];
+    if ((value & mask) != mask) {
+      t[index] = value + (1L << offset);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Halves every counter.
+   */
+  private void reset(long[] t) {
+    for (int i = 0; i < t.length; i++) {
+      t[i] = (t[i] >>> 1) & RESET_MASK;
+    }
+    size = size / 2;
+  }
+
+  private static int indexOf(long[] t, int hash, int i) {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    h += h >>> 32;
+    return ((int) h) & (t.length - 1);
+  }
+
+  private static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  }
+
+  private static int tableWidth(long expectedEntries) {
+    long needed = Math.max(expectedEntries, 64);
+    if (needed >= MAX_WIDTH) {
+      return MAX_WIDTH;
+    }
+    return Integer.highestOneBit((int) needed - 1) << 1;
+  }
+}
@@ -23,7 +23,9 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -41,6 +43,7 @@ import org.apache.geode.internal.cache.control.InternalResourceManager;
 import org.apache.geode.internal.cache.control.InternalResourceManager.ResourceType;
 import org.apache.geode.internal.cache.control.MemoryEvent;
 import org.apache.geode.internal.cache.control.ResourceListener;
+import org.apache.geode.internal.cache.eviction.EvictionPlanner.RegionQuota;
 import org.apache.geode.internal.logging.CoreLoggingExecutors;
 import org.apache.geode.internal.statistics.StatisticsClock;
 import org.apache.geode.logging.internal.log4j.api.LogService;
@@ -70,6 +73,15 @@ public class HeapEvictor implements ResourceListener<MemoryEvent> {
   public static final int BUCKET_SORTING_INTERVAL = Integer.getInteger(
       GEMFIRE_PREFIX + "HeapLRUCapacityController.higherEntryCountBucketCalculationInterval", 100);
 
+  /**
+   * When true each eviction loop plans how many bytes to evict from every region and evicts from
+   * batches of regions in parallel, waiting for the whole cycle to finish before the next loop.
+   *
+   * @since Geode 1.15
+   */
+  public static final boolean BATCHED_EVICTION =
+      Boolean.getBoolean(GEMFIRE_PREFIX + "HeapLRUCapacityController.batchedEviction");
+
   private static final boolean DISABLE_HEAP_EVICTOR_THREAD_POOL = Boolean
       .getBoolean(GEMFIRE_PREFIX + "HeapLRUCapacityController.DISABLE_HEAP_EVICTOR_THREAD_POOL");
 
@@ -91,6 +103,9 @@ public class HeapEvictor implements ResourceListener<MemoryEvent> {
 
   private final StatisticsClock statisticsClock;
 
+  // the management task evicts one batch itself and waits for the others
+  private final EvictionPlanner evictionPlanner = new EvictionPlanner(MAX_EVICTOR_THREADS);
+
   private volatile int testAbortAfterLoopCount = Integer.MAX_VALUE;
 
   /*
@@ -250,6 +265,58 @@ public class HeapEvictor implements ResourceListener<MemoryEvent> {
     }
   }
 
+  /**
+   * Evicts from every region its share of the bytes to evict. The calling thread, which runs in the
+   * evictor thread pool, evicts the first batch of the plan itself and waits for the other batches
+   * to finish in the rest of the pool. That way there is always a thread for each batch, even if
+   * the pool has only one.
+   */
+  private void evictPlannedBatches() {
+    ExecutorService pool = getEvictorThreadPool();
+    if (pool == null) {
+      return;
+    }
+    List<List<RegionQuota>> plan = evictionPlanner.plan(getAllRegionList(),
+        getTotalBytesToEvict(), cache.cacheTimeMillis());
+    if (plan.isEmpty()) {
+      return;
+    }
+    List<Future<Long>> futures = new ArrayList<>(plan.size() - 1);
+    for (List<RegionQuota> batch : plan.subList(1, plan.size())) {
+      if (!mustEvict()) {
+        break;
+      }
+      try {
+        futures.add(pool.submit(
+            new BatchEvictorTask(cache.getCachePerfStats(), batch, this, statisticsClock)));
+      } catch (RejectedExecutionException e) {
+        // ignore rejection if evictor no longer running
+        if (isRunning()) {
+          throw e;
+        }
+        return;
+      }
+    }
+
+    long bytesEvicted =
+        new BatchEvictorTask(cache.getCachePerfStats(), plan.get(0), this, statisticsClock).call();
+    for (Future<Long> future : futures) {
+      try {
+        bytesEvicted += future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (ExecutionException e) {
+        logger.debug("Eviction batch failed", e.getCause());
+      }
+    }
+    cache.getCachePerfStats().endEvictionCycle(bytesEvicted);
+    if (logger.isDebugEnabled()) {
+      logger.debug("Eviction cycle evicted {} of {} bytes in {} batches", bytesEvicted,
+          getTotalBytesToEvict(), futures.size() + 1);
+    }
+  }
+
   private Set<RegionEvictorTask> createRegionEvictionTasks() {
     if (getEvictorThreadPool() == null) {
       return Collections.emptySet();
@@ -361,7 +428,9 @@ public class HeapEvictor implements ResourceListener<MemoryEvent> {
             if (numEvictionLoopsCompleted < getTestAbortAfterLoopCount()) {
               try {
                 // Submit tasks into the queue to do the evictions
-                if (EVICT_HIGH_ENTRY_COUNT_BUCKETS_FIRST) {
+                if (BATCHED_EVICTION) {
+                  evictPlannedBatches();
+                } else if (EVICT_HIGH_ENTRY_COUNT_BUCKETS_FIRST) {
                   createAndSubmitWeightedRegionEvictionTasks();
                 } else {
                   for (RegionEvictorTask task : createRegionEvictionTasks()) {
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import java.util.ArrayDeque;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.RegionEntry;
+import org.apache.geode.internal.cache.versions.RegionVersionVector;
+import org.apache.geode.internal.logging.log4j.LogMarker;
+import org.apache.geode.logging.internal.log4j.api.LogService;
+
+/**
+ * Adds a frequency based admission filter, in the style of W-TinyLFU, in front of another eviction
+ * list so that a scan over many keys that are used once does not flush the entries that are used
+ * all the time.
+ *
+ * <p>
+ * Every use of an entry is recorded in a {@link FrequencySketch}, which also remembers keys that
+ * were evicted. New entries first pass through a small admission window, about one percent of the
+ * entries. When the list is asked for an entry to evict, the entry that has been in the window the
+ * longest competes with the victim chosen by the wrapped list: whichever was used less often is
+ * evicted and the other one stays.
+ *
+ * @since Geode 1.15
+ */
+public class TinyLfuEvictionList implements EvictionList {
+  private static final Logger logger = LogService.getLogger();
+
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private static final int WINDOW_PERCENT = 1;
+
+  private final EvictionList delegate;
+
+  private final FrequencySketch sketch = new FrequencySketch(INITIAL_CAPACITY);
+
+  /** The entries added most recently, oldest first. Guarded by itself. */
+  private final ArrayDeque<EvictionNode> window = new ArrayDeque<>();
+
+  TinyLfuEvictionList(EvictionList delegate) {
+    this.delegate = delegate;
+  }
+
+  EvictionList getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public void closeStats() {
+    delegate.closeStats();
+  }
+
+  @Override
+  public EvictionCounters getStatistics() {
+    return delegate.getStatistics();
+  }
+
+  @Override
+  public int size() {
+    return delegate.size();
+  }
+
+  @Override
+  public void appendEntry(EvictionNode evictionNode) {
+    if (evictionNode.next() != null) {
+      // already in the list
+      return;
+    }
+    delegate.appendEntry(evictionNode);
+    recordAccess(evictionNode);
+    int size = delegate.size();
+    if (size > sketch.getCapacity()) {
+      sketch.ensureCapacity(2L * size);
+    }
+    synchronized (window) {
+      window.addLast(evictionNode);
+      // entries the eviction threads have not looked at yet are admitted without a contest
+      while (window.size() > 2 * windowSize(size)) {
+        window.pollFirst();
+      }
+    }
+  }
+
+  @Override
+  public void destroyEntry(EvictionNode evictionNode) {
+    // a destroyed entry left in the window is skipped once it reaches the front
+    delegate.destroyEntry(evictionNode);
+  }
+
+  @Override
+  public boolean removeEntry(EvictionNode evictionNode) {
+    return delegate.removeEntry(evictionNode);
+  }
+
+  @Override
+  public void clear(RegionVersionVector regionVersionVector, BucketRegion bucketRegion) {
+    delegate.clear(regionVersionVector, bucketRegion);
+    if (regionVersionVector == null) {
+      synchronized (window) {
+        window.clear();
+      }
+    }
+  }
+
+  @Override
+  public void recordAccess(EvictionNode evictionNode) {
+    sketch.increment(hashOf(evictionNode));
+  }
+
+  @Override
+  public void incrementRecentlyUsed() {
+    delegate.incrementRecentlyUsed();
+  }
+
+  /**
+   * Returns the victim chosen by the wrapped list unless the entry leaving the admission window has
+   * not been used more often than the victim, in which case that entry is evicted instead and the
+   * victim goes back into the list.
+   */
+  @Override
+  public synchronized EvictableEntry getEvictableEntry() {
+    EvictableEntry victim = delegate.getEvictableEntry();
+    if (victim == null) {
+      return null;
+    }
+    EvictionNode candidate = pollCandidate();
+    if (candidate == null || candidate == victim || candidate.next() == null
+        || candidate.isEvicted() || !(candidate instanceof EvictableEntry)) {
+      return victim;
+    }
+    int candidateFrequency = sketch.frequency(hashOf(candidate));
+    int victimFrequency = sketch.frequency(hashOf(victim));
+    if (candidateFrequency > victimFrequency) {
+      return victim;
+    }
+    synchronized (candidate) {
+      if (candidate.isInUseByTransaction()) {
+        return victim;
+      }
+    }
+    if (!delegate.removeEntry(candidate)) {
+      return victim;
+    }
+    delegate.appendEntry(victim);
+    getStatistics().incAdmissionRejections(1);
+    if (logger.isTraceEnabled(LogMarker.LRU_CLOCK_VERBOSE)) {
+      logger.trace(LogMarker.LRU_CLOCK_VERBOSE,
+          "keeping {} used {} times and evicting new entry {} used {} times", victim,
+          victimFrequency, candidate, candidateFrequency);
+    }
+    return (EvictableEntry) candidate;
+  }
+
+  private EvictionNode pollCandidate() {
+    synchronized (window) {
+      if (window.size() > windowSize(delegate.size())) {
+        return window.pollFirst();
+      }
+      return null;
+    }
+  }
+
+  private static int windowSize(int size) {
+    return Math.max(1, size * WINDOW_PERCENT / 100);
+  }
+
+  private static int hashOf(EvictionNode evictionNode) {
+    if (evictionNode instanceof RegionEntry) {
+      Object key = ((RegionEntry) evictionNode).getKey();
+      if (key != null) {
+        return key.hashCode();
+      }
+    }
+    return System.identityHashCode(evictionNode);
+  }
+}
@@ -38,6 +38,13 @@ public interface ServerSideHandshake {
 
   KnownVersion getVersion();
 
+  /**
+   * Returns true if the client can read the compressed parts of the messages it is sent.
+   */
+  default boolean isCompressionAccepted() {
+    return false;
+  }
+
   Object verifyCredentials() throws AuthenticationRequiredException, AuthenticationFailedException;
 
   void setClientReadTimeout(int clientReadTimeout);
@@ -91,6 +91,7 @@ import org.apache.geode.internal.cache.tier.sockets.CacheClientNotifier.CacheCli
 import org.apache.geode.internal.cache.tier.sockets.ClientHealthMonitor.ClientHealthMonitorProvider;
 import org.apache.geode.internal.cache.wan.GatewayReceiverStats;
 import org.apache.geode.internal.inet.LocalHostUtil;
+import org.apache.geode.internal.lang.SystemPropertyHelper;
 import org.apache.geode.internal.logging.CoreLoggingExecutors;
 import org.apache.geode.internal.monitoring.ThreadsMonitoring;
 import org.apache.geode.internal.net.SocketCloser;
@@ -221,6 +222,17 @@ public class AcceptorImpl implements Acceptor, Runnable {
   private final int acceptTimeout =
       Integer.getInteger(ACCEPT_TIMEOUT_PROPERTY_NAME, DEFAULT_ACCEPT_TIMEOUT_MS);
 
+  /**
+   * The name of a system property that makes the selector thread read each client message before
+   * it hands the connection to a thread of the pool, so that no thread of the pool waits for a
+   * client to send the rest of a message. Only used if max-threads is greater than 0.
+   */
+  public static final String SELECTOR_READS_MESSAGES_PROPERTY_NAME =
+      "BridgeServer.SELECTOR_READS_MESSAGES";
+
+  private static final boolean SELECTOR_READS_MESSAGES =
+      Boolean.getBoolean(SELECTOR_READS_MESSAGES_PROPERTY_NAME);
+
   /**
    * The minimum value of max-connections
    */
@@ -694,15 +706,17 @@ public class AcceptorImpl implements Acceptor, Runnable {
         ConnectionTable.releaseThreadsSockets();
       }
     };
+    boolean virtualThreads = SystemPropertyHelper.useVirtualThreads();
     try {
       String threadName = "ServerConnection on port " + localPort + " Thread ";
       if (isSelector()) {
         return CoreLoggingExecutors.newThreadPoolWithUnlimitedFeed(maxThreads, Integer.MAX_VALUE,
             MILLISECONDS, threadName, threadInitializer, commandWrapper,
-            getStats().getCnxPoolHelper(), getThreadMonitorObj());
+            getStats().getCnxPoolHelper(), getThreadMonitorObj(), virtualThreads);
       }
       return CoreLoggingExecutors.newThreadPoolWithSynchronousFeed(MINIMUM_MAX_CONNECTIONS,
-          maxConnections, 0L, SECONDS, threadName, threadInitializer, commandWrapper);
+          maxConnections, 0L, SECONDS, threadName, threadInitializer, commandWrapper,
+          virtualThreads);
     } catch (IllegalArgumentException poolInitException) {
       stats.close();
       serverSock.close();
@@ -1113,6 +1127,26 @@ public class AcceptorImpl implements Acceptor, Runnable {
             try {
               if (key.isValid() && key.isReadable()) {
                 // this is the only event we currently register for
+                if (SELECTOR_READS_MESSAGES) {
+                  boolean messageRead;
+                  try {
+                    messageRead = sc.readAvailable();
+                  } catch (IOException ex) {
+                    key.cancel();
+                    selectorRegistrations.remove(sc);
+                    registeredKeys--;
+                    cancelCount++;
+                    finishCon(sc);
+                    if (logger.isDebugEnabled()) {
+                      logger.debug("Failed to read message from {}", sc, ex);
+                    }
+                    continue;
+                  }
+                  if (!messageRead) {
+                    // stay registered until the rest of the message arrives
+                    continue;
+                  }
+                }
                 try {
                   key.cancel();
                   selectorRegistrations.remove(sc);
@@ -16,7 +16,7 @@ package org.apache.geode.internal.cache.tier.sockets;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Set;
 
 import org.apache.geode.cache.RegionDestroyedException;
@@ -47,6 +47,18 @@ import org.apache.geode.security.ResourcePermission.Resource;
 
 public abstract class BaseCommandQuery extends BaseCommand {
 
+  /**
+   * How long, in milliseconds, writing a chunk of a query response may block before the connection
+   * is closed. Zero disables the timeout.
+   *
+   * @see QueryResponseWriteWatchdog
+   */
+  static final String QUERY_RESPONSE_WRITE_TIMEOUT_PROPERTY_NAME =
+      "BridgeServer.QUERY_RESPONSE_WRITE_TIMEOUT";
+
+  private static final long QUERY_RESPONSE_WRITE_TIMEOUT =
+      Long.getLong(QUERY_RESPONSE_WRITE_TIMEOUT_PROPERTY_NAME, 10 * 60 * 1000);
+
   /**
    * Process the give query and sends the resulset back to the client.
    *
@@ -95,6 +107,7 @@ public abstract class BaseCommandQuery extends BaseCommand {
 
     ((DefaultQuery) query).setRemoteQuery(true);
 
+    QueryResponseWriteWatchdog watchdog = null;
     // Process the query request
     try {
       // integrated security
@@ -191,6 +204,7 @@ public abstract class BaseCommandQuery extends BaseCommand {
           queryResponseMsg.setMessageType(MessageType.RESPONSE);
           queryResponseMsg.setTransactionId(msg.getTransactionId());
           queryResponseMsg.sendHeader();
+          watchdog = startWriteWatchdog(servConn);
         }
 
         if (sendResults && numberOfChunks == 0) {
@@ -198,7 +212,7 @@ public abstract class BaseCommandQuery extends BaseCommand {
           if (logger.isTraceEnabled()) {
             logger.trace("{}: Creating chunk: 0", servConn.getName());
           }
-          writeQueryResponseChunk(new Object[0], collectionType, true, servConn);
+          writeQueryResponseChunk(new Object[0], collectionType, true, servConn, watchdog);
           if (logger.isDebugEnabled()) {
             logger.debug("{}: Sent chunk (1 of 1) of query response for query {}",
                 servConn.getName(), queryString);
@@ -208,12 +222,12 @@ public abstract class BaseCommandQuery extends BaseCommand {
           // from 7.0, if the object is in the form of serialized byte array,
           // send it as a part of ObjectPartList
           if (hasSerializedObjects) {
-            sendResultsAsObjectPartList(numberOfChunks, servConn, selectResults.asList(), isStructs,
-                collectionType, queryString, cqQuery, sendResults,
-                securityService);
+            sendResultsAsObjectPartList(numberOfChunks, servConn, selectResults.iterator(),
+                isStructs, collectionType, queryString, cqQuery, sendResults,
+                securityService, watchdog);
           } else {
             sendResultsAsObjectArray(selectResults, numberOfChunks, servConn, isStructs,
-                collectionType, queryString, cqQuery, sendResults);
+                collectionType, queryString, cqQuery, sendResults, watchdog);
           }
         }
 
@@ -269,6 +283,10 @@ public abstract class BaseCommandQuery extends BaseCommand {
       }
       writeQueryResponseException(msg, e, servConn);
       return false;
+    } finally {
+      if (watchdog != null) {
+        watchdog.cancel();
+      }
     }
 
     if (logger.isDebugEnabled()) {
@@ -279,6 +297,37 @@ public abstract class BaseCommandQuery extends BaseCommand {
     return true;
   }
 
+  /**
+   * Schedules a watchdog that closes the connection if writing a chunk of the query response
+   * blocks for longer than the write timeout, or returns null if the timeout is disabled.
+   */
+  private static QueryResponseWriteWatchdog startWriteWatchdog(ServerConnection servConn) {
+    if (QUERY_RESPONSE_WRITE_TIMEOUT <= 0) {
+      return null;
+    }
+    QueryResponseWriteWatchdog watchdog = new QueryResponseWriteWatchdog(servConn.getSocket(),
+        servConn.getName(), QUERY_RESPONSE_WRITE_TIMEOUT, System::currentTimeMillis);
+    // a write is aborted at most half a timeout after it timed out
+    long period = Math.max(1, QUERY_RESPONSE_WRITE_TIMEOUT / 2);
+    servConn.getCache().getCCPTimer().schedule(watchdog, period, period);
+    return watchdog;
+  }
+
+  private static void writeQueryResponseChunk(Object queryResponseChunk,
+      CollectionType collectionType, boolean lastChunk, ServerConnection servConn,
+      QueryResponseWriteWatchdog watchdog) throws IOException {
+    if (watchdog == null) {
+      writeQueryResponseChunk(queryResponseChunk, collectionType, lastChunk, servConn);
+      return;
+    }
+    watchdog.startWrite();
+    try {
+      writeQueryResponseChunk(queryResponseChunk, collectionType, lastChunk, servConn);
+    } finally {
+      watchdog.endWrite();
+    }
+  }
+
   protected CollectionType getCollectionType(SelectResults<?> results) {
     return results.getCollectionType();
   }
@@ -336,29 +385,32 @@ public abstract class BaseCommandQuery extends BaseCommand {
       ServerConnection servConn, boolean isStructs,
       CollectionType collectionType,
       String queryString, ServerCQ cqQuery,
-      boolean sendResults)
+      boolean sendResults, QueryResponseWriteWatchdog watchdog)
       throws IOException {
     int resultIndex = 0;
-    // For CQ only as we dont want CQEntries which have null values.
-    int cqResultIndex = 0;
-    Object[] objs = selectResults.toArray();
+    // Iterate rather than copy the results to an array, so that each result is only referenced
+    // from the SelectResults and the chunk being sent.
+    Iterator<?> objs = selectResults.iterator();
     for (int j = 0; j < numberOfChunks; j++) {
+      // The entries added to this chunk, which leaves out CQEntries that have null values.
+      int resultsInChunk = 0;
       boolean incompleteArray = false;
       if (logger.isTraceEnabled()) {
         logger.trace("{}: Creating chunk: {}", servConn.getName(), j);
       }
       Object[] results = new Object[MAXIMUM_CHUNK_SIZE];
       for (int i = 0; i < MAXIMUM_CHUNK_SIZE; i++) {
-        if ((resultIndex) == objs.length) {
+        if (!objs.hasNext()) {
           incompleteArray = true;
           break;
         }
+        Object obj = objs.next();
         if (logger.isTraceEnabled()) {
           logger.trace("{}: Adding entry [{}] to query results: {}", servConn.getName(),
-              resultIndex, objs[resultIndex]);
+              resultIndex, obj);
         }
         if (cqQuery != null) {
-          CqEntry e = (CqEntry) objs[resultIndex];
+          CqEntry e = (CqEntry) obj;
           // The value may have become null because of entry invalidation.
           if (e.getValue() == null) {
             resultIndex++;
@@ -380,32 +432,26 @@ public abstract class BaseCommandQuery extends BaseCommand {
           results[i] = e.getKeyValuePair();
         } else {
           // instance check added to fix bug 40516.
-          if (isStructs && (objs[resultIndex] instanceof Struct)) {
-            results[i] = ((Struct) objs[resultIndex]).getFieldValues();
+          if (isStructs && (obj instanceof Struct)) {
+            results[i] = ((Struct) obj).getFieldValues();
           } else {
-            results[i] = objs[resultIndex];
+            results[i] = obj;
           }
         }
         resultIndex++;
-        cqResultIndex++;
+        resultsInChunk++;
       }
       // Shrink array if necessary. This will occur if the number
       // of entries in the chunk does not divide evenly into the
       // number of entries in the result set.
       if (incompleteArray) {
-        final Object[] newResults;
-        if (cqQuery == null) {
-          newResults = new Object[resultIndex % MAXIMUM_CHUNK_SIZE];
-        } else {
-          newResults = new Object[cqResultIndex % MAXIMUM_CHUNK_SIZE];
-        }
+        final Object[] newResults = new Object[resultsInChunk];
         System.arraycopy(results, 0, newResults, 0, newResults.length);
         results = newResults;
       }
 
       if (sendResults) {
-        writeQueryResponseChunk(results, collectionType, (resultIndex == objs.length),
-            servConn);
+        writeQueryResponseChunk(results, collectionType, !objs.hasNext(), servConn, watchdog);
 
         if (logger.isDebugEnabled()) {
           logger.debug("{}: Sent chunk ({} of {}) of query response for query: {}",
@@ -414,18 +460,18 @@ public abstract class BaseCommandQuery extends BaseCommand {
       }
       // If we have reached the last element of SelectResults then we should
       // break out of loop here only.
-      if (resultIndex == objs.length) {
+      if (!objs.hasNext()) {
         break;
       }
     }
   }
 
   private void sendResultsAsObjectPartList(int numberOfChunks, ServerConnection servConn,
-      List<?> objs,
+      Iterator<?> objs,
       boolean isStructs, CollectionType collectionType,
       String queryString, ServerCQ cqQuery,
       boolean sendResults,
-      final SecurityService securityService)
+      final SecurityService securityService, QueryResponseWriteWatchdog watchdog)
       throws IOException {
     int resultIndex = 0;
     for (int j = 0; j < numberOfChunks; j++) {
@@ -434,16 +480,17 @@ public abstract class BaseCommandQuery extends BaseCommand {
       }
       ObjectPartList serializedObjs = new ObjectPartList(MAXIMUM_CHUNK_SIZE, false);
       for (int i = 0; i < MAXIMUM_CHUNK_SIZE; i++) {
-        if ((resultIndex) == objs.size()) {
+        if (!objs.hasNext()) {
           break;
         }
+        Object obj = objs.next();
         if (logger.isTraceEnabled()) {
           logger.trace("{}: Adding entry [{}] to query results: {}", servConn.getName(),
-              resultIndex, objs.get(resultIndex));
+              resultIndex, obj);
         }
         Object result;
         if (cqQuery != null) {
-          CqEntry e = (CqEntry) objs.get(resultIndex);
+          CqEntry e = (CqEntry) obj;
           // The value may have become null because of entry invalidation.
           if (e.getValue() == null) {
             resultIndex++;
@@ -462,7 +509,7 @@ public abstract class BaseCommandQuery extends BaseCommand {
           // Add to the Results object array.
           result = e.getKeyValuePair();
         } else {
-          result = objs.get(resultIndex);
+          result = obj;
         }
         if (sendResults) {
           addToObjectPartList(serializedObjs, result, isStructs,
@@ -473,7 +520,7 @@ public abstract class BaseCommandQuery extends BaseCommand {
 
       if (sendResults) {
         writeQueryResponseChunk(serializedObjs, collectionType, ((j + 1) == numberOfChunks),
-            servConn);
+            servConn, watchdog);
 
         if (logger.isDebugEnabled()) {
           logger.debug("{}: Sent chunk ({} of {}) of query response for query: {}",
@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.net.Socket;
 import java.net.SocketException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -68,6 +70,7 @@ import org.apache.geode.internal.cache.Conflatable;
 import org.apache.geode.internal.cache.DistributedRegion;
 import org.apache.geode.internal.cache.EnumListenerEvent;
 import org.apache.geode.internal.cache.EventID;
+import org.apache.geode.internal.cache.FilterProfile;
 import org.apache.geode.internal.cache.InternalCache;
 import org.apache.geode.internal.cache.LocalRegion;
 import org.apache.geode.internal.cache.PartitionedRegion;
@@ -261,6 +264,21 @@ public class CacheClientProxy implements ClientSession {
   protected static final boolean NOTIFY_REGION_ON_INTEREST =
       Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "updateAccessTimeOnClientInterest");
 
+  /**
+   * The most keys read into the near cache of a client that the server sends invalidations for.
+   * Once exceeded the least recently read keys are no longer tracked.
+   */
+  static final int NEAR_CACHE_MAX_KEYS =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "CacheClientProxy.NEAR_CACHE_MAX_KEYS",
+          10000);
+
+  /** Keys no longer tracked are unregistered in batches of this size */
+  private static final int NEAR_CACHE_UNREGISTER_BATCH_SIZE = 100;
+
+  /** The keys the client read into its near cache, guarded by its own monitor */
+  private final NearCacheReadTracker nearCacheReads =
+      new NearCacheReadTracker(NEAR_CACHE_MAX_KEYS);
+
   /**
    * The AcceptorImpl identifier to which the proxy is connected.
    */
@@ -1238,6 +1256,9 @@ public class CacheClientProxy implements ClientSession {
   protected void registerClientInterest(String regionName, Object keyOfInterest,
       final @NotNull InterestType interestType,
       boolean isDurable, boolean sendUpdatesAsInvalidates, boolean flushState) {
+    if (interestType == InterestType.KEY) {
+      disownNearCacheReads(regionName, Collections.singletonList(keyOfInterest));
+    }
     ClientInterestList cil =
         cils[RegisterInterestTracker.getInterestLookupIndex(isDurable, false)];
     cil.registerClientInterest(regionName, keyOfInterest, interestType, sendUpdatesAsInvalidates);
@@ -1321,6 +1342,13 @@ public class CacheClientProxy implements ClientSession {
    */
   protected void registerClientInterestList(String regionName, List<?> keysOfInterest,
       boolean isDurable, boolean sendUpdatesAsInvalidates, boolean flushState) {
+    disownNearCacheReads(regionName, keysOfInterest);
+    basicRegisterClientInterestList(regionName, keysOfInterest, isDurable,
+        sendUpdatesAsInvalidates, flushState);
+  }
+
+  private void basicRegisterClientInterestList(String regionName, List<?> keysOfInterest,
+      boolean isDurable, boolean sendUpdatesAsInvalidates, boolean flushState) {
     // we only use two interest lists to map the non-durable and durable
     // identifiers to their interest settings
     ClientInterestList cil = cils[RegisterInterestTracker.getInterestLookupIndex(isDurable,
@@ -1356,6 +1384,95 @@ public class CacheClientProxy implements ClientSession {
   }
 
 
+  /**
+   * Registers interest in invalidations of a key that the client reads into its near cache. The
+   * server connection calls this before it reads the value, so that a change made after the read
+   * reaches the client. Only the primary tracks reads; the client sends them to its primary.
+   *
+   * @param regionName The fully-qualified name of the region the key was read from
+   * @param key The key that was read
+   */
+  public void trackNearCacheRead(String regionName, Object key) {
+    if (!isPrimary) {
+      return;
+    }
+    LocalRegion region = (LocalRegion) _cache.getRegion(regionName);
+    if (region == null) {
+      return;
+    }
+    FilterProfile profile = region.getFilterProfile();
+    if (profile != null && (profile.isInterestedInAllKeys(proxyID)
+        || profile.isInterestedInAllKeysInv(proxyID))) {
+      // the client already receives the events of every key
+      return;
+    }
+    boolean tracked;
+    Map<String, Set<Object>> untracked;
+    synchronized (nearCacheReads) {
+      tracked = nearCacheReads.track(regionName, key, () -> hasKeyInterest(profile, key));
+      untracked = nearCacheReads.takeUntracked(NEAR_CACHE_UNREGISTER_BATCH_SIZE);
+    }
+    // the interest is changed outside the monitor so that it does not block other reads
+    if (tracked) {
+      boolean registered = false;
+      try {
+        basicRegisterClientInterestList(regionName, Collections.singletonList(key), false, true,
+            false);
+        registered = true;
+      } finally {
+        if (!registered) {
+          synchronized (nearCacheReads) {
+            nearCacheReads.untrack(regionName, key);
+          }
+        }
+      }
+    }
+    for (Map.Entry<String, Set<Object>> entry : untracked.entrySet()) {
+      unregisterNearCacheReads(entry.getKey(), entry.getValue());
+    }
+  }
+
+  private boolean hasKeyInterest(FilterProfile profile, Object key) {
+    if (profile == null) {
+      return false;
+    }
+    Set<?> keysOfInterest = profile.getKeysOfInterest(proxyID);
+    if (keysOfInterest != null && keysOfInterest.contains(key)) {
+      return true;
+    }
+    keysOfInterest = profile.getKeysOfInterestInv(proxyID);
+    return keysOfInterest != null && keysOfInterest.contains(key);
+  }
+
+  /**
+   * Unregisters the interest that was registered for reads of the given keys, which are no longer
+   * tracked. The interest the client registered in a key itself is not unregistered, since the
+   * tracker does not hand such keys back.
+   */
+  private void unregisterNearCacheReads(String regionName, Set<Object> keys) {
+    // the interest of the keys went away with the region if there is none
+    if (_cache.getRegion(regionName) != null) {
+      cils[RegisterInterestTracker.interestListIndex].unregisterClientInterestList(regionName,
+          new ArrayList<>(keys));
+    }
+    List<Object> keysReadAgain;
+    synchronized (nearCacheReads) {
+      keysReadAgain = nearCacheReads.unregistered(regionName, keys);
+    }
+    if (!keysReadAgain.isEmpty()) {
+      // a key read again while it was being unregistered must keep its interest
+      basicRegisterClientInterestList(regionName, keysReadAgain, false, true, false);
+    }
+  }
+
+  private void disownNearCacheReads(String regionName, List<?> keys) {
+    synchronized (nearCacheReads) {
+      for (Object key : keys) {
+        nearCacheReads.disown(regionName, key);
+      }
+    }
+  }
+
   /** sent by the cache client notifier when there is an interest registration change */
   protected void processInterestMessage(ClientInterestMessageImpl message) {
     // Register or unregister interest depending on the interest type
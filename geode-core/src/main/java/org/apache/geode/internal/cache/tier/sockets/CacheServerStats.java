@@ -200,6 +200,9 @@ public class CacheServerStats implements MessageStats {
 
   int receivedBytesId;
   int sentBytesId;
+  int compressedPartsId;
+  int compressionBytesSavedId;
+  int compressionTimeId;
 
   int outOfOrderBatchIdsId;
   int abandonedWriteRequestsId;
@@ -444,6 +447,16 @@ public class CacheServerStats implements MessageStats {
             "Total number of bytes received from clients.", "bytes"),
         statisticsFactory.createLongCounter("sentBytes", "Total number of bytes sent to clients.",
             "bytes"),
+        statisticsFactory.createLongCounter("compressedParts",
+            "Total number of message parts compressed before they were sent to clients.",
+            "parts"),
+        statisticsFactory.createLongCounter("compressionBytesSaved",
+            "Total number of bytes not sent to clients because message parts were compressed.",
+            "bytes"),
+        statisticsFactory.createLongCounter("compressionTime",
+            "Total time spent compressing message parts sent to clients, including parts "
+                + "that did not get smaller.",
+            "nanoseconds"),
         statisticsFactory.createIntGauge("messagesBeingReceived",
             "Current number of message being received off the network or being processed after reception.",
             "messages"),
@@ -586,6 +599,9 @@ public class CacheServerStats implements MessageStats {
 
     receivedBytesId = stats.nameToId("receivedBytes");
     sentBytesId = stats.nameToId("sentBytes");
+    compressedPartsId = stats.nameToId("compressedParts");
+    compressionBytesSavedId = stats.nameToId("compressionBytesSaved");
+    compressionTimeId = stats.nameToId("compressionTime");
 
     messagesBeingReceivedId = stats.nameToId("messagesBeingReceived");
     messageBytesBeingReceivedId = stats.nameToId("messageBytesBeingReceived");
@@ -939,6 +955,15 @@ public class CacheServerStats implements MessageStats {
     stats.incLong(sentBytesId, v);
   }
 
+  @Override
+  public void incPartCompression(long bytesSaved, long compressionTime) {
+    if (bytesSaved > 0) {
+      stats.incLong(compressedPartsId, 1);
+      stats.incLong(compressionBytesSavedId, bytesSaved);
+    }
+    stats.incLong(compressionTimeId, compressionTime);
+  }
+
   @Override
   public void incMessagesBeingReceived(int bytes) {
     stats.incInt(messagesBeingReceivedId, 1);
@@ -132,6 +132,17 @@ public abstract class Handshake {
    */
   protected byte[] overrides;
 
+  /**
+   * Set in the override byte by clients that can read compressed message parts. Servers older than
+   * Geode 1.15 only look at the conflation bits and ignore it.
+   *
+   * @since Geode 1.15
+   */
+  protected static final byte ACCEPTS_COMPRESSION = 0x10;
+
+  /** @since Geode 1.15 */
+  protected boolean acceptsCompression;
+
   /**
    * Test hooks for per client conflation
    *
@@ -151,6 +162,7 @@ public abstract class Handshake {
     clientReadTimeout = handshake.clientReadTimeout;
     credentials = handshake.credentials;
     overrides = handshake.overrides;
+    acceptsCompression = handshake.acceptsCompression;
     system = handshake.system;
     id = handshake.id;
     securityService = handshake.securityService;
@@ -176,6 +188,7 @@ public abstract class Handshake {
   protected void setOverrides(byte[] values) {
     byte override = values[0];
     setClientConflation(((byte) (override & 0x03)));
+    acceptsCompression = (override & ACCEPTS_COMPRESSION) != 0;
   }
 
   // used by CacheClientNotifier's handshake reading code
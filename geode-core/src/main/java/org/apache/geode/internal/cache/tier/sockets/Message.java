@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.Socket;
 import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SocketChannel;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -96,11 +97,12 @@ public class Message {
 
   private static final ThreadLocal<ByteBuffer> tlCommBuffer = new ThreadLocal<>();
 
-  // These two statics are fields shoved into the flags byte for transmission.
-  // The MESSAGE_IS_RETRY bit is stripped out during deserialization but the other
-  // is left in place
+  // These statics are fields shoved into the flags byte for transmission.
+  // The MESSAGE_IS_RETRY bit is stripped out during deserialization but the others
+  // are left in place. Servers that do not know a bit ignore it.
   private static final byte MESSAGE_HAS_SECURE_PART = (byte) 0x02;
   private static final byte MESSAGE_IS_RETRY = (byte) 0x04;
+  private static final byte MESSAGE_IS_NEAR_CACHE_READ = (byte) 0x08;
 
   private static final byte MESSAGE_IS_RETRY_MASK = (byte) 0xFB;
 
@@ -141,6 +143,10 @@ public class Message {
   private static final int maxMessageSize =
       Integer.getInteger(MAX_MESSAGE_SIZE_PROPERTY, DEFAULT_MAX_MESSAGE_SIZE);
 
+  static int getMaxMessageSize() {
+    return maxMessageSize;
+  }
+
   protected int messageType;
   private int payloadLength = 0;
   int numberOfParts = 0;
@@ -150,6 +156,9 @@ public class Message {
   private ByteBuffer cachedCommBuffer;
   protected Socket socket = null;
   private SocketChannel socketChannel = null;
+
+  /** The channel messages are read from; the socket channel unless one was read ahead. */
+  private ReadableByteChannel readChannel = null;
   private OutputStream outputStream = null;
   protected InputStream inputStream = null;
   private boolean messageModified = true;
@@ -158,6 +167,10 @@ public class Message {
   private boolean isRetry;
 
   private byte flags = 0x00;
+
+  /** Parts of at least this many bytes are compressed when sent; 0 if parts are not compressed. */
+  private int compressionThreshold = 0;
+
   MessageStats messageStats = null;
   protected ServerConnection serverConnection = null;
   private int maxIncomingMessageLength = -1;
@@ -206,6 +219,16 @@ public class Message {
     version = clientVersion;
   }
 
+  /**
+   * Compresses the parts of at least the given number of bytes when this message is sent. Only used
+   * for messages sent to a client that accepted compression in its handshake.
+   *
+   * @param compressionThreshold the minimum size of a compressed part, or 0 to compress no parts
+   */
+  void setCompressionThreshold(int compressionThreshold) {
+    this.compressionThreshold = compressionThreshold;
+  }
+
   public void setMessageHasSecurePartFlag() {
     flags |= MESSAGE_HAS_SECURE_PART;
   }
@@ -261,6 +284,21 @@ public class Message {
     return isRetry;
   }
 
+  /**
+   * Marks a get request from a client that keeps the value in a near cache, asking the server to
+   * send the client an invalidation when the entry changes.
+   */
+  public void setIsNearCacheRead() {
+    flags |= MESSAGE_IS_NEAR_CACHE_READ;
+  }
+
+  /**
+   * This returns true if the client will keep the value read by this message in its near cache.
+   */
+  public boolean isNearCacheRead() {
+    return (flags & MESSAGE_IS_NEAR_CACHE_READ) != 0;
+  }
+
   /* Sets size for HDOS chunk. */
   public void setChunkSize(int chunkSize) {
     this.chunkSize = chunkSize;
@@ -578,6 +616,9 @@ public class Message {
         long headerLen = 0;
         int partsToTransmit = numberOfParts;
 
+        if (compressionThreshold > 0) {
+          compressParts();
+        }
         for (int i = 0; i < numberOfParts; i++) {
           Part part = partsList[i];
           headerLen += PART_HEADER_SIZE;
@@ -621,11 +662,16 @@ public class Message {
           if (partLen <= commBuffer.remaining()) {
             part.writeTo(commBuffer);
           } else {
-            flushBuffer();
-            if (socketChannel != null) {
-              part.writeTo(socketChannel, commBuffer);
+            ByteBuffer offHeapPart = socketChannel != null ? part.createDirectByteBuffer() : null;
+            if (offHeapPart != null) {
+              writeGathering(commBuffer, offHeapPart);
             } else {
-              part.writeTo(outputStream, commBuffer);
+              flushBuffer();
+              if (socketChannel != null) {
+                part.writeTo(socketChannel, commBuffer);
+              } else {
+                part.writeTo(outputStream, commBuffer);
+              }
             }
             if (messageStats != null) {
               messageStats.incSentBytes(partLen);
@@ -663,6 +709,38 @@ public class Message {
     cb.clear();
   }
 
+  private void compressParts() {
+    for (int i = 0; i < numberOfParts; i++) {
+      Part part = partsList[i];
+      if (part.getLength() < compressionThreshold) {
+        continue;
+      }
+      long start = System.nanoTime();
+      int bytesSaved = part.compress(compressionThreshold);
+      if (messageStats != null) {
+        messageStats.incPartCompression(bytesSaved, System.nanoTime() - start);
+      }
+    }
+  }
+
+  /**
+   * Writes what is in the comm buffer followed by the given off-heap part with gathering writes, so
+   * that the part goes from off-heap memory to the socket without being copied to the heap or into
+   * the comm buffer. The caller keeps the part's StoredObject retained until the message is sent.
+   */
+  private void writeGathering(ByteBuffer commBuffer, ByteBuffer offHeapPart) throws IOException {
+    commBuffer.flip();
+    int bufferedBytes = commBuffer.remaining();
+    ByteBuffer[] buffers = {commBuffer, offHeapPart};
+    do {
+      socketChannel.write(buffers, 0, buffers.length);
+    } while (offHeapPart.remaining() > 0);
+    if (messageStats != null) {
+      messageStats.incSentBytes(bufferedBytes);
+    }
+    commBuffer.clear();
+  }
+
   private void readHeaderAndBody(boolean setHeaderReadTimeout, int headerReadTimeoutMillis)
       throws IOException {
     clearParts();
@@ -810,10 +888,10 @@ public class Message {
     messageType = MessageType.INVALID;
 
     final int headerLength = getHeaderLength();
-    if (socketChannel != null) {
+    if (readChannel != null) {
       cb.limit(headerLength);
       do {
-        int bytesRead = socketChannel.read(cb);
+        int bytesRead = readChannel.read(cb);
         if (bytesRead == -1) {
           throw new EOFException(
               "The connection has been reset while reading the header");
@@ -913,14 +991,14 @@ public class Message {
         int off = alreadyReadBytes;
         int remaining = partLen - off;
         while (remaining > 0) {
-          if (socketChannel != null) {
+          if (readChannel != null) {
             int bytesThisTime = remaining;
             cb.clear();
             if (bytesThisTime > cb.capacity()) {
               bytesThisTime = cb.capacity();
             }
             cb.limit(bytesThisTime);
-            int res = socketChannel.read(cb);
+            int res = readChannel.read(cb);
             if (res != -1) {
               cb.flip();
               bytesRemaining -= res;
@@ -988,14 +1066,14 @@ public class Message {
     }
     int bytesRead = 0;
 
-    if (socketChannel != null) {
+    if (readChannel != null) {
       int remaining = commBuffer.remaining();
       if (remaining > bytesRemaining) {
         remaining = bytesRemaining;
         commBuffer.limit(commBuffer.position() + bytesRemaining);
       }
       while (remaining > 0) {
-        int res = socketChannel.read(commBuffer);
+        int res = readChannel.read(commBuffer);
         if (res != -1) {
           remaining -= res;
           bytesRead += res;
@@ -1088,12 +1166,21 @@ public class Message {
     Assert.assertTrue(socket != null);
     this.socket = socket;
     socketChannel = socket.getChannel();
+    readChannel = socketChannel;
     inputStream = is;
     outputStream = os;
     cachedCommBuffer = bb;
     messageStats = msgStats;
   }
 
+  /**
+   * Reads the next message from the given channel, which holds the whole message, rather than from
+   * the socket. Messages after it are read from the socket again.
+   */
+  void readAheadFrom(ReadableByteChannel channel) {
+    readChannel = channel;
+  }
+
   /**
    * Undo any state changes done by setComms.
    *
@@ -1102,6 +1189,7 @@ public class Message {
   public void unsetComms() {
     socket = null;
     socketChannel = null;
+    readChannel = null;
     inputStream = null;
     outputStream = null;
     cachedCommBuffer = null;
@@ -1138,7 +1226,11 @@ public class Message {
   public void receiveWithHeaderReadTimeout(int timeoutMillis) throws IOException {
     if (socket != null) {
       synchronized (getCommBuffer()) {
-        readHeaderAndBody(true, timeoutMillis);
+        try {
+          readHeaderAndBody(true, timeoutMillis);
+        } finally {
+          readChannel = socketChannel;
+        }
       }
     } else {
       throw new IOException("Dead Connection");
@@ -1151,7 +1243,11 @@ public class Message {
   public void receive() throws IOException {
     if (socket != null) {
       synchronized (getCommBuffer()) {
-        readHeaderAndBody(false, -1);
+        try {
+          readHeaderAndBody(false, -1);
+        } finally {
+          readChannel = socketChannel;
+        }
       }
     } else {
       throw new IOException("Dead Connection");
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Collects the bytes of one client message from a non-blocking channel as they arrive, so that the
+ * selector thread can read messages without a thread per connection. Once a whole message has been
+ * read, {@link #takeMessage()} hands it over as a channel that {@link Message} reads from as it
+ * would from the socket.
+ *
+ * <p>
+ * Never reads past the end of the message, so whatever the client sent after it stays in the
+ * socket until the connection is selected again.
+ *
+ * @since Geode 1.15
+ */
+class MessageAssembler {
+
+  static final int HEADER_LENGTH = 17;
+
+  private static final int PAYLOAD_LENGTH_OFFSET = 4;
+
+  private final int maxMessageLength;
+
+  private final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+
+  /** The header followed by the payload once the header has been read; otherwise null. */
+  private ByteBuffer message;
+
+  /**
+   * @param maxMessageLength the largest payload accepted, or 0 for no limit
+   */
+  MessageAssembler(int maxMessageLength) {
+    this.maxMessageLength = maxMessageLength;
+  }
+
+  /**
+   * Reads as much of the current message as the channel has available without blocking.
+   *
+   * @return true if the whole message has been read
+   * @throws EOFException if the channel reached end of stream
+   * @throws IOException if the channel could not be read or the message is too large
+   */
+  boolean readFrom(ReadableByteChannel channel) throws IOException {
+    if (message == null) {
+      read(channel, header);
+      if (header.hasRemaining()) {
+        return false;
+      }
+      int payloadLength = header.getInt(PAYLOAD_LENGTH_OFFSET);
+      if (payloadLength < 0) {
+        throw new IOException("Invalid message length " + payloadLength);
+      }
+      if (maxMessageLength > 0 && payloadLength > maxMessageLength) {
+        throw new IOException(String.format("Message size %s exceeded max limit of %s",
+            payloadLength, maxMessageLength));
+      }
+      header.flip();
+      message = ByteBuffer.allocate(HEADER_LENGTH + payloadLength);
+      message.put(header);
+      header.clear();
+    }
+    read(channel, message);
+    return !message.hasRemaining();
+  }
+
+  private static void read(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      int bytesRead = channel.read(buffer);
+      if (bytesRead < 0) {
+        throw new EOFException("The connection has been reset while reading a message");
+      }
+      if (bytesRead == 0) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Returns true if a whole message has been read and not yet taken.
+   */
+  boolean hasMessage() {
+    return message != null && !message.hasRemaining();
+  }
+
+  /**
+   * Returns the message that has been read and starts collecting the next one.
+   *
+   * @throws IllegalStateException if the whole message has not been read
+   */
+  ReadableByteChannel takeMessage() {
+    if (!hasMessage()) {
+      throw new IllegalStateException("The message has not been read");
+    }
+    ByteBuffer taken = message;
+    message = null;
+    taken.flip();
+    return new ByteBufferChannel(taken);
+  }
+
+  private static class ByteBufferChannel implements ReadableByteChannel {
+    private final ByteBuffer source;
+
+    private boolean open = true;
+
+    private ByteBufferChannel(ByteBuffer source) {
+      this.source = source;
+    }
+
+    @Override
+    public int read(ByteBuffer destination) {
+      if (!source.hasRemaining()) {
+        return -1;
+      }
+      int length = Math.min(source.remaining(), destination.remaining());
+      ByteBuffer slice = source.duplicate();
+      slice.limit(slice.position() + length);
+      destination.put(slice);
+      source.position(source.position() + length);
+      return length;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return open;
+    }
+
+    @Override
+    public void close() {
+      open = false;
+    }
+  }
+}
@@ -28,4 +28,13 @@ public interface MessageStats {
   void incMessagesBeingReceived(int bytes);
 
   void decMessagesBeingReceived(int bytes);
+
+  /**
+   * Records an attempt to compress a part of a message before it is sent.
+   *
+   * @param bytesSaved how much smaller the part got, or 0 if it was sent uncompressed
+   * @param compressionTime the nanoseconds spent compressing the part
+   * @since Geode 1.15
+   */
+  default void incPartCompression(long bytesSaved, long compressionTime) {}
 }
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Remembers the keys a client has read into its near cache, so that the {@link CacheClientProxy}
+ * can send the client invalidations for them. The number of keys is bounded: once it is exceeded
+ * the least recently read key is no longer tracked and is handed back through
+ * {@link #takeUntracked(int)} so that its interest can be unregistered.
+ *
+ * <p>
+ * Only the interest registered for a read is handed back. A key in which the client registered
+ * interest itself, before or after reading it, is {@link #disown(String, Object) disowned}, so that
+ * the client keeps that interest when the key is no longer tracked.
+ *
+ * <p>
+ * Not thread safe; the proxy synchronizes on the tracker. The interest of the keys is registered
+ * and unregistered outside the monitor, so the keys handed back are remembered until the proxy
+ * reports them {@link #unregistered(String, Set) unregistered}, and a key read again in the
+ * meantime is registered again.
+ *
+ * @since Geode 1.15
+ */
+class NearCacheReadTracker {
+
+  private final int maximumKeys;
+
+  /** The tracked keys, mapped to true if their interest was registered for a read */
+  private final LinkedHashMap<RegionKey, Boolean> keys;
+
+  private final Map<String, Set<Object>> untracked = new HashMap<>();
+
+  private int untrackedCount;
+
+  /** Keys handed back by takeUntracked whose interest is being unregistered */
+  private final Set<RegionKey> unregistering = new HashSet<>();
+
+  NearCacheReadTracker(int maximumKeys) {
+    this.maximumKeys = maximumKeys;
+    keys = new LinkedHashMap<RegionKey, Boolean>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<RegionKey, Boolean> eldest) {
+        if (size() <= NearCacheReadTracker.this.maximumKeys) {
+          return false;
+        }
+        if (eldest.getValue()) {
+          RegionKey regionKey = eldest.getKey();
+          if (untracked.computeIfAbsent(regionKey.regionName, k -> new LinkedHashSet<>())
+              .add(regionKey.key)) {
+            untrackedCount++;
+          }
+        }
+        return true;
+      }
+    };
+  }
+
+  /**
+   * Records that the client read the given key, in which it has not registered interest itself.
+   *
+   * @return true if the interest of the key has to be registered
+   */
+  boolean track(String regionName, Object key) {
+    return track(regionName, key, () -> false);
+  }
+
+  /**
+   * Records that the client read the given key.
+   *
+   * @param hasInterest tells whether the client has interest in the key; only asked for a key that
+   *        is not tracked and whose interest was not registered for an earlier read
+   * @return true if the interest of the key has to be registered
+   */
+  boolean track(String regionName, Object key, BooleanSupplier hasInterest) {
+    RegionKey regionKey = new RegionKey(regionName, key);
+    // get rather than put, so that a disowned key stays disowned
+    if (keys.get(regionKey) != null) {
+      return false;
+    }
+    if (removeUntracked(regionName, key)) {
+      // its interest has not been unregistered yet
+      keys.put(regionKey, Boolean.TRUE);
+      return false;
+    }
+    if (!unregistering.contains(regionKey) && hasInterest.getAsBoolean()) {
+      keys.put(regionKey, Boolean.FALSE);
+      return false;
+    }
+    keys.put(regionKey, Boolean.TRUE);
+    return true;
+  }
+
+  /**
+   * Records that the client registered interest in the given key itself, so that its interest is
+   * not handed back once the key is no longer tracked.
+   */
+  void disown(String regionName, Object key) {
+    keys.computeIfPresent(new RegionKey(regionName, key), (k, v) -> Boolean.FALSE);
+    removeUntracked(regionName, key);
+  }
+
+  private boolean removeUntracked(String regionName, Object key) {
+    Set<Object> untrackedKeys = untracked.get(regionName);
+    if (untrackedKeys != null && untrackedKeys.remove(key)) {
+      untrackedCount--;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Stops tracking the given key, for example because its interest could not be registered.
+   */
+  void untrack(String regionName, Object key) {
+    keys.remove(new RegionKey(regionName, key));
+  }
+
+  /**
+   * Returns the keys that are no longer tracked by region name, once there are at least the given
+   * number of them; otherwise returns an empty map. The caller has to report them
+   * {@link #unregistered(String, Set) unregistered} once it has unregistered their interest.
+   */
+  Map<String, Set<Object>> takeUntracked(int minimumKeys) {
+    if (untrackedCount == 0 || untrackedCount < minimumKeys) {
+      return Collections.emptyMap();
+    }
+    Map<String, Set<Object>> result = new HashMap<>(untracked);
+    for (Map.Entry<String, Set<Object>> entry : result.entrySet()) {
+      for (Object key : entry.getValue()) {
+        unregistering.add(new RegionKey(entry.getKey(), key));
+      }
+    }
+    untracked.clear();
+    untrackedCount = 0;
+    return result;
+  }
+
+  /**
+   * Records that the interest of the given keys, taken from {@link #takeUntracked(int)}, has been
+   * unregistered.
+   *
+   * @return the keys that were read again in the meantime, whose interest has to be registered
+   *         again
+   */
+  List<Object> unregistered(String regionName, Set<Object> unregisteredKeys) {
+    List<Object> keysReadAgain = new ArrayList<>();
+    for (Object key : unregisteredKeys) {
+      RegionKey regionKey = new RegionKey(regionName, key);
+      if (unregistering.remove(regionKey) && Boolean.TRUE.equals(keys.get(regionKey))) {
+        keysReadAgain.add(key);
+      }
+    }
+    return keysReadAgain;
+  }
+
+  int size() {
+    return keys.size();
+  }
+
+  void clear() {
+    keys.clear();
+    untracked.clear();
+    untrackedCount = 0;
+    unregistering.clear();
+  }
+
+  private static class RegionKey {
+    private final String regionName;
+    private final Object key;
+
+    private RegionKey(String regionName, Object key) {
+      this.regionName = regionName;
+      this.key = key;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof RegionKey)) {
+        return false;
+      }
+      RegionKey that = (RegionKey) other;
+      return regionName.equals(that.regionName) && key.equals(that.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(regionName, key);
+    }
+  }
+}
@@ -24,6 +24,8 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.geode.annotations.Immutable;
 import org.apache.geode.annotations.internal.MakeNotStatic;
+import org.apache.geode.compression.Compressor;
+import org.apache.geode.compression.SnappyCompressor;
 import org.apache.geode.internal.Assert;
 import org.apache.geode.internal.HeapDataOutputStream;
 import org.apache.geode.internal.offheap.AddressableMemoryManager;
@@ -55,6 +57,17 @@ public class Part {
   @Immutable
   private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
 
+  /**
+   * Set in the type code of a part whose payload is compressed. Only sent to clients that accept
+   * compression in their handshake; the payload is decompressed when the part is read.
+   *
+   * @since Geode 1.15
+   */
+  private static final byte COMPRESSED_FLAG = 0x40;
+
+  @Immutable
+  private static final Compressor COMPRESSOR = new SnappyCompressor();
+
   /**
    * The payload of this part. Could be null, a byte[] or a HeapDataOutputStream on the send side.
    * Could be null, or a byte[] on the receiver side.
@@ -65,6 +78,10 @@ public class Part {
   private byte typeCode;
 
   public void init(byte[] v, byte tc) {
+    if ((tc & COMPRESSED_FLAG) != 0) {
+      v = COMPRESSOR.decompress(v);
+      tc &= ~COMPRESSED_FLAG;
+    }
     if (tc == EMPTY_BYTEARRAY_CODE) {
       part = EMPTY_BYTE_ARRAY;
     } else {
@@ -164,6 +181,48 @@ public class Part {
     }
   }
 
+  /**
+   * Compresses the payload of this part if it is at least the given number of bytes and gets
+   * smaller. A compressed part can only be sent, not read.
+   *
+   * @return the number of bytes saved, or 0 if the part was not compressed
+   */
+  int compress(int threshold) {
+    int length = getLength();
+    if (length < threshold || (typeCode & COMPRESSED_FLAG) != 0) {
+      return 0;
+    }
+    byte[] bytes;
+    if (part instanceof byte[]) {
+      bytes = (byte[]) part;
+    } else if (part instanceof StoredObject) {
+      bytes = new byte[length];
+      ((StoredObject) part).readDataBytes(0, bytes);
+    } else {
+      bytes = ((HeapDataOutputStream) part).toByteArray();
+    }
+    byte[] compressed = COMPRESSOR.compress(bytes);
+    if (compressed.length >= length) {
+      return 0;
+    }
+    // a StoredObject stays retained by whoever added it to the message, so it is not released here
+    part = compressed;
+    typeCode |= COMPRESSED_FLAG;
+    return length - compressed.length;
+  }
+
+  /**
+   * Returns a direct ByteBuffer over the off-heap memory of this part, so that it can be written to
+   * a socket channel without being copied, or null if the part is not off-heap or its memory cannot
+   * be wrapped. The buffer is only valid while the part's StoredObject is retained.
+   */
+  ByteBuffer createDirectByteBuffer() {
+    if (part instanceof StoredObject) {
+      return ((StoredObject) part).createDirectByteBuffer();
+    }
+    return null;
+  }
+
   public String getString() {
     if (part == null) {
       return null;
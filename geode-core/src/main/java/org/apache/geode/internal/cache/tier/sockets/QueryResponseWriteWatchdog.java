@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.function.LongSupplier;
+
+import org.apache.geode.internal.SystemTimer;
+
+/**
+ * Closes the socket of a query response whose chunk writes block for too long. A blocking socket
+ * write has no timeout of its own, so a client that stops reading the results of a query, such as
+ * one that abandons a streaming cursor without closing it, would otherwise keep the thread writing
+ * the response blocked and its results referenced for as long as the connection stays open.
+ * Closing the socket makes the blocked write fail, which ends the response and the connection.
+ *
+ * <p>
+ * Meant to be scheduled to run periodically while the response is written, and cancelled once it
+ * has been.
+ *
+ * @since Geode 1.15
+ */
+class QueryResponseWriteWatchdog extends SystemTimer.SystemTimerTask {
+
+  private final Socket socket;
+
+  private final String connectionName;
+
+  private final long timeoutMillis;
+
+  private final LongSupplier clock;
+
+  /** When the chunk being written started to be written, or 0 if none is */
+  private volatile long writeStartMillis;
+
+  QueryResponseWriteWatchdog(Socket socket, String connectionName, long timeoutMillis,
+      LongSupplier clock) {
+    this.socket = socket;
+    this.connectionName = connectionName;
+    this.timeoutMillis = timeoutMillis;
+    this.clock = clock;
+  }
+
+  /**
+   * Called before a chunk of the response is written.
+   */
+  void startWrite() {
+    writeStartMillis = clock.getAsLong();
+  }
+
+  /**
+   * Called after a chunk of the response has been written, or has failed to.
+   */
+  void endWrite() {
+    writeStartMillis = 0;
+  }
+
+  @Override
+  public void run2() {
+    long start = writeStartMillis;
+    if (start == 0 || clock.getAsLong() - start < timeoutMillis) {
+      return;
+    }
+    logger.warn(
+        "{}: Closing the connection to {} because writing a query response to it has been blocked"
+            + " for more than {} ms",
+        connectionName, socket.getRemoteSocketAddress(), timeoutMillis);
+    cancel();
+    try {
+      socket.close();
+    } catch (IOException ignore) {
+      // the write fails either way
+    }
+  }
+}
@@ -29,6 +29,7 @@ import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
@@ -109,6 +110,17 @@ public class ServerConnection implements Runnable {
 
   public static final String USER_NOT_FOUND = "User authorization attributes not found.";
 
+  /**
+   * The name of a system property that sets the size in bytes from which the parts of the responses
+   * sent to clients are compressed, for clients that accept compression in their handshake.
+   * Responses are not compressed unless it is set.
+   */
+  public static final String COMPRESSION_THRESHOLD_PROPERTY_NAME =
+      "BridgeServer.COMPRESSION_THRESHOLD";
+
+  private static final int COMPRESSION_THRESHOLD =
+      Integer.getInteger(COMPRESSION_THRESHOLD_PROPERTY_NAME, 0);
+
   /**
    * When true requires some formerly credential-less messages to carry credentials. See GEODE-3249
    * and ServerConnection.isInternalMessage()
@@ -192,6 +204,13 @@ public class ServerConnection implements Runnable {
 
   Socket theSocket;
   private ByteBuffer commBuffer;
+
+  /**
+   * Collects the next message while this connection is registered with the selector, if the
+   * selector reads messages; otherwise null. Handed from the selector thread to the thread that
+   * processes the message along with the connection.
+   */
+  private MessageAssembler messageAssembler;
   protected final CachedRegionHelper crHelper;
   protected String name;
 
@@ -515,6 +534,16 @@ public class ServerConnection implements Runnable {
     executeFunctionResponseMessage.setVersion(v);
     registerInterestResponseMessage.setVersion(v);
     keySetResponseMessage.setVersion(v);
+
+    if (COMPRESSION_THRESHOLD > 0 && handshake.isCompressionAccepted()) {
+      replyMessage.setCompressionThreshold(COMPRESSION_THRESHOLD);
+      responseMessage.setCompressionThreshold(COMPRESSION_THRESHOLD);
+      queryResponseMessage.setCompressionThreshold(COMPRESSION_THRESHOLD);
+      chunkedResponseMessage.setCompressionThreshold(COMPRESSION_THRESHOLD);
+      executeFunctionResponseMessage.setCompressionThreshold(COMPRESSION_THRESHOLD);
+      registerInterestResponseMessage.setCompressionThreshold(COMPRESSION_THRESHOLD);
+      keySetResponseMessage.setCompressionThreshold(COMPRESSION_THRESHOLD);
+    }
   }
 
   void setRequestMessage(Message requestMessage) {
@@ -1318,6 +1347,9 @@ public class ServerConnection implements Runnable {
         stats.decThreadQueueSize();
         if (!isTerminated()) {
           getAcceptor().setTLCommBuffer();
+          if (messageAssembler != null && messageAssembler.hasMessage()) {
+            requestMessage.readAheadFrom(messageAssembler.takeMessage());
+          }
           doOneMessage();
           if (processMessages && !crHelper.isShutdown()) {
             // finished message so reregister
@@ -1382,6 +1414,23 @@ public class ServerConnection implements Runnable {
     getAcceptor().registerServerConnection(this);
   }
 
+  /**
+   * Reads whatever the client has sent of its next message without blocking. Called by the selector
+   * thread while this connection is registered with it.
+   *
+   * @return true once the connection has to be handed to a thread to process its next message
+   */
+  boolean readAvailable() throws IOException {
+    if (doHandshake) {
+      // the handshake is not a message, so the thread that processes it reads it
+      return true;
+    }
+    if (messageAssembler == null) {
+      messageAssembler = new MessageAssembler(Message.getMaxMessageSize());
+    }
+    return messageAssembler.readFrom((ReadableByteChannel) getSelectableChannel());
+  }
+
   SelectableChannel getSelectableChannel() {
     return theSocket.getChannel();
   }
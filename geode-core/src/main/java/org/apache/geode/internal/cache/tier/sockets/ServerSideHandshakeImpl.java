@@ -126,6 +126,11 @@ public class ServerSideHandshakeImpl extends Handshake implements ServerSideHand
     return clientVersion;
   }
 
+  @Override
+  public boolean isCompressionAccepted() {
+    return acceptsCompression;
+  }
+
   @Override
   public void handshakeWithClient(OutputStream out, InputStream in, byte endpointType,
       int queueSize, CommunicationMode communicationMode, Principal principal) throws IOException {
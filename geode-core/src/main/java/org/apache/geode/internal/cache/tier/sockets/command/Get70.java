@@ -34,6 +34,8 @@ import org.apache.geode.internal.cache.VersionTagHolder;
 import org.apache.geode.internal.cache.tier.Command;
 import org.apache.geode.internal.cache.tier.MessageType;
 import org.apache.geode.internal.cache.tier.sockets.BaseCommand;
+import org.apache.geode.internal.cache.tier.sockets.CacheClientNotifier;
+import org.apache.geode.internal.cache.tier.sockets.CacheClientProxy;
 import org.apache.geode.internal.cache.tier.sockets.CacheServerStats;
 import org.apache.geode.internal.cache.tier.sockets.ClientProxyMembershipID;
 import org.apache.geode.internal.cache.tier.sockets.Message;
@@ -150,6 +152,10 @@ public class Get70 extends BaseCommand {
     // the value if it is a byte[].
     Entry entry;
     try {
+      if (clientMessage.isNearCacheRead()) {
+        // track the key before reading it so that a later change is sent to the client
+        trackNearCacheRead(regionName, key, serverConnection);
+      }
       entry = getEntry(region, key, callbackArg, serverConnection);
     } catch (Exception e) {
       writeException(clientMessage, e, false, serverConnection);
@@ -238,6 +244,16 @@ public class Get70 extends BaseCommand {
     return getEntryRetained(region, key, callbackArg, servConn);
   }
 
+  private static void trackNearCacheRead(String regionName, Object key,
+      ServerConnection serverConnection) {
+    CacheClientNotifier notifier = serverConnection.getAcceptor().getCacheClientNotifier();
+    ClientProxyMembershipID id = serverConnection.getProxyID();
+    CacheClientProxy proxy = notifier == null || id == null ? null : notifier.getClientProxy(id);
+    if (proxy != null) {
+      proxy.trackNearCacheRead(regionName, key);
+    }
+  }
+
   // take the result 3 element "result" as argument instead of
   // returning as the result to avoid creating the array repeatedly
   // for large number of entries like in getAll. Third element added in
@@ -16,7 +16,10 @@ package org.apache.geode.internal.lang;
 
 import static org.apache.geode.internal.lang.SystemProperty.getProductBooleanProperty;
 
+import org.apache.geode.internal.cache.eviction.ClockEvictionList;
 import org.apache.geode.internal.cache.eviction.LRUListWithAsyncSorting;
+import org.apache.geode.internal.cache.eviction.TinyLfuEvictionList;
+import org.apache.geode.logging.internal.executors.VirtualThreads;
 
 /**
  * The SystemPropertyHelper class is an helper class for accessing system properties used in geode.
@@ -56,6 +59,34 @@ public class SystemPropertyHelper {
 
   public static final String EVICTION_SEARCH_MAX_ENTRIES = "lru.maxSearchEntries";
 
+  /**
+   * When set to "true" LRU eviction uses a clock that sweeps over the region's entries instead of
+   * keeping them in a list (defaults to false). Takes precedence over {@link #EVICTION_SCAN_ASYNC}.
+   * For more details see {@link ClockEvictionList}.
+   *
+   * @since Geode 1.15
+   */
+  public static final String EVICTION_CLOCK = "EvictionClock";
+
+  /**
+   * When set to "true" LRU eviction keeps an entry that is used often instead of evicting it for a
+   * new entry that is used less often (defaults to false). This protects the frequently used
+   * entries from scans over many keys. For more details see {@link TinyLfuEvictionList}.
+   *
+   * @since Geode 1.15
+   */
+  public static final String EVICTION_FREQUENCY_ADMISSION = "EvictionFrequencyAdmission";
+
+  /**
+   * When set to "true" the threads that serve client connections, the threads that read from peer
+   * connections and the message processor pools of the distribution manager are virtual threads
+   * (defaults to false). Ignored on JVMs that do not support virtual threads. For more details see
+   * {@link #useVirtualThreads()}.
+   *
+   * @since Geode 1.15
+   */
+  public static final String USE_VIRTUAL_THREADS = "useVirtualThreads";
+
   public static final String EARLY_ENTRY_EVENT_SERIALIZATION = "earlyEntryEventSerialization";
 
   public static final String DEFAULT_DISK_DIRS_PROPERTY = "defaultDiskDirs";
@@ -113,6 +144,18 @@ public class SystemPropertyHelper {
    */
   public static final String RE_AUTHENTICATE_WAIT_TIME = "reauthenticate.wait.time";
 
+  /**
+   * Returns true if {@link #USE_VIRTUAL_THREADS} is set and the JVM supports virtual threads.
+   * Virtual threads make a thread per connection cheap, so the number of client and peer
+   * connections a member can serve is no longer bounded by the number of platform threads.
+   *
+   * @since Geode 1.15
+   */
+  public static boolean useVirtualThreads() {
+    return getProductBooleanProperty(USE_VIRTUAL_THREADS).orElse(false)
+        && VirtualThreads.isSupported();
+  }
+
   /**
    * As of Geode 1.4.0, a region set operation will be in a transaction even if it is the first
    * operation in the transaction.
@@ -64,10 +64,19 @@ public class CoreLoggingExecutors {
       int workQueueSize, QueueStatHelper queueStatHelper, String threadName,
       ThreadInitializer threadInitializer, CommandWrapper commandWrapper,
       PoolStatHelper poolStatHelper, ThreadsMonitoring threadsMonitoring) {
+    return newFunctionThreadPoolWithFeedStatistics(poolSize, workQueueSize, queueStatHelper,
+        threadName, threadInitializer, commandWrapper, poolStatHelper, threadsMonitoring, false);
+  }
+
+  public static ExecutorService newFunctionThreadPoolWithFeedStatistics(int poolSize,
+      int workQueueSize, QueueStatHelper queueStatHelper, String threadName,
+      ThreadInitializer threadInitializer, CommandWrapper commandWrapper,
+      PoolStatHelper poolStatHelper, ThreadsMonitoring threadsMonitoring,
+      boolean virtualThreads) {
     BlockingQueue<Runnable> workQueue =
         createWorkQueueWithStatistics(workQueueSize, queueStatHelper);
     ThreadFactory threadFactory =
-        new LoggingThreadFactory(threadName, threadInitializer, commandWrapper);
+        newThreadFactory(threadName, threadInitializer, commandWrapper, virtualThreads);
     return new FunctionExecutionPooledExecutor(poolSize, workQueue, threadFactory, poolStatHelper,
         threadsMonitoring);
   }
@@ -105,8 +114,16 @@ public class CoreLoggingExecutors {
   public static ExecutorService newThreadPool(int poolSize, BlockingQueue<Runnable> workQueue,
       String threadName, ThreadInitializer threadInitializer, CommandWrapper commandWrapper,
       PoolStatHelper poolStatHelper, ThreadsMonitoring threadsMonitoring) {
+    return newThreadPool(poolSize, workQueue, threadName, threadInitializer, commandWrapper,
+        poolStatHelper, threadsMonitoring, false);
+  }
+
+  public static ExecutorService newThreadPool(int poolSize, BlockingQueue<Runnable> workQueue,
+      String threadName, ThreadInitializer threadInitializer, CommandWrapper commandWrapper,
+      PoolStatHelper poolStatHelper, ThreadsMonitoring threadsMonitoring,
+      boolean virtualThreads) {
     ThreadFactory threadFactory =
-        new LoggingThreadFactory(threadName, threadInitializer, commandWrapper);
+        newThreadFactory(threadName, threadInitializer, commandWrapper, virtualThreads);
     return new PooledExecutorWithDMStats(poolSize, getIdleThreadTimeoutMillis(), MILLISECONDS,
         workQueue, threadFactory, poolStatHelper, threadsMonitoring);
   }
@@ -124,10 +141,18 @@ public class CoreLoggingExecutors {
       QueueStatHelper queueStatHelper, String threadName, ThreadInitializer threadInitializer,
       CommandWrapper commandWrapper, PoolStatHelper poolStatHelper,
       ThreadsMonitoring threadsMonitoring) {
+    return newThreadPoolWithFeedStatistics(poolSize, workQueueSize, queueStatHelper, threadName,
+        threadInitializer, commandWrapper, poolStatHelper, threadsMonitoring, false);
+  }
+
+  public static ExecutorService newThreadPoolWithFeedStatistics(int poolSize, int workQueueSize,
+      QueueStatHelper queueStatHelper, String threadName, ThreadInitializer threadInitializer,
+      CommandWrapper commandWrapper, PoolStatHelper poolStatHelper,
+      ThreadsMonitoring threadsMonitoring, boolean virtualThreads) {
     BlockingQueue<Runnable> workQueue =
         createWorkQueueWithStatistics(workQueueSize, queueStatHelper);
     return newThreadPool(poolSize, workQueue, threadName, threadInitializer, commandWrapper,
-        poolStatHelper, threadsMonitoring);
+        poolStatHelper, threadsMonitoring, virtualThreads);
   }
 
   public static ExecutorService newThreadPoolWithSynchronousFeed(int poolSize, String threadName,
@@ -159,20 +184,35 @@ public class CoreLoggingExecutors {
   public static ExecutorService newThreadPoolWithSynchronousFeed(int corePoolSize,
       int maximumPoolSize, long keepAliveTime, TimeUnit unit, String threadName,
       ThreadInitializer threadInitializer, CommandWrapper commandWrapper) {
+    return newThreadPoolWithSynchronousFeed(corePoolSize, maximumPoolSize, keepAliveTime, unit,
+        threadName, threadInitializer, commandWrapper, false);
+  }
+
+  public static ExecutorService newThreadPoolWithSynchronousFeed(int corePoolSize,
+      int maximumPoolSize, long keepAliveTime, TimeUnit unit, String threadName,
+      ThreadInitializer threadInitializer, CommandWrapper commandWrapper,
+      boolean virtualThreads) {
     BlockingQueue<Runnable> blockingQueue = new SynchronousQueue<>();
     ThreadFactory threadFactory =
-        new LoggingThreadFactory(threadName, threadInitializer, commandWrapper);
+        newThreadFactory(threadName, threadInitializer, commandWrapper, virtualThreads);
     return new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, unit, blockingQueue,
         threadFactory);
   }
 
+  public static ExecutorService newThreadPoolWithSynchronousFeed(int corePoolSize,
+      int maximumPoolSize, long keepAliveTime, TimeUnit unit, String threadName) {
+    return newThreadPoolWithSynchronousFeed(corePoolSize, maximumPoolSize, keepAliveTime, unit,
+        threadName, false);
+  }
+
   /**
    * Used for P2P Reader Threads in ConnectionTable
    */
   public static ExecutorService newThreadPoolWithSynchronousFeed(int corePoolSize,
-      int maximumPoolSize, long keepAliveTime, TimeUnit unit, String threadName) {
+      int maximumPoolSize, long keepAliveTime, TimeUnit unit, String threadName,
+      boolean virtualThreads) {
     return newThreadPoolWithSynchronousFeed(corePoolSize, maximumPoolSize, keepAliveTime, unit,
-        threadName, null, null);
+        threadName, null, null, virtualThreads);
   }
 
   public static ExecutorService newThreadPoolWithSynchronousFeedThatHandlesRejection(
@@ -191,9 +231,17 @@ public class CoreLoggingExecutors {
       TimeUnit unit, String threadName, ThreadInitializer threadInitializer,
       CommandWrapper commandWrapper, PoolStatHelper poolStatHelper,
       ThreadsMonitoring threadsMonitoring) {
+    return newThreadPoolWithUnlimitedFeed(poolSize, keepAliveTime, unit, threadName,
+        threadInitializer, commandWrapper, poolStatHelper, threadsMonitoring, false);
+  }
+
+  public static ExecutorService newThreadPoolWithUnlimitedFeed(int poolSize, long keepAliveTime,
+      TimeUnit unit, String threadName, ThreadInitializer threadInitializer,
+      CommandWrapper commandWrapper, PoolStatHelper poolStatHelper,
+      ThreadsMonitoring threadsMonitoring, boolean virtualThreads) {
     LinkedBlockingQueue<Runnable> workQueue = new LinkedBlockingQueue<>();
     ThreadFactory threadFactory =
-        new LoggingThreadFactory(threadName, threadInitializer, commandWrapper);
+        newThreadFactory(threadName, threadInitializer, commandWrapper, virtualThreads);
     return new PooledExecutorWithDMStats(poolSize, keepAliveTime, unit, workQueue, threadFactory,
         poolStatHelper, threadsMonitoring);
   }
@@ -202,6 +250,17 @@ public class CoreLoggingExecutors {
     // no instances allowed
   }
 
+  /**
+   * Virtual threads are only used if the JVM supports them; otherwise the threads are daemon
+   * platform threads.
+   */
+  private static ThreadFactory newThreadFactory(String threadName,
+      ThreadInitializer threadInitializer, CommandWrapper commandWrapper,
+      boolean virtualThreads) {
+    return new LoggingThreadFactory(threadName, threadInitializer, commandWrapper, true,
+        virtualThreads);
+  }
+
   private static BlockingQueue<Runnable> createWorkQueueWithStatistics(int workQueueSize,
       QueueStatHelper queueStatHelper) {
     BlockingQueue<Runnable> workQueue;
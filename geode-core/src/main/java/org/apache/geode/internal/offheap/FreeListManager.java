@@ -18,8 +18,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.NavigableSet;
+import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -45,8 +47,19 @@ public class FreeListManager {
   private final Slab[] slabs;
   private final long totalSlabSize;
 
-  private final AtomicReferenceArray<OffHeapStoredObjectAddressStack> tinyFreeLists =
-      new AtomicReferenceArray<>(TINY_FREE_LIST_COUNT);
+  /**
+   * The number of stripes each tiny free list is split into. Each thread frees to, and first
+   * allocates from, its own stripe so that threads allocating and freeing chunks of the same size
+   * do not all contend on one free list.
+   */
+  private final int tinyFreeListStripes =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "OFF_HEAP_FREE_LIST_STRIPES", 1);
+
+  /**
+   * The tiny free lists. The stripes of the free list for a size are stored next to each other
+   * starting at index {@code sizeIndex * tinyFreeListStripes}.
+   */
+  private final AtomicReferenceArray<OffHeapStoredObjectAddressStack> tinyFreeLists;
   // hugeChunkSet is sorted by chunk size in ascending order. It will only contain chunks larger
   // than MAX_TINY.
   private final ConcurrentSkipListSet<OffHeapStoredObject> hugeChunkSet =
@@ -141,6 +154,8 @@ public class FreeListManager {
   private final MemoryAllocatorImpl ma;
 
   public FreeListManager(MemoryAllocatorImpl ma, final Slab[] slabs) {
+    verifyOffHeapFreeListStripes(tinyFreeListStripes);
+    tinyFreeLists = new AtomicReferenceArray<>(TINY_FREE_LIST_COUNT * tinyFreeListStripes);
     this.ma = ma;
     this.slabs = slabs;
     long total = 0;
@@ -167,10 +182,14 @@ public class FreeListManager {
    * enabled.
    */
   private void fillFragments() {
+    fillFragments(fragmentList);
+  }
+
+  private void fillFragments(Collection<Fragment> fragments) {
     if (!validateMemoryWithFill) {
       return;
     }
-    for (Fragment fragment : fragmentList) {
+    for (Fragment fragment : fragments) {
       fragment.fill();
     }
   }
@@ -344,6 +363,17 @@ public class FreeListManager {
     return false;
   }
 
+  private boolean combineIfAdjacentAndSmallEnough(long lowAddr, long highAddr,
+      Set<Long> coalesced) {
+    if (!combineIfAdjacentAndSmallEnough(lowAddr, highAddr)) {
+      return false;
+    }
+    if (coalesced != null) {
+      coalesced.add(lowAddr);
+    }
+    return true;
+  }
+
   /**
    * Returns true if the area if memory (starting at lowAddr and extending to lowAddr+lowSize) is
    * right before (i.e. adjacent) to highAddr.
@@ -456,41 +486,7 @@ public class FreeListManager {
     boolean result = false;
     ArrayList<LongStack> freeChunks = new ArrayList<>();
     collectFreeChunks(freeChunks);
-    ResizableLongArray sorted = new ResizableLongArray();
-    for (LongStack l : freeChunks) {
-      long addr = l.poll();
-      while (addr != 0) {
-        int idx = sorted.binarySearch(addr);
-        idx = -idx;
-        idx--;
-        int sortedSize = sorted.size();
-        if (idx == sortedSize) {
-          // addr is > everything in the array
-          if (sortedSize == 0) {
-            // nothing was in the array
-            sorted.add(addr);
-          } else {
-            if (!combineIfAdjacentAndSmallEnough(sorted.get(idx - 1), addr)) {
-              sorted.add(addr);
-            }
-          }
-        } else {
-          if (combineIfAdjacentAndSmallEnough(addr, sorted.get(idx))) {
-            sorted.set(idx, addr);
-          } else {
-            if (idx == 0 || !combineIfAdjacentAndSmallEnough(sorted.get(idx - 1), addr)) {
-              sorted.insert(idx, addr);
-            }
-          }
-        }
-        addr = l.poll();
-      }
-    }
-    for (int i = sorted.size() - 1; i > 0; i--) {
-      if (combineIfAdjacentAndSmallEnough(sorted.get(i - 1), sorted.get(i))) {
-        sorted.set(i, 0L);
-      }
-    }
+    ResizableLongArray sorted = combineFreeChunks(freeChunks);
 
     int largestFragment = 0;
     lastFragmentAllocation.set(0);
@@ -525,6 +521,129 @@ public class FreeListManager {
     return result;
   }
 
+  /**
+   * Combines the chunks on the tiny and huge free lists that are next to each other. Runs of
+   * adjacent chunks that combine into a chunk larger than {@link #MAX_TINY} are turned into new
+   * fragments; smaller runs go back on the free lists as one chunk, and chunks that have no free
+   * neighbour are put back unchanged. Unlike {@link #defragment(int)} this leaves the existing
+   * fragments alone so threads can keep allocating from them while it runs; only allocations that
+   * would have been satisfied by a free list chunk can find it missing and fall back to the
+   * fragments. Meant to be called periodically in the background so that memory freed in small
+   * chunks is turned back into large fragments before an allocation has to defragment everything.
+   * <p>
+   * This only coalesces free memory; it does not compact. Objects that are in use are never moved,
+   * so free memory that is split up by them stays split up and an allocation can still fail with
+   * an {@link OutOfOffHeapMemoryException} even though enough memory is free in total.
+   *
+   * @return true if the free lists had any chunks to defragment
+   */
+  boolean defragmentFreeLists() {
+    if (getFreedChunks() == 0) {
+      return false;
+    }
+    final long startDefragmentationTime = ma.getStats().startDefragmentation();
+    try {
+      synchronized (this) {
+        ArrayList<LongStack> freeChunks = new ArrayList<>();
+        collectFreeHugeChunks(freeChunks);
+        collectFreeTinyChunks(freeChunks);
+        Set<Long> coalesced = new HashSet<>();
+        ResizableLongArray sorted = combineFreeChunks(freeChunks, coalesced);
+
+        ArrayList<Fragment> newFragments = new ArrayList<>();
+        for (int i = sorted.size() - 1; i >= 0; i--) {
+          long addr = sorted.get(i);
+          if (addr == 0L) {
+            continue;
+          }
+          int addrSize = OffHeapStoredObject.getSize(addr);
+          if (addrSize > MAX_TINY && coalesced.contains(addr)) {
+            newFragments.add(createFragment(addr, addrSize));
+          } else {
+            if (validateMemoryWithFill && coalesced.contains(addr)) {
+              // overwrite the headers of the chunks that were combined into this one
+              OffHeapStoredObject.fill(addr);
+            }
+            free(addr, false);
+          }
+        }
+        fillFragments(newFragments);
+        // drop the fragments that have been allocated completely so the list does not keep growing
+        fragmentList.removeIf(fragment -> fragment.freeSpace() == 0);
+        fragmentList.addAll(newFragments);
+
+        // Signal any waiters that a defragmentation happened.
+        defragmentationCount.incrementAndGet();
+
+        ma.getStats().incBackgroundDefragmentations();
+        ma.getStats().setLargestFragment(largestFragmentSize());
+        ma.getStats().setFragments(fragmentList.size());
+        ma.getStats().setFragmentation(getFragmentation());
+        ma.getStats().setFreedChunks(getFreedChunks());
+        return true;
+      }
+    } finally {
+      ma.getStats().endDefragmentation(startDefragmentationTime);
+    }
+  }
+
+  private ResizableLongArray combineFreeChunks(List<LongStack> freeChunks) {
+    return combineFreeChunks(freeChunks, null);
+  }
+
+  /**
+   * Sorts the given free chunks by address, combining the ones that are adjacent. Combined chunks
+   * are either left out of the result or replaced with 0. If coalesced is not null the address of
+   * every chunk that another chunk was combined into is added to it.
+   */
+  private ResizableLongArray combineFreeChunks(List<LongStack> freeChunks, Set<Long> coalesced) {
+    long combined = 0;
+    ResizableLongArray sorted = new ResizableLongArray();
+    for (LongStack l : freeChunks) {
+      long addr = l.poll();
+      while (addr != 0) {
+        int idx = sorted.binarySearch(addr);
+        idx = -idx;
+        idx--;
+        int sortedSize = sorted.size();
+        if (idx == sortedSize) {
+          // addr is > everything in the array
+          if (sortedSize == 0) {
+            // nothing was in the array
+            sorted.add(addr);
+          } else {
+            if (!combineIfAdjacentAndSmallEnough(sorted.get(idx - 1), addr, coalesced)) {
+              sorted.add(addr);
+            } else {
+              combined++;
+            }
+          }
+        } else {
+          if (combineIfAdjacentAndSmallEnough(addr, sorted.get(idx), coalesced)) {
+            sorted.set(idx, addr);
+            combined++;
+          } else {
+            if (idx == 0
+                || !combineIfAdjacentAndSmallEnough(sorted.get(idx - 1), addr, coalesced)) {
+              sorted.insert(idx, addr);
+            } else {
+              combined++;
+            }
+          }
+        }
+        addr = l.poll();
+      }
+    }
+    for (int i = sorted.size() - 1; i > 0; i--) {
+      if (combineIfAdjacentAndSmallEnough(sorted.get(i - 1), sorted.get(i), coalesced)) {
+        sorted.set(i, 0L);
+        combined++;
+      }
+    }
+    ma.getStats().incCoalescedChunks(combined);
+    return sorted;
+  }
+
   public void updateNonRealTimeStats() {
     ma.getStats().setLargestFragment(largestFragmentSize());
     ma.getStats().setFreedChunks(getFreedChunks());
@@ -589,6 +708,13 @@ public class FreeListManager {
     }
   }
 
+  static void verifyOffHeapFreeListStripes(int tinyFreeListStripes) {
+    if (tinyFreeListStripes <= 0 || tinyFreeListStripes > 256) {
+      throw new IllegalStateException(
+          GeodeGlossary.GEMFIRE_PREFIX + "OFF_HEAP_FREE_LIST_STRIPES must be >= 1 and <= 256.");
+    }
+  }
+
   static void verifyHugeMultiple(int hugeMultiple) {
     if (hugeMultiple > 256 || hugeMultiple < 0) {
       // this restriction exists because of the dataSize field in the object header.
@@ -750,14 +876,20 @@ public class FreeListManager {
 
   private OffHeapStoredObject basicAllocate(int idx, int multiple, int offset,
       AtomicReferenceArray<OffHeapStoredObjectAddressStack> freeLists, boolean useFragments) {
-    OffHeapStoredObjectAddressStack clq = freeLists.get(idx);
-    if (clq != null) {
-      long memAddr = clq.poll();
-      if (memAddr != 0) {
-        OffHeapStoredObject result = new OffHeapStoredObject(memAddr);
-        checkDataIntegrity(result);
-        result.readyForAllocation();
-        return result;
+    int firstStripe = idx * tinyFreeListStripes;
+    int homeStripe = getHomeStripe();
+    for (int i = 0; i < tinyFreeListStripes; i++) {
+      // start with our own stripe and only then take chunks freed by other threads
+      OffHeapStoredObjectAddressStack clq =
+          freeLists.get(firstStripe + (homeStripe + i) % tinyFreeListStripes);
+      if (clq != null && !clq.isEmpty()) {
+        long memAddr = clq.poll();
+        if (memAddr != 0) {
+          OffHeapStoredObject result = new OffHeapStoredObject(memAddr);
+          checkDataIntegrity(result);
+          result.readyForAllocation();
+          return result;
+        }
       }
     }
     if (useFragments) {
@@ -842,7 +974,15 @@ public class FreeListManager {
   }
 
   private void freeTiny(long addr, int cSize) {
-    basicFree(addr, getNearestTinyMultiple(cSize), tinyFreeLists);
+    basicFree(addr, getNearestTinyMultiple(cSize) * tinyFreeListStripes + getHomeStripe(),
+        tinyFreeLists);
+  }
+
+  private int getHomeStripe() {
+    if (tinyFreeListStripes == 1) {
+      return 0;
+    }
+    return (int) (Thread.currentThread().getId() % tinyFreeListStripes);
   }
 
   private void basicFree(long addr, int idx,
@@ -909,7 +1049,7 @@ public class FreeListManager {
       }
       long addr = tinyFreeLists.get(i).getTopAddress();
       while (addr != 0L) {
-        value.add(new MemoryBlockNode(sma, new TinyMemoryBlock(addr, i)));
+        value.add(new MemoryBlockNode(sma, new TinyMemoryBlock(addr, i / tinyFreeListStripes)));
         addr = OffHeapStoredObject.getNext(addr);
       }
     }
@@ -64,10 +64,21 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
       SystemProperty.getProductIntegerProperty(
           "off-heap-stats-update-frequency-ms").orElse(3600000);
 
+  /**
+   * How often, in milliseconds, the free lists are defragmented in the background. Zero, the
+   * default, disables background defragmentation so that off-heap memory is only defragmented
+   * when an allocation can not be satisfied. The background pass only coalesces adjacent free
+   * chunks; see {@link FreeListManager#defragmentFreeLists()}.
+   */
+  public static final String BACKGROUND_DEFRAGMENTATION_INTERVAL_MS_PROPERTY =
+      GeodeGlossary.GEMFIRE_PREFIX + "OFF_HEAP_BACKGROUND_DEFRAGMENTATION_INTERVAL_MS";
+
   private final ScheduledExecutorService updateNonRealTimeStatsExecutor;
 
   private final ScheduledFuture<?> updateNonRealTimeStatsFuture;
 
+  private final ScheduledFuture<?> backgroundDefragmentationFuture;
+
   private volatile OffHeapMemoryStats stats;
 
   private volatile OutOfOffHeapMemoryListener ooohml;
@@ -244,6 +255,22 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
     updateNonRealTimeStatsFuture =
         updateNonRealTimeStatsExecutor.scheduleAtFixedRate(freeList::updateNonRealTimeStats, 0,
             updateOffHeapStatsFrequencyMs, TimeUnit.MILLISECONDS);
+    long backgroundDefragmentationIntervalMs =
+        Long.getLong(BACKGROUND_DEFRAGMENTATION_INTERVAL_MS_PROPERTY, 0);
+    if (backgroundDefragmentationIntervalMs > 0) {
+      backgroundDefragmentationFuture =
+          updateNonRealTimeStatsExecutor.scheduleWithFixedDelay(this::defragmentInBackground,
+              backgroundDefragmentationIntervalMs, backgroundDefragmentationIntervalMs,
+              TimeUnit.MILLISECONDS);
+    } else {
+      backgroundDefragmentationFuture = null;
+    }
+  }
+
+  private void defragmentInBackground() {
+    if (!isClosed()) {
+      freeList.defragmentFreeLists();
+    }
   }
 
   public List<OffHeapStoredObject> getLostChunks(InternalCache cache) {
@@ -405,6 +432,9 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
   private void realClose() {
     // Removing this memory immediately can lead to a SEGV. See 47885.
     if (setClosed()) {
+      if (backgroundDefragmentationFuture != null) {
+        backgroundDefragmentationFuture.cancel(false);
+      }
       freeList.freeSlabs();
       stats.close();
       updateNonRealTimeStatsFuture.cancel(true);
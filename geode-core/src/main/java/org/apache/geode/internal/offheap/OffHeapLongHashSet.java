@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.offheap;
+
+/**
+ * An open addressing hash set of non-zero longs whose table lives in a {@link Slab} of off-heap
+ * memory instead of on the Java heap. Meant for large, short lived sets of ids, such as the ids of
+ * the entries destroyed in a disk store, that would otherwise need gigabytes of heap and put
+ * pressure on the garbage collector. The memory is allocated directly and does not come out of
+ * the cache's off-heap memory.
+ *
+ * <p>
+ * Zero marks an empty slot so it can not be added. The set is not thread safe and
+ * {@link #release()} must be called once it is no longer needed.
+ *
+ * @since Geode 1.15
+ */
+public class OffHeapLongHashSet implements Releasable {
+
+  /**
+   * The largest number of slots a single slab can hold. Adding more elements than fit at the
+   * maximum load factor throws an {@link IllegalArgumentException}, like the heap based sets do.
+   */
+  public static final int MAX_CAPACITY = 1 << 27;
+
+  private static final int MIN_CAPACITY = 16;
+
+  private static final int SLOT_SIZE = Long.BYTES;
+
+  private Slab slab;
+
+  private int capacity;
+
+  private int mask;
+
+  private int size;
+
+  private int maxFill;
+
+  public OffHeapLongHashSet() {
+    this(MIN_CAPACITY);
+  }
+
+  /**
+   * @param expected the number of elements the set should hold without growing
+   */
+  public OffHeapLongHashSet(int expected) {
+    allocate(tableSize(expected));
+  }
+
+  /**
+   * @return true if the element was not already in the set
+   * @throws IllegalArgumentException if the element is zero or the set is full
+   */
+  public boolean add(long element) {
+    if (element == 0) {
+      throw new IllegalArgumentException("zero can not be added to an OffHeapLongHashSet");
+    }
+    if (size >= maxFill) {
+      grow();
+    }
+    if (!insert(slab.getMemoryAddress(), mask, element)) {
+      return false;
+    }
+    size++;
+    return true;
+  }
+
+  public boolean contains(long element) {
+    if (element == 0) {
+      return false;
+    }
+    long address = slab.getMemoryAddress();
+    int slot = slot(element, mask);
+    long current;
+    while ((current = AddressableMemoryManager.readLong(address + (long) slot * SLOT_SIZE)) != 0) {
+      if (current == element) {
+        return true;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return false;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the number of bytes of off-heap memory used by this set.
+   */
+  public long getMemorySize() {
+    return slab == null ? 0 : slab.getSize();
+  }
+
+  @Override
+  public void release() {
+    if (slab != null) {
+      slab.free();
+      slab = null;
+    }
+  }
+
+  private void grow() {
+    if (capacity >= MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Too large (" + size + " elements in an OffHeapLongHashSet of " + capacity + " slots)");
+    }
+    Slab oldSlab = slab;
+    int oldCapacity = capacity;
+    allocate(capacity * 2);
+    try {
+      long oldAddress = oldSlab.getMemoryAddress();
+      long newAddress = slab.getMemoryAddress();
+      for (int i = 0; i < oldCapacity; i++) {
+        long element = AddressableMemoryManager.readLong(oldAddress + (long) i * SLOT_SIZE);
+        if (element != 0) {
+          insert(newAddress, mask, element);
+        }
+      }
+    } finally {
+      oldSlab.free();
+    }
+  }
+
+  private void allocate(int newCapacity) {
+    int bytes = newCapacity * SLOT_SIZE;
+    Slab newSlab = AddressableMemoryManager.allocateSlab(bytes);
+    AddressableMemoryManager.fill(newSlab.getMemoryAddress(), bytes, (byte) 0);
+    slab = newSlab;
+    capacity = newCapacity;
+    mask = newCapacity - 1;
+    maxFill = (int) (newCapacity * 3L / 4);
+  }
+
+  private static boolean insert(long address, int mask, long element) {
+    int slot = slot(element, mask);
+    long current;
+    while ((current = AddressableMemoryManager.readLong(address + (long) slot * SLOT_SIZE)) != 0) {
+      if (current == element) {
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+    AddressableMemoryManager.writeLong(address + (long) slot * SLOT_SIZE, element);
+    return true;
+  }
+
+  private static int slot(long element, int mask) {
+    long h = element * 0x9E3779B97F4A7C15L;
+    h ^= h >>> 32;
+    return (int) (h ^ (h >>> 16)) & mask;
+  }
+
+  private static int tableSize(int expected) {
+    long needed = Math.max(MIN_CAPACITY, (long) Math.ceil(expected / 0.75));
+    if (needed > MAX_CAPACITY) {
+      return MAX_CAPACITY;
+    }
+    return Integer.highestOneBit((int) needed - 1) << 1;
+  }
+}
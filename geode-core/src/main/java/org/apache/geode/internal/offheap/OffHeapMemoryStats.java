@@ -45,6 +45,16 @@ public interface OffHeapMemoryStats {
 
   void setFreedChunks(long value);
 
+  /**
+   * @since Geode 1.15
+   */
+  void incBackgroundDefragmentations();
+
+  /**
+   * @since Geode 1.15
+   */
+  void incCoalescedChunks(long value);
+
   long getFreeMemory();
 
   long getMaxMemory();
@@ -69,6 +79,16 @@ public interface OffHeapMemoryStats {
 
   long getDefragmentationTime();
 
+  /**
+   * @since Geode 1.15
+   */
+  int getBackgroundDefragmentations();
+
+  /**
+   * @since Geode 1.15
+   */
+  long getCoalescedChunks();
+
   Statistics getStats();
 
   void close();
@@ -62,6 +62,8 @@ public class OffHeapStorage implements OffHeapMemoryStats {
   private static final int fragmentationId;
   private static final int defragmentationsInProgressId;
   private static final int freedChunksId;
+  private static final int backgroundDefragmentationsId;
+  private static final int coalescedChunksId;
   // NOTE!!!! When adding new stats make sure and update the initialize method on this class
 
   // creates and registers the statistics type
@@ -75,6 +77,10 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     final String defragmentationsInProgressDesc =
         "Current number of defragment operations currently in progress.";
     final String defragmentationTimeDesc = "The total time spent defragmenting off-heap memory.";
+    final String backgroundDefragmentationsDesc =
+        "The total number of times the free lists of off-heap memory have been defragmented in the background without interrupting allocations from the existing fragments. This only coalesces adjacent free chunks and never moves objects that are in use, so it can not prevent an out of off-heap memory error caused by fragmentation. Included in defragmentations.";
+    final String coalescedChunksDesc =
+        "The total number of free off-heap memory chunks that defragmentation has combined with an adjacent free chunk.";
     final String fragmentationDesc =
         "The percentage of off-heap free memory that is fragmented.  Updated every time a defragmentation is performed.";
     final String fragmentsDesc =
@@ -103,6 +109,8 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     final String objects = "objects";
     final String reads = "reads";
     final String maxMemory = "maxMemory";
+    final String backgroundDefragmentations = "backgroundDefragmentations";
+    final String coalescedChunks = "coalescedChunks";
 
     statsType = f.createType(statsTypeName, statsTypeDescription,
         new StatisticDescriptor[] {f.createLongGauge(usedMemory, usedMemoryDesc, "bytes"),
@@ -117,7 +125,10 @@ public class OffHeapStorage implements OffHeapMemoryStats {
             f.createIntGauge(largestFragment, largestFragmentDesc, "bytes"),
             f.createIntGauge(objects, objectsDesc, "objects"),
             f.createLongCounter(reads, readsDesc, "operations"),
-            f.createLongGauge(maxMemory, maxMemoryDesc, "bytes"),});
+            f.createLongGauge(maxMemory, maxMemoryDesc, "bytes"),
+            f.createIntCounter(backgroundDefragmentations, backgroundDefragmentationsDesc,
+                "operations"),
+            f.createLongCounter(coalescedChunks, coalescedChunksDesc, "chunks"),});
 
     usedMemoryId = statsType.nameToId(usedMemory);
     defragmentationId = statsType.nameToId(defragmentations);
@@ -131,6 +142,8 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     objectsId = statsType.nameToId(objects);
     readsId = statsType.nameToId(reads);
     maxMemoryId = statsType.nameToId(maxMemory);
+    backgroundDefragmentationsId = statsType.nameToId(backgroundDefragmentations);
+    coalescedChunksId = statsType.nameToId(coalescedChunks);
   }
 
   public static long parseOffHeapMemorySize(String value) {
@@ -399,6 +412,26 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     return stats.getLong(defragmentationTimeId);
   }
 
+  @Override
+  public void incBackgroundDefragmentations() {
+    stats.incInt(backgroundDefragmentationsId, 1);
+  }
+
+  @Override
+  public int getBackgroundDefragmentations() {
+    return stats.getInt(backgroundDefragmentationsId);
+  }
+
+  @Override
+  public void incCoalescedChunks(long value) {
+    stats.incLong(coalescedChunksId, value);
+  }
+
+  @Override
+  public long getCoalescedChunks() {
+    return stats.getLong(coalescedChunksId);
+  }
+
   @Override
   public void setFragmentation(int value) {
     stats.setInt(fragmentationId, value);
@@ -437,10 +470,20 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     setLargestFragment(oldStats.getLargestFragment());
     setDefragmentationTime(oldStats.getDefragmentationTime());
     setFragmentation(oldStats.getFragmentation());
+    setBackgroundDefragmentations(oldStats.getBackgroundDefragmentations());
+    setCoalescedChunks(oldStats.getCoalescedChunks());
 
     oldStats.close();
   }
 
+  private void setBackgroundDefragmentations(int value) {
+    stats.setInt(backgroundDefragmentationsId, value);
+  }
+
+  private void setCoalescedChunks(long value) {
+    stats.setLong(coalescedChunksId, value);
+  }
+
   private void setDefragmentationTime(long value) {
     stats.setLong(defragmentationTimeId, value);
   }
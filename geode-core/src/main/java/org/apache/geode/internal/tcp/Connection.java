@@ -47,6 +47,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
@@ -187,9 +188,10 @@ public class Connection implements Runnable {
   private final Socket socket;
 
   /**
-   * output stream/channel lock
+   * output stream/channel lock, a {@link ReentrantLock} rather than a monitor so that virtual
+   * threads waiting for it or writing to the socket while holding it never pin a carrier thread
    */
-  private final Object outLock = new Object();
+  private final ReentrantLock outLock = new ReentrantLock();
 
   /**
    * the ID string of the conduit (for logging)
@@ -2505,7 +2507,8 @@ public class Connection implements Runnable {
     int retries = 0;
     int totalAmtWritten = 0;
     try {
-      synchronized (outLock) {
+      outLock.lock();
+      try {
         if (!forceAsync) {
           // check one more time while holding outLock in case a pusher was created
           if (asyncQueuingInProgress) {
@@ -2642,6 +2645,8 @@ public class Connection implements Runnable {
         } finally {
           channel.configureBlocking(true);
         }
+      } finally {
+        outLock.unlock();
       }
     } finally {
       if (socketWriteStarted) {
@@ -2674,7 +2679,8 @@ public class Connection implements Runnable {
         // fall through
       }
       long startLock = stats.startSocketLock();
-      synchronized (outLock) {
+      outLock.lock();
+      try {
         stats.endSocketLock(startLock);
         if (asyncQueuingInProgress) {
           if (addToQueue(buffer, msg, false)) {
@@ -2696,6 +2702,8 @@ public class Connection implements Runnable {
           }
 
         }
+      } finally {
+        outLock.unlock();
       }
     } else {
       writeAsync(channel, buffer, forceAsync, msg, stats);
@@ -48,6 +48,7 @@ import org.apache.geode.distributed.internal.membership.api.MemberIdentifier;
 import org.apache.geode.distributed.internal.membership.api.Membership;
 import org.apache.geode.internal.Assert;
 import org.apache.geode.internal.SystemTimer;
+import org.apache.geode.internal.lang.SystemPropertyHelper;
 import org.apache.geode.internal.lang.utils.JavaWorkarounds;
 import org.apache.geode.internal.logging.CoreLoggingExecutors;
 import org.apache.geode.internal.net.BufferPool;
@@ -202,11 +203,12 @@ public class ConnectionTable {
   }
 
   private Executor createThreadPoolForIO(boolean conserveSockets) {
+    boolean virtualThreads = SystemPropertyHelper.useVirtualThreads();
     if (conserveSockets) {
-      return LoggingExecutors.newThreadOnEachExecute("SharedP2PReader");
+      return LoggingExecutors.newThreadOnEachExecute("SharedP2PReader", virtualThreads);
     }
     return CoreLoggingExecutors.newThreadPoolWithSynchronousFeed(1, MAX_VALUE,
-        READER_POOL_KEEP_ALIVE_TIME, SECONDS, "UnsharedP2PReader");
+        READER_POOL_KEEP_ALIVE_TIME, SECONDS, "UnsharedP2PReader", virtualThreads);
   }
 
   /** conduit calls acceptConnection after an accept */
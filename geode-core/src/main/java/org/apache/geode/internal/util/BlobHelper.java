@@ -17,9 +17,11 @@ package org.apache.geode.internal.util;
 import java.io.IOException;
 
 import org.apache.geode.DataSerializer;
+import org.apache.geode.annotations.internal.MakeNotStatic;
 import org.apache.geode.distributed.internal.DMStats;
 import org.apache.geode.distributed.internal.InternalDistributedSystem;
 import org.apache.geode.internal.HeapDataOutputStream;
+import org.apache.geode.internal.ThreadLocalHeapDataOutputStreamCache;
 import org.apache.geode.internal.offheap.StoredObject;
 import org.apache.geode.internal.offheap.annotations.Unretained;
 import org.apache.geode.internal.serialization.ByteArrayDataInput;
@@ -35,6 +37,14 @@ import org.apache.geode.pdx.internal.PdxInputStream;
  */
 public class BlobHelper {
 
+  /**
+   * Blobs that fit in the buffer of the stream they are serialized into are copied out of it, so
+   * each thread can keep writing into the same one.
+   */
+  @MakeNotStatic("not tied to the cache lifecycle")
+  private static final ThreadLocalHeapDataOutputStreamCache threadLocalStreamCache =
+      new ThreadLocalHeapDataOutputStreamCache(65535);
+
   /**
    * A blob is a serialized Object. This method serializes the object into a blob and returns the
    * byte array that contains the blob.
@@ -49,11 +59,17 @@ public class BlobHelper {
    */
   public static byte[] serializeToBlob(Object obj, KnownVersion version) throws IOException {
     final long start = startSerialization();
-    byte[] result;
-    try (HeapDataOutputStream hdos = new HeapDataOutputStream(version)) {
+    HeapDataOutputStream hdos = threadLocalStreamCache.acquire(version);
+    boolean serialized = false;
+    try {
       DataSerializer.writeObject(obj, hdos);
-      result = hdos.toByteArray();
+      serialized = true;
+    } finally {
+      if (!serialized) {
+        threadLocalStreamCache.release(hdos);
+      }
     }
+    byte[] result = threadLocalStreamCache.toByteArrayAndRelease(hdos);
     endSerialization(start, result.length);
     return result;
   }
@@ -143,6 +143,16 @@ public interface DiskStoreMXBean {
    */
   int getTotalRecoveriesInProgress();
 
+  /**
+   * Returns the number of oplogs that the recovery currently in progress still has to read. Zero if
+   * no recovery is in progress.
+   *
+   * @since Geode 1.15
+   */
+  default int getTotalOplogsPendingRecovery() {
+    return ManagementConstants.NOT_AVAILABLE_INT;
+  }
+
   /**
    * Requests the DiskStore to start writing to a new op-log. The old oplog will be asynchronously
    * compressed if compaction is set to true. The new op-log will be created in the next available
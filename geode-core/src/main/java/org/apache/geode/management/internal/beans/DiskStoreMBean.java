@@ -120,6 +120,11 @@ public class DiskStoreMBean extends NotificationBroadcasterSupport implements Di
     return bridge.getTotalRecoveriesInProgress();
   }
 
+  @Override
+  public int getTotalOplogsPendingRecovery() {
+    return bridge.getTotalOplogsPendingRecovery();
+  }
+
   @Override
   public int getWriteBufferSize() {
     return bridge.getWriteBufferSize();
@@ -247,6 +247,10 @@ public class DiskStoreMBeanBridge {
     return getDiskStoreStatistic(StatsKey.RECOVERIES_IN_PROGRESS).intValue();
   }
 
+  public int getTotalOplogsPendingRecovery() {
+    return getDiskStoreStatistic(StatsKey.OPLOGS_PENDING_RECOVERY).intValue();
+  }
+
   public Number getDiskStoreStatistic(String statName) {
     if (diskStoreStats != null) {
       return diskStoreStats.getStats().get(statName);
@@ -185,6 +185,8 @@ public class StatsKey {
 
   public static final String RECOVERIES_IN_PROGRESS = "recoveriesInProgress";
 
+  public static final String OPLOGS_PENDING_RECOVERY = "oplogsPendingRecovery";
+
   public static final String DISK_SPACE = "diskSpace";
 
 
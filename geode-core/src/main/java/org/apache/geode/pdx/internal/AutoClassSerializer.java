@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.pdx.internal;
+
+/**
+ * Writes and reads all the fields of one class auto serialized by {@link AutoSerializableManager}
+ * in a single call, instead of one field at a time through its
+ * {@link AutoSerializableManager.PdxFieldWrapper}. Created by {@link AutoClassSerializerGenerator}.
+ *
+ * <p>
+ * Public only because the generated classes implementing it are defined by their own class
+ * loaders.
+ *
+ * @since Geode 1.15
+ */
+public interface AutoClassSerializer {
+
+  /**
+   * Writes the fields of the given object in the order of the class's serialized pdx type.
+   */
+  void serialize(PdxWriterImpl writer, Object obj);
+
+  /**
+   * Reads the fields of the given object from a reader positioned at the first field of a pdx type
+   * that exactly matches the class.
+   */
+  void orderedDeserialize(PdxReaderImpl reader, Object obj);
+}
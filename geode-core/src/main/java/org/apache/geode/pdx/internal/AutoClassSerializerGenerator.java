@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.pdx.internal;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.annotations.Immutable;
+import org.apache.geode.logging.internal.log4j.api.LogService;
+import org.apache.geode.pdx.FieldType;
+import org.apache.geode.pdx.internal.AutoSerializableManager.PdxFieldWrapper;
+
+/**
+ * Generates the {@link AutoClassSerializer} of a class auto serialized by
+ * {@link AutoSerializableManager}.
+ *
+ * <p>
+ * For each field, the getter of the field is composed with the {@link PdxWriterImpl} method that
+ * writes it, and the {@link PdxReaderImpl} method that reads it with the setter of the field. The
+ * fields are then composed into one method handle that serializes the class and one that
+ * deserializes it, which are given to a copy of {@link AutoClassSerializerTemplate} defined in a
+ * class loader of its own. Each class gets its own copy because the JIT only inlines a method
+ * handle through a static final field; method handles held in instance fields are called without
+ * being inlined, which makes them slower than {@link java.lang.reflect.Field}. Copying the template
+ * keeps this free of runtime bytecode generation, which Java 8 offers no supported API for.
+ *
+ * <p>
+ * A class loader only holds the handles of its class, so the generated serializer is collected
+ * along with the {@link AutoSerializableManager.AutoClassInfo} that references it.
+ */
+class AutoClassSerializerGenerator {
+  private static final Logger logger = LogService.getLogger();
+
+  private static final String TEMPLATE_NAME = AutoClassSerializerTemplate.class.getName();
+
+  /**
+   * The class file of the template, or null if it is not available as a resource.
+   */
+  @Immutable
+  private static final byte[] TEMPLATE = readTemplate();
+
+  private static final MethodType SERIALIZE_TYPE =
+      methodType(void.class, PdxWriterImpl.class, Object.class);
+
+  private static final MethodType ORDERED_DESERIALIZE_TYPE =
+      methodType(void.class, PdxReaderImpl.class, Object.class);
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private AutoClassSerializerGenerator() {
+    // no instances
+  }
+
+  /**
+   * Returns a serializer for the given fields of the given class, or null if one cannot be
+   * generated for them. None is generated for fields whose values are transformed, which are only
+   * written and read one at a time.
+   *
+   * @param fields the fields of the class in the order they are serialized
+   * @param fieldTypes the pdx type of each field
+   */
+  static AutoClassSerializer generate(Class<?> clazz, List<PdxFieldWrapper> fields,
+      List<FieldType> fieldTypes) {
+    if (TEMPLATE == null || fields.isEmpty()) {
+      return null;
+    }
+    try {
+      List<MethodHandle> serializers = new ArrayList<>(fields.size());
+      List<MethodHandle> deserializers = new ArrayList<>(fields.size());
+      for (int i = 0; i < fields.size(); i++) {
+        PdxFieldWrapper field = fields.get(i);
+        if (field.transform()) {
+          return null;
+        }
+        String accessorSuffix = accessorSuffix(fieldTypes.get(i));
+        serializers.add(serializeField(field, accessorSuffix));
+        deserializers.add(deserializeField(field, accessorSuffix));
+      }
+      MethodHandle[] handles = {sequence(serializers, 0, serializers.size()),
+          sequence(deserializers, 0, deserializers.size())};
+      ClassLoader loader =
+          new SerializerClassLoader(AutoClassSerializerTemplate.class.getClassLoader(), handles);
+      return (AutoClassSerializer) Class.forName(TEMPLATE_NAME, true, loader)
+          .getDeclaredConstructor().newInstance();
+    } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+      logger.debug("Unable to generate a serializer for {}, serializing its fields one at a time",
+          clazz, e);
+      return null;
+    }
+  }
+
+  /**
+   * Returns a handle of {@link #SERIALIZE_TYPE} that writes the given field.
+   */
+  private static MethodHandle serializeField(PdxFieldWrapper field, String accessorSuffix)
+      throws ReflectiveOperationException {
+    Class<?> valueType = valueType(accessorSuffix);
+    MethodHandle write;
+    if (valueType == Object.class || valueType == Object[].class) {
+      write = LOOKUP.findVirtual(PdxWriterImpl.class, "write" + accessorSuffix,
+          methodType(void.class, valueType, boolean.class));
+      // read the setting on every write since it can be changed after the class is generated
+      MethodHandle checkPortability = LOOKUP
+          .findVirtual(PdxFieldWrapper.class, "getCheckPortability", methodType(boolean.class))
+          .bindTo(field);
+      write = MethodHandles.collectArguments(write, 2, checkPortability);
+    } else {
+      write = LOOKUP.findVirtual(PdxWriterImpl.class, "write" + accessorSuffix,
+          methodType(void.class, valueType));
+    }
+    MethodHandle get =
+        LOOKUP.unreflectGetter(field.getField()).asType(methodType(valueType, Object.class));
+    return MethodHandles.catchException(MethodHandles.filterArguments(write, 1, get),
+        Exception.class, exceptionHandler(field, true, SERIALIZE_TYPE));
+  }
+
+  /**
+   * Returns a handle of {@link #ORDERED_DESERIALIZE_TYPE} that reads the given field.
+   */
+  private static MethodHandle deserializeField(PdxFieldWrapper field, String accessorSuffix)
+      throws ReflectiveOperationException {
+    Class<?> valueType = valueType(accessorSuffix);
+    MethodHandle read =
+        LOOKUP.findVirtual(PdxReaderImpl.class, "read" + accessorSuffix, methodType(valueType));
+    MethodHandle set = LOOKUP.unreflectSetter(field.getField())
+        .asType(methodType(void.class, Object.class, valueType));
+    MethodHandle deserialize = MethodHandles.permuteArguments(
+        MethodHandles.collectArguments(set, 1, read), ORDERED_DESERIALIZE_TYPE, 1, 0);
+    return MethodHandles.catchException(deserialize, Exception.class,
+        exceptionHandler(field, false, ORDERED_DESERIALIZE_TYPE));
+  }
+
+  /**
+   * Returns a handler for the exceptions of a field that throws the same exception as the field
+   * does when it is written or read on its own.
+   */
+  private static MethodHandle exceptionHandler(PdxFieldWrapper field, boolean serialization,
+      MethodType type) throws ReflectiveOperationException {
+    MethodHandle handleException = LOOKUP.findVirtual(PdxFieldWrapper.class, "handleException",
+        methodType(void.class, boolean.class, Object.class, Exception.class));
+    // (Object obj, Exception ex) -> (Exception ex, PdxWriterImpl or PdxReaderImpl, Object obj)
+    return MethodHandles.permuteArguments(
+        MethodHandles.insertArguments(handleException.bindTo(field), 0, serialization),
+        type.insertParameterTypes(0, Exception.class), 2, 0);
+  }
+
+  /**
+   * Returns a handle that calls the given handles in order, composed as a balanced tree so that
+   * classes with many fields do not nest deeper than the JIT inlines.
+   */
+  private static MethodHandle sequence(List<MethodHandle> handles, int from, int to) {
+    if (to - from == 1) {
+      return handles.get(from);
+    }
+    int middle = (from + to) >>> 1;
+    return MethodHandles.foldArguments(sequence(handles, middle, to),
+        sequence(handles, from, middle));
+  }
+
+  /**
+   * Returns the type of the values read by the {@link PdxReaderImpl} method with the given suffix.
+   */
+  private static Class<?> valueType(String accessorSuffix) throws NoSuchMethodException {
+    Method read = PdxReaderImpl.class.getMethod("read" + accessorSuffix);
+    return read.getReturnType();
+  }
+
+  /**
+   * Returns the suffix of the {@link PdxWriterImpl} and {@link PdxReaderImpl} methods that write
+   * and read fields of the given type without their names.
+   */
+  private static String accessorSuffix(FieldType fieldType) {
+    switch (fieldType) {
+      case INT:
+        return "Int";
+      case BYTE:
+        return "Byte";
+      case LONG:
+        return "Long";
+      case BOOLEAN:
+        return "Boolean";
+      case CHAR:
+        return "Char";
+      case SHORT:
+        return "Short";
+      case DOUBLE:
+        return "Double";
+      case FLOAT:
+        return "Float";
+      case STRING:
+        return "String";
+      case DATE:
+        return "Date";
+      case BYTE_ARRAY:
+        return "ByteArray";
+      case STRING_ARRAY:
+        return "StringArray";
+      case ARRAY_OF_BYTE_ARRAYS:
+        return "ArrayOfByteArrays";
+      case BOOLEAN_ARRAY:
+        return "BooleanArray";
+      case CHAR_ARRAY:
+        return "CharArray";
+      case SHORT_ARRAY:
+        return "ShortArray";
+      case INT_ARRAY:
+        return "IntArray";
+      case LONG_ARRAY:
+        return "LongArray";
+      case FLOAT_ARRAY:
+        return "FloatArray";
+      case DOUBLE_ARRAY:
+        return "DoubleArray";
+      case OBJECT_ARRAY:
+        return "ObjectArray";
+      case OBJECT:
+        return "Object";
+      default:
+        throw new IllegalStateException("unhandled field type " + fieldType);
+    }
+  }
+
+  private static byte[] readTemplate() {
+    String resource = AutoClassSerializerTemplate.class.getSimpleName() + ".class";
+    try (InputStream in = AutoClassSerializerTemplate.class.getResourceAsStream(resource)) {
+      if (in == null) {
+        logger.debug("Unable to find {}, auto serialized classes will not have serializers"
+            + " generated", resource);
+        return null;
+      }
+      return IOUtils.toByteArray(in);
+    } catch (IOException e) {
+      logger.debug("Unable to read {}, auto serialized classes will not have serializers generated",
+          resource, e);
+      return null;
+    }
+  }
+
+  /**
+   * Defines its own copy of {@link AutoClassSerializerTemplate}, which gets its method handles from
+   * this loader when it is initialized, and delegates the loading of every other class.
+   */
+  private static class SerializerClassLoader extends ClassLoader
+      implements Supplier<MethodHandle[]> {
+    private final MethodHandle[] handles;
+
+    SerializerClassLoader(ClassLoader parent, MethodHandle[] handles) {
+      super(parent);
+      this.handles = handles;
+    }
+
+    @Override
+    public MethodHandle[] get() {
+      return handles;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (!name.equals(TEMPLATE_NAME)) {
+        return super.loadClass(name, resolve);
+      }
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> template = findLoadedClass(name);
+        if (template == null) {
+          template = defineClass(name, TEMPLATE, 0, TEMPLATE.length);
+        }
+        if (resolve) {
+          resolveClass(template);
+        }
+        return template;
+      }
+    }
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.pdx.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.util.function.Supplier;
+
+import org.apache.geode.pdx.PdxSerializationException;
+
+/**
+ * The class that {@link AutoClassSerializerGenerator} defines once per auto serialized class, each
+ * time in a new class loader that supplies the method handles of that class. Holding the handles in
+ * static final fields lets the JIT treat them as constants and inline the field accesses and writes
+ * they are composed of into {@link #serialize} and {@link #orderedDeserialize}.
+ *
+ * <p>
+ * Never used as loaded by the class loader of Geode itself.
+ *
+ * @since Geode 1.15
+ */
+public class AutoClassSerializerTemplate implements AutoClassSerializer {
+
+  private static final MethodHandle SERIALIZE;
+
+  private static final MethodHandle ORDERED_DESERIALIZE;
+
+  static {
+    ClassLoader loader = AutoClassSerializerTemplate.class.getClassLoader();
+    if (loader instanceof Supplier) {
+      MethodHandle[] handles = (MethodHandle[]) ((Supplier<?>) loader).get();
+      SERIALIZE = handles[0];
+      ORDERED_DESERIALIZE = handles[1];
+    } else {
+      SERIALIZE = null;
+      ORDERED_DESERIALIZE = null;
+    }
+  }
+
+  @Override
+  public void serialize(PdxWriterImpl writer, Object obj) {
+    try {
+      SERIALIZE.invokeExact(writer, obj);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new PdxSerializationException(
+          "Serialization error for class " + obj.getClass().getName(), t);
+    }
+  }
+
+  @Override
+  public void orderedDeserialize(PdxReaderImpl reader, Object obj) {
+    try {
+      ORDERED_DESERIALIZE.invokeExact(reader, obj);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new PdxSerializationException(
+          "Deserialization error for class " + obj.getClass().getName(), t);
+    }
+  }
+}
@@ -409,6 +409,8 @@ public class AutoSerializableManager {
 
         List<PdxFieldWrapper> fieldList = new ArrayList<>();
         List<PdxFieldWrapper> variableLenFields = new ArrayList<>();
+        List<FieldType> fieldTypes = new ArrayList<>();
+        List<FieldType> variableLenFieldTypes = new ArrayList<>();
 
         while (tmpClass != Object.class) {
           Field[] fields = tmpClass.getDeclaredFields();
@@ -422,8 +424,10 @@ public class AutoSerializableManager {
                   getOwner().isIdentityField(f, clazz));
               if (ft.isFixedWidth()) {
                 fieldList.add(fw);
+                fieldTypes.add(ft);
               } else {
                 variableLenFields.add(fw);
+                variableLenFieldTypes.add(ft);
               }
             }
           }
@@ -431,7 +435,10 @@ public class AutoSerializableManager {
         }
 
         fieldList.addAll(variableLenFields);
-        classInfo = new AutoClassInfo(clazz, fieldList);
+        fieldTypes.addAll(variableLenFieldTypes);
+        AutoClassSerializer serializer = GENERATE_SERIALIZERS
+            ? AutoClassSerializerGenerator.generate(clazz, fieldList, fieldTypes) : null;
+        classInfo = new AutoClassInfo(clazz, fieldList, serializer);
         logger.info("Auto serializer generating type for {} for fields: {}", clazz,
             classInfo.toFormattedString());
         classMap.put(clazz, classInfo);
@@ -675,6 +682,15 @@ public class AutoSerializableManager {
     unsafe = tmp;
   }
 
+  /**
+   * If true, which is the default, a serializer is generated for each auto serialized class that
+   * writes and reads all of its fields in one call. Otherwise, and for classes that cannot have one
+   * generated, fields are written and read one at a time through Unsafe or reflection.
+   */
+  private static final boolean GENERATE_SERIALIZERS = Boolean.parseBoolean(
+      System.getProperty(GeodeGlossary.GEMFIRE_PREFIX + "AutoSerializer.GENERATE_SERIALIZERS",
+          "true"));
+
   public abstract static class PdxFieldWrapper {
     private final FieldWrapper field;
     private final String fieldName;
@@ -2024,6 +2040,12 @@ public class AutoSerializableManager {
         optimizeFieldWrites = true;
       }
     }
+    AutoClassSerializer serializer = autoClassInfo.getSerializer();
+    if (optimizeFieldWrites && serializer != null) {
+      // the type is already defined, so there are no identity fields to mark
+      serializer.serialize(w, obj);
+      return;
+    }
     for (PdxFieldWrapper f : autoClassInfo.getFields()) {
       // System.out.println("DEBUG writing field=" + f.getField().getName() + " offset=" +
       // ((PdxWriterImpl)writer).position());
@@ -2161,6 +2183,10 @@ public class AutoSerializableManager {
      * The fields that describe the class
      */
     private final List<PdxFieldWrapper> fields;
+    /**
+     * Writes and reads all the fields at once, or null if none could be generated
+     */
+    private final AutoClassSerializer serializer;
     /**
      * The pdxType ids that we are known to exactly match.
      */
@@ -2177,8 +2203,14 @@ public class AutoSerializableManager {
     private PdxType serializedType = null;
 
     public AutoClassInfo(Class<?> clazz, List<PdxFieldWrapper> fields) {
+      this(clazz, fields, null);
+    }
+
+    public AutoClassInfo(Class<?> clazz, List<PdxFieldWrapper> fields,
+        AutoClassSerializer serializer) {
       clazzRef = new WeakReference<>(clazz);
       this.fields = fields;
+      this.serializer = serializer;
     }
 
     public String toFormattedString() {
@@ -2227,6 +2259,13 @@ public class AutoSerializableManager {
       return fields;
     }
 
+    /**
+     * Returns the serializer generated for the fields, or null if there is none.
+     */
+    public AutoClassSerializer getSerializer() {
+      return serializer;
+    }
+
     public boolean matchesPdxType(PdxType t) {
       Integer pdxTypeId = t.getTypeId();
       if (matchingPdxIds.contains(pdxTypeId)) {
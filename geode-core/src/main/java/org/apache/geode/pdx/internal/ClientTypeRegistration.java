@@ -273,7 +273,7 @@ public class ClientTypeRegistration implements TypeRegistration {
       try {
         types.putAll(GetPDXTypesOp.execute((ExecutablePool) p));
       } catch (Exception e) {
-        e.printStackTrace();
+        logger.warn("Received an exception getting pdx types from pool {}", p, e);
       }
     }
     return types;
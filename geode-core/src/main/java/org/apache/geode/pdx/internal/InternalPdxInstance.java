@@ -42,4 +42,22 @@ public interface InternalPdxInstance extends PdxInstance, ConvertableToBytes, Se
   default Object getRawField(String fieldName) {
     return getField(fieldName);
   }
+
+  /**
+   * The same as calling getRawField(field.getFieldName()) for a field of this instance's
+   * {@link #getPdxType() type}, except that implementations can read the field without looking it
+   * up by name again.
+   *
+   * @throws PdxSerializationException if the field could not be deserialized
+   */
+  default Object getRawField(PdxField field) {
+    return getRawField(field.getFieldName());
+  }
+
+  /**
+   * Returns the type that describes the fields of this instance, or null if it has none.
+   */
+  default PdxType getPdxType() {
+    return null;
+  }
 }
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.pdx.internal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.Delta;
+import org.apache.geode.InvalidDeltaException;
+import org.apache.geode.annotations.internal.MutableForTesting;
+import org.apache.geode.internal.InternalDataSerializer;
+import org.apache.geode.util.internal.GeodeGlossary;
+
+/**
+ * Sends the fields set on a {@link WritablePdxInstanceImpl} as a delta, the way values that
+ * implement {@link org.apache.geode.Delta} are sent, so that updating a few fields of a pdx value
+ * does not send the whole value to peers, servers and clients. The receiver builds the new value
+ * from the serialized old value it already has, without deserializing it.
+ *
+ * <p>
+ * A delta is the pdx type id and a checksum of the serialized fields of the value the writer was
+ * created from, followed by the index and serialized bytes of each field that was set. A receiver
+ * whose old value is not a pdx of that type, or whose fields do not match the checksum, throws an
+ * {@link InvalidDeltaException}, and the full value is sent instead.
+ *
+ * @since Geode 1.15
+ */
+public class PdxDelta {
+
+  /**
+   * Members that do not have this class cannot apply pdx deltas, so it is off until all members
+   * and clients that host the regions have been upgraded.
+   */
+  @MutableForTesting
+  public static boolean ENABLED =
+      Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "PdxDelta.ENABLED");
+
+  private static final int DSCODE_SIZE = 1;
+
+  private static final int LENGTH_SIZE = 4;
+
+  private PdxDelta() {
+    // no instances
+  }
+
+  /**
+   * Returns true if the given value is a pdx instance with fields that should be sent as a delta.
+   */
+  public static boolean hasDelta(Object value) {
+    return ENABLED && value instanceof WritablePdxInstanceImpl
+        && ((WritablePdxInstanceImpl) value).hasChangedFields();
+  }
+
+  /**
+   * Writes the fields set on the given value since its last delta was written.
+   *
+   * @param value a value for which {@link #hasDelta} returned true
+   */
+  public static void toDelta(Object value, DataOutput out) throws IOException {
+    ((WritablePdxInstanceImpl) value).toDelta(out);
+  }
+
+  /**
+   * Returns true if delta bytes for the given serialized old value should be applied with
+   * {@link #applyDelta}. That is the case for a pdx, unless its domain class implements
+   * {@link Delta} and so applies its own deltas. This only reads the header of the old value.
+   */
+  public static boolean appliesTo(byte[] oldValue, TypeRegistry registry) {
+    if (!PdxWriterImpl.isPdx(oldValue)) {
+      return false;
+    }
+    PdxType type = registry.getType(ByteBuffer.wrap(oldValue).getInt(DSCODE_SIZE + LENGTH_SIZE));
+    if (type == null || type.getNoDomainClass()) {
+      return true;
+    }
+    try {
+      return !Delta.class.isAssignableFrom(InternalDataSerializer.getCachedClass(
+          type.getClassName()));
+    } catch (ClassNotFoundException e) {
+      // the old value can only be read as a PdxInstance
+      return true;
+    }
+  }
+
+  /**
+   * Returns the checksum of the serialized fields of the given pdx that a delta written from it is
+   * checked against.
+   */
+  static int checksum(PdxReaderImpl reader) {
+    ByteBuffer fields = ByteBuffer.allocate(reader.basicSize());
+    // copy the reader since sending moves the position of its buffer
+    new PdxReaderImpl(reader).basicSendTo(fields);
+    fields.flip();
+    CRC32 crc = new CRC32();
+    crc.update(fields);
+    return (int) crc.getValue();
+  }
+
+  /**
+   * Returns the serialized pdx that results from applying the given delta to a serialized old
+   * value.
+   *
+   * @throws InvalidDeltaException if the old value is not a pdx of the type the delta was written
+   *         for or is not the value the delta was computed from
+   */
+  public static byte[] applyDelta(byte[] oldValue, DataInput delta, TypeRegistry registry)
+      throws IOException {
+    if (!PdxWriterImpl.isPdx(oldValue)) {
+      throw new InvalidDeltaException("The old value is not a pdx");
+    }
+    ByteBuffer oldBuffer = ByteBuffer.wrap(oldValue);
+    int length = oldBuffer.getInt(DSCODE_SIZE);
+    int typeId = oldBuffer.getInt(DSCODE_SIZE + LENGTH_SIZE);
+    int deltaTypeId = delta.readInt();
+    if (deltaTypeId != typeId) {
+      throw new InvalidDeltaException(
+          "The delta is for pdx type " + deltaTypeId + " but the old value has type " + typeId);
+    }
+    int baseChecksum = delta.readInt();
+    CRC32 crc = new CRC32();
+    crc.update(oldValue, PdxWriterImpl.HEADER_SIZE, length);
+    if ((int) crc.getValue() != baseChecksum) {
+      throw new InvalidDeltaException("The delta was not computed from the old value");
+    }
+    PdxType type = registry.getType(typeId);
+    if (type == null || type.getHasDeletedField()) {
+      throw new InvalidDeltaException("Pdx deltas can not be applied to pdx type " + typeId);
+    }
+
+    byte[][] changedFields = new byte[type.getFieldCount()][];
+    int changedFieldCount = InternalDataSerializer.readArrayLength(delta);
+    for (int i = 0; i < changedFieldCount; i++) {
+      int fieldIndex = InternalDataSerializer.readArrayLength(delta);
+      if (fieldIndex < 0 || fieldIndex >= changedFields.length) {
+        throw new InvalidDeltaException(
+            "Pdx type " + typeId + " does not have a field with index " + fieldIndex);
+      }
+      changedFields[fieldIndex] = DataSerializer.readByteArray(delta);
+    }
+
+    oldBuffer.position(PdxWriterImpl.HEADER_SIZE);
+    oldBuffer.limit(PdxWriterImpl.HEADER_SIZE + length);
+    PdxReaderImpl oldReader = new PdxReaderImpl(type, new PdxInputStream(oldBuffer.slice()));
+    PdxOutputStream os = new PdxOutputStream(oldValue.length);
+    PdxWriterImpl writer = new PdxWriterImpl(type, os);
+    for (PdxField field : type.getFields()) {
+      byte[] changedField = changedFields[field.getFieldIndex()];
+      if (changedField != null) {
+        writer.writeRawField(field, changedField);
+      } else {
+        writer.writeRawField(field, oldReader.getRaw(field));
+      }
+    }
+    writer.completeByteStreamGeneration();
+    return os.toByteArray();
+  }
+}
@@ -620,6 +620,11 @@ public class PdxInstanceImpl extends PdxReaderImpl implements InternalPdxInstanc
     return super.readField(fieldName);
   }
 
+  @Override
+  public synchronized Object readField(PdxField ft) {
+    return super.readField(ft);
+  }
+
   @Override
   protected synchronized Object basicGetObject() {
     DMStats stats = InternalDataSerializer.getDMStats(null);
@@ -662,6 +667,16 @@ public class PdxInstanceImpl extends PdxReaderImpl implements InternalPdxInstanc
     return getUnmodifiableReader(fieldName).readRawField(fieldName);
   }
 
+  @Override
+  public Object getRawField(PdxField field) {
+    PdxReaderImpl reader = getUnmodifiableReader(field.getFieldName());
+    if (reader.getPdxType() != getPdxType()) {
+      // modified fields are read from a copy that may have a type without deleted fields
+      return reader.readRawField(field.getFieldName());
+    }
+    return reader.readRawField(field);
+  }
+
   @Override
   public boolean isDeserializable() {
     if (getClassName().equals(JSONFormatter.JSON_CLASSNAME)) {
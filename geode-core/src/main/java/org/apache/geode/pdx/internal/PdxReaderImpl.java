@@ -695,6 +695,13 @@ public class PdxReaderImpl implements InternalPdxReader, java.io.Serializable {
     if (ft == null) {
       return null;
     }
+    return readField(ft);
+  }
+
+  /**
+   * Reads the value of the given field, which must be a field of this reader's type.
+   */
+  public Object readField(PdxField ft) {
     switch (ft.getFieldType()) {
       case CHAR:
         return readChar(ft);
@@ -924,6 +931,11 @@ public class PdxReaderImpl implements InternalPdxReader, java.io.Serializable {
   @Override
   public void orderedDeserialize(Object obj, AutoClassInfo ci) {
     PdxReaderImpl reader = prepForOrderedReading();
+    AutoClassSerializer serializer = ci.getSerializer();
+    if (serializer != null) {
+      serializer.orderedDeserialize(reader, obj);
+      return;
+    }
     for (PdxFieldWrapper f : ci.getFields()) {
       f.orderedDeserialize(reader, obj);
     }
@@ -953,6 +965,14 @@ public class PdxReaderImpl implements InternalPdxReader, java.io.Serializable {
     if (ft == null) {
       return null;
     }
+    return readRawField(ft);
+  }
+
+  /**
+   * The same as {@link #readRawField(String)} for a field of this reader's type that has already
+   * been looked up.
+   */
+  public Object readRawField(PdxField ft) {
     if (ft.getFieldType() == FieldType.STRING) {
       return readPdxString(ft);
     } else {
@@ -961,7 +981,7 @@ public class PdxReaderImpl implements InternalPdxReader, java.io.Serializable {
         return pdxString;
       }
     }
-    return readField(field);
+    return readField(ft);
   }
 
   /**
@@ -272,48 +272,40 @@ public class PdxType implements DataSerializable {
     vlfCount = writer.getVlfCount();
     int size = fields.size();
     int fixedLenFieldOffset = 0;
-    boolean seenVariableLenType = false;
+    int firstVariableLenField = size;
     for (int i = 0; i < size; i++) {
       PdxField vft = fields.get(i);
-      // System.out.println(i + ": " + vft);
       if (vft.isVariableLengthType()) {
-        if (seenVariableLenType) {
+        if (firstVariableLenField < i) {
           vft.setVlfOffsetIndex(vft.getVarLenFieldSeqId());
         } else {
+          firstVariableLenField = i;
           vft.setRelativeOffset(fixedLenFieldOffset);
           vft.setVlfOffsetIndex(-1);
         }
-        seenVariableLenType = true;
-      } else if (seenVariableLenType) {
-        PdxField tmp = null;
-        int minusOffset = vft.getFieldType().getWidth();
-        for (int j = (i + 1); j < size; j++) {
-          tmp = fields.get(j);
-          if (tmp.isVariableLengthType()) {
-            break;
-          } else {
-            minusOffset += tmp.getFieldType().getWidth();
-          }
-        }
-        if (tmp != null && tmp.isVariableLengthType()) {
-          vft.setRelativeOffset(-minusOffset);
-          vft.setVlfOffsetIndex(tmp.getVarLenFieldSeqId());
-        } else {
-          vft.setRelativeOffset(-minusOffset);
-          vft.setVlfOffsetIndex(-1); // From the byte after the last field data byte
-        }
-      } else {
+      } else if (firstVariableLenField == size) {
         vft.setRelativeOffset(fixedLenFieldOffset);
         fixedLenFieldOffset += vft.getFieldType().getWidth();
       }
     }
+    // Fixed length fields after the first variable length field are located backward from the
+    // next variable length field, or from the offset table if there is none. Walk the fields in
+    // reverse so that each one only adds its own width, which keeps this linear for wide types
+    // built by PdxInstanceFactory, where it runs for every instance.
+    int nextVlfOffsetIndex = -1;
+    int minusOffset = 0;
+    for (int i = size - 1; i > firstVariableLenField; i--) {
+      PdxField vft = fields.get(i);
+      if (vft.isVariableLengthType()) {
+        nextVlfOffsetIndex = vft.getVarLenFieldSeqId();
+        minusOffset = 0;
+      } else {
+        minusOffset += vft.getFieldType().getWidth();
+        vft.setRelativeOffset(-minusOffset);
+        vft.setVlfOffsetIndex(nextVlfOffsetIndex);
+      }
+    }
     // no longer mark identity fields implicitly. Fixes bug 42976.
-
-    // System.out.println("Printing the position array:");
-    // for (int i = 0; i < this.positionArray.length; i++) {
-    // System.out.println("[" + i + "][0]=" + this.positionArray[i][0] + ", ["
-    // + i + "][1]=" + this.positionArray[i][1]);
-    // }
   }
 
   public PdxField getPdxField(String fieldName) {
@@ -15,6 +15,7 @@
 package org.apache.geode.pdx.internal;
 
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -43,6 +44,13 @@ public class TypeRegistry {
   private static final boolean DISABLE_TYPE_REGISTRY =
       Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "TypeRegistry.DISABLE_PDX_REGISTRY");
 
+  /**
+   * If true, a client fetches all of the types in the servers' registry the first time it needs a
+   * type it does not have, instead of fetching each type with its own request.
+   */
+  private static final boolean CLIENT_FETCH_ALL_TYPES =
+      Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "TypeRegistry.CLIENT_FETCH_ALL_TYPES");
+
   private final Map<Integer, PdxType> idToType = new CopyOnWriteHashMap<>();
 
   private final Map<PdxType, Integer> typeToId = new CopyOnWriteHashMap<>();
@@ -63,6 +71,11 @@ public class TypeRegistry {
 
   private final TypeRegistration distributedTypeRegistry;
 
+  private final boolean fetchAllTypes;
+
+  /** True once all types have been fetched from the distributed registry. Guarded by this. */
+  private boolean allTypesFetched;
+
   private final InternalCache cache;
 
   private final ThreadLocal<Boolean> pdxReadSerializedOverride =
@@ -80,11 +93,18 @@ public class TypeRegistry {
     } else {
       distributedTypeRegistry = new PeerTypeRegistration(cache);
     }
+    fetchAllTypes = CLIENT_FETCH_ALL_TYPES && distributedTypeRegistry.isClient();
   }
 
   TypeRegistry(InternalCache cache, TypeRegistration distributedTypeRegistry) {
+    this(cache, distributedTypeRegistry, false);
+  }
+
+  TypeRegistry(InternalCache cache, TypeRegistration distributedTypeRegistry,
+      boolean fetchAllTypes) {
     this.cache = cache;
     this.distributedTypeRegistry = distributedTypeRegistry;
+    this.fetchAllTypes = fetchAllTypes;
   }
 
   public void testClearLocalTypeRegistry() {
@@ -130,6 +150,12 @@ public class TypeRegistry {
     }
 
     synchronized (this) {
+      if (fetchAllTypes()) {
+        pdxType = idToType.get(typeId);
+        if (pdxType != null) {
+          return pdxType;
+        }
+      }
       pdxType = distributedTypeRegistry.getType(typeId);
       if (pdxType != null) {
         idToType.put(typeId, pdxType);
@@ -147,6 +173,31 @@ public class TypeRegistry {
     return null;
   }
 
+  /**
+   * Adds all of the types in the distributed registry to this one, if this registry fetches them
+   * all at once and has not done so yet. A client that reads many types then makes one request for
+   * them instead of one per type.
+   *
+   * @return true if the types were fetched
+   */
+  private boolean fetchAllTypes() {
+    if (!fetchAllTypes || allTypesFetched) {
+      return false;
+    }
+    Map<Integer, PdxType> types = distributedTypeRegistry.types();
+    allTypesFetched = true;
+    Map<PdxType, Integer> ids = new HashMap<>();
+    for (Map.Entry<Integer, PdxType> entry : types.entrySet()) {
+      ids.put(entry.getValue(), entry.getKey());
+    }
+    idToType.putAll(types);
+    typeToId.putAll(ids);
+    if (logger.isDebugEnabled()) {
+      logger.debug("Added {} types fetched from the distributed pdx type registry", types.size());
+    }
+    return true;
+  }
+
   PdxType getExistingType(Object o) {
     return getExistingTypeForClass(o.getClass());
   }
@@ -453,6 +504,9 @@ public class TypeRegistry {
       idToEnum.clear();
       enumInfoToId.clear();
       localEnumIds.clear();
+      synchronized (this) {
+        allTypesFetched = false;
+      }
       AutoSerializableManager autoSerializer = getAutoSerializableManager();
       if (autoSerializer != null) {
         autoSerializer.resetCachedTypes();
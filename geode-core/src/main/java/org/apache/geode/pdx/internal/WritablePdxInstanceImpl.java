@@ -14,12 +14,18 @@
  */
 package org.apache.geode.pdx.internal;
 
+import java.io.DataOutput;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.BitSet;
 import java.util.Date;
 
+import org.apache.geode.DataSerializer;
 import org.apache.geode.InternalGemFireException;
+import org.apache.geode.internal.InternalDataSerializer;
 import org.apache.geode.internal.cache.GemFireCacheImpl;
 import org.apache.geode.internal.cache.InternalCache;
+import org.apache.geode.internal.tcp.ByteBufferInputStream.ByteSource;
 import org.apache.geode.pdx.PdxFieldDoesNotExistException;
 import org.apache.geode.pdx.PdxFieldTypeMismatchException;
 import org.apache.geode.pdx.WritablePdxInstance;
@@ -28,6 +34,16 @@ public class WritablePdxInstanceImpl extends PdxInstanceImpl implements Writable
   private static final long serialVersionUID = 7398999150097596214L;
   private static final Object NULL_TOKEN = new Object();
   private Object[] dirtyFields = null;
+  /**
+   * The indexes of the fields set since the last delta was written. Unlike dirtyFields, this is not
+   * cleared when pending writes are flushed.
+   */
+  private BitSet changedFields = null;
+  /**
+   * The checksum of the serialized fields the next delta will be applied to. A receiver whose old
+   * value does not match it rejects the delta.
+   */
+  private int deltaBaseChecksum;
 
   public WritablePdxInstanceImpl(PdxReaderImpl original) {
     super(original);
@@ -41,9 +57,44 @@ public class WritablePdxInstanceImpl extends PdxInstanceImpl implements Writable
       value = NULL_TOKEN;
     }
     dirtyFields[f.getFieldIndex()] = value;
+    if (changedFields == null) {
+      // nothing has been written since the last delta so the fields are still the delta base
+      deltaBaseChecksum = PdxDelta.checksum(this);
+      changedFields = new BitSet(getPdxType().getFieldCount());
+    }
+    changedFields.set(f.getFieldIndex());
     clearCachedState();
   }
 
+  /**
+   * Returns true if fields have been set since the last delta was written and they can be sent as
+   * a delta. Types with deleted fields are always sent whole because flushing them changes the
+   * type.
+   */
+  synchronized boolean hasChangedFields() {
+    return changedFields != null && !getPdxType().getHasDeletedField();
+  }
+
+  /**
+   * Writes the type id of this instance and the checksum of the value it was created from, followed
+   * by the index and serialized bytes of each field set since the last delta was written. See
+   * {@link PdxDelta}.
+   */
+  synchronized void toDelta(DataOutput out) throws IOException {
+    PdxReaderImpl reader = getUnmodifiableReader();
+    out.writeInt(getPdxType().getTypeId());
+    out.writeInt(deltaBaseChecksum);
+    InternalDataSerializer.writeArrayLength(changedFields.cardinality(), out);
+    for (int i = changedFields.nextSetBit(0); i >= 0; i = changedFields.nextSetBit(i + 1)) {
+      ByteSource raw = reader.getRaw(i);
+      byte[] bytes = new byte[raw.remaining()];
+      raw.get(bytes);
+      InternalDataSerializer.writeArrayLength(i, out);
+      DataSerializer.writeByteArray(bytes, out);
+    }
+    changedFields = null;
+  }
+
   /**
    * Flush pending writes if the given field is dirty.
    */
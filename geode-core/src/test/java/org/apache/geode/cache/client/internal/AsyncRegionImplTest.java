@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apache.geode.util.internal.UncheckedUtils.uncheckedCast;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.UnsupportedOperationInTransactionException;
+import org.apache.geode.cache.client.ServerConnectivityException;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.cache.TXStateProxy;
+import org.apache.geode.internal.cache.Token;
+
+public class AsyncRegionImplTest {
+
+  private LocalRegion region;
+  private ServerRegionProxy serverProxy;
+  private AsyncRegionImpl<String, String> asyncRegion;
+
+  @Before
+  public void setup() {
+    region = mock(LocalRegion.class);
+    serverProxy = mock(ServerRegionProxy.class);
+    when(region.getServerProxy()).thenReturn(serverProxy);
+    when(region.getAttributes()).thenReturn(mock(RegionAttributes.class));
+    asyncRegion = new AsyncRegionImpl<>(uncheckedRegion());
+  }
+
+  @Test
+  public void requiresRegionWithPool() {
+    when(region.getServerProxy()).thenReturn(null);
+
+    assertThatThrownBy(() -> new AsyncRegionImpl<>(uncheckedRegion()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void getReturnsValueFromServer() throws Exception {
+    when(serverProxy.getAsync("key", null)).thenReturn(completedFuture("value"));
+
+    assertThat(asyncRegion.get("key").get()).isEqualTo("value");
+  }
+
+  @Test
+  public void getReturnsNullForInvalidOrDestroyedEntry() throws Exception {
+    when(serverProxy.getAsync("invalid", null)).thenReturn(completedFuture(Token.INVALID));
+    when(serverProxy.getAsync("destroyed", null)).thenReturn(completedFuture(Token.TOMBSTONE));
+
+    assertThat(asyncRegion.get("invalid").get()).isNull();
+    assertThat(asyncRegion.get("destroyed").get()).isNull();
+  }
+
+  @Test
+  public void putSendsValueToServer() throws Exception {
+    when(serverProxy.putAsync("key", "value", null)).thenReturn(completedFuture(null));
+
+    assertThat(asyncRegion.put("key", "value").get()).isNull();
+    verify(serverProxy).putAsync("key", "value", null);
+  }
+
+  @Test
+  public void destroyFailsIfServerHasNoEntry() {
+    when(serverProxy.destroyAsync("key", null))
+        .thenReturn(completedFuture(new EntryNotFoundException("key")));
+
+    assertThatThrownBy(() -> asyncRegion.destroy("key").get())
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(EntryNotFoundException.class);
+  }
+
+  @Test
+  public void containsKeyOnServerReturnsServerResult() throws Exception {
+    when(serverProxy.containsKeyAsync("key")).thenReturn(completedFuture(true));
+
+    assertThat(asyncRegion.containsKeyOnServer("key").get()).isTrue();
+  }
+
+  @Test
+  public void failureOfServerOperationFailsFuture() {
+    CompletableFuture<Object> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new ServerConnectivityException("test"));
+    when(serverProxy.getAsync("key", null)).thenReturn(failed);
+
+    assertThatThrownBy(() -> asyncRegion.get("key").get())
+        .hasCauseInstanceOf(ServerConnectivityException.class);
+  }
+
+  @Test
+  public void rejectsNullKey() {
+    assertThatThrownBy(() -> asyncRegion.get(null)).isInstanceOf(NullPointerException.class);
+    verifyNoInteractions(serverProxy);
+  }
+
+  @Test
+  public void rejectsOperationsInTransaction() {
+    when(region.getTXState()).thenReturn(mock(TXStateProxy.class));
+
+    assertThatThrownBy(() -> asyncRegion.put("key", "value"))
+        .isInstanceOf(UnsupportedOperationInTransactionException.class);
+    verify(serverProxy, never()).putAsync(any(), any(), any());
+  }
+
+  private Region<String, String> uncheckedRegion() {
+    return uncheckedCast(region);
+  }
+}
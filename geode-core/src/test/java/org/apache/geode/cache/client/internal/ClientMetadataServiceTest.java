@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.distributed.internal.ServerLocation;
+import org.apache.geode.internal.cache.InternalRegion;
+import org.apache.geode.test.junit.categories.ClientServerTest;
+
+@Category({ClientServerTest.class})
+public class ClientMetadataServiceTest {
+
+  private static final String REGION_PATH = "/region";
+
+  private final ServerLocation server1 = new ServerLocation("host1", 1);
+  private final ServerLocation server2 = new ServerLocation("host2", 2);
+
+  private ClientMetadataService service;
+  private ClientPartitionAdvisor advisor;
+  private InternalRegion region;
+
+  @Before
+  public void setUp() {
+    service = spy(new ClientMetadataService(mock(Cache.class)));
+    doNothing().when(service).scheduleGetPRMetaData(any(InternalRegion.class), anyBoolean());
+    region = mock(InternalRegion.class);
+    when(region.getFullPath()).thenReturn(REGION_PATH);
+    // integer keys hash to the bucket of their value modulo the number of buckets
+    advisor = mock(ClientPartitionAdvisor.class);
+    when(advisor.getTotalNumBuckets()).thenReturn(4);
+    when(advisor.adviseRandomServerLocation()).thenReturn(server1);
+    service.getClientPRMetadata_TEST_ONLY().put(REGION_PATH, advisor);
+  }
+
+  @Test
+  public void getServerToKeysMapForBulkOpGroupsKeysByPrimary() {
+    when(advisor.advisePrimaryServerLocation(0)).thenReturn(server1);
+    when(advisor.advisePrimaryServerLocation(1)).thenReturn(server2);
+
+    Map<ServerLocation, Set> serverToKeys =
+        service.getServerToKeysMapForBulkOp(asList(0, 1, 4, 5), region);
+
+    assertThat(serverToKeys).containsOnlyKeys(server1, server2);
+    assertThat(serverToKeys.get(server1)).containsExactlyInAnyOrder(0, 4);
+    assertThat(serverToKeys.get(server2)).containsExactlyInAnyOrder(1, 5);
+    verify(service, never()).scheduleGetPRMetaData(any(InternalRegion.class), anyBoolean());
+  }
+
+  @Test
+  public void getServerToKeysMapForBulkOpSendsKeysOfUnknownBucketsToKnownServer() {
+    when(advisor.advisePrimaryServerLocation(0)).thenReturn(server1);
+
+    Map<ServerLocation, Set> serverToKeys =
+        service.getServerToKeysMapForBulkOp(asList(0, 1, 4), region);
+
+    assertThat(serverToKeys).containsOnlyKeys(server1);
+    assertThat(serverToKeys.get(server1)).containsExactlyInAnyOrder(0, 1, 4);
+    verify(service).scheduleGetPRMetaData(region, false);
+  }
+
+  @Test
+  public void getServerToKeysMapForBulkOpSendsKeysOfUnknownBucketsToServerWithFewestKeys() {
+    when(advisor.advisePrimaryServerLocation(0)).thenReturn(server1);
+    when(advisor.advisePrimaryServerLocation(1)).thenReturn(server2);
+
+    Map<ServerLocation, Set> serverToKeys =
+        service.getServerToKeysMapForBulkOp(asList(0, 4, 8, 1, 2, 3), region);
+
+    assertThat(serverToKeys).containsOnlyKeys(server1, server2);
+    assertThat(serverToKeys.get(server1)).containsExactlyInAnyOrder(0, 4, 8);
+    assertThat(serverToKeys.get(server2)).containsExactlyInAnyOrder(1, 2, 3);
+    verify(service).scheduleGetPRMetaData(region, false);
+  }
+
+  @Test
+  public void getServerToKeysMapForBulkOpReturnsNullIfNoPrimaryIsKnown() {
+    Map<ServerLocation, Set> serverToKeys =
+        service.getServerToKeysMapForBulkOp(asList(0, 1, 2), region);
+
+    assertThat(serverToKeys).isNull();
+    verify(service).scheduleGetPRMetaData(region, false);
+  }
+
+  @Test
+  public void getServerToKeysMapForBulkOpReturnsNullWithoutMetadata() {
+    service.getClientPRMetadata_TEST_ONLY().clear();
+
+    Map<ServerLocation, Set> serverToKeys =
+        service.getServerToKeysMapForBulkOp(asList(0, 1, 2), region);
+
+    assertThat(serverToKeys).isNull();
+    verify(service).scheduleGetPRMetaData(region, false);
+  }
+}
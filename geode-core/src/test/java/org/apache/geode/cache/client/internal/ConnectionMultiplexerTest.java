@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.client.AllConnectionsInUseException;
+import org.apache.geode.cache.client.internal.pooling.ConnectionManager;
+import org.apache.geode.distributed.internal.ServerLocation;
+
+public class ConnectionMultiplexerTest {
+
+  private final ServerLocation server = new ServerLocation("localhost", 40404);
+
+  private ConnectionManager connectionManager;
+  private ConnectionMultiplexer multiplexer;
+
+  @Before
+  public void setup() {
+    connectionManager = mock(ConnectionManager.class);
+    multiplexer = new ConnectionMultiplexer(connectionManager, 2);
+  }
+
+  @Test
+  public void multiplexesOnlyPipelinableOps() {
+    AbstractOp pipelinable = mock(AbstractOp.class);
+    when(pipelinable.isPipelinable()).thenReturn(true);
+
+    assertThat(multiplexer.canMultiplex(pipelinable)).isTrue();
+    assertThat(multiplexer.canMultiplex(mock(AbstractOp.class))).isFalse();
+    assertThat(multiplexer.canMultiplex(mock(Op.class))).isFalse();
+  }
+
+  @Test
+  public void sharesConnectionUpToMaximumOps() throws Exception {
+    Connection first = connection();
+    Connection second = connection();
+    when(connectionManager.borrowConnection(anyLong())).thenReturn(first, second);
+
+    PipelinedConnection one = multiplexer.acquire(null, 10);
+    PipelinedConnection two = multiplexer.acquire(null, 10);
+    PipelinedConnection three = multiplexer.acquire(null, 10);
+
+    assertThat(two).isSameAs(one);
+    assertThat(one.getConnection()).isSameAs(first);
+    assertThat(three.getConnection()).isSameAs(second);
+    assertThat(multiplexer.getConnectionCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void returnsConnectionOnceLastOpReleasesIt() throws Exception {
+    Connection connection = connection();
+    when(connectionManager.borrowConnection(anyLong())).thenReturn(connection);
+    PipelinedConnection one = multiplexer.acquire(null, 10);
+    PipelinedConnection two = multiplexer.acquire(null, 10);
+
+    multiplexer.release(one);
+    verify(connectionManager, never()).returnConnection(connection);
+
+    multiplexer.release(two);
+    verify(connectionManager).returnConnection(connection);
+    assertThat(multiplexer.getConnectionCount()).isZero();
+  }
+
+  @Test
+  public void overloadsConnectionWhenPoolIsExhausted() throws Exception {
+    Connection connection = connection();
+    when(connectionManager.borrowConnection(anyLong())).thenReturn(connection)
+        .thenThrow(new AllConnectionsInUseException());
+    PipelinedConnection one = multiplexer.acquire(null, 10);
+    multiplexer.acquire(null, 10);
+
+    assertThat(multiplexer.acquire(null, 10)).isSameAs(one);
+  }
+
+  @Test
+  public void throwsWhenPoolIsExhaustedAndNothingToShare() throws Exception {
+    when(connectionManager.borrowConnection(anyLong()))
+        .thenThrow(new AllConnectionsInUseException());
+
+    assertThatThrownBy(() -> multiplexer.acquire(null, 10))
+        .isInstanceOf(AllConnectionsInUseException.class);
+  }
+
+  @Test
+  public void usesOnlyConnectionsToRequestedServer() throws Exception {
+    Connection other = connection(new ServerLocation("otherhost", 40404));
+    Connection connection = connection();
+    when(connectionManager.borrowConnection(anyLong())).thenReturn(other);
+    when(connectionManager.borrowConnection(server, 10, false)).thenReturn(connection);
+    multiplexer.acquire(null, 10);
+
+    assertThat(multiplexer.acquire(server, 10).getConnection()).isSameAs(connection);
+  }
+
+  @Test
+  public void doesNotShareDestroyedConnection() throws Exception {
+    Connection destroyed = connection();
+    Connection connection = connection();
+    when(connectionManager.borrowConnection(anyLong())).thenReturn(destroyed, connection);
+    multiplexer.acquire(null, 10);
+    when(destroyed.isDestroyed()).thenReturn(true);
+
+    assertThat(multiplexer.acquire(null, 10).getConnection()).isSameAs(connection);
+  }
+
+  @Test
+  public void disablesMultiplexingWhenServerRequiresCredentials() throws Exception {
+    ServerLocation secureServer = new ServerLocation("localhost", 40405);
+    secureServer.setRequiresCredentials(true);
+    Connection connection = connection(secureServer);
+    when(connectionManager.borrowConnection(anyLong())).thenReturn(connection);
+    AbstractOp op = mock(AbstractOp.class);
+    when(op.isPipelinable()).thenReturn(true);
+
+    assertThat(multiplexer.acquire(null, 10)).isNull();
+    assertThat(multiplexer.canMultiplex(op)).isFalse();
+    verify(connectionManager).returnConnection(connection);
+  }
+
+  private Connection connection() {
+    return connection(server);
+  }
+
+  private static Connection connection(ServerLocation location) {
+    Connection connection = mock(Connection.class);
+    when(connection.getServer()).thenReturn(location);
+    return connection;
+  }
+}
@@ -57,7 +57,7 @@ public class GetAllOpJUnitTest {
       keys.add(i);
     }
     Map<ServerLocation, Set> serverToFilterMap = new HashMap<>();
-    when(cms.getServerToFilterMap(keys, region, true)).thenReturn(serverToFilterMap);
+    when(cms.getServerToKeysMapForBulkOp(keys, region)).thenReturn(serverToFilterMap);
     ServerLocation serverLocation = new ServerLocation("localhost", 12345);
     serverToFilterMap.put(serverLocation, new HashSet(keys));
   }
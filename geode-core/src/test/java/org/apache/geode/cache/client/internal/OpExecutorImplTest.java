@@ -15,17 +15,29 @@
 
 package org.apache.geode.cache.client.internal;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Test;
 
 import org.apache.geode.CancelCriterion;
 import org.apache.geode.cache.client.ServerConnectivityException;
 import org.apache.geode.cache.client.internal.pooling.ConnectionDestroyedException;
+import org.apache.geode.cache.client.internal.pooling.ConnectionManager;
+import org.apache.geode.distributed.internal.ServerLocation;
+import org.apache.geode.internal.cache.tier.sockets.Message;
+import org.apache.geode.test.awaitility.GeodeAwaitility;
 
 public class OpExecutorImplTest {
 
@@ -61,4 +73,44 @@ public class OpExecutorImplTest {
             .isInstanceOf(ServerConnectivityException.class).hasNoCause();
   }
 
+  @Test
+  public void executeAsyncRetriesFailedAttemptOffTheThreadThatCompletedIt() throws Exception {
+    ConnectionManager connectionManager = mock(ConnectionManager.class);
+    Connection first = connection();
+    Connection second = connection();
+    when(connectionManager.borrowConnection(anyLong())).thenReturn(first, second);
+    OpExecutorImpl executor = new OpExecutorImpl(connectionManager, null,
+        mock(EndpointManager.class), mock(RegisterInterestTracker.class), 1, 10, 10,
+        mock(CancelCriterion.class), mock(PoolImpl.class));
+    CompletableFuture<Object> firstAttempt = new CompletableFuture<>();
+    AtomicReference<Thread> retryThread = new AtomicReference<>();
+    AbstractOp op = mock(AbstractOp.class);
+    when(op.isPipelinable()).thenReturn(true);
+    when(op.getMessage()).thenReturn(mock(Message.class));
+    when(op.attemptAsync(any(), any())).thenReturn(firstAttempt).thenAnswer(invocation -> {
+      retryThread.set(Thread.currentThread());
+      return CompletableFuture.completedFuture("value");
+    });
+    try {
+      CompletableFuture<Object> result = executor.executeAsync(op, null);
+
+      firstAttempt.completeExceptionally(new ConnectionDestroyedException());
+
+      assertThat(result.get(GeodeAwaitility.getTimeout().toMillis(), MILLISECONDS))
+          .isEqualTo("value");
+      assertThat(retryThread.get()).isNotSameAs(Thread.currentThread());
+      verify(op.getMessage()).setIsRetry();
+      verify(connectionManager).returnConnection(first);
+      verify(connectionManager).returnConnection(second);
+    } finally {
+      executor.close();
+    }
+  }
+
+  private static Connection connection() {
+    Connection connection = mock(Connection.class);
+    when(connection.getServer()).thenReturn(new ServerLocation("localhost", 40404));
+    when(connection.getEndpoint()).thenReturn(mock(Endpoint.class));
+    return connection;
+  }
 }
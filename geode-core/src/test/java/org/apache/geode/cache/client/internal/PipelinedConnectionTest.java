@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static org.apache.geode.test.awaitility.GeodeAwaitility.await;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import org.apache.geode.cache.client.internal.pooling.ConnectionDestroyedException;
+import org.apache.geode.internal.cache.tier.sockets.Message;
+
+public class PipelinedConnectionTest {
+
+  private final List<Runnable> tasks = new ArrayList<>();
+  private final Executor executor = tasks::add;
+
+  private Connection connection;
+  private ConnectionImpl wrappedConnection;
+  private PipelinedConnection pipelinedConnection;
+
+  @Before
+  public void setup() throws Exception {
+    connection = mock(Connection.class);
+    wrappedConnection = mock(ConnectionImpl.class);
+    when(connection.getWrappedConnection()).thenReturn(wrappedConnection);
+    when(wrappedConnection.getCommBufferForAsyncRead()).thenReturn(ByteBuffer.allocate(16));
+    pipelinedConnection = new PipelinedConnection(connection);
+  }
+
+  @Test
+  public void receiveWaitsForResponsesToEarlierRequests() throws Exception {
+    Message firstMessage = mock(Message.class);
+    Message secondMessage = mock(Message.class);
+    AbstractOp first = op(firstMessage);
+    AbstractOp second = op(secondMessage);
+    long firstSequence = pipelinedConnection.send(first);
+    long secondSequence = pipelinedConnection.send(second);
+    AtomicReference<Message> secondResponse = new AtomicReference<>();
+    Thread receiver = new Thread(() -> secondResponse.set(receive(secondSequence, second)));
+    receiver.start();
+    awaitWaiting(receiver);
+    verify(second, never()).receiveResponse(any(), any());
+
+    assertThat(pipelinedConnection.receive(firstSequence, first)).isSameAs(firstMessage);
+
+    receiver.join();
+    assertThat(secondResponse.get()).isSameAs(secondMessage);
+    InOrder inOrder = inOrder(first, second);
+    inOrder.verify(first).receiveResponse(any(), any());
+    inOrder.verify(second).receiveResponse(any(), any());
+  }
+
+  @Test
+  public void failedReceiveFailsEveryLaterRequest() throws Exception {
+    AbstractOp first = op(null);
+    IOException readFailure = new IOException("read failed");
+    when(first.receiveResponse(any(), any())).thenThrow(readFailure);
+    AbstractOp second = op(mock(Message.class));
+    long firstSequence = pipelinedConnection.send(first);
+    long secondSequence = pipelinedConnection.send(second);
+
+    assertThatThrownBy(() -> pipelinedConnection.receive(firstSequence, first))
+        .isSameAs(readFailure);
+
+    assertThatThrownBy(() -> pipelinedConnection.receive(secondSequence, second))
+        .isInstanceOf(ConnectionDestroyedException.class);
+    assertThatThrownBy(() -> pipelinedConnection.send(op(mock(Message.class))))
+        .isInstanceOf(ConnectionDestroyedException.class);
+    verify(second, never()).receiveResponse(any(), any());
+    assertThat(pipelinedConnection.isUsable()).isFalse();
+    verify(connection, atLeastOnce()).destroy();
+  }
+
+  @Test
+  public void failedSendFailsEveryPendingRequest() throws Exception {
+    AbstractOp first = op(mock(Message.class));
+    long firstSequence = pipelinedConnection.send(first);
+    AbstractOp second = op(mock(Message.class));
+    IOException sendFailure = new IOException("send failed");
+    doThrow(sendFailure).when(second).attemptSend(any());
+
+    assertThatThrownBy(() -> pipelinedConnection.send(second)).isSameAs(sendFailure);
+
+    assertThatThrownBy(() -> pipelinedConnection.receive(firstSequence, first))
+        .isInstanceOf(ConnectionDestroyedException.class);
+    assertThat(pipelinedConnection.isUsable()).isFalse();
+    verify(connection, atLeastOnce()).destroy();
+  }
+
+  @Test
+  public void interruptedReceiveStillReadsItsResponseInTurn() throws Exception {
+    Message firstMessage = mock(Message.class);
+    Message secondMessage = mock(Message.class);
+    AbstractOp first = op(firstMessage);
+    AbstractOp second = op(secondMessage);
+    long firstSequence = pipelinedConnection.send(first);
+    long secondSequence = pipelinedConnection.send(second);
+    AtomicReference<Message> secondResponse = new AtomicReference<>();
+    AtomicBoolean interruptedAfterReceive = new AtomicBoolean();
+    Thread receiver = new Thread(() -> {
+      secondResponse.set(receive(secondSequence, second));
+      interruptedAfterReceive.set(Thread.currentThread().isInterrupted());
+    });
+    receiver.start();
+    awaitWaiting(receiver);
+
+    receiver.interrupt();
+    // the interrupted receiver keeps waiting for its turn
+    awaitWaiting(receiver);
+    verify(second, never()).receiveResponse(any(), any());
+    assertThat(pipelinedConnection.receive(firstSequence, first)).isSameAs(firstMessage);
+
+    receiver.join();
+    assertThat(secondResponse.get()).isSameAs(secondMessage);
+    assertThat(interruptedAfterReceive).isTrue();
+    assertThat(pipelinedConnection.isUsable()).isTrue();
+  }
+
+  @Test
+  public void sendAsyncReadsResponsesInSendOrderWithOneTask() throws Exception {
+    Message firstMessage = mock(Message.class);
+    Message secondMessage = mock(Message.class);
+    AbstractOp first = op(firstMessage);
+    AbstractOp second = op(secondMessage);
+
+    CompletableFuture<Message> firstResponse = pipelinedConnection.sendAsync(first, executor);
+    CompletableFuture<Message> secondResponse = pipelinedConnection.sendAsync(second, executor);
+    assertThat(tasks).hasSize(1);
+    assertThat(firstResponse).isNotDone();
+    tasks.get(0).run();
+
+    assertThat(firstResponse.get()).isSameAs(firstMessage);
+    assertThat(secondResponse.get()).isSameAs(secondMessage);
+    InOrder inOrder = inOrder(first, second);
+    inOrder.verify(first).attemptSend(wrappedConnection);
+    inOrder.verify(second).attemptSend(wrappedConnection);
+    inOrder.verify(first).receiveResponse(any(), any());
+    inOrder.verify(second).receiveResponse(any(), any());
+  }
+
+  @Test
+  public void sendAsyncStartsAnotherTaskOnceResponsesHaveBeenRead() throws Exception {
+    pipelinedConnection.sendAsync(op(mock(Message.class)), executor);
+    tasks.get(0).run();
+
+    CompletableFuture<Message> response =
+        pipelinedConnection.sendAsync(op(mock(Message.class)), executor);
+
+    assertThat(tasks).hasSize(2);
+    tasks.get(1).run();
+    assertThat(response).isCompleted();
+  }
+
+  @Test
+  public void failedReadFailsEveryPendingResponse() throws Exception {
+    AbstractOp first = op(null);
+    IOException readFailure = new IOException("read failed");
+    when(first.receiveResponse(any(), any())).thenThrow(readFailure);
+    CompletableFuture<Message> firstResponse = pipelinedConnection.sendAsync(first, executor);
+    CompletableFuture<Message> secondResponse =
+        pipelinedConnection.sendAsync(op(mock(Message.class)), executor);
+
+    tasks.get(0).run();
+
+    assertThatThrownBy(firstResponse::get).isInstanceOf(ExecutionException.class)
+        .hasCause(readFailure);
+    assertThatThrownBy(secondResponse::get).isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(ConnectionDestroyedException.class);
+    assertThat(pipelinedConnection.isUsable()).isFalse();
+    verify(connection, atLeastOnce()).destroy();
+  }
+
+  @Test
+  public void rejectedReadTaskFailsResponse() throws Exception {
+    CompletableFuture<Message> response = pipelinedConnection.sendAsync(op(mock(Message.class)),
+        task -> {
+          throw new RejectedExecutionException();
+        });
+
+    assertThatThrownBy(response::get).isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(ConnectionDestroyedException.class);
+    verify(connection, atLeastOnce()).destroy();
+  }
+
+  private Message receive(long sequence, AbstractOp op) {
+    try {
+      return pipelinedConnection.receive(sequence, op);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static void awaitWaiting(Thread thread) {
+    await().until(() -> thread.getState() == Thread.State.WAITING);
+  }
+
+  private static AbstractOp op(Message response) throws Exception {
+    AbstractOp op = mock(AbstractOp.class);
+    when(op.receiveResponse(any(), any())).thenReturn(response);
+    return op;
+  }
+}
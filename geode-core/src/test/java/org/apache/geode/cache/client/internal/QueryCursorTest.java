@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.client.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.client.ServerConnectivityException;
+import org.apache.geode.cache.client.ServerOperationException;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.internal.ResultsCollectionWrapper;
+import org.apache.geode.cache.query.internal.types.TypeUtils;
+import org.apache.geode.internal.cache.tier.sockets.ChunkedMessage;
+import org.apache.geode.test.junit.categories.ClientServerTest;
+
+@Category({ClientServerTest.class})
+public class QueryCursorTest {
+
+  private PoolImpl pool;
+  private Connection connection;
+  private QueryOp.StreamingQueryOpImpl op;
+  private ChunkedMessage response;
+
+  @Before
+  public void setUp() {
+    pool = mock(PoolImpl.class);
+    connection = mock(Connection.class);
+    op = mock(QueryOp.StreamingQueryOpImpl.class);
+    response = mock(ChunkedMessage.class);
+    when(pool.acquireConnection()).thenReturn(connection);
+    when(op.getResponse()).thenReturn(response);
+  }
+
+  @Test
+  public void readsNextChunkOnlyWhenPreviousOneIsConsumed() throws Exception {
+    when(response.isLastChunk()).thenReturn(false, true);
+    when(op.addChunkResults(response, null)).thenReturn(results("a", "b"), results("c"));
+
+    QueryCursor cursor = QueryCursor.open(pool, op);
+
+    assertThat(cursor.next()).isEqualTo("a");
+    assertThat(cursor.next()).isEqualTo("b");
+    verify(response, never()).receiveChunk();
+    assertThat(cursor.next()).isEqualTo("c");
+    verify(response).receiveChunk();
+    assertThat(cursor.hasNext()).isFalse();
+    assertThat(cursor.isClosed()).isTrue();
+    verify(connection, never()).destroy();
+    verify(pool).returnConnection(connection);
+  }
+
+  @Test
+  public void closeBeforeLastChunkDestroysConnection() throws Exception {
+    when(response.isLastChunk()).thenReturn(false);
+    when(op.addChunkResults(response, null)).thenReturn(results("a", "b"));
+
+    QueryCursor cursor = QueryCursor.open(pool, op);
+    cursor.next();
+    cursor.close();
+
+    assertThat(cursor.hasNext()).isFalse();
+    verify(connection).destroy();
+    verify(pool).returnConnection(connection);
+  }
+
+  @Test
+  public void returnsConnectionIfQueryFails() {
+    when(pool.executeOn(connection, op)).thenThrow(new ServerOperationException("failed"));
+
+    assertThatThrownBy(() -> QueryCursor.open(pool, op))
+        .isInstanceOf(ServerOperationException.class);
+    verify(pool).returnConnection(connection);
+  }
+
+  @Test
+  public void failureToReadChunkClosesCursor() throws Exception {
+    when(response.isLastChunk()).thenReturn(false);
+    when(op.addChunkResults(response, null)).thenReturn(results("a"));
+    doThrow(new IOException("reset")).when(response).receiveChunk();
+
+    QueryCursor cursor = QueryCursor.open(pool, op);
+    cursor.next();
+
+    assertThatThrownBy(cursor::hasNext).isInstanceOf(ServerConnectivityException.class)
+        .hasCauseInstanceOf(IOException.class);
+    assertThat(cursor.isClosed()).isTrue();
+    verify(connection).destroy();
+    verify(pool).returnConnection(connection);
+  }
+
+  private static SelectResults<?> results(Object... values) {
+    return new ResultsCollectionWrapper(TypeUtils.OBJECT_TYPE,
+        new ArrayList<>(Arrays.asList(values)));
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.internal.serialization.KnownVersion;
+import org.apache.geode.test.junit.categories.SerializationTest;
+
+@Category({SerializationTest.class})
+public class ThreadLocalHeapDataOutputStreamCacheTest {
+  private final ThreadLocalHeapDataOutputStreamCache instance =
+      new ThreadLocalHeapDataOutputStreamCache(2048);
+
+  @Test
+  public void releasedStreamIsReusedEmpty() {
+    HeapDataOutputStream first = instance.acquire(KnownVersion.CURRENT);
+    first.writeInt(37);
+    assertThat(first.toByteArrayCopy()).hasSize(4);
+    instance.release(first);
+
+    HeapDataOutputStream second = instance.acquire(KnownVersion.GEODE_1_12_0);
+
+    assertThat(second).isSameAs(first);
+    assertThat(second.size()).isZero();
+    assertThat(second.getVersion()).isEqualTo(KnownVersion.GEODE_1_12_0);
+  }
+
+  @Test
+  public void streamAcquiredWhileCachedStreamIsInUseIsNew() {
+    instance.release(instance.acquire(KnownVersion.CURRENT));
+    HeapDataOutputStream outer = instance.acquire(KnownVersion.CURRENT);
+
+    HeapDataOutputStream inner = instance.acquire(KnownVersion.CURRENT);
+    instance.release(inner);
+
+    assertThat(inner).isNotSameAs(outer);
+    instance.release(outer);
+    assertThat(instance.acquire(KnownVersion.CURRENT)).isSameAs(outer);
+  }
+
+  @Test
+  public void streamsLargerThanMaximumAreNotCached() {
+    HeapDataOutputStream large = instance.acquire(KnownVersion.CURRENT);
+    large.write(new byte[4096]);
+    large.toByteArrayCopy();
+    instance.release(large);
+
+    assertThat(instance.acquire(KnownVersion.CURRENT)).isNotSameAs(large);
+  }
+
+  @Test
+  public void copyDoesNotShareMemoryWithStream() {
+    HeapDataOutputStream stream = instance.acquire(KnownVersion.CURRENT);
+    stream.writeInt(37);
+    byte[] copy = stream.toByteArrayCopy();
+    instance.release(stream);
+
+    HeapDataOutputStream reused = instance.acquire(KnownVersion.CURRENT);
+    reused.writeInt(42);
+    reused.toByteArrayCopy();
+
+    assertThat(copy).containsExactly(0, 0, 0, 37);
+  }
+
+  @Test
+  public void toByteArrayAndReleaseCopiesContentsThatFitInBuffer() {
+    HeapDataOutputStream stream = instance.acquire(KnownVersion.CURRENT);
+    stream.writeInt(37);
+
+    byte[] contents = instance.toByteArrayAndRelease(stream);
+
+    HeapDataOutputStream reused = instance.acquire(KnownVersion.CURRENT);
+    assertThat(reused).isSameAs(stream);
+    reused.writeInt(42);
+    reused.toByteArrayCopy();
+    assertThat(contents).containsExactly(0, 0, 0, 37);
+  }
+
+  @Test
+  public void toByteArrayAndReleaseKeepsStreamThatOutgrewItsBufferWithinMaximum() {
+    HeapDataOutputStream stream = instance.acquire(KnownVersion.CURRENT);
+    stream.write(new byte[1500]);
+
+    assertThat(instance.toByteArrayAndRelease(stream)).hasSize(1500);
+
+    assertThat(instance.acquire(KnownVersion.CURRENT)).isSameAs(stream);
+  }
+
+  @Test
+  public void toByteArrayAndReleaseReturnsContentsLargerThanMaximumWithoutCopying() {
+    HeapDataOutputStream stream = instance.acquire(KnownVersion.CURRENT);
+    byte[] written = new byte[4096];
+    written[4095] = 37;
+    stream.write(written);
+
+    byte[] contents = instance.toByteArrayAndRelease(stream);
+
+    assertThat(contents).isSameAs(stream.toByteBuffer().array()).isEqualTo(written);
+    assertThat(instance.acquire(KnownVersion.CURRENT)).isNotSameAs(stream);
+  }
+
+  @Test
+  public void threadsGetDifferentStreams() throws InterruptedException {
+    HeapDataOutputStream stream = instance.acquire(KnownVersion.CURRENT);
+    instance.release(stream);
+    AtomicReference<HeapDataOutputStream> streamHolder = new AtomicReference<>();
+    Thread thread = new Thread(() -> streamHolder.set(instance.acquire(KnownVersion.CURRENT)));
+    thread.start();
+    thread.join();
+
+    assertThat(streamHolder.get()).isNotSameAs(stream);
+  }
+}
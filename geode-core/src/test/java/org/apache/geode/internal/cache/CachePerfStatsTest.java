@@ -27,6 +27,8 @@ import static org.apache.geode.internal.cache.CachePerfStats.deltasPreparedId;
 import static org.apache.geode.internal.cache.CachePerfStats.deltasSentId;
 import static org.apache.geode.internal.cache.CachePerfStats.destroysId;
 import static org.apache.geode.internal.cache.CachePerfStats.entryCountId;
+import static org.apache.geode.internal.cache.CachePerfStats.evictionCycleBytesEvictedId;
+import static org.apache.geode.internal.cache.CachePerfStats.evictionCyclesId;
 import static org.apache.geode.internal.cache.CachePerfStats.evictorJobsCompletedId;
 import static org.apache.geode.internal.cache.CachePerfStats.evictorJobsStartedId;
 import static org.apache.geode.internal.cache.CachePerfStats.getInitialImagesCompletedId;
@@ -935,6 +937,17 @@ public class CachePerfStatsTest {
     assertThat(cachePerfStats.getEvictorJobsCompleted()).isNegative();
   }
 
+  @Test
+  public void endEvictionCycleIncrementsCyclesAndBytesEvicted() {
+    cachePerfStats.endEvictionCycle(100);
+    cachePerfStats.endEvictionCycle(50);
+
+    assertThat(statistics.getLong(evictionCyclesId)).isEqualTo(2);
+    assertThat(statistics.getLong(evictionCycleBytesEvictedId)).isEqualTo(150);
+    assertThat(cachePerfStats.getEvictionCycles()).isEqualTo(2);
+    assertThat(cachePerfStats.getEvictionCycleBytesEvicted()).isEqualTo(150);
+  }
+
   @Test
   public void getIndexUpdateCompletedChangesDelegatesToStatistics() {
     statistics.incLong(indexUpdateCompletedId, Long.MAX_VALUE);
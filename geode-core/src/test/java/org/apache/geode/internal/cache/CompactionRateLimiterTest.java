@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class CompactionRateLimiterTest {
+
+  private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final AtomicLong clock = new AtomicLong(1000);
+
+  private final CompactionRateLimiter limiter = new CompactionRateLimiter(1000, clock::get);
+
+  @Test
+  public void firstCopyDoesNotWait() {
+    assertThat(limiter.reserve(1000)).isZero();
+  }
+
+  @Test
+  public void nextCopyWaitsForPreviousCopyToBePaidFor() {
+    limiter.reserve(1000);
+
+    assertThat(limiter.reserve(500)).isEqualTo(ONE_SECOND);
+    assertThat(limiter.reserve(500)).isEqualTo(ONE_SECOND + ONE_SECOND / 2);
+  }
+
+  @Test
+  public void elapsedTimeReducesWait() {
+    limiter.reserve(1000);
+    clock.addAndGet(ONE_SECOND / 4);
+
+    assertThat(limiter.reserve(1000)).isEqualTo(ONE_SECOND * 3 / 4);
+  }
+
+  @Test
+  public void idleTimeIsNotSavedUp() {
+    limiter.reserve(1000);
+    clock.addAndGet(10 * ONE_SECOND);
+
+    assertThat(limiter.reserve(1000)).isZero();
+    assertThat(limiter.reserve(1000)).isEqualTo(ONE_SECOND);
+  }
+
+  @Test
+  public void emptyCopyIsFree() {
+    limiter.reserve(0);
+
+    assertThat(limiter.reserve(0)).isZero();
+  }
+
+  @Test
+  public void acquireDoesNotWaitWhileCallerMustNotWait() {
+    limiter.reserve(1000);
+
+    assertThat(limiter.acquire(1000, () -> true)).isZero();
+    // the copy still counts against the budget
+    assertThat(limiter.reserve(1000)).isEqualTo(2 * ONE_SECOND);
+  }
+
+  @Test
+  public void acquireStopsWaitingOnceCallerMustNotWait() {
+    limiter.reserve(1000);
+    AtomicInteger checks = new AtomicInteger();
+
+    long waited = limiter.acquire(1000, () -> checks.incrementAndGet() > 1);
+
+    assertThat(waited).isPositive().isLessThan(ONE_SECOND);
+    assertThat(checks).hasValue(2);
+  }
+
+  @Test
+  public void hugeCopyDoesNotOverflow() {
+    CompactionRateLimiter limiter = new CompactionRateLimiter(1L << 40, clock::get);
+    limiter.reserve(Long.MAX_VALUE / 2);
+
+    assertThat(limiter.reserve(1)).isPositive();
+  }
+}
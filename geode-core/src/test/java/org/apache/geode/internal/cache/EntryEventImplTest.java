@@ -16,16 +16,21 @@ package org.apache.geode.internal.cache;
 
 import static org.apache.geode.test.awaitility.GeodeAwaitility.await;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.nio.ByteBuffer;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -34,15 +39,27 @@ import org.junit.Before;
 import org.junit.Test;
 
 import org.apache.geode.Delta;
+import org.apache.geode.InvalidDeltaException;
 import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.SerializedCacheValue;
 import org.apache.geode.distributed.internal.InternalDistributedSystem;
 import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
+import org.apache.geode.internal.HeapDataOutputStream;
 import org.apache.geode.internal.cache.EntryEventImpl.NewValueImporter;
 import org.apache.geode.internal.cache.EntryEventImpl.OldValueImporter;
 import org.apache.geode.internal.cache.versions.VersionTag;
 import org.apache.geode.internal.offheap.MemoryAllocator;
 import org.apache.geode.internal.offheap.StoredObject;
+import org.apache.geode.internal.serialization.DSCODE;
+import org.apache.geode.internal.serialization.KnownVersion;
+import org.apache.geode.pdx.FieldType;
+import org.apache.geode.pdx.internal.PdxDelta;
+import org.apache.geode.pdx.internal.PdxField;
+import org.apache.geode.pdx.internal.PdxReaderImpl;
+import org.apache.geode.pdx.internal.PdxType;
+import org.apache.geode.pdx.internal.PdxWriterImpl;
+import org.apache.geode.pdx.internal.TypeRegistry;
+import org.apache.geode.pdx.internal.WritablePdxInstanceImpl;
 
 public class EntryEventImplTest {
 
@@ -1042,9 +1059,73 @@ public class EntryEventImplTest {
     assertThat(value).isFalse();
   }
 
+  @Test
+  public void processDeltaBytesAppliesPdxDeltaWithoutDeserializingOldValue() throws Exception {
+    PdxDelta.ENABLED = true;
+    PdxType pdxType = new PdxType("EntryEventImplTest.PdxType", false);
+    pdxType.setTypeId(42);
+    pdxType.addField(new PdxField("intField", 0, 0, FieldType.INT, false));
+    pdxType.initialize(mock(PdxWriterImpl.class));
+    LocalRegion region = createRegionWithPdxType(pdxType);
+    byte[] oldBytes = serializePdx(42, 37);
+    WritablePdxInstanceImpl writer = new WritablePdxInstanceImpl(new PdxReaderImpl(pdxType,
+        new DataInputStream(new ByteArrayInputStream(oldBytes, PdxWriterImpl.HEADER_SIZE, 4)), 4));
+    writer.setField("intField", 13);
+    HeapDataOutputStream delta = new HeapDataOutputStream(KnownVersion.CURRENT);
+    PdxDelta.toDelta(writer, delta);
+    CachedDeserializable oldValue = mock(CachedDeserializable.class);
+    when(oldValue.isSerialized()).thenReturn(true);
+    when(oldValue.getValue()).thenReturn(oldBytes);
+    EntryEventImpl event = createEntryEvent(region, null);
+    event.setDeltaBytes(delta.toByteArray());
+
+    event.processDeltaBytes(oldValue);
+
+    assertThat(((CachedDeserializable) event.getRawNewValue()).getSerializedValue())
+        .isEqualTo(serializePdx(42, 13));
+    verify(oldValue, never()).getDeserializedValue(any(), any());
+    verify(oldValue, never()).getDeserializedWritableCopy(any(), any());
+  }
+
+  @Test
+  public void processDeltaBytesThrowsInvalidDeltaIfOldValueIsNeitherDeltaNorPdx() {
+    PdxDelta.ENABLED = true;
+    LocalRegion region = createRegionWithPdxType(mock(PdxType.class));
+    CachedDeserializable oldValue = mock(CachedDeserializable.class);
+    when(oldValue.isSerialized()).thenReturn(true);
+    when(oldValue.getValue()).thenReturn(new byte[] {1, 2, 3});
+    when(oldValue.getDeserializedValue(any(), any())).thenReturn("oldValue");
+    EntryEventImpl event = createEntryEvent(region, null);
+    event.setDeltaBytes(new byte[] {4, 5, 6});
+
+    assertThatThrownBy(() -> event.processDeltaBytes(oldValue))
+        .isInstanceOf(InvalidDeltaException.class);
+  }
+
   @After
   public void tearDown() {
     GemFireCacheImpl.DELTAS_RECALCULATE_SIZE = false;
+    PdxDelta.ENABLED = false;
+  }
+
+  private static LocalRegion createRegionWithPdxType(PdxType pdxType) {
+    TypeRegistry registry = mock(TypeRegistry.class);
+    when(registry.getType(42)).thenReturn(pdxType);
+    InternalCache cache = mock(InternalCache.class);
+    when(cache.getPdxRegistry()).thenReturn(registry);
+    LocalRegion region = mock(LocalRegion.class);
+    when(region.getCache()).thenReturn(cache);
+    when(region.getCachePerfStats()).thenReturn(mock(CachePerfStats.class));
+    return region;
+  }
+
+  /**
+   * Returns a serialized pdx with a single int field.
+   */
+  private static byte[] serializePdx(int typeId, int intField) {
+    ByteBuffer bytes = ByteBuffer.allocate(PdxWriterImpl.HEADER_SIZE + 4);
+    bytes.put(DSCODE.PDX.toByte()).putInt(4).putInt(typeId).putInt(intField);
+    return bytes.array();
   }
 
   private static class EntryEventImplWithOldValuesDisabled extends EntryEventImpl {
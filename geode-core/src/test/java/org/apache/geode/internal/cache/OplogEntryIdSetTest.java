@@ -71,6 +71,29 @@ public class OplogEntryIdSetTest {
     assertThat(s.contains(Long.MIN_VALUE)).isTrue();
   }
 
+  @Test
+  public void offHeapSetHasSameBasics() {
+    OplogEntryIdSet s = new OplogEntryIdSet(true);
+    try {
+      LongStream.range(1, 777777).forEach(s::add);
+      LongStream.range(1, 777777).forEach(i -> assertThat(s.contains(i)).isTrue());
+      assertThat(s.contains(777777)).isFalse();
+
+      assertThatThrownBy(() -> s.add(DiskStoreImpl.INVALID_ID))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThat(s.contains(0)).isFalse();
+
+      s.add(0x00000000FFFFFFFFL + 1);
+      s.add(Long.MIN_VALUE);
+      assertThat(s.contains(0x00000000FFFFFFFFL + 1)).isTrue();
+      assertThat(s.contains(Long.MIN_VALUE)).isTrue();
+      assertThat(s.size()).isEqualTo(777776 + 2);
+    } finally {
+      s.release();
+    }
+    assertThat(s.size()).isZero();
+  }
+
   @Test
   public void addMethodOverflowsWhenInternalAddThrowsIllegalArgumentException() {
     int testEntries = 1000;
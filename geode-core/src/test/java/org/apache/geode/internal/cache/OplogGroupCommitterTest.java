@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class OplogGroupCommitterTest {
+
+  private final DiskStoreStats stats = mock(DiskStoreStats.class);
+  private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void awaitCommitFlushesAndForcesAppendedRecord() throws Exception {
+    CountingFlusher flusher = new CountingFlusher();
+    OplogGroupCommitter committer = new OplogGroupCommitter(flusher, stats, 0);
+    flusher.committer = committer;
+
+    long sequence = committer.append();
+    committer.awaitCommit(sequence);
+
+    assertThat(committer.getCommitted()).isEqualTo(sequence);
+    assertThat(flusher.flushes.get()).isEqualTo(1);
+    assertThat(flusher.forces.get()).isEqualTo(1);
+    verify(stats).endGroupCommit(anyLong(), eq(1L));
+  }
+
+  @Test
+  public void awaitCommitDoesNotFlushAlreadyCommittedRecord() throws Exception {
+    CountingFlusher flusher = new CountingFlusher();
+    OplogGroupCommitter committer = new OplogGroupCommitter(flusher, stats, 0);
+    flusher.committer = committer;
+
+    long first = committer.append();
+    long second = committer.append();
+    committer.awaitCommit(second);
+    committer.awaitCommit(first);
+
+    assertThat(flusher.flushes.get()).isEqualTo(1);
+    verify(stats).endGroupCommit(anyLong(), eq(2L));
+  }
+
+  @Test
+  public void concurrentWritersShareFlushes() throws Exception {
+    CountDownLatch firstFlushStarted = new CountDownLatch(1);
+    CountDownLatch releaseFirstFlush = new CountDownLatch(1);
+    CountingFlusher flusher = new CountingFlusher() {
+      @Override
+      public long flush() throws IOException {
+        long flushed = super.flush();
+        if (flushes.get() == 1) {
+          // hold the first commit open so that the other writers queue up behind it
+          firstFlushStarted.countDown();
+          try {
+            releaseFirstFlush.await(30, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            throw new IOException(e);
+          }
+        }
+        return flushed;
+      }
+    };
+    OplogGroupCommitter committer = new OplogGroupCommitter(flusher, stats, 0);
+    flusher.committer = committer;
+
+    long leaderSequence = committer.append();
+    Future<?> leader = executor.submit(() -> {
+      committer.awaitCommit(leaderSequence);
+      return null;
+    });
+    assertThat(firstFlushStarted.await(30, TimeUnit.SECONDS)).isTrue();
+
+    List<Future<?>> followers = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      long sequence = committer.append();
+      followers.add(executor.submit(() -> {
+        committer.awaitCommit(sequence);
+        return null;
+      }));
+    }
+    releaseFirstFlush.countDown();
+
+    leader.get(30, TimeUnit.SECONDS);
+    for (Future<?> follower : followers) {
+      follower.get(30, TimeUnit.SECONDS);
+    }
+    assertThat(committer.getCommitted()).isEqualTo(6);
+    assertThat(flusher.flushes.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void failedFlushIsRetriedByNextWriter() throws Exception {
+    CountingFlusher flusher = new CountingFlusher() {
+      @Override
+      public long flush() throws IOException {
+        if (flushes.getAndIncrement() == 0) {
+          throw new IOException("injected");
+        }
+        return committer.getAppended();
+      }
+    };
+    OplogGroupCommitter committer = new OplogGroupCommitter(flusher, stats, 0);
+    flusher.committer = committer;
+
+    long sequence = committer.append();
+    assertThatThrownBy(() -> committer.awaitCommit(sequence)).isInstanceOf(IOException.class);
+    assertThat(committer.getCommitted()).isZero();
+
+    committer.awaitCommit(sequence);
+    assertThat(committer.getCommitted()).isEqualTo(sequence);
+  }
+
+  private static class CountingFlusher implements OplogGroupCommitter.Flusher {
+    final AtomicInteger flushes = new AtomicInteger();
+    final AtomicInteger forces = new AtomicInteger();
+    OplogGroupCommitter committer;
+
+    @Override
+    public long flush() throws IOException {
+      flushes.incrementAndGet();
+      return committer.getAppended();
+    }
+
+    @Override
+    public void force() {
+      forces.incrementAndGet();
+    }
+  }
+}
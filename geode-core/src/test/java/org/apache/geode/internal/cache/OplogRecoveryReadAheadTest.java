@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class OplogRecoveryReadAheadTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final DiskStoreStats stats = mock(DiskStoreStats.class);
+  private final ExecutorService executor = mock(ExecutorService.class);
+  private final List<Runnable> scheduled = new ArrayList<>();
+
+  private File first;
+  private File second;
+  private File third;
+
+  @Before
+  public void setUp() throws IOException {
+    doAnswer(invocation -> scheduled.add(invocation.getArgument(0))).when(executor)
+        .execute(any());
+    first = createFile("first.krf", 10);
+    second = createFile("second.krf", 20);
+    third = createFile("third.krf", 30);
+  }
+
+  @Test
+  public void schedulesNoMoreThanDepthFilesUpFront() {
+    new OplogRecoveryReadAhead(Arrays.asList(first, second, third), executor, 2, stats);
+
+    assertThat(scheduled).hasSize(2);
+  }
+
+  @Test
+  public void schedulesNextFileWhenOneIsRecovered() {
+    OplogRecoveryReadAhead readAhead =
+        new OplogRecoveryReadAhead(Arrays.asList(first, second, third), executor, 1, stats);
+
+    readAhead.fileRecovered();
+    readAhead.fileRecovered();
+    readAhead.fileRecovered();
+
+    assertThat(scheduled).hasSize(3);
+  }
+
+  @Test
+  public void readsWholeFile() {
+    new OplogRecoveryReadAhead(Arrays.asList(first, second, third), executor, 3, stats);
+
+    scheduled.forEach(Runnable::run);
+
+    verify(stats).incRecoveryReadAheadBytes(10);
+    verify(stats).incRecoveryReadAheadBytes(20);
+    verify(stats).incRecoveryReadAheadBytes(30);
+  }
+
+  @Test
+  public void ignoresMissingFile() {
+    new OplogRecoveryReadAhead(Arrays.asList(new File(temporaryFolder.getRoot(), "missing.krf")),
+        executor, 1, stats);
+
+    scheduled.forEach(Runnable::run);
+
+    verify(stats).incRecoveryReadAheadBytes(0);
+  }
+
+  @Test
+  public void doesNotReadAfterClose() {
+    OplogRecoveryReadAhead readAhead =
+        new OplogRecoveryReadAhead(Arrays.asList(first, second, third), executor, 1, stats);
+
+    readAhead.close();
+    readAhead.fileRecovered();
+    scheduled.forEach(Runnable::run);
+
+    assertThat(scheduled).hasSize(1);
+    verify(executor).shutdownNow();
+    verify(stats, never()).incRecoveryReadAheadBytes(10);
+  }
+
+  private File createFile(String name, int size) throws IOException {
+    File file = temporaryFolder.newFile(name);
+    Files.write(file.toPath(), new byte[size]);
+    return file;
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RecoveredEntryApplierTest {
+
+  private RecoveredEntryApplier applier;
+
+  @Before
+  public void setUp() {
+    applier = new RecoveredEntryApplier(
+        new ExecutorService[] {Executors.newSingleThreadExecutor(),
+            Executors.newSingleThreadExecutor()});
+  }
+
+  @After
+  public void tearDown() {
+    applier.close();
+  }
+
+  @Test
+  public void appliesEntriesOfARegionInOrderOnOneThread() {
+    List<Integer> applied = Collections.synchronizedList(new ArrayList<>());
+    List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+    for (int i = 0; i < 1000; i++) {
+      int entry = i;
+      applier.apply(7, () -> {
+        applied.add(entry);
+        threads.add(Thread.currentThread());
+      });
+    }
+
+    applier.awaitApplied();
+
+    assertThat(applied)
+        .containsExactlyElementsOf(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+    assertThat(threads).containsOnly(threads.get(0));
+  }
+
+  @Test
+  public void appliesEntriesOfDifferentRegionsOnDifferentThreads() {
+    List<Thread> firstRegionThreads = Collections.synchronizedList(new ArrayList<>());
+    List<Thread> secondRegionThreads = Collections.synchronizedList(new ArrayList<>());
+
+    applier.apply(0, () -> firstRegionThreads.add(Thread.currentThread()));
+    applier.apply(1, () -> secondRegionThreads.add(Thread.currentThread()));
+    applier.awaitApplied();
+
+    assertThat(firstRegionThreads).hasSize(1);
+    assertThat(secondRegionThreads).hasSize(1);
+    assertThat(firstRegionThreads.get(0)).isNotSameAs(secondRegionThreads.get(0));
+  }
+
+  @Test
+  public void awaitAppliedReturnsOnceEveryEntryIsApplied() {
+    AtomicInteger applied = new AtomicInteger();
+    for (int i = 0; i < 1000; i++) {
+      applier.apply(i, applied::incrementAndGet);
+    }
+
+    applier.awaitApplied();
+
+    assertThat(applied).hasValue(1000);
+  }
+
+  @Test
+  public void awaitAppliedThrowsFailureOfAnEntryAfterApplyingTheOthers() {
+    RuntimeException failure = new RuntimeException("failed");
+    AtomicInteger applied = new AtomicInteger();
+    applier.apply(0, () -> {
+      throw failure;
+    });
+    applier.apply(1, applied::incrementAndGet);
+
+    assertThatThrownBy(() -> applier.awaitApplied()).isSameAs(failure);
+    assertThat(applied).hasValue(1);
+  }
+
+  @Test
+  public void canBeUsedAgainAfterAwaitingApplied() {
+    AtomicInteger applied = new AtomicInteger();
+    applier.apply(0, applied::incrementAndGet);
+    applier.awaitApplied();
+
+    applier.apply(0, applied::incrementAndGet);
+    applier.awaitApplied();
+
+    assertThat(applied).hasValue(2);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.internal.cache.BucketRegion;
+
+public class ClockEvictionListTest {
+
+  private final List<EvictableEntry> entries = new ArrayList<>();
+
+  private EvictionCounters stats;
+  private EvictionController controller;
+  private ClockEvictionList list;
+
+  @Before
+  public void setup() {
+    stats = mock(EvictionCounters.class);
+    controller = mock(EvictionController.class);
+    when(controller.getCounters()).thenReturn(stats);
+    list = new ClockEvictionList(controller, () -> entries, 2);
+  }
+
+  @Test
+  public void evictingFromEmptyListReturnsNull() {
+    assertThat(list.getEvictableEntry()).isNull();
+    assertThat(list.size()).isZero();
+  }
+
+  @Test
+  public void appendingTwiceCountsOnce() {
+    EvictableEntry node = addEntry();
+    list.appendEntry(node);
+
+    assertThat(list.size()).isOne();
+  }
+
+  @Test
+  public void evictsEntryThatIsInList() {
+    EvictableEntry node = addEntry();
+
+    assertThat(list.getEvictableEntry()).isSameAs(node);
+    assertThat(list.size()).isZero();
+    assertThat(node.next()).isNull();
+  }
+
+  @Test
+  public void skipsEntriesThatAreNotInList() {
+    EvictableEntry overflowed = addEntry();
+    list.destroyEntry(overflowed);
+    EvictableEntry node = addEntry();
+
+    assertThat(list.getEvictableEntry()).isSameAs(node);
+    assertThat(list.getEvictableEntry()).isNull();
+    verify(stats).incDestroys();
+  }
+
+  @Test
+  public void givesRecentlyUsedEntriesSecondChance() {
+    EvictableEntry recentlyUsed = addEntry();
+    recentlyUsed.setRecentlyUsed(null);
+    EvictableEntry node = addEntry();
+
+    assertThat(list.getEvictableEntry()).isSameAs(node);
+    assertThat(recentlyUsed.isRecentlyUsed()).isFalse();
+    assertThat(list.getEvictableEntry()).isSameAs(recentlyUsed);
+  }
+
+  @Test
+  public void greedilyReturnsRecentlyUsedEntryAfterMaxAttempts() {
+    for (int i = 0; i < 3; i++) {
+      addEntry().setRecentlyUsed(null);
+    }
+
+    assertThat(list.getEvictableEntry()).isSameAs(entries.get(2));
+    verify(stats).incGreedyReturns(1);
+  }
+
+  @Test
+  public void skipsEntriesInUseByTransaction() {
+    EvictableEntry inTransaction = addEntry();
+    when(inTransaction.isInUseByTransaction()).thenReturn(true);
+
+    assertThat(list.getEvictableEntry()).isNull();
+    assertThat(list.size()).isOne();
+  }
+
+  @Test
+  public void clearResetsSizeAndCounters() {
+    addEntry();
+    BucketRegion bucketRegion = mock(BucketRegion.class);
+    when(bucketRegion.getCounter()).thenReturn(1L);
+
+    list.clear(null, bucketRegion);
+
+    assertThat(list.size()).isZero();
+    verify(stats).decrementCounter(1L);
+    verify(bucketRegion).resetCounter();
+  }
+
+  private EvictableEntry addEntry() {
+    EvictableEntry node = mock(EvictableEntry.class);
+    AtomicReference<EvictionNode> next = new AtomicReference<>();
+    AtomicBoolean recentlyUsed = new AtomicBoolean();
+    doAnswer(invocation -> {
+      next.set(invocation.getArgument(0));
+      return null;
+    }).when(node).setNext(any());
+    when(node.next()).thenAnswer(invocation -> next.get());
+    doAnswer(invocation -> {
+      recentlyUsed.set(true);
+      return null;
+    }).when(node).setRecentlyUsed(any());
+    doAnswer(invocation -> {
+      recentlyUsed.set(false);
+      return null;
+    }).when(node).unsetRecentlyUsed();
+    when(node.isRecentlyUsed()).thenAnswer(invocation -> recentlyUsed.get());
+    entries.add(node);
+    list.appendEntry(node);
+    return node;
+  }
+}
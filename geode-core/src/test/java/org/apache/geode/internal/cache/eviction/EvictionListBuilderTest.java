@@ -14,11 +14,15 @@
  */
 package org.apache.geode.internal.cache.eviction;
 
+import static org.apache.geode.internal.lang.SystemPropertyHelper.EVICTION_CLOCK;
+import static org.apache.geode.internal.lang.SystemPropertyHelper.EVICTION_FREQUENCY_ADMISSION;
 import static org.apache.geode.internal.lang.SystemPropertyHelper.EVICTION_SCAN_ASYNC;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.Collections;
+
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -28,9 +32,14 @@ import org.apache.geode.cache.EvictionAlgorithm;
 
 public class EvictionListBuilderTest {
   private static final String EVICTION_PROPERTY_NAME = "geode." + EVICTION_SCAN_ASYNC;
+  private static final String EVICTION_CLOCK_PROPERTY_NAME = "geode." + EVICTION_CLOCK;
+  private static final String EVICTION_FREQUENCY_ADMISSION_PROPERTY_NAME =
+      "geode." + EVICTION_FREQUENCY_ADMISSION;
 
   @Rule
-  public ClearSystemProperties clearProperties = new ClearSystemProperties(EVICTION_PROPERTY_NAME);
+  public ClearSystemProperties clearProperties =
+      new ClearSystemProperties(EVICTION_PROPERTY_NAME, EVICTION_CLOCK_PROPERTY_NAME,
+          EVICTION_FREQUENCY_ADMISSION_PROPERTY_NAME);
 
   private EvictionListBuilder builder;
   private EvictionController controller;
@@ -74,4 +83,50 @@ public class EvictionListBuilderTest {
     assertThat(builder.create()).isInstanceOf(LRUListWithSyncSorting.class);
 
   }
+
+  @Test
+  public void createsClockWhenSystemConfiguredToUseIt() {
+    System.setProperty(EVICTION_CLOCK_PROPERTY_NAME, "true");
+    builder = new EvictionListBuilder(controller, Collections::emptyList);
+
+    assertThat(builder.create()).isInstanceOf(ClockEvictionList.class);
+  }
+
+  @Test
+  public void createsAsyncLruInsteadOfClockWithoutEntries() {
+    System.setProperty(EVICTION_CLOCK_PROPERTY_NAME, "true");
+    builder = new EvictionListBuilder(controller);
+
+    assertThat(builder.create()).isInstanceOf(LRUListWithAsyncSorting.class);
+  }
+
+  @Test
+  public void createsLIFOListEvenWhenClockIsConfigured() {
+    System.setProperty(EVICTION_CLOCK_PROPERTY_NAME, "true");
+    when(controller.getEvictionAlgorithm()).thenReturn(EvictionAlgorithm.LIFO_ENTRY);
+    builder = new EvictionListBuilder(controller, Collections::emptyList);
+
+    assertThat(builder.create()).isInstanceOf(LIFOList.class);
+  }
+
+  @Test
+  public void wrapsLruInAdmissionFilterWhenSystemConfiguredToUseIt() {
+    System.setProperty(EVICTION_FREQUENCY_ADMISSION_PROPERTY_NAME, "true");
+    builder = new EvictionListBuilder(controller);
+
+    EvictionList list = builder.create();
+
+    assertThat(list).isInstanceOf(TinyLfuEvictionList.class);
+    assertThat(((TinyLfuEvictionList) list).getDelegate())
+        .isInstanceOf(LRUListWithAsyncSorting.class);
+  }
+
+  @Test
+  public void doesNotWrapLIFOListInAdmissionFilter() {
+    System.setProperty(EVICTION_FREQUENCY_ADMISSION_PROPERTY_NAME, "true");
+    when(controller.getEvictionAlgorithm()).thenReturn(EvictionAlgorithm.LIFO_ENTRY);
+    builder = new EvictionListBuilder(controller);
+
+    assertThat(builder.create()).isInstanceOf(LIFOList.class);
+  }
 }
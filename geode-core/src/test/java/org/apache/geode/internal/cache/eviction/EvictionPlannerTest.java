@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.cache.RegionMap;
+import org.apache.geode.internal.cache.eviction.EvictionPlanner.RegionQuota;
+
+public class EvictionPlannerTest {
+
+  private static final long NOW = 1_000_000L;
+
+  private static final long WINDOW = 60_000L;
+
+  @Test
+  public void planIsEmptyWithoutRegions() {
+    EvictionPlanner planner = new EvictionPlanner(4, WINDOW);
+
+    assertThat(planner.plan(singletonList(region(0, false, 0)), 1000, NOW)).isEmpty();
+  }
+
+  @Test
+  public void quotasAreProportionalToEntriesInMemory() {
+    EvictionPlanner planner = new EvictionPlanner(4, WINDOW);
+    LocalRegion small = region(100, false, 0);
+    LocalRegion large = region(300, false, 0);
+
+    List<RegionQuota> quotas = flatten(planner.plan(asList(small, large), 1000, NOW));
+
+    assertThat(quotaOf(quotas, small)).isEqualTo(250);
+    assertThat(quotaOf(quotas, large)).isEqualTo(750);
+  }
+
+  @Test
+  public void idleRegionsGiveUpMoreThanRecentlyUsedRegions() {
+    EvictionPlanner planner = new EvictionPlanner(4, WINDOW);
+    LocalRegion recentlyUsed = region(100, true, NOW);
+    LocalRegion idle = region(100, true, NOW - 2 * WINDOW);
+
+    List<RegionQuota> quotas = flatten(planner.plan(asList(recentlyUsed, idle), 900, NOW));
+
+    assertThat(quotaOf(quotas, recentlyUsed)).isEqualTo(300);
+    assertThat(quotaOf(quotas, idle)).isEqualTo(600);
+  }
+
+  @Test
+  public void usesSizeForEvictionOfBuckets() {
+    EvictionPlanner planner = new EvictionPlanner(4, WINDOW);
+    BucketRegion bucket = mock(BucketRegion.class);
+    when(bucket.getSizeForEviction()).thenReturn(100);
+    LocalRegion region = region(100, false, 0);
+
+    List<RegionQuota> quotas = flatten(planner.plan(asList(bucket, region), 1000, NOW));
+
+    assertThat(quotaOf(quotas, bucket)).isEqualTo(500);
+  }
+
+  @Test
+  public void balancesQuotasAcrossBatches() {
+    EvictionPlanner planner = new EvictionPlanner(2, WINDOW);
+    List<LocalRegion> regions = asList(region(400, false, 0), region(300, false, 0),
+        region(200, false, 0), region(100, false, 0));
+
+    List<List<RegionQuota>> plan = planner.plan(regions, 1000, NOW);
+
+    assertThat(plan).hasSize(2);
+    assertThat(plan.stream().map(EvictionPlannerTest::total).collect(Collectors.toList()))
+        .containsExactlyInAnyOrder(500L, 500L);
+  }
+
+  @Test
+  public void neverUsesMoreBatchesThanRegions() {
+    EvictionPlanner planner = new EvictionPlanner(8, WINDOW);
+
+    assertThat(planner.plan(asList(region(1, false, 0), region(1, false, 0)), 10, NOW))
+        .hasSize(2);
+  }
+
+  private static LocalRegion region(int entriesInVM, boolean statisticsEnabled,
+      long lastAccessedTime) {
+    LocalRegion region = mock(LocalRegion.class);
+    RegionMap regionMap = mock(RegionMap.class);
+    when(region.getRegionMap()).thenReturn(regionMap);
+    when(regionMap.sizeInVM()).thenReturn(entriesInVM);
+    when(region.getStatisticsEnabled()).thenReturn(statisticsEnabled);
+    when(region.getLastAccessedTime()).thenReturn(lastAccessedTime);
+    return region;
+  }
+
+  private static List<RegionQuota> flatten(List<List<RegionQuota>> plan) {
+    return plan.stream().flatMap(List::stream).collect(Collectors.toList());
+  }
+
+  private static long quotaOf(List<RegionQuota> quotas, LocalRegion region) {
+    return quotas.stream().filter(quota -> quota.getRegion() == region).findFirst()
+        .map(RegionQuota::getBytesToEvict).orElse(0L);
+  }
+
+  private static long total(List<RegionQuota> batch) {
+    return batch.stream().mapToLong(RegionQuota::getBytesToEvict).sum();
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class FrequencySketchTest {
+
+  private final FrequencySketch sketch = new FrequencySketch(512);
+
+  @Test
+  public void unusedKeyHasNoUses() {
+    assertThat(sketch.frequency(42)).isZero();
+  }
+
+  @Test
+  public void countsUsesOfKey() {
+    for (int i = 0; i < 5; i++) {
+      sketch.increment(42);
+    }
+
+    assertThat(sketch.frequency(42)).isEqualTo(5);
+  }
+
+  @Test
+  public void frequencyStopsAtFifteen() {
+    for (int i = 0; i < 100; i++) {
+      sketch.increment(42);
+    }
+
+    assertThat(sketch.frequency(42)).isEqualTo(15);
+  }
+
+  @Test
+  public void sizesTableToPowerOfTwo() {
+    assertThat(sketch.getCapacity()).isEqualTo(512);
+    assertThat(new FrequencySketch(1000).getCapacity()).isEqualTo(1024);
+    assertThat(new FrequencySketch(1).getCapacity()).isEqualTo(64);
+  }
+
+  @Test
+  public void growingForgetsUses() {
+    sketch.increment(42);
+
+    sketch.ensureCapacity(4096);
+
+    assertThat(sketch.getCapacity()).isEqualTo(4096);
+    assertThat(sketch.frequency(42)).isZero();
+  }
+
+  @Test
+  public void oldUsesAreHalvedOverTime() {
+    for (int i = 0; i < 10; i++) {
+      sketch.increment(42);
+    }
+    for (int i = 1000; i < 1000 + 10 * sketch.getCapacity(); i++) {
+      sketch.increment(i);
+    }
+
+    assertThat(sketch.frequency(42)).isLessThan(10);
+  }
+}
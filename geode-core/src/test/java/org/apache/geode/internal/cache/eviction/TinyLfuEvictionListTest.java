@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class TinyLfuEvictionListTest {
+
+  private EvictionCounters stats;
+  private EvictionList delegate;
+  private TinyLfuEvictionList list;
+
+  @Before
+  public void setup() {
+    stats = mock(EvictionCounters.class);
+    delegate = mock(EvictionList.class);
+    when(delegate.getStatistics()).thenReturn(stats);
+    when(delegate.size()).thenReturn(3);
+    doAnswer(invocation -> {
+      EvictionNode node = invocation.getArgument(0);
+      node.setNext(ClockEvictionList.IN_LIST);
+      return null;
+    }).when(delegate).appendEntry(any());
+    when(delegate.removeEntry(any())).thenAnswer(invocation -> {
+      EvictionNode node = invocation.getArgument(0);
+      boolean inList = node.next() != null;
+      node.setNext(null);
+      return inList;
+    });
+    list = new TinyLfuEvictionList(delegate);
+  }
+
+  @Test
+  public void returnsNullWhenDelegateHasNothingToEvict() {
+    addEntry("new");
+    addEntry("newer");
+
+    assertThat(list.getEvictableEntry()).isNull();
+  }
+
+  @Test
+  public void appendingTwiceAppendsToDelegateOnce() {
+    EvictableEntry entry = addEntry("key");
+
+    list.appendEntry(entry);
+
+    verify(delegate).appendEntry(entry);
+  }
+
+  @Test
+  public void evictsVictimWhenWindowIsNotFull() {
+    EvictableEntry victim = addEntry("victim");
+    when(delegate.getEvictableEntry()).thenReturn(victim);
+
+    assertThat(list.getEvictableEntry()).isSameAs(victim);
+    verify(delegate, never()).removeEntry(any());
+  }
+
+  @Test
+  public void evictsNewEntryUsedLessOftenThanVictim() {
+    EvictableEntry victim = addEntry("hot");
+    EvictableEntry candidate = addEntry("new");
+    addEntry("newer");
+    for (int i = 0; i < 5; i++) {
+      list.recordAccess(victim);
+    }
+    when(delegate.getEvictableEntry()).thenAnswer(invocation -> {
+      delegate.removeEntry(victim);
+      return victim;
+    });
+
+    assertThat(list.getEvictableEntry()).isSameAs(candidate);
+    assertThat(candidate.next()).isNull();
+    assertThat(victim.next()).isNotNull();
+    verify(delegate, times(2)).appendEntry(victim);
+    verify(stats).incAdmissionRejections(1);
+  }
+
+  @Test
+  public void evictsVictimUsedLessOftenThanNewEntry() {
+    EvictableEntry victim = addEntry("cold");
+    EvictableEntry candidate = addEntry("new");
+    addEntry("newer");
+    for (int i = 0; i < 5; i++) {
+      list.recordAccess(candidate);
+    }
+    when(delegate.getEvictableEntry()).thenReturn(victim);
+
+    assertThat(list.getEvictableEntry()).isSameAs(victim);
+    assertThat(candidate.next()).isNotNull();
+    verify(stats, never()).incAdmissionRejections(anyLong());
+  }
+
+  @Test
+  public void evictsVictimWhenNewEntryIsInUseByTransaction() {
+    EvictableEntry victim = addEntry("hot");
+    EvictableEntry candidate = addEntry("new");
+    addEntry("newer");
+    when(candidate.isInUseByTransaction()).thenReturn(true);
+    list.recordAccess(victim);
+    when(delegate.getEvictableEntry()).thenReturn(victim);
+
+    assertThat(list.getEvictableEntry()).isSameAs(victim);
+    verify(delegate, never()).removeEntry(candidate);
+  }
+
+  private EvictableEntry addEntry(Object key) {
+    EvictableEntry node = mock(EvictableEntry.class);
+    AtomicReference<EvictionNode> next = new AtomicReference<>();
+    doAnswer(invocation -> {
+      next.set(invocation.getArgument(0));
+      return null;
+    }).when(node).setNext(any());
+    when(node.next()).thenAnswer(invocation -> next.get());
+    when(node.getKey()).thenReturn(key);
+    list.appendEntry(node);
+    return node;
+  }
+}
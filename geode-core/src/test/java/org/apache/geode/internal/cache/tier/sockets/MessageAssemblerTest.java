@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.internal.cache.tier.MessageType;
+import org.apache.geode.internal.serialization.KnownVersion;
+import org.apache.geode.test.junit.categories.ClientServerTest;
+
+@Category({ClientServerTest.class})
+public class MessageAssemblerTest {
+
+  @Test
+  public void readsMessageThatArrivesInPieces() throws Exception {
+    byte[] bytes = messageBytes("region", "key");
+    FragmentedChannel channel = new FragmentedChannel(bytes);
+    MessageAssembler assembler = new MessageAssembler(0);
+
+    channel.makeAvailable(5);
+    assertThat(assembler.readFrom(channel)).isFalse();
+    channel.makeAvailable(MessageAssembler.HEADER_LENGTH);
+    assertThat(assembler.readFrom(channel)).isFalse();
+    assertThat(assembler.hasMessage()).isFalse();
+    channel.makeAvailable(bytes.length);
+    assertThat(assembler.readFrom(channel)).isTrue();
+
+    Message message = receive(assembler.takeMessage());
+    assertThat(message.getMessageType()).isEqualTo(MessageType.REQUEST);
+    assertThat(message.getPart(0).getString()).isEqualTo("region");
+    assertThat(message.getPart(1).getString()).isEqualTo("key");
+  }
+
+  @Test
+  public void doesNotReadPastEndOfMessage() throws Exception {
+    byte[] first = messageBytes("region", "first");
+    byte[] second = messageBytes("region", "second");
+    byte[] both = new byte[first.length + second.length];
+    System.arraycopy(first, 0, both, 0, first.length);
+    System.arraycopy(second, 0, both, first.length, second.length);
+    FragmentedChannel channel = new FragmentedChannel(both);
+    channel.makeAvailable(both.length);
+    MessageAssembler assembler = new MessageAssembler(0);
+
+    assertThat(assembler.readFrom(channel)).isTrue();
+    assertThat(receive(assembler.takeMessage()).getPart(1).getString()).isEqualTo("first");
+    assertThat(assembler.readFrom(channel)).isTrue();
+    assertThat(receive(assembler.takeMessage()).getPart(1).getString()).isEqualTo("second");
+  }
+
+  @Test
+  public void rejectsMessageLargerThanMaximum() {
+    byte[] bytes = messageBytes("region", "key");
+    FragmentedChannel channel = new FragmentedChannel(bytes);
+    channel.makeAvailable(bytes.length);
+    MessageAssembler assembler = new MessageAssembler(4);
+
+    assertThatThrownBy(() -> assembler.readFrom(channel)).isInstanceOf(IOException.class)
+        .hasMessageContaining("exceeded max limit");
+  }
+
+  @Test
+  public void throwsEOFExceptionIfClientCloses() {
+    byte[] bytes = messageBytes("region", "key");
+    FragmentedChannel channel = new FragmentedChannel(bytes);
+    channel.makeAvailable(10);
+    channel.close();
+    MessageAssembler assembler = new MessageAssembler(0);
+
+    assertThatThrownBy(() -> assembler.readFrom(channel)).isInstanceOf(EOFException.class);
+  }
+
+  @Test
+  public void takeMessageThrowsIfMessageIsIncomplete() {
+    assertThatThrownBy(() -> new MessageAssembler(0).takeMessage())
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static byte[] messageBytes(String... parts) {
+    Message message = new Message(parts.length, KnownVersion.CURRENT);
+    message.setMessageType(MessageType.REQUEST);
+    for (String part : parts) {
+      message.addStringPart(part);
+    }
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    message.setComms(mock(Socket.class), null, bytes, ByteBuffer.allocate(1000),
+        mock(MessageStats.class));
+    try {
+      message.send();
+    } catch (IOException e) {
+      throw new AssertionError(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static Message receive(ReadableByteChannel channel) throws IOException {
+    Message message = new Message(2, KnownVersion.CURRENT);
+    message.setComms(mock(Socket.class), null, null, ByteBuffer.allocate(1000),
+        mock(MessageStats.class));
+    message.readAheadFrom(channel);
+    message.receive();
+    return message;
+  }
+
+  /**
+   * A non-blocking channel whose bytes become available a few at a time.
+   */
+  private static class FragmentedChannel implements ReadableByteChannel {
+    private final byte[] bytes;
+    private int available;
+    private int position;
+    private boolean closed;
+
+    private FragmentedChannel(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    void makeAvailable(int available) {
+      this.available = Math.min(available, bytes.length);
+    }
+
+    @Override
+    public int read(ByteBuffer destination) {
+      if (position == available) {
+        return closed ? -1 : 0;
+      }
+      int length = Math.min(available - position, destination.remaining());
+      destination.put(bytes, position, length);
+      position += length;
+      return length;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return !closed;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
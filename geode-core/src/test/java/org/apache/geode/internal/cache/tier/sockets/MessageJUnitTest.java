@@ -18,6 +18,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -30,11 +32,13 @@ import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import org.apache.geode.internal.offheap.StoredObject;
 import org.apache.geode.internal.serialization.KnownVersion;
 import org.apache.geode.test.junit.categories.ClientServerTest;
 
@@ -107,6 +111,37 @@ public class MessageJUnitTest {
     }
   }
 
+  @Test
+  public void offHeapPartIsWrittenToSocketChannelWithoutCopying() throws Exception {
+    SocketChannel socketChannel = mock(SocketChannel.class);
+    when(socketChannel.write(any(ByteBuffer[].class), anyInt(), anyInt()))
+        .thenAnswer(invocation -> {
+          long written = 0;
+          for (ByteBuffer buffer : (ByteBuffer[]) invocation.getArgument(0)) {
+            written += buffer.remaining();
+            buffer.position(buffer.limit());
+          }
+          return written;
+        });
+    Socket socket = mock(Socket.class);
+    when(socket.getChannel()).thenReturn(socketChannel);
+    Message offHeapMessage = new Message(1, KnownVersion.CURRENT);
+    offHeapMessage.setComms(mock(ServerConnection.class), socket, ByteBuffer.allocate(100),
+        mock(MessageStats.class));
+    ByteBuffer offHeapBuffer = ByteBuffer.allocateDirect(1000);
+    StoredObject storedObject = mock(StoredObject.class);
+    when(storedObject.getDataSize()).thenReturn(1000);
+    when(storedObject.hasRefCount()).thenReturn(true);
+    when(storedObject.createDirectByteBuffer()).thenReturn(offHeapBuffer);
+    offHeapMessage.addPartInAnyForm(storedObject, true);
+
+    offHeapMessage.send();
+
+    assertEquals(0, offHeapBuffer.remaining());
+    verify(socketChannel, times(1)).write(any(ByteBuffer[].class), anyInt(), anyInt());
+    verify(storedObject, times(0)).getAddressForReadingData(anyInt(), anyInt());
+  }
+
   /**
    * geode-1468: Message should clear the chunks in its Parts when performing cleanup.
    */
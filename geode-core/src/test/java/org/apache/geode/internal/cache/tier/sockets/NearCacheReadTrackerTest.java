@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.test.junit.categories.ClientSubscriptionTest;
+
+@Category({ClientSubscriptionTest.class})
+public class NearCacheReadTrackerTest {
+
+  @Test
+  public void trackReturnsTrueOnlyForNewKey() {
+    NearCacheReadTracker tracker = new NearCacheReadTracker(10);
+
+    assertThat(tracker.track("region", "key")).isTrue();
+    assertThat(tracker.track("region", "key")).isFalse();
+    assertThat(tracker.track("other", "key")).isTrue();
+    assertThat(tracker.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void evictsLeastRecentlyReadKeyBeyondMaximum() {
+    NearCacheReadTracker tracker = new NearCacheReadTracker(2);
+    tracker.track("region", "first");
+    tracker.track("region", "second");
+    tracker.track("region", "first");
+
+    tracker.track("region", "third");
+
+    assertThat(tracker.size()).isEqualTo(2);
+    Map<String, Set<Object>> untracked = tracker.takeUntracked(1);
+    assertThat(untracked).containsOnlyKeys("region");
+    assertThat(untracked.get("region")).containsExactly("second");
+    assertThat(tracker.track("region", "first")).isFalse();
+  }
+
+  @Test
+  public void takeUntrackedWaitsForMinimumKeys() {
+    NearCacheReadTracker tracker = new NearCacheReadTracker(1);
+    tracker.track("region", "first");
+    tracker.track("region", "second");
+
+    assertThat(tracker.takeUntracked(2)).isEmpty();
+
+    tracker.track("region", "third");
+
+    assertThat(tracker.takeUntracked(2).get("region")).containsExactly("first", "second");
+    assertThat(tracker.takeUntracked(1)).isEmpty();
+  }
+
+  @Test
+  public void trackingKeyAgainRemovesItFromUntracked() {
+    NearCacheReadTracker tracker = new NearCacheReadTracker(1);
+    tracker.track("region", "first");
+    tracker.track("region", "second");
+
+    // the interest of the key is still registered
+    assertThat(tracker.track("region", "first")).isFalse();
+
+    Map<String, Set<Object>> untracked = tracker.takeUntracked(1);
+    assertThat(untracked.get("region")).containsExactly("second");
+  }
+
+  @Test
+  public void keyClientHasInterestInIsNotHandedBack() {
+    NearCacheReadTracker tracker = new NearCacheReadTracker(1);
+
+    assertThat(tracker.track("region", "first", () -> true)).isFalse();
+    tracker.track("region", "second");
+
+    assertThat(tracker.size()).isEqualTo(1);
+    assertThat(tracker.takeUntracked(1)).isEmpty();
+  }
+
+  @Test
+  public void disownedKeyIsNotHandedBack() {
+    NearCacheReadTracker tracker = new NearCacheReadTracker(1);
+    tracker.track("region", "first");
+
+    tracker.disown("region", "first");
+    assertThat(tracker.track("region", "first")).isFalse();
+    tracker.track("region", "second");
+
+    assertThat(tracker.takeUntracked(1)).isEmpty();
+  }
+
+  @Test
+  public void disowningUntrackedKeyKeepsItsInterest() {
+    NearCacheReadTracker tracker = new NearCacheReadTracker(1);
+    tracker.track("region", "first");
+    tracker.track("region", "second");
+
+    tracker.disown("region", "first");
+
+    assertThat(tracker.takeUntracked(1)).isEmpty();
+  }
+
+  @Test
+  public void unregisteredReturnsKeysReadAgainWhileUnregistering() {
+    NearCacheReadTracker tracker = new NearCacheReadTracker(1);
+    tracker.track("region", "first");
+    tracker.track("region", "second");
+    tracker.track("region", "third");
+    Set<Object> untracked = tracker.takeUntracked(2).get("region");
+
+    // the interest registered for the earlier read does not count as the client's own
+    assertThat(tracker.track("region", "first", () -> true)).isTrue();
+
+    assertThat(tracker.unregistered("region", untracked)).containsExactly("first");
+    assertThat(tracker.unregistered("region", untracked)).isEmpty();
+  }
+
+  @Test
+  public void untrackedKeyIsTrackedAgainOnNextRead() {
+    NearCacheReadTracker tracker = new NearCacheReadTracker(10);
+    tracker.track("region", "key");
+
+    tracker.untrack("region", "key");
+
+    assertThat(tracker.size()).isZero();
+    assertThat(tracker.takeUntracked(1)).isEmpty();
+    assertThat(tracker.track("region", "key")).isTrue();
+  }
+}
@@ -29,11 +29,14 @@ import java.io.OutputStream;
 import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import org.apache.geode.internal.HeapDataOutputStream;
+import org.apache.geode.internal.offheap.StoredObject;
 import org.apache.geode.test.junit.categories.ClientServerTest;
 
 @Category({ClientServerTest.class})
@@ -181,4 +184,65 @@ public class PartTest {
     verify(heapDataOutputStream, times(1)).rewind();
   }
 
+  @Test
+  public void createDirectByteBufferWrapsOffHeapPart() {
+    ByteBuffer offHeapBuffer = ByteBuffer.allocateDirect(1000);
+    StoredObject storedObject = mock(StoredObject.class);
+    when(storedObject.getDataSize()).thenReturn(1000);
+    when(storedObject.hasRefCount()).thenReturn(true);
+    when(storedObject.createDirectByteBuffer()).thenReturn(offHeapBuffer);
+
+    Part part = new Part();
+    part.setPartState(storedObject, true);
+
+    assertThat(part.createDirectByteBuffer()).isSameAs(offHeapBuffer);
+  }
+
+  @Test
+  public void createDirectByteBufferReturnsNullForHeapPart() {
+    Part part = new Part();
+    part.setPartState(new byte[1000], false);
+
+    assertThat(part.createDirectByteBuffer()).isNull();
+  }
+
+  @Test
+  public void compressedPartIsDecompressedWhenRead() {
+    byte[] bytes = new byte[2000];
+    Arrays.fill(bytes, (byte) 7);
+    Part sent = new Part();
+    sent.setPartState(bytes, false);
+
+    assertThat(sent.compress(1000)).isPositive();
+    assertThat(sent.getLength()).isLessThan(bytes.length);
+
+    Part received = new Part();
+    received.init(sent.getSerializedForm(), sent.getTypeCode());
+
+    assertThat(received.isBytes()).isTrue();
+    assertThat(received.getSerializedForm()).isEqualTo(bytes);
+  }
+
+  @Test
+  public void partSmallerThanThresholdIsNotCompressed() {
+    byte[] bytes = new byte[500];
+    Part part = new Part();
+    part.setPartState(bytes, true);
+
+    assertThat(part.compress(1000)).isZero();
+    assertThat(part.getSerializedForm()).isSameAs(bytes);
+    assertThat(part.isObject()).isTrue();
+  }
+
+  @Test
+  public void partThatDoesNotGetSmallerIsNotCompressed() {
+    byte[] bytes = new byte[2000];
+    new Random(0).nextBytes(bytes);
+    Part part = new Part();
+    part.setPartState(bytes, true);
+
+    assertThat(part.compress(1000)).isZero();
+    assertThat(part.getSerializedForm()).isSameAs(bytes);
+    assertThat(part.isObject()).isTrue();
+  }
 }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.net.Socket;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.test.junit.categories.ClientServerTest;
+
+@Category({ClientServerTest.class})
+public class QueryResponseWriteWatchdogTest {
+
+  private static final long TIMEOUT = 1000;
+
+  private final AtomicLong now = new AtomicLong(1);
+
+  private Socket socket;
+
+  private QueryResponseWriteWatchdog watchdog;
+
+  @Before
+  public void setUp() {
+    socket = mock(Socket.class);
+    watchdog = new QueryResponseWriteWatchdog(socket, "connection", TIMEOUT, now::get);
+  }
+
+  @Test
+  public void doesNotCloseSocketWhileNotWriting() throws Exception {
+    now.addAndGet(2 * TIMEOUT);
+
+    watchdog.run2();
+
+    verify(socket, never()).close();
+    assertThat(watchdog.isCancelled()).isFalse();
+  }
+
+  @Test
+  public void doesNotCloseSocketBeforeWriteTimesOut() throws Exception {
+    watchdog.startWrite();
+    now.addAndGet(TIMEOUT - 1);
+
+    watchdog.run2();
+
+    verify(socket, never()).close();
+  }
+
+  @Test
+  public void closesSocketOnceWriteTimesOut() throws Exception {
+    watchdog.startWrite();
+    now.addAndGet(TIMEOUT);
+
+    watchdog.run2();
+
+    verify(socket).close();
+    assertThat(watchdog.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void timesEachWriteFromItsStart() throws Exception {
+    watchdog.startWrite();
+    now.addAndGet(TIMEOUT - 1);
+    watchdog.endWrite();
+    watchdog.startWrite();
+    now.addAndGet(TIMEOUT - 1);
+
+    watchdog.run2();
+
+    verify(socket, never()).close();
+  }
+
+  @Test
+  public void doesNotCloseSocketAfterWriteCompleted() throws Exception {
+    watchdog.startWrite();
+    watchdog.endWrite();
+    now.addAndGet(2 * TIMEOUT);
+
+    watchdog.run2();
+
+    verify(socket, never()).close();
+  }
+}
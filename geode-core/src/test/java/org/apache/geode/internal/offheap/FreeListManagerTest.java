@@ -29,7 +29,9 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.apache.logging.log4j.Logger;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.contrib.java.lang.system.RestoreSystemProperties;
 
 import org.apache.geode.OutOfOffHeapMemoryException;
 import org.apache.geode.util.internal.GeodeGlossary;
@@ -42,6 +44,9 @@ public class FreeListManagerTest {
   private final OffHeapMemoryStats stats = mock(OffHeapMemoryStats.class);
   private TestableFreeListManager freeListManager;
 
+  @Rule
+  public RestoreSystemProperties restoreSystemProperties = new RestoreSystemProperties();
+
   @Before
   public void setUp() throws Exception {
     when(ma.getStats()).thenReturn(stats);
@@ -133,6 +138,25 @@ public class FreeListManagerTest {
     validateChunkSizes(c, dataSize);
   }
 
+  @Test
+  public void allocateTinyChunkFreedByAnotherThreadWithStripedFreeLists() throws Exception {
+    System.setProperty(GeodeGlossary.GEMFIRE_PREFIX + "OFF_HEAP_FREE_LIST_STRIPES", "4");
+    setUpSingleSlabManager();
+    int tinySize = 10;
+    OffHeapStoredObject c = freeListManager.allocate(tinySize);
+    long address = c.getAddress();
+
+    Thread freeingThread =
+        new Thread(() -> ReferenceCounter.release(address, freeListManager));
+    freeingThread.start();
+    freeingThread.join();
+    c = freeListManager.allocate(tinySize);
+
+    validateChunkSizes(c, tinySize);
+    assertThat(c.getAddress()).isEqualTo(address);
+    assertThat(freeListManager.getFreedChunks()).isZero();
+  }
+
   @Test
   public void allocateHugeChunkHasCorrectSize() {
     setUpSingleSlabManager();
@@ -453,6 +477,93 @@ public class FreeListManagerTest {
         .isEqualTo(originalFragment.getAddress() + (16 + 8));
   }
 
+  @Test
+  public void defragmentFreeListsWithNoFreedChunksDoesNothing() {
+    setUpSingleSlabManager();
+    freeListManager.allocate(16);
+
+    assertThat(freeListManager.defragmentFreeLists()).isFalse();
+    assertThat(freeListManager.getFragmentList()).hasSize(1);
+  }
+
+  @Test
+  public void defragmentFreeListsCombinesAdjacentChunksLargerThanMaxTinyIntoNewFragment() {
+    setUpSingleSlabManager();
+    Fragment originalFragment = freeListManager.getFragmentList().get(0);
+    int dataSize = FreeListManager.MAX_TINY / 2;
+    OffHeapStoredObject c1 = freeListManager.allocate(dataSize);
+    OffHeapStoredObject c2 = freeListManager.allocate(dataSize);
+    int remaining = originalFragment.freeSpace();
+    ReferenceCounter.release(c1.getAddress(), freeListManager);
+    ReferenceCounter.release(c2.getAddress(), freeListManager);
+
+    assertThat(freeListManager.defragmentFreeLists()).isTrue();
+
+    assertThat(freeListManager.getFreedChunks()).isZero();
+    assertThat(freeListManager.getFragmentList()).hasSize(2);
+    assertThat(originalFragment.freeSpace()).isEqualTo(remaining);
+    Fragment newFragment = freeListManager.getFragmentList().get(1);
+    assertThat(newFragment.getAddress()).isEqualTo(c1.getAddress());
+    assertThat(newFragment.getSize()).isEqualTo(2 * (dataSize + 8));
+    verify(stats).incCoalescedChunks(1);
+    verify(stats).incBackgroundDefragmentations();
+  }
+
+  @Test
+  public void defragmentFreeListsPutsCombinedTinyChunkBackOnFreeList() {
+    setUpSingleSlabManager();
+    OffHeapStoredObject c1 = freeListManager.allocate(16);
+    OffHeapStoredObject c2 = freeListManager.allocate(16);
+    ReferenceCounter.release(c1.getAddress(), freeListManager);
+    ReferenceCounter.release(c2.getAddress(), freeListManager);
+
+    assertThat(freeListManager.defragmentFreeLists()).isTrue();
+
+    assertThat(freeListManager.getFragmentList()).hasSize(1);
+    assertThat(freeListManager.getFreedChunks()).isEqualTo(1);
+    verify(stats).incCoalescedChunks(1);
+    OffHeapStoredObject c3 = freeListManager.allocate(2 * (16 + 8) - 8);
+    assertThat(c3.getAddress()).isEqualTo(c1.getAddress());
+  }
+
+  @Test
+  public void defragmentFreeListsLeavesChunksWithoutFreeNeighbourOnFreeLists() {
+    setUpSingleSlabManager();
+    int dataSize = FreeListManager.MAX_TINY + 1024;
+    OffHeapStoredObject c1 = freeListManager.allocate(16);
+    freeListManager.allocate(16);
+    OffHeapStoredObject c3 = freeListManager.allocate(dataSize);
+    freeListManager.allocate(16);
+    ReferenceCounter.release(c1.getAddress(), freeListManager);
+    ReferenceCounter.release(c3.getAddress(), freeListManager);
+
+    assertThat(freeListManager.defragmentFreeLists()).isTrue();
+
+    assertThat(freeListManager.getFragmentList()).hasSize(1);
+    assertThat(freeListManager.getFreedChunks()).isEqualTo(2);
+    verify(stats).incCoalescedChunks(0);
+    assertThat(freeListManager.allocate(16).getAddress()).isEqualTo(c1.getAddress());
+    assertThat(freeListManager.allocate(dataSize).getAddress()).isEqualTo(c3.getAddress());
+  }
+
+  @Test
+  public void defragmentFreeListsDropsFragmentsThatAreCompletelyAllocated() {
+    int dataSize = FreeListManager.MAX_TINY / 2;
+    setUpSingleSlabManager(2 * (dataSize + 8));
+    OffHeapStoredObject c1 = freeListManager.allocate(dataSize);
+    OffHeapStoredObject c2 = freeListManager.allocate(dataSize);
+    assertThat(freeListManager.getFragmentList().get(0).freeSpace()).isZero();
+    ReferenceCounter.release(c1.getAddress(), freeListManager);
+    ReferenceCounter.release(c2.getAddress(), freeListManager);
+
+    assertThat(freeListManager.defragmentFreeLists()).isTrue();
+
+    assertThat(freeListManager.getFragmentList()).hasSize(1);
+    Fragment newFragment = freeListManager.getFragmentList().get(0);
+    assertThat(newFragment.getAddress()).isEqualTo(c1.getAddress());
+    assertThat(newFragment.getSize()).isEqualTo(2 * (dataSize + 8));
+  }
+
   @Test
   public void allocationsThatLeaveLessThanMinChunkSizeFreeInAFragment() {
     int SMALL_SLAB = 16;
@@ -549,6 +660,27 @@ public class FreeListManagerTest {
     FreeListManager.verifyOffHeapFreeListCount(1);
   }
 
+  @Test
+  public void offHeapFreeListStripesOfZeroIsIllegal() {
+    Throwable thrown = catchThrowable(() -> FreeListManager.verifyOffHeapFreeListStripes(0));
+
+    assertThat(thrown).isInstanceOf(IllegalStateException.class).hasMessageContaining(
+        GeodeGlossary.GEMFIRE_PREFIX + "OFF_HEAP_FREE_LIST_STRIPES must be >= 1 and <= 256.");
+  }
+
+  @Test
+  public void offHeapFreeListStripesGreaterThan256IsIllegal() {
+    Throwable thrown = catchThrowable(() -> FreeListManager.verifyOffHeapFreeListStripes(257));
+
+    assertThat(thrown).isInstanceOf(IllegalStateException.class).hasMessageContaining(
+        GeodeGlossary.GEMFIRE_PREFIX + "OFF_HEAP_FREE_LIST_STRIPES must be >= 1 and <= 256.");
+  }
+
+  @Test
+  public void offHeapFreeListStripesOf256IsLegal() {
+    FreeListManager.verifyOffHeapFreeListStripes(256);
+  }
+
   @Test
   public void offHeapAlignmentLessThanZeroIsIllegal() {
     try {
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.offheap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.LongStream;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class OffHeapLongHashSetTest {
+
+  private final OffHeapLongHashSet set = new OffHeapLongHashSet();
+
+  @After
+  public void tearDown() {
+    set.release();
+  }
+
+  @Test
+  public void newSetIsEmpty() {
+    assertThat(set.isEmpty()).isTrue();
+    assertThat(set.contains(1)).isFalse();
+  }
+
+  @Test
+  public void addReturnsFalseForDuplicate() {
+    assertThat(set.add(7)).isTrue();
+    assertThat(set.add(7)).isFalse();
+
+    assertThat(set.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void containsAddedElementsAfterGrowing() {
+    LongStream.rangeClosed(1, 100_000).forEach(set::add);
+
+    assertThat(set.size()).isEqualTo(100_000);
+    LongStream.rangeClosed(1, 100_000).forEach(i -> assertThat(set.contains(i)).isTrue());
+    assertThat(set.contains(100_001)).isFalse();
+    assertThat(set.getMemorySize()).isGreaterThanOrEqualTo(100_000L * Long.BYTES);
+  }
+
+  @Test
+  public void supportsNegativeAndExtremeElements() {
+    set.add(Long.MIN_VALUE);
+    set.add(Long.MAX_VALUE);
+    set.add(-1);
+
+    assertThat(set.contains(Long.MIN_VALUE)).isTrue();
+    assertThat(set.contains(Long.MAX_VALUE)).isTrue();
+    assertThat(set.contains(-1)).isTrue();
+    assertThat(set.contains(0)).isFalse();
+  }
+
+  @Test
+  public void zeroCanNotBeAdded() {
+    assertThatThrownBy(() -> set.add(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void releaseFreesMemory() {
+    OffHeapLongHashSet other = new OffHeapLongHashSet(1000);
+    assertThat(other.getMemorySize()).isEqualTo(2048L * Long.BYTES);
+
+    other.release();
+
+    assertThat(other.getMemorySize()).isZero();
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.pdx.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InOrder;
+
+import org.apache.geode.pdx.FieldType;
+import org.apache.geode.pdx.PdxSerializationException;
+import org.apache.geode.pdx.internal.AutoSerializableManager.PdxFieldWrapper;
+import org.apache.geode.test.junit.categories.SerializationTest;
+
+@Category({SerializationTest.class})
+public class AutoClassSerializerGeneratorTest {
+
+  private AutoSerializableManager owner;
+
+  private PdxWriterImpl writer;
+
+  private PdxReaderImpl reader;
+
+  @Before
+  public void setUp() {
+    owner = mock(AutoSerializableManager.class);
+    writer = mock(PdxWriterImpl.class);
+    reader = mock(PdxReaderImpl.class);
+  }
+
+  @Test
+  public void serializesFieldsInOrder() {
+    AutoClassSerializer serializer = generate(false);
+    Holder holder = new Holder(42L, 37, "name", "value");
+
+    serializer.serialize(writer, holder);
+
+    InOrder inOrder = inOrder(writer);
+    inOrder.verify(writer).writeLong(42L);
+    inOrder.verify(writer).writeInt(37);
+    inOrder.verify(writer).writeString("name");
+    inOrder.verify(writer).writeObject("value", false);
+  }
+
+  @Test
+  public void deserializesFieldsInOrderIncludingFinalFields() {
+    AutoClassSerializer serializer = generate(false);
+    when(reader.readLong()).thenReturn(42L);
+    when(reader.readInt()).thenReturn(37);
+    when(reader.readString()).thenReturn("name");
+    when(reader.readObject()).thenReturn("value");
+    Holder holder = new Holder(0L, 0, null, null);
+
+    serializer.orderedDeserialize(reader, holder);
+
+    assertThat(holder.id).isEqualTo(42L);
+    assertThat(holder.count).isEqualTo(37);
+    assertThat(holder.name).isEqualTo("name");
+    assertThat(holder.value).isEqualTo("value");
+  }
+
+  @Test
+  public void readsCheckPortabilityOnEveryWrite() {
+    AutoClassSerializer serializer = generate(false);
+    when(owner.getCheckPortability()).thenReturn(true);
+
+    serializer.serialize(writer, new Holder(42L, 37, "name", "value"));
+
+    verify(writer).writeObject("value", true);
+  }
+
+  @Test
+  public void throwsSameExceptionAsFieldWrapperWhenFieldFails() {
+    AutoClassSerializer serializer = generate(false);
+    RuntimeException cause = new RuntimeException("failed");
+    doThrow(cause).when(writer).writeString("name");
+
+    assertThatThrownBy(() -> serializer.serialize(writer, new Holder(42L, 37, "name", "value")))
+        .isInstanceOf(PdxSerializationException.class)
+        .hasMessage("Serialization error on field name for class " + Holder.class.getName())
+        .hasCause(cause);
+  }
+
+  @Test
+  public void generatesNoSerializerForTransformedFields() {
+    assertThat(generate(true)).isNull();
+  }
+
+  @Test
+  public void generatesNoSerializerForFieldOfIncompatibleType() throws Exception {
+    List<PdxFieldWrapper> fields = Collections.singletonList(field("name", FieldType.INT, false));
+
+    assertThat(AutoClassSerializerGenerator.generate(Holder.class, fields,
+        Collections.singletonList(FieldType.INT))).isNull();
+  }
+
+  @Test
+  public void generatesNoSerializerWithoutFields() {
+    assertThat(AutoClassSerializerGenerator.generate(Holder.class, Collections.emptyList(),
+        Collections.emptyList())).isNull();
+  }
+
+  @Test
+  public void generatesSerializerInItsOwnClassLoader() {
+    AutoClassSerializer serializer = generate(false);
+
+    assertThat(serializer.getClass().getClassLoader())
+        .isNotSameAs(AutoClassSerializerTemplate.class.getClassLoader());
+    assertThat(generate(false).getClass()).isNotSameAs(serializer.getClass());
+  }
+
+  private AutoClassSerializer generate(boolean transformName) {
+    List<FieldType> fieldTypes =
+        Arrays.asList(FieldType.LONG, FieldType.INT, FieldType.STRING, FieldType.OBJECT);
+    List<String> names = Arrays.asList("id", "count", "name", "value");
+    List<PdxFieldWrapper> fields = new ArrayList<>();
+    try {
+      for (int i = 0; i < names.size(); i++) {
+        fields.add(field(names.get(i), fieldTypes.get(i), transformName && i == 2));
+      }
+    } catch (NoSuchFieldException e) {
+      throw new AssertionError(e);
+    }
+    return AutoClassSerializerGenerator.generate(Holder.class, fields, fieldTypes);
+  }
+
+  private PdxFieldWrapper field(String name, FieldType fieldType, boolean transform)
+      throws NoSuchFieldException {
+    Field field = Holder.class.getDeclaredField(name);
+    field.setAccessible(true);
+    return PdxFieldWrapper.create(owner, field, fieldType, name, transform, false);
+  }
+
+  private static class Holder {
+    private final long id;
+    private int count;
+    private String name;
+    private Object value;
+
+    Holder(long id, int count, String name, Object value) {
+      this.id = id;
+      this.count = count;
+      this.name = name;
+      this.value = value;
+    }
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.pdx.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.InvalidDeltaException;
+import org.apache.geode.internal.HeapDataOutputStream;
+import org.apache.geode.internal.serialization.ByteArrayDataInput;
+import org.apache.geode.internal.serialization.KnownVersion;
+import org.apache.geode.pdx.FieldType;
+import org.apache.geode.test.junit.categories.SerializationTest;
+
+@Category({SerializationTest.class})
+public class PdxDeltaTest {
+
+  private PdxType pdxType;
+  private PdxField intField;
+  private PdxField stringField;
+  private PdxField longField;
+  private TypeRegistry registry;
+
+  @Before
+  public void setUp() {
+    pdxType = new PdxType("PdxDeltaTest.PdxType", false);
+    pdxType.setTypeId(42);
+    intField = new PdxField("intField", 0, 0, FieldType.INT, false);
+    pdxType.addField(intField);
+    stringField = new PdxField("stringField", 1, 0, FieldType.STRING, false);
+    pdxType.addField(stringField);
+    longField = new PdxField("longField", 2, 0, FieldType.LONG, false);
+    pdxType.addField(longField);
+    pdxType.initialize(mock(PdxWriterImpl.class));
+    registry = mock(TypeRegistry.class);
+    when(registry.getType(42)).thenReturn(pdxType);
+  }
+
+  @Test
+  public void applyingDeltaGivesSameBytesAsSerializingChangedInstance() throws IOException {
+    byte[] oldValue = serialize(37, "MOOF!", 42L);
+    WritablePdxInstanceImpl instance = createWriter(oldValue);
+    instance.setField("stringField", "changed");
+
+    byte[] newValue = PdxDelta.applyDelta(oldValue, toDelta(instance), registry);
+
+    assertThat(newValue).isEqualTo(serialize(37, "changed", 42L));
+  }
+
+  @Test
+  public void deltaHoldsOnlyFieldsSetSinceLastDelta() throws IOException {
+    byte[] oldValue = serialize(37, "MOOF!", 42L);
+    WritablePdxInstanceImpl instance = createWriter(oldValue);
+    instance.setField("intField", 13);
+    byte[] firstValue = PdxDelta.applyDelta(oldValue, toDelta(instance), registry);
+    assertThat(instance.hasChangedFields()).isFalse();
+
+    instance.setField("longField", 7L);
+    byte[] secondDelta = toDeltaBytes(instance);
+    assertThatThrownBy(
+        () -> PdxDelta.applyDelta(oldValue, new ByteArrayDataInput(secondDelta), registry))
+            .isInstanceOf(InvalidDeltaException.class);
+    byte[] newValue =
+        PdxDelta.applyDelta(firstValue, new ByteArrayDataInput(secondDelta), registry);
+
+    assertThat(newValue).isEqualTo(serialize(13, "MOOF!", 7L));
+  }
+
+  @Test
+  public void deltaComputedFromAnotherValueIsInvalid() throws IOException {
+    WritablePdxInstanceImpl staleInstance = createWriter(serialize(37, "MOOF!", 42L));
+    staleInstance.setField("stringField", "changed");
+    byte[] currentValue = serialize(38, "MOOF!", 42L);
+
+    assertThatThrownBy(() -> PdxDelta.applyDelta(currentValue, toDelta(staleInstance), registry))
+        .isInstanceOf(InvalidDeltaException.class);
+  }
+
+  @Test
+  public void deltaForAnotherTypeIsInvalid() throws IOException {
+    byte[] oldValue = serialize(37, "MOOF!", 42L);
+    WritablePdxInstanceImpl instance = createWriter(oldValue);
+    instance.setField("intField", 13);
+    byte[] valueOfAnotherType = oldValue.clone();
+    // the last byte of the header is the low byte of the type id
+    valueOfAnotherType[PdxWriterImpl.HEADER_SIZE - 1]++;
+
+    assertThatThrownBy(() -> PdxDelta.applyDelta(valueOfAnotherType, toDelta(instance), registry))
+        .isInstanceOf(InvalidDeltaException.class);
+  }
+
+  @Test
+  public void deltaForValueThatIsNotPdxIsInvalid() {
+    assertThatThrownBy(
+        () -> PdxDelta.applyDelta(new byte[] {1, 2, 3}, new ByteArrayDataInput(), registry))
+            .isInstanceOf(InvalidDeltaException.class);
+  }
+
+  private byte[] serialize(int intValue, String stringValue, long longValue) {
+    PdxOutputStream os = new PdxOutputStream();
+    PdxWriterImpl writer = new PdxWriterImpl(pdxType, os);
+    writer.writeField(intField, intValue);
+    writer.writeField(stringField, stringValue);
+    writer.writeField(longField, longValue);
+    writer.completeByteStreamGeneration();
+    return os.toByteArray();
+  }
+
+  private WritablePdxInstanceImpl createWriter(byte[] serializedValue) throws IOException {
+    int length = serializedValue.length - PdxWriterImpl.HEADER_SIZE;
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(serializedValue,
+        PdxWriterImpl.HEADER_SIZE, length));
+    return new WritablePdxInstanceImpl(new PdxReaderImpl(pdxType, in, length));
+  }
+
+  private ByteArrayDataInput toDelta(WritablePdxInstanceImpl instance) throws IOException {
+    return new ByteArrayDataInput(toDeltaBytes(instance));
+  }
+
+  private byte[] toDeltaBytes(WritablePdxInstanceImpl instance) throws IOException {
+    HeapDataOutputStream hdos = new HeapDataOutputStream(KnownVersion.CURRENT);
+    PdxDelta.toDelta(instance, hdos);
+    return hdos.toByteArray();
+  }
+}
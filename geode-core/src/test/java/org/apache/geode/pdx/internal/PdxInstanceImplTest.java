@@ -19,6 +19,8 @@ import static org.apache.geode.distributed.internal.locks.GrantorRequestProcesso
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
@@ -192,6 +194,25 @@ public class PdxInstanceImplTest {
     instance = writer.makePdxInstance();
   }
 
+  @Test
+  public void getRawFieldGivenPdxFieldReadsSameValueAsGivenName() {
+    InternalPdxInstance internalInstance = (InternalPdxInstance) instance;
+
+    assertEquals(internalInstance.getRawField(intField.getFieldName()),
+        internalInstance.getRawField(intField));
+    assertEquals(internalInstance.getRawField(stringField.getFieldName()),
+        internalInstance.getRawField(stringField));
+    assertEquals("MOOF!", internalInstance.getRawField(stringField).toString());
+    assertEquals("Dave", internalInstance.getRawField(objectField).toString());
+    assertTrue(Arrays.equals((long[]) internalInstance.getRawField(longArrayField.getFieldName()),
+        (long[]) internalInstance.getRawField(longArrayField)));
+  }
+
+  @Test
+  public void getPdxTypeReturnsTypeOfInstance() {
+    assertSame(pdxType, ((InternalPdxInstance) instance).getPdxType());
+  }
+
   @Test
   public void testToStringForEmpty() {
     final PdxWriterImpl writer =
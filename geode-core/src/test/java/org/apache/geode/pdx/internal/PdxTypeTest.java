@@ -20,6 +20,7 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -387,4 +388,38 @@ public class PdxTypeTest {
     assertEquals(before.getFieldCount(), after.getFieldCount());
     assertEquals(before.getHasDeletedField(), after.getHasDeletedField());
   }
+
+  @Test
+  public void initializeLocatesFieldsRelativeToVariableLengthFields() {
+    final PdxType type = new PdxType(TYPE_NAME, EXPECT_DOMAIN_CLASS);
+    final PdxField intBeforeVlf = new PdxField("f0", 0, 0, FieldType.INT, false);
+    final PdxField firstVlf = new PdxField("f1", 1, 0, FieldType.STRING, false);
+    final PdxField intBeforeSecondVlf = new PdxField("f2", 2, 0, FieldType.INT, false);
+    final PdxField longBeforeSecondVlf = new PdxField("f3", 3, 0, FieldType.LONG, false);
+    final PdxField secondVlf = new PdxField("f4", 4, 1, FieldType.STRING, false);
+    final PdxField doubleAfterLastVlf = new PdxField("f5", 5, 1, FieldType.DOUBLE, false);
+    final PdxField intAfterLastVlf = new PdxField("f6", 6, 1, FieldType.INT, false);
+    type.addField(intBeforeVlf);
+    type.addField(firstVlf);
+    type.addField(intBeforeSecondVlf);
+    type.addField(longBeforeSecondVlf);
+    type.addField(secondVlf);
+    type.addField(doubleAfterLastVlf);
+    type.addField(intAfterLastVlf);
+
+    type.initialize(mock(PdxWriterImpl.class));
+
+    assertEquals(0, intBeforeVlf.getRelativeOffset());
+    assertEquals(4, firstVlf.getRelativeOffset());
+    assertEquals(-1, firstVlf.getVlfOffsetIndex());
+    assertEquals(-12, intBeforeSecondVlf.getRelativeOffset());
+    assertEquals(1, intBeforeSecondVlf.getVlfOffsetIndex());
+    assertEquals(-8, longBeforeSecondVlf.getRelativeOffset());
+    assertEquals(1, longBeforeSecondVlf.getVlfOffsetIndex());
+    assertEquals(1, secondVlf.getVlfOffsetIndex());
+    assertEquals(-12, doubleAfterLastVlf.getRelativeOffset());
+    assertEquals(-1, doubleAfterLastVlf.getVlfOffsetIndex());
+    assertEquals(-4, intAfterLastVlf.getRelativeOffset());
+    assertEquals(-1, intAfterLastVlf.getVlfOffsetIndex());
+  }
 }
@@ -16,11 +16,18 @@ package org.apache.geode.pdx.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -133,4 +140,57 @@ public class TypeRegistryTest {
 
     assertThat(result).isSameAs(existingType);
   }
+
+  @Test
+  public void getTypeFetchesAllTypesOnceIfFetchingAllTypes() {
+    TypeRegistry registry = new TypeRegistry(internalCache, typeRegistration, true);
+    PdxType otherType = mock(PdxType.class);
+    Map<Integer, PdxType> types = new HashMap<>();
+    types.put(37, newType);
+    types.put(38, otherType);
+    when(typeRegistration.types()).thenReturn(types);
+
+    assertThat(registry.getType(37)).isSameAs(newType);
+    assertThat(registry.getType(38)).isSameAs(otherType);
+
+    verify(typeRegistration).types();
+    verify(typeRegistration, never()).getType(anyInt());
+    assertThat(registry.getTypeToId().get(otherType)).isEqualTo(38);
+  }
+
+  @Test
+  public void getTypeFetchesTypeMissingFromAllTypesOnItsOwn() {
+    TypeRegistry registry = new TypeRegistry(internalCache, typeRegistration, true);
+    when(typeRegistration.types()).thenReturn(Collections.emptyMap());
+    when(typeRegistration.getType(37)).thenReturn(newType);
+
+    assertThat(registry.getType(37)).isSameAs(newType);
+    assertThat(registry.getType(38)).isNull();
+
+    verify(typeRegistration).types();
+    verify(typeRegistration).getType(38);
+  }
+
+  @Test
+  public void getTypeFetchesAllTypesAgainIfFetchFailed() {
+    TypeRegistry registry = new TypeRegistry(internalCache, typeRegistration, true);
+    RuntimeException failure = new RuntimeException("fetch failed");
+    when(typeRegistration.types()).thenThrow(failure)
+        .thenReturn(Collections.singletonMap(37, newType));
+
+    assertThatThrownBy(() -> registry.getType(37)).isSameAs(failure);
+    assertThat(registry.getType(37)).isSameAs(newType);
+
+    verify(typeRegistration, times(2)).types();
+    verify(typeRegistration, never()).getType(anyInt());
+  }
+
+  @Test
+  public void getTypeDoesNotFetchAllTypesByDefault() {
+    when(typeRegistration.getType(37)).thenReturn(newType);
+
+    assertThat(typeRegistry.getType(37)).isSameAs(newType);
+
+    verify(typeRegistration, never()).types();
+  }
 }
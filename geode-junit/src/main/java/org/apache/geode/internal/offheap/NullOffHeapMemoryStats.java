@@ -114,6 +114,12 @@ public class NullOffHeapMemoryStats implements OffHeapMemoryStats {
   @Override
   public void setFreedChunks(long value) {}
 
+  @Override
+  public void incBackgroundDefragmentations() {}
+
+  @Override
+  public void incCoalescedChunks(long value) {}
+
   @Override
   public int getFragmentation() {
     return 0;
@@ -129,6 +135,16 @@ public class NullOffHeapMemoryStats implements OffHeapMemoryStats {
     return 0;
   }
 
+  @Override
+  public int getBackgroundDefragmentations() {
+    return 0;
+  }
+
+  @Override
+  public long getCoalescedChunks() {
+    return 0;
+  }
+
   @Override
   public void close() {
     isClosed = true;
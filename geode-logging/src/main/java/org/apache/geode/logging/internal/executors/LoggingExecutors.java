@@ -104,6 +104,17 @@ public class LoggingExecutors {
     return command -> new LoggingThread(threadName, command).start();
   }
 
+  /**
+   * Runs each command in a new virtual thread if the JVM supports them and virtual threads are
+   * requested; otherwise in a new daemon thread.
+   */
+  public static Executor newThreadOnEachExecute(String threadName, boolean virtualThreads) {
+    if (virtualThreads && VirtualThreads.isSupported()) {
+      return command -> VirtualThreads.newThread(threadName, command).start();
+    }
+    return newThreadOnEachExecute(threadName);
+  }
+
   public static ExecutorService newWorkStealingPool(String threadName, int maximumParallelThreads) {
     ForkJoinWorkerThreadFactory factory = pool -> {
       ForkJoinWorkerThread worker = defaultForkJoinWorkerThreadFactory.newThread(pool);
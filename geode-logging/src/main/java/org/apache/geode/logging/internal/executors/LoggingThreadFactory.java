@@ -30,6 +30,11 @@ import java.util.concurrent.atomic.AtomicInteger;
  * <p>
  * What happens each time a thread is run can be customized
  * using the optional "commandWrapper".
+ *
+ * <p>
+ * A factory can be asked to produce virtual threads. They are
+ * only produced on JVMs that support them; otherwise the factory
+ * falls back to platform threads.
  */
 public class LoggingThreadFactory implements ThreadFactory {
 
@@ -39,6 +44,7 @@ public class LoggingThreadFactory implements ThreadFactory {
   private final CommandWrapper commandWrapper;
   private final ThreadInitializer threadInitializer;
   private final boolean isDaemon;
+  private final boolean isVirtual;
 
   @FunctionalInterface
   public interface ThreadInitializer {
@@ -65,10 +71,26 @@ public class LoggingThreadFactory implements ThreadFactory {
    */
   public LoggingThreadFactory(String baseName, ThreadInitializer threadInitializer,
       CommandWrapper commandWrapper, boolean isDaemon) {
+    this(baseName, threadInitializer, commandWrapper, isDaemon, false);
+  }
+
+  /**
+   * Create a factory that produces threads that log uncaught exceptions
+   *
+   * @param baseName the base name will be included in every thread name
+   * @param threadInitializer if not null, will be invoked with the thread each time a thread is
+   *        created
+   * @param commandWrapper if not null, will be invoked by each thread created by this factory
+   * @param isDaemon true if threads will be daemons; virtual threads are always daemons
+   * @param isVirtual true if threads will be virtual threads when the JVM supports them
+   */
+  public LoggingThreadFactory(String baseName, ThreadInitializer threadInitializer,
+      CommandWrapper commandWrapper, boolean isDaemon, boolean isVirtual) {
     this.baseName = baseName;
     this.threadInitializer = threadInitializer;
     this.commandWrapper = commandWrapper;
     this.isDaemon = isDaemon;
+    this.isVirtual = isVirtual && VirtualThreads.isSupported();
   }
 
   /**
@@ -121,7 +143,12 @@ public class LoggingThreadFactory implements ThreadFactory {
     } else {
       commandToRun = runnable;
     }
-    Thread thread = new LoggingThread(getUniqueName(), isDaemon, commandToRun);
+    Thread thread;
+    if (isVirtual) {
+      thread = VirtualThreads.newThread(getUniqueName(), commandToRun);
+    } else {
+      thread = new LoggingThread(getUniqueName(), isDaemon, commandToRun);
+    }
     if (threadInitializer != null) {
       threadInitializer.initialize(thread);
     }
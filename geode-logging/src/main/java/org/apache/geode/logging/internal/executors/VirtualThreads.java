@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.logging.internal.executors;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Creates virtual threads on JVMs that have them. Geode is compiled for Java 8, so the
+ * {@code Thread.ofVirtual()} builder is invoked reflectively. Virtual threads are always daemons
+ * and, like {@link LoggingThread}s, log uncaught exceptions.
+ *
+ * <p>
+ * Geode still blocks on sockets while holding monitors, for example the comm buffer of a client
+ * message. Before Java 24 a virtual thread that blocks inside a monitor pins its carrier thread,
+ * which with one thread per connection would starve the carriers, so virtual threads are only
+ * supported from Java 24 on.
+ *
+ * @since Geode 1.15
+ */
+public class VirtualThreads {
+
+  private static final int MINIMUM_JAVA_VERSION = 24;
+
+  private static final Method OF_VIRTUAL;
+  private static final Method NAME;
+  private static final Method UNCAUGHT_EXCEPTION_HANDLER;
+  private static final Method UNSTARTED;
+
+  static {
+    Method ofVirtual = null;
+    Method name = null;
+    Method uncaughtExceptionHandler = null;
+    Method unstarted = null;
+    if (javaVersion() >= MINIMUM_JAVA_VERSION) {
+      try {
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        name = builderClass.getMethod("name", String.class);
+        uncaughtExceptionHandler = builderClass.getMethod("uncaughtExceptionHandler",
+            Thread.UncaughtExceptionHandler.class);
+        unstarted = builderClass.getMethod("unstarted", Runnable.class);
+        ofVirtual = Thread.class.getMethod("ofVirtual");
+      } catch (ReflectiveOperationException ignored) {
+        ofVirtual = null;
+      }
+    }
+    OF_VIRTUAL = ofVirtual;
+    NAME = name;
+    UNCAUGHT_EXCEPTION_HANDLER = uncaughtExceptionHandler;
+    UNSTARTED = unstarted;
+  }
+
+  private static int javaVersion() {
+    String version = System.getProperty("java.specification.version", "");
+    try {
+      // "1.8" before Java 9, then just the feature version
+      return version.startsWith("1.") ? 8 : Integer.parseInt(version);
+    } catch (NumberFormatException e) {
+      return 8;
+    }
+  }
+
+  private VirtualThreads() {
+    // no instances allowed
+  }
+
+  /**
+   * Returns true if this JVM can create virtual threads.
+   */
+  public static boolean isSupported() {
+    return OF_VIRTUAL != null;
+  }
+
+  /**
+   * Creates an unstarted virtual thread with the given name and runnable that logs uncaught
+   * exceptions.
+   *
+   * @param name the name of the thread
+   * @param runnable what the thread will run
+   * @throws UnsupportedOperationException if this JVM cannot create virtual threads
+   */
+  public static Thread newThread(String name, Runnable runnable) {
+    if (!isSupported()) {
+      throw new UnsupportedOperationException("Virtual threads are not supported by this JVM");
+    }
+    try {
+      Object builder = OF_VIRTUAL.invoke(null);
+      builder = NAME.invoke(builder, name);
+      builder = UNCAUGHT_EXCEPTION_HANDLER.invoke(builder,
+          LoggingUncaughtExceptionHandler.getInstance());
+      return (Thread) UNSTARTED.invoke(builder, runnable);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Unable to create a virtual thread", e);
+    } catch (InvocationTargetException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IllegalStateException("Unable to create a virtual thread", cause);
+    }
+  }
+}
@@ -117,4 +117,34 @@ public class LoggingThreadFactoryTest {
 
     verify(command).run();
   }
+
+  @Test
+  public void verifyVirtualThreadsHaveNameAndExpectedHandler() {
+    UncaughtExceptionHandler handler = LoggingUncaughtExceptionHandler.getInstance();
+    LoggingThreadFactory factory = new LoggingThreadFactory("baseName", null, null, false, true);
+
+    Thread thread = factory.newThread(() -> {
+    });
+
+    assertThat(thread.getName()).isEqualTo("baseName" + 1);
+    assertThat(thread.getUncaughtExceptionHandler()).isSameAs(handler);
+    // virtual threads are always daemons, the platform thread fallback is not
+    assertThat(thread.isDaemon()).isEqualTo(VirtualThreads.isSupported());
+  }
+
+  @Test
+  public void verifyVirtualThreadFactoryRunsCommandWithWrapper() throws InterruptedException {
+    CommandWrapper commandWrapper = mock(CommandWrapper.class);
+    ThreadInitializer threadInitializer = mock(ThreadInitializer.class);
+    Runnable command = mock(Runnable.class);
+    LoggingThreadFactory factory =
+        new LoggingThreadFactory("baseName", threadInitializer, commandWrapper, true, true);
+
+    Thread thread = factory.newThread(command);
+    thread.start();
+    thread.join();
+
+    verify(threadInitializer).initialize(thread);
+    verify(commandWrapper).invoke(command);
+  }
 }
@@ -707,13 +707,10 @@ public class BufferDataOutputStream extends OutputStream implements VersionedDat
         str.getBytes(0, strlen, buffer.array(), buffer.arrayOffset() + pos);
         buffer.position(pos + strlen);
       } else {
-        byte[] bytes = new byte[strlen];
-        str.getBytes(0, strlen, bytes, 0);
-        buffer.put(bytes);
+        for (int i = 0; i < strlen; i++) {
+          buffer.put((byte) str.charAt(i));
+        }
       }
-      // for (int i = 0 ; i < len ; i++) {
-      // this.buffer.put((byte)s.charAt(i));
-      // }
     }
   }
 